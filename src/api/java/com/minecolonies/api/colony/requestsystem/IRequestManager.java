@@ -48,6 +48,7 @@ public interface IRequestManager extends INBTSerializable<NBTTagCompound>
 
     /**
      * Method used to assign a request to a resolver.
+     * The assignment may be queued and happen during a later {@link #update()}.
      *
      * @param token The token of the request to assign.
      * @throws IllegalArgumentException when the token is not registered to a request, or is already assigned to a resolver.
@@ -105,4 +106,15 @@ public interface IRequestManager extends INBTSerializable<NBTTagCompound>
      * @throws IllegalArgumentException is thrown when no provider with the same token is registered.
      */
     void onProviderRemovedFromColony(@NotNull IRequestResolverProvider provider) throws IllegalArgumentException;
+
+    /**
+     * Method called every tick by the colony, used to process the queued assignments.
+     */
+    void update();
+
+    /**
+     * Method used to indicate to this manager that an inventory in the colony changed.
+     * Resolvers which could not resolve a request before are checked again.
+     */
+    void onColonyInventoryChanged();
 }
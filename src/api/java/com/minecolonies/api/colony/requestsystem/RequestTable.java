@@ -0,0 +1,292 @@
+package com.minecolonies.api.colony.requestsystem;
+
+import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagIntArray;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.common.util.Constants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Columnar storage of the requests of a request manager.
+ * <p>
+ * Every request gets a dense row id, the request and the token of its resolver are stored in parallel arrays at that row.
+ * Only the token to row lookup is a map. Rows of removed requests are reused.
+ * The table is written to NBT in bulk: all requests in one list and all resolver ids in one int array.
+ */
+final class RequestTable
+{
+    ////// --------------------------- NBTConstants --------------------------- \\\\\\
+    static final String         NBT_REQUESTS  = "Requests";
+    private static final String NBT_RESOLVERS = "Resolvers";
+    ////// --------------------------- NBTConstants --------------------------- \\\\\\
+
+    /**
+     * Initial amount of rows.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Ints used to store one UUID in an int array.
+     */
+    private static final int INTS_PER_UUID = 4;
+
+    /**
+     * Row of a request by its token.
+     */
+    @NotNull
+    private final Map<IToken, Integer> rowByToken = new HashMap<>();
+
+    /**
+     * The requests by row.
+     */
+    @NotNull
+    private IRequest[] requests = new IRequest[INITIAL_CAPACITY];
+
+    /**
+     * The tokens of the assigned resolvers by row, null when not assigned.
+     */
+    @NotNull
+    private IToken[] resolvers = new IToken[INITIAL_CAPACITY];
+
+    /**
+     * Rows which have been freed and can be reused.
+     */
+    @NotNull
+    private int[] freeRows = new int[INITIAL_CAPACITY];
+
+    /**
+     * Amount of free rows.
+     */
+    private int freeCount = 0;
+
+    /**
+     * Amount of rows ever used, the next row if none is free.
+     */
+    private int rowCount = 0;
+
+    /**
+     * Method used to add a request.
+     *
+     * @param request The request to add.
+     * @throws IllegalArgumentException when a request with the same token is already known.
+     */
+    void add(@NotNull final IRequest request) throws IllegalArgumentException
+    {
+        if (rowByToken.containsKey(request.getToken()))
+        {
+            throw new IllegalArgumentException("The given request is already known to this manager");
+        }
+
+        final int row;
+        if (freeCount > 0)
+        {
+            row = freeRows[--freeCount];
+        }
+        else
+        {
+            if (rowCount == requests.length)
+            {
+                final int capacity = requests.length * 2;
+                requests = Arrays.copyOf(requests, capacity);
+                resolvers = Arrays.copyOf(resolvers, capacity);
+            }
+            row = rowCount++;
+        }
+
+        requests[row] = request;
+        resolvers[row] = null;
+        rowByToken.put(request.getToken(), row);
+    }
+
+    /**
+     * Method used to remove a request.
+     *
+     * @param token The token of the request.
+     */
+    void remove(@NotNull final IToken token)
+    {
+        final Integer row = rowByToken.remove(token);
+        if (row == null)
+        {
+            return;
+        }
+
+        requests[row] = null;
+        resolvers[row] = null;
+        if (freeCount == freeRows.length)
+        {
+            freeRows = Arrays.copyOf(freeRows, freeRows.length * 2);
+        }
+        freeRows[freeCount++] = row;
+    }
+
+    /**
+     * Method used to check if a request is known.
+     *
+     * @param token The token of the request.
+     * @return True when known.
+     */
+    boolean contains(@NotNull final IToken token)
+    {
+        return rowByToken.containsKey(token);
+    }
+
+    /**
+     * Method used to get a request.
+     *
+     * @param token The token of the request.
+     * @return The request or null when unknown.
+     */
+    @Nullable
+    IRequest get(@NotNull final IToken token)
+    {
+        final Integer row = rowByToken.get(token);
+        return row == null ? null : requests[row];
+    }
+
+    /**
+     * Method used to get the resolver a request is assigned to.
+     *
+     * @param token The token of the request.
+     * @return The token of the resolver or null when unknown or not assigned.
+     */
+    @Nullable
+    IToken getResolver(@NotNull final IToken token)
+    {
+        final Integer row = rowByToken.get(token);
+        return row == null ? null : resolvers[row];
+    }
+
+    /**
+     * Method used to set the resolver a request is assigned to.
+     *
+     * @param token    The token of the request.
+     * @param resolver The token of the resolver, null to unassign.
+     */
+    void setResolver(@NotNull final IToken token, @Nullable final IToken resolver)
+    {
+        final Integer row = rowByToken.get(token);
+        if (row != null)
+        {
+            resolvers[row] = resolver;
+        }
+    }
+
+    /**
+     * Method used to get the amount of requests.
+     *
+     * @return The amount.
+     */
+    int size()
+    {
+        return rowByToken.size();
+    }
+
+    /**
+     * Method used to get all requests.
+     *
+     * @return A new list of the requests, in row order.
+     */
+    @NotNull
+    List<IRequest> getRequests()
+    {
+        final List<IRequest> list = new ArrayList<>(size());
+        for (int row = 0; row < rowCount; row++)
+        {
+            if (requests[row] != null)
+            {
+                list.add(requests[row]);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Method used to write the table to NBT.
+     * Resolver tokens are stored as UUIDs, assignments to resolvers with other tokens are not kept.
+     *
+     * @param controller The controller used to serialize the requests.
+     * @return The compound with the table.
+     */
+    @NotNull
+    NBTTagCompound writeToNBT(@NotNull final IFactoryController controller)
+    {
+        final NBTTagList requestList = new NBTTagList();
+        final int[] resolverIds = new int[size() * INTS_PER_UUID];
+        int index = 0;
+        for (int row = 0; row < rowCount; row++)
+        {
+            if (requests[row] == null)
+            {
+                continue;
+            }
+
+            requestList.appendTag(controller.serialize(requests[row]));
+            if (resolvers[row] != null && resolvers[row].getIdentifier() instanceof UUID)
+            {
+                final UUID id = (UUID) resolvers[row].getIdentifier();
+                resolverIds[index] = (int) (id.getMostSignificantBits() >> Integer.SIZE);
+                resolverIds[index + 1] = (int) id.getMostSignificantBits();
+                resolverIds[index + 2] = (int) (id.getLeastSignificantBits() >> Integer.SIZE);
+                resolverIds[index + 3] = (int) id.getLeastSignificantBits();
+            }
+            index += INTS_PER_UUID;
+        }
+
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag(NBT_REQUESTS, requestList);
+        compound.setTag(NBT_RESOLVERS, new NBTTagIntArray(resolverIds));
+        return compound;
+    }
+
+    /**
+     * Method used to read a table from NBT, replaces all requests of this table.
+     *
+     * @param controller The controller used to deserialize the requests.
+     * @param compound   The compound with the table.
+     */
+    void readFromNBT(@NotNull final IFactoryController controller, @NotNull final NBTTagCompound compound)
+    {
+        rowByToken.clear();
+        requests = new IRequest[INITIAL_CAPACITY];
+        resolvers = new IToken[INITIAL_CAPACITY];
+        freeCount = 0;
+        rowCount = 0;
+
+        final NBTTagList requestList = compound.getTagList(NBT_REQUESTS, Constants.NBT.TAG_COMPOUND);
+        final int[] resolverIds = compound.getIntArray(NBT_RESOLVERS);
+        for (int i = 0; i < requestList.tagCount(); i++)
+        {
+            final IRequest request;
+            try
+            {
+                request = controller.deserialize(requestList.getCompoundTagAt(i));
+            }
+            catch (final IllegalArgumentException e)
+            {
+                Log.getLogger().warn("Could not load a request, skipping it.", e);
+                continue;
+            }
+
+            add(request);
+            final int index = i * INTS_PER_UUID;
+            if (index + INTS_PER_UUID <= resolverIds.length)
+            {
+                final long msb = ((long) resolverIds[index] << Integer.SIZE) | (resolverIds[index + 1] & 0xFFFFFFFFL);
+                final long lsb = ((long) resolverIds[index + 2] << Integer.SIZE) | (resolverIds[index + 3] & 0xFFFFFFFFL);
+                if (msb != 0 || lsb != 0)
+                {
+                    setResolver(request.getToken(), StandardToken.of(msb, lsb));
+                }
+            }
+        }
+    }
+}
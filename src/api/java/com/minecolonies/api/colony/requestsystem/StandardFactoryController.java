@@ -10,18 +10,18 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.ReflectionUtils;
 import com.minecolonies.api.util.constant.Suppression;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.util.Tuple;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 
 /**
  * Default implementation of a FactoryController
  * Singleton.
+ * <p>
+ * Factories are registered during startup, the lookups filled on demand are safe to use from any thread.
  */
 public final class StandardFactoryController implements IFactoryController
 {
@@ -56,7 +56,43 @@ public final class StandardFactoryController implements IFactoryController
      * Filled during runtime to speed up searches to factories when both Input and Output type are secondary types.
      */
     @NotNull
-    private final Cache<Tuple<TypeToken, TypeToken>, IFactory> secondaryMappingsCache  = CacheBuilder.newBuilder().build();
+    private final Cache<List<TypeToken>, IFactory> secondaryMappingsCache  = CacheBuilder.newBuilder().build();
+
+    /**
+     * Ids of the known types, output types of factories get their id during registration.
+     */
+    @NotNull
+    private final Map<TypeToken, Integer> typeIds = new ConcurrentHashMap<>();
+
+    /**
+     * The known types by id, only appended to while holding its lock.
+     */
+    @NotNull
+    private final List<TypeToken> typesById = new CopyOnWriteArrayList<>();
+
+    /**
+     * Factories by input class, each array indexed by output type id. Filled on first lookup of a combination.
+     * Published arrays are never modified, a lookup that fills a slot replaces the array with a copy.
+     */
+    @NotNull
+    private final Map<Class<?>, IFactory[]> factoriesByInputClass = new ConcurrentHashMap<>();
+
+    /**
+     * Factories by the class of their output, used to serialize.
+     */
+    @NotNull
+    private final Map<Class<?>, IFactory> factoriesByOutputClass = new ConcurrentHashMap<>();
+
+    /**
+     * Factories by the name of the class of their output, used to deserialize.
+     */
+    @NotNull
+    private final Map<String, IFactory> factoriesByOutputName = new ConcurrentHashMap<>();
+
+    /**
+     * Revision of the type ids, increased when they are invalidated.
+     */
+    private volatile int revision = 0;
 
     /**
      * Private constructor. Throws IllegalStateException if already created.
@@ -80,6 +116,22 @@ public final class StandardFactoryController implements IFactoryController
         getInstance().primaryInputMappings.clear();
         getInstance().primaryOutputMappings.clear();
         getInstance().secondaryOutputMappings.clear();
+        getInstance().invalidateLookups();
+        getInstance().typeIds.clear();
+        getInstance().typesById.clear();
+        getInstance().revision++;
+    }
+
+    /**
+     * Clears all lookups derived from the registered factories.
+     * Type ids stay valid, new types only get new ids.
+     */
+    private void invalidateLookups()
+    {
+        secondaryMappingsCache.invalidateAll();
+        factoriesByInputClass.clear();
+        factoriesByOutputClass.clear();
+        factoriesByOutputName.clear();
     }
 
     /**
@@ -137,7 +189,7 @@ public final class StandardFactoryController implements IFactoryController
         try
         {
             //Request from cache or search.
-            return secondaryMappingsCache.get(new Tuple<>(inputTypeToken, outputTypeToken), () ->
+            return secondaryMappingsCache.get(Arrays.asList(inputTypeToken, outputTypeToken), () ->
             {
                 Log.getLogger().debug("Attempting to find a Factory with Primary: " + inputTypeToken.toString() + " -> " + outputTypeToken.toString());
 
@@ -169,6 +221,52 @@ public final class StandardFactoryController implements IFactoryController
         }
     }
 
+    @SuppressWarnings(Suppression.UNCHECKED)
+    @Override
+    public <Input, Output> IFactory<Input, Output> getFactoryForIO(@NotNull final Class<?> inputClass, final int outputTypeId) throws IllegalArgumentException
+    {
+        if (outputTypeId < 0 || outputTypeId >= typesById.size())
+        {
+            throw new IllegalArgumentException("The given output type id is unknown to this controller: " + outputTypeId);
+        }
+
+        final IFactory[] factories = factoriesByInputClass.get(inputClass);
+        if (factories != null && outputTypeId < factories.length && factories[outputTypeId] != null)
+        {
+            return factories[outputTypeId];
+        }
+
+        final IFactory factory = getFactoryForIO(TypeToken.of(inputClass), typesById.get(outputTypeId));
+        factoriesByInputClass.compute(inputClass, (c, current) ->
+        {
+            final int length = Math.max(typesById.size(), outputTypeId + 1);
+            final IFactory[] updated = current == null ? new IFactory[length] : Arrays.copyOf(current, Math.max(current.length, length));
+            updated[outputTypeId] = factory;
+            return updated;
+        });
+
+        return factory;
+    }
+
+    @Override
+    public int getTypeId(@NotNull final TypeToken<?> typeToken)
+    {
+        return typeIds.computeIfAbsent(typeToken, t ->
+        {
+            synchronized (typesById)
+            {
+                typesById.add(t);
+                return typesById.size() - 1;
+            }
+        });
+    }
+
+    @Override
+    public int getRevision()
+    {
+        return revision;
+    }
+
     @Override
     public <Input, Output> void registerNewFactory(@NotNull final IFactory<Input, Output> factory) throws IllegalArgumentException
     {
@@ -188,6 +286,10 @@ public final class StandardFactoryController implements IFactoryController
         primaryInputMappings.put(factory.getFactoryInputType(), factory);
         primaryOutputMappings.put(factory.getFactoryOutputType(), factory);
 
+        //Earlier lookups might resolve differently now.
+        invalidateLookups();
+        getTypeId(factory.getFactoryOutputType());
+
         Log.getLogger()
           .debug("Retrieving super types of output: " + factory.getFactoryOutputType().toString());
 
@@ -206,6 +308,7 @@ public final class StandardFactoryController implements IFactoryController
                 }
 
                 secondaryOutputMappings.get(t).add(factory);
+                getTypeId(t);
             });
         }
     }
@@ -216,7 +319,7 @@ public final class StandardFactoryController implements IFactoryController
     {
         final NBTTagCompound compound = new NBTTagCompound();
 
-        final IFactory<?, Output> factory = getFactoryForOutput(TypeToken.of((Class<Output>) object.getClass()));
+        final IFactory<?, Output> factory = factoriesByOutputClass.computeIfAbsent(object.getClass(), c -> getFactoryForOutput(TypeToken.of(c)));
         compound.setString(NBT_TYPE, object.getClass().getName());
         compound.setTag(NBT_DATA, factory.serialize(this, object));
 
@@ -228,18 +331,24 @@ public final class StandardFactoryController implements IFactoryController
     public <Output> Output deserialize(@NotNull final NBTTagCompound compound) throws IllegalArgumentException
     {
         final String className = compound.getString(NBT_TYPE);
-        final Class<Output> outputClass;
+        IFactory<?, Output> factory = factoriesByOutputName.get(className);
 
-        try
+        if (factory == null)
         {
-            outputClass = (Class<Output>) Class.forName(className);
-        }
-        catch (final ClassNotFoundException e)
-        {
-            throw (IllegalArgumentException) new IllegalArgumentException("The given compound holds an unknown output type for this Controller").initCause(e);
+            final Class<Output> outputClass;
+            try
+            {
+                outputClass = (Class<Output>) Class.forName(className);
+            }
+            catch (final ClassNotFoundException e)
+            {
+                throw (IllegalArgumentException) new IllegalArgumentException("The given compound holds an unknown output type for this Controller").initCause(e);
+            }
+
+            factory = getFactoryForOutput(TypeToken.of(outputClass));
+            factoriesByOutputName.put(className, factory);
         }
 
-        final IFactory<?, Output> factory = getFactoryForOutput(TypeToken.of(outputClass));
         return factory.deserialize(this, compound.getCompoundTag(NBT_DATA));
     }
 
@@ -248,7 +357,7 @@ public final class StandardFactoryController implements IFactoryController
     public <Input, Output> Output getNewInstance(@NotNull final Input input, @NotNull final TypeToken<Output> outputTypeToken, @NotNull final Object... context)
       throws IllegalArgumentException, ClassCastException
     {
-        final IFactory<Input, Output> factory = getFactoryForIO(TypeToken.of((Class<Input>) input.getClass()), outputTypeToken);
+        final IFactory<Input, Output> factory = getFactoryForIO(input.getClass(), getTypeId(outputTypeToken));
 
         return factory.getNewInstance(input, context);
     }
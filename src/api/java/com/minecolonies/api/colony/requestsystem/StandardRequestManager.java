@@ -6,6 +6,7 @@ import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.requestsystem.factory.FactoryHandle;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
@@ -13,6 +14,7 @@ import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolverProvider;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.constant.Suppression;
 import net.minecraft.nbt.NBTTagCompound;
@@ -46,10 +48,10 @@ public class StandardRequestManager implements IRequestManager
     private final BiMap<IToken, IRequestResolver> resolverBiMap = HashBiMap.create();
 
     /**
-     * BiMap that holds unique token to request lookup.
+     * Table that holds the requests and the resolver they are assigned to.
      */
     @NotNull
-    private final BiMap<IToken, IRequest> requestBiMap = HashBiMap.create();
+    private final RequestTable requestTable = new RequestTable();
 
     /**
      * Map that holds the resolvers that are linked to a given provider.
@@ -64,31 +66,73 @@ public class StandardRequestManager implements IRequestManager
     private final Map<IToken, Collection<IToken>> resolverRequestMap = new HashMap<>();
 
     /**
-     * Map that holds the resolver that is linked to a given request.
+     * Map that holds the resolvers which can resolve a request class, including resolvers for its super types.
+     * Sorted by priority, highest first. Filled per request class on first lookup and kept up to date on registration.
      */
     @NotNull
-    private final Map<IToken, IToken> requestResolverMap = new HashMap<>();
+    private final Map<Class, List<IRequestResolver>> resolverIndex = new HashMap<>();
 
     /**
-     * Map that holds the class that resolver can resolve. Used during lookup.
+     * Requests waiting to be assigned, with the resolvers that are blacklisted for them. Processed in order during update.
      */
     @NotNull
-    private final Map<Class, Collection<IRequestResolver>> requestClassResolverMap = new HashMap<>();
+    private final LinkedHashMap<IToken, Collection<IToken>> assignmentQueue = new LinkedHashMap<>();
+
+    /**
+     * Requests no resolver could take, with their blacklist. Queued again when an inventory changes.
+     */
+    @NotNull
+    private final Map<IToken, Collection<IToken>> parkedRequests = new LinkedHashMap<>();
+
+    /**
+     * Resolvers that answered canResolve negatively, by request. Cleared when an inventory changes.
+     */
+    @NotNull
+    private final Map<IToken, Set<IToken>> negativeResolverCache = new HashMap<>();
+
+    /**
+     * Ticks since the negative resolver cache was last cleared.
+     */
+    private int ticksSinceCacheCleared = 0;
+
     /**
      * The fallback resolver used to resolve directly to the player.
      * TODO: Assign resolver once implemented.
      */
     @NotNull
     private final static IRequestResolver                             playerResolver          = null;
+
+    /**
+     * Ticks after which the negative resolver cache is cleared anyway, not every storage notifies the manager about changes.
+     */
+    private static final int NEGATIVE_CACHE_TIMEOUT = 20 * 30;
+
+    /**
+     * Handle to create the tokens generated by this manager.
+     */
+    private static final FactoryHandle<StandardToken> TOKEN_FACTORY = new FactoryHandle<>(new TypeToken<StandardToken>() {});
+
+    /**
+     * Handle to create requests, raw since the request type is only known at runtime.
+     */
+    private static final FactoryHandle<IRequest> REQUEST_FACTORY = new FactoryHandle<>(TypeToken.of(IRequest.class));
+
     /**
      * Colony of the manager.
      */
     @NotNull
     private final IColony colony;
 
+    /**
+     * Wrapper passed to requests when their state is changed internally, shared since it holds no state.
+     */
+    @NotNull
+    private final WrappedStaticStateRequestManager staticStateManager;
+
     public StandardRequestManager(@NotNull final IColony colony)
     {
         this.colony = colony;
+        this.staticStateManager = new WrappedStaticStateRequestManager(this);
     }
 
     /**
@@ -111,7 +155,7 @@ public class StandardRequestManager implements IRequestManager
     @Override
     public NBTTagCompound serializeNBT()
     {
-        return null;
+        return requestTable.writeToNBT(getFactoryController());
     }
 
     /**
@@ -232,7 +276,7 @@ public class StandardRequestManager implements IRequestManager
                     //In that case: All resources lost, restart on different resolver.
                     //Also cancel all registered child task:
                     manager.resolverRequestMap.get(resolverToken).remove(requestToken);
-                    manager.requestResolverMap.remove(requestToken);
+                    manager.requestTable.setResolver(requestToken, null);
 
                     Log.getLogger().debug("Cancelling all child requests of:" + requestToken);
 
@@ -277,7 +321,7 @@ public class StandardRequestManager implements IRequestManager
 
                     RequestHandler.assignRequest(manager, assignedRequest, assignedResolvers);
 
-                    Log.getLogger().debug("Finished reassignment of: " + requestToken + " - Assigned to: " + manager.requestResolverMap.get(requestToken));
+                    Log.getLogger().debug("Finished reassignment of: " + requestToken + " - Assigned to: " + manager.requestTable.getResolver(requestToken));
                 }
 
                 ResolverHandler.removeResolver(manager, resolverToken);
@@ -378,16 +422,65 @@ public class StandardRequestManager implements IRequestManager
 
             manager.resolverBiMap.put(resolver.getID(), resolver);
 
-            if (!manager.requestClassResolverMap.containsKey(resolver.getRequestType()))
+            for (final Map.Entry<Class, List<IRequestResolver>> entry : manager.resolverIndex.entrySet())
             {
-                manager.requestClassResolverMap.put(resolver.getRequestType(), new ArrayList<>());
+                if (resolver.getRequestType().isAssignableFrom(entry.getKey()))
+                {
+                    insertByPriority(entry.getValue(), resolver);
+                }
             }
 
-            manager.requestClassResolverMap.get(resolver.getRequestType()).add(resolver);
+            //A new resolver might take the requests no one could take.
+            requeueParkedRequests(manager);
 
             return resolver.getID();
         }
 
+        /**
+         * Method used to insert a resolver into a list sorted by priority.
+         * Resolvers with the same priority keep their registration order.
+         *
+         * @param resolvers The sorted list.
+         * @param resolver  The resolver to insert.
+         */
+        private static void insertByPriority(final List<IRequestResolver> resolvers, final IRequestResolver resolver)
+        {
+            int index = 0;
+            while (index < resolvers.size() && resolvers.get(index).getPriority() >= resolver.getPriority())
+            {
+                index++;
+            }
+            resolvers.add(index, resolver);
+        }
+
+        /**
+         * Method used to get the resolvers which can resolve a given request type.
+         * <p>
+         * <p>
+         * Is only used internally.
+         * The list is built once per request type from the registered resolvers and kept up to date by registerResolver and removeResolver.
+         * </p>
+         *
+         * @param manager     The manager to get the resolvers from.
+         * @param requestType The type of the request.
+         * @return The resolvers, highest priority first.
+         */
+        private static List<IRequestResolver> getResolversForRequestType(final StandardRequestManager manager, final Class requestType)
+        {
+            return manager.resolverIndex.computeIfAbsent(requestType, type ->
+            {
+                final List<IRequestResolver> resolvers = new ArrayList<>();
+                for (final IRequestResolver resolver : manager.resolverBiMap.values())
+                {
+                    if (resolver.getRequestType().isAssignableFrom(type))
+                    {
+                        insertByPriority(resolvers, resolver);
+                    }
+                }
+                return resolvers;
+            });
+        }
+
         /**
          * Method used to register multiple resolvers simultaneously
          * <p>
@@ -458,7 +551,10 @@ public class StandardRequestManager implements IRequestManager
             Log.getLogger().debug("Removing resolver: " + resolver + " with request type: " + resolver.getRequestType().getName());
 
             manager.resolverBiMap.remove(resolver.getID());
-            manager.requestClassResolverMap.get(resolver.getRequestType()).remove(resolver);
+            for (final List<IRequestResolver> resolvers : manager.resolverIndex.values())
+            {
+                resolvers.remove(resolver);
+            }
         }
 
         /**
@@ -544,7 +640,7 @@ public class StandardRequestManager implements IRequestManager
             Log.getLogger().debug("Adding request: " + request + " to resolver: " + resolver);
 
             manager.resolverRequestMap.get(resolver.getID()).add(request.getToken());
-            manager.requestResolverMap.put(request.getToken(), resolver.getID());
+            manager.requestTable.setResolver(request.getToken(), resolver.getID());
         }
 
         /**
@@ -575,7 +671,7 @@ public class StandardRequestManager implements IRequestManager
             Log.getLogger().debug("Removing request: " + request + " from resolver: " + resolver);
 
             manager.resolverRequestMap.get(resolver.getID()).remove(request.getToken());
-            manager.requestResolverMap.remove(request.getToken());
+            manager.requestTable.setResolver(request.getToken(), null);
         }
 
         /**
@@ -591,12 +687,13 @@ public class StandardRequestManager implements IRequestManager
         {
             RequestHandler.getRequest(manager, requestToken);
 
-            if (!manager.requestResolverMap.containsKey(requestToken))
+            final IToken resolverToken = manager.requestTable.getResolver(requestToken);
+            if (resolverToken == null)
             {
                 throw new IllegalArgumentException("The given token belongs to a not resolved request");
             }
 
-            return getResolver(manager, manager.requestResolverMap.get(requestToken));
+            return getResolver(manager, resolverToken);
         }
 
         /**
@@ -610,14 +707,7 @@ public class StandardRequestManager implements IRequestManager
          */
         private static IRequestResolver getResolverForRequest(final StandardRequestManager manager, final IRequest request)
         {
-            RequestHandler.getRequest(manager, request.getToken());
-
-            if (!manager.requestResolverMap.containsKey(request.getToken()))
-            {
-                throw new IllegalArgumentException("The given token belongs to a not resolved request");
-            }
-
-            return getResolver(manager, manager.requestResolverMap.get(request.getToken()));
+            return getResolverForRequest(manager, request.getToken());
         }
     }
 
@@ -632,7 +722,7 @@ public class StandardRequestManager implements IRequestManager
         {
             final IToken<UUID> token = TokenHandler.generateNewToken(manager);
 
-            final IRequest<Request> constructedRequest = manager.getFactoryController().getNewInstance(request, new TypeToken<IRequest<Request>>() {}, requester, token);
+            final IRequest<Request> constructedRequest = REQUEST_FACTORY.getNewInstance(manager.getFactoryController(), request, token, requester);
 
             Log.getLogger().debug("Creating request for: " + request + ", token: " + token + " and output: " + constructedRequest);
 
@@ -643,15 +733,9 @@ public class StandardRequestManager implements IRequestManager
 
         private static void registerRequest(final StandardRequestManager manager, final IRequest request) throws IllegalArgumentException
         {
-            if (manager.requestBiMap.containsKey(request.getToken()) ||
-                  manager.requestBiMap.containsValue(request))
-            {
-                throw new IllegalArgumentException("The given request is already known to this manager");
-            }
-
             Log.getLogger().debug("Registering request: " + request);
 
-            manager.requestBiMap.put(request.getToken(), request);
+            manager.requestTable.add(request);
         }
 
         /**
@@ -688,21 +772,71 @@ public class StandardRequestManager implements IRequestManager
          * @param resolverTokenBlackList Each resolver that has its token in this blacklist will be skipped when checking for a possible resolver.
          * @throws IllegalArgumentException is thrown when the request is unknown to this manager.
          */
-        @SuppressWarnings(Suppression.UNCHECKED)
         private static void assignRequest(final StandardRequestManager manager, final IRequest request, final Collection<IToken> resolverTokenBlackList)
           throws IllegalArgumentException
         {
             //Check if the request is registered
             getRequest(manager, request.getToken());
 
+            if (isAssigned(manager, request.getToken()) || manager.assignmentQueue.containsKey(request.getToken()))
+            {
+                return;
+            }
+
+            Log.getLogger().debug("Queueing request for assignment: " + request);
+
+            manager.parkedRequests.remove(request.getToken());
+            manager.assignmentQueue.put(request.getToken(), resolverTokenBlackList);
+        }
+
+        /**
+         * Method used to assign the queued requests, limited to a given amount per call.
+         *
+         * @param manager The manager to process.
+         * @param budget  The max amount of requests to assign.
+         */
+        private static void processAssignmentQueue(final StandardRequestManager manager, final int budget)
+        {
+            int processed = 0;
+            while (processed < budget && !manager.assignmentQueue.isEmpty())
+            {
+                final Iterator<Map.Entry<IToken, Collection<IToken>>> iterator = manager.assignmentQueue.entrySet().iterator();
+                final Map.Entry<IToken, Collection<IToken>> entry = iterator.next();
+                iterator.remove();
+
+                //The request might have been removed or assigned otherwise while it was queued.
+                if (!manager.requestTable.contains(entry.getKey()) || isAssigned(manager, entry.getKey()))
+                {
+                    continue;
+                }
+
+                assignRequestNow(manager, getRequest(manager, entry.getKey()), entry.getValue());
+                processed++;
+            }
+        }
+
+        /**
+         * Method used to assign a given request to a resolver right away. Does take a given blacklist of resolvers into account.
+         * Child requests created by the resolver are queued.
+         *
+         * @param manager                The manager to modify.
+         * @param request                The request to assign.
+         * @param resolverTokenBlackList Each resolver that has its token in this blacklist will be skipped when checking for a possible resolver.
+         * @throws IllegalArgumentException is thrown when the request is unknown to this manager.
+         */
+        @SuppressWarnings(Suppression.UNCHECKED)
+        private static void assignRequestNow(final StandardRequestManager manager, final IRequest request, final Collection<IToken> resolverTokenBlackList)
+          throws IllegalArgumentException
+        {
             Log.getLogger().debug("Starting resolver assignment search for request: " + request);
 
-            request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
+            request.setState(manager.staticStateManager, RequestState.ASSIGNING);
 
-            for (final IRequestResolver resolver : manager.requestClassResolverMap.get(request.getRequestType()))
+            final Set<IToken> negativeResolvers = manager.negativeResolverCache.computeIfAbsent(request.getToken(), token -> new HashSet<>());
+            for (final IRequestResolver resolver : ResolverHandler.getResolversForRequestType(manager, request.getRequestType()))
             {
-                //Skip when the resolver is in the blacklist.
-                if (resolverTokenBlackList.contains(resolver.getID()))
+                //Skip when the resolver is in the blacklist, or could not resolve the request since the last inventory change.
+                if (resolverTokenBlackList.contains(resolver.getID()) || negativeResolvers.contains(resolver.getID()))
                 {
                     continue;
                 }
@@ -710,10 +844,11 @@ public class StandardRequestManager implements IRequestManager
                 //Skip if preliminary check fails
                 if (!resolver.canResolve(manager, request))
                 {
+                    negativeResolvers.add(resolver.getID());
                     continue;
                 }
 
-                @Nullable final List<IToken> attemptResult = resolver.attemptResolve(new WrappedBlacklistAssignmentRequestManager(manager, resolverTokenBlackList), request);
+                @Nullable final List<IToken> attemptResult = resolver.attemptResolve(getAssignmentManager(manager, resolverTokenBlackList), request);
 
                 //Skip if attempt failed (aka attemptResult == null)
                 if (attemptResult == null)
@@ -724,6 +859,7 @@ public class StandardRequestManager implements IRequestManager
                 //Successfully found a resolver. Registering
                 Log.getLogger().debug("Finished resolver assignment search for request: " + request + " successfully");
                 ResolverHandler.addRequestToResolver(manager, resolver, request);
+                manager.negativeResolverCache.remove(request.getToken());
 
                 for (final IToken childRequestToken :
                   attemptResult)
@@ -739,7 +875,7 @@ public class StandardRequestManager implements IRequestManager
                     }
                 }
 
-                request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNED);
+                request.setState(manager.staticStateManager, RequestState.ASSIGNED);
 
                 if (!request.hasChildren())
                 {
@@ -748,12 +884,47 @@ public class StandardRequestManager implements IRequestManager
                 return;
             }
 
+            if (playerResolver == null)
+            {
+                Log.getLogger().debug("Resolving failed. Parking until an inventory changes: " + request);
+                manager.parkedRequests.put(request.getToken(), resolverTokenBlackList);
+                return;
+            }
+
             Log.getLogger().debug("Resolving failed. Attempting Fallback PlayerManager for: " + request);
-            ResolverHandler.addRequestToResolver(manager, manager.playerResolver, request);
-            request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNED);
+            manager.negativeResolverCache.remove(request.getToken());
+            ResolverHandler.addRequestToResolver(manager, playerResolver, request);
+            request.setState(manager.staticStateManager, RequestState.ASSIGNED);
             resolveRequest(manager, request);
         }
 
+        /**
+         * Method used to queue the requests no resolver could take again.
+         *
+         * @param manager The manager to modify.
+         */
+        private static void requeueParkedRequests(final StandardRequestManager manager)
+        {
+            for (final Map.Entry<IToken, Collection<IToken>> entry : manager.parkedRequests.entrySet())
+            {
+                manager.assignmentQueue.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+            manager.parkedRequests.clear();
+        }
+
+        /**
+         * Method used to get the manager passed to resolvers during an assignment.
+         * Only wraps the manager when resolvers are blacklisted.
+         *
+         * @param manager                The manager to wrap.
+         * @param resolverTokenBlackList The blacklisted resolvers.
+         * @return The manager to pass.
+         */
+        private static IRequestManager getAssignmentManager(final StandardRequestManager manager, final Collection<IToken> resolverTokenBlackList)
+        {
+            return resolverTokenBlackList.isEmpty() ? manager : new WrappedBlacklistAssignmentRequestManager(manager, resolverTokenBlackList);
+        }
+
         /**
          * Method used to check if a given request token is assigned to a resolver.
          *
@@ -763,7 +934,7 @@ public class StandardRequestManager implements IRequestManager
          */
         private static boolean isAssigned(final StandardRequestManager manager, final IToken token)
         {
-            return manager.requestResolverMap.containsKey(token);
+            return manager.requestTable.getResolver(token) != null;
         }
 
         /**
@@ -786,7 +957,7 @@ public class StandardRequestManager implements IRequestManager
             //Check if the request has a parent
             if (request.hasParent())
             {
-                final IRequest parentRequest = getRequest(manager, request.getToken());
+                final IRequest parentRequest = getRequest(manager, request.getParent());
 
                 //Assign the followup to the parent as a child so that processing is still halted.
                 if (followupRequest != null)
@@ -866,7 +1037,7 @@ public class StandardRequestManager implements IRequestManager
 
             final IRequestResolver resolver = ResolverHandler.getResolverForRequest(manager, request);
 
-            request.setState(new WrappedStaticStateRequestManager(manager), RequestState.IN_PROGRESS);
+            request.setState(manager.staticStateManager, RequestState.IN_PROGRESS);
             resolver.resolve(manager, request);
         }
 
@@ -883,9 +1054,15 @@ public class StandardRequestManager implements IRequestManager
         {
             Log.getLogger().debug("Removing " + token + " from the Manager as it has been completed and its package has been received by the requester.");
 
-            manager.requestBiMap.remove(token);
-            manager.resolverRequestMap.get(manager.requestResolverMap.get(token)).remove(token);
-            manager.requestResolverMap.remove(token);
+            final IToken resolverToken = manager.requestTable.getResolver(token);
+            if (resolverToken != null && manager.resolverRequestMap.containsKey(resolverToken))
+            {
+                manager.resolverRequestMap.get(resolverToken).remove(token);
+            }
+            manager.requestTable.remove(token);
+            manager.assignmentQueue.remove(token);
+            manager.parkedRequests.remove(token);
+            manager.negativeResolverCache.remove(token);
         }
 
         /**
@@ -896,14 +1073,13 @@ public class StandardRequestManager implements IRequestManager
          */
         private static IRequest getRequest(final StandardRequestManager manager, final IToken token) throws IllegalArgumentException
         {
-            if (!manager.requestBiMap.containsKey(token))
+            final IRequest request = manager.requestTable.get(token);
+            if (request == null)
             {
                 throw new IllegalArgumentException("The given token is not registered as a request to this manager");
             }
 
-            Log.getLogger().debug("Retrieving the request for: " + token);
-
-            return manager.requestBiMap.get(token);
+            return request;
         }
     }
 
@@ -927,8 +1103,7 @@ public class StandardRequestManager implements IRequestManager
 
         private static IToken<UUID> generateNewToken(final StandardRequestManager manager)
         {
-            //Force generic type to be correct.
-            return manager.getFactoryController().getNewInstance(UUID.randomUUID(), new TypeToken<StandardToken>() {});
+            return TOKEN_FACTORY.getNewInstance(manager.getFactoryController(), UUID.randomUUID());
         }
     }
 
@@ -1070,6 +1245,24 @@ public class StandardRequestManager implements IRequestManager
             wrappedManager.onProviderRemovedFromColony(provider);
         }
 
+        /**
+         * Method called every tick by the colony, used to process the queued assignments.
+         */
+        @Override
+        public void update()
+        {
+            wrappedManager.update();
+        }
+
+        /**
+         * Method used to indicate to this manager that an inventory in the colony changed.
+         */
+        @Override
+        public void onColonyInventoryChanged()
+        {
+            wrappedManager.onColonyInventoryChanged();
+        }
+
         @Override
         public NBTTagCompound serializeNBT()
         {
@@ -1221,7 +1414,7 @@ public class StandardRequestManager implements IRequestManager
     public void updateRequestState(@NotNull final IToken token, @NotNull final RequestState state) throws IllegalArgumentException
     {
         final IRequest request = RequestHandler.getRequest(this, token);
-        request.setState(new WrappedStaticStateRequestManager(this), state);
+        request.setState(staticStateManager, state);
 
         switch (request.getState())
         {
@@ -1261,6 +1454,38 @@ public class StandardRequestManager implements IRequestManager
         ProviderHandler.removeProvider(this, provider);
     }
 
+    /**
+     * Method called every tick by the colony.
+     * Assigns queued requests within the configured budget, and clears the negative resolver cache once in a while.
+     */
+    @Override
+    public void update()
+    {
+        if (++ticksSinceCacheCleared >= NEGATIVE_CACHE_TIMEOUT)
+        {
+            onColonyInventoryChanged();
+        }
+
+        RequestHandler.processAssignmentQueue(this, Configurations.gameplay.maxRequestAssignmentsPerTick);
+    }
+
+    /**
+     * Method used to indicate to this manager that an inventory in the colony changed.
+     * Clears the negative resolver cache and queues the requests no resolver could take again.
+     */
+    @Override
+    public void onColonyInventoryChanged()
+    {
+        ticksSinceCacheCleared = 0;
+        if (negativeResolverCache.isEmpty() && parkedRequests.isEmpty())
+        {
+            return;
+        }
+
+        negativeResolverCache.clear();
+        RequestHandler.requeueParkedRequests(this);
+    }
+
     /**
      * Method used to deserialize the data inside the given nbt tag into this request system.
      *
@@ -1269,6 +1494,23 @@ public class StandardRequestManager implements IRequestManager
     @Override
     public void deserializeNBT(final NBTTagCompound nbt)
     {
+        requestTable.readFromNBT(getFactoryController(), nbt);
+        resolverRequestMap.clear();
+        assignmentQueue.clear();
+        parkedRequests.clear();
+        negativeResolverCache.clear();
 
+        for (final IRequest request : requestTable.getRequests())
+        {
+            final IToken resolverToken = requestTable.getResolver(request.getToken());
+            if (resolverToken == null)
+            {
+                //Assignments are not saved while queued, queue them again.
+                assignmentQueue.put(request.getToken(), Collections.emptyList());
+                continue;
+            }
+
+            resolverRequestMap.computeIfAbsent(resolverToken, token -> new ArrayList<>()).add(request.getToken());
+        }
     }
 }
@@ -0,0 +1,119 @@
+package com.minecolonies.api.colony.requestsystem.factory;
+
+import com.google.common.reflect.TypeToken;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Pre-resolved handle to create instances of an output type through a factory controller.
+ * <p>
+ * Meant to be held in a static field, so callers don't build a new {@link TypeToken} on every call.
+ * The handle looks up the type id of its output once per controller revision, after that every call
+ * is a lookup by input class and type id.
+ *
+ * @param <Output> The type of output the handle creates.
+ */
+public final class FactoryHandle<Output>
+{
+    /**
+     * The output type.
+     */
+    @NotNull
+    private final TypeToken<Output> outputTypeToken;
+
+    /**
+     * The resolved type id, null until first use.
+     */
+    private volatile ResolvedTypeId resolved;
+
+    /**
+     * Creates a new handle.
+     *
+     * @param outputTypeToken The output type, resolved on first use.
+     */
+    public FactoryHandle(@NotNull final TypeToken<Output> outputTypeToken)
+    {
+        this.outputTypeToken = outputTypeToken;
+    }
+
+    /**
+     * Method used to create a new instance of the output type.
+     *
+     * @param controller The controller to use.
+     * @param input      The input to process.
+     * @param context    The context for the creation.
+     * @param <Input>    The type of input.
+     * @return The output from the factory.
+     *
+     * @throws IllegalArgumentException thrown when no factory known to the controller matches the input and output.
+     */
+    @NotNull
+    public <Input> Output getNewInstance(@NotNull final IFactoryController controller, @NotNull final Input input, @NotNull final Object... context)
+      throws IllegalArgumentException
+    {
+        final IFactory<Input, Output> factory = controller.getFactoryForIO(input.getClass(), getTypeId(controller));
+        return factory.getNewInstance(input, context);
+    }
+
+    /**
+     * Method used to get the output type of this handle.
+     *
+     * @return The output type.
+     */
+    @NotNull
+    public TypeToken<Output> getOutputTypeToken()
+    {
+        return outputTypeToken;
+    }
+
+    /**
+     * Method used to get the type id of the output, looks it up again when the controller changed.
+     *
+     * @param controller The controller to get the id from.
+     * @return The type id.
+     */
+    private int getTypeId(@NotNull final IFactoryController controller)
+    {
+        ResolvedTypeId current = resolved;
+        if (current == null || current.controller != controller || current.revision != controller.getRevision())
+        {
+            current = new ResolvedTypeId(controller, controller.getRevision(), controller.getTypeId(outputTypeToken));
+            resolved = current;
+        }
+        return current.typeId;
+    }
+
+    /**
+     * A type id and the controller state it is valid for.
+     */
+    private static final class ResolvedTypeId
+    {
+        /**
+         * The controller the id belongs to.
+         */
+        private final IFactoryController controller;
+
+        /**
+         * The revision of the controller when the id was looked up.
+         */
+        private final int revision;
+
+        /**
+         * The type id.
+         */
+        private final int typeId;
+
+        /**
+         * Creates a new resolved id.
+         *
+         * @param controller The controller.
+         * @param revision   The revision of the controller.
+         * @param typeId     The type id.
+         */
+        private ResolvedTypeId(final IFactoryController controller, final int revision, final int typeId)
+        {
+            this.controller = controller;
+            this.revision = revision;
+            this.typeId = typeId;
+        }
+    }
+}
@@ -45,6 +45,38 @@ public interface IFactoryController
     <Input, Output> IFactory<Input, Output> getFactoryForIO(@NotNull final TypeToken<Input> inputTypeToken, @NotNull final TypeToken<Output> outputTypeToken)
       throws IllegalArgumentException;
 
+    /**
+     * Method used to get a factory for a given input class and output type id.
+     * Fast path for {@link FactoryHandle}, uses no reflection once the combination has been looked up.
+     *
+     * @param inputClass   The class of the input to process.
+     * @param outputTypeId The id of the output type, see {@link #getTypeId(TypeToken)}.
+     * @param <Input>      The type of input that the factory takes.
+     * @param <Output>     The type of output that the factory produces.
+     * @return A IFactory that takes the input class as input, and produces the output type as output.
+     *
+     * @throws IllegalArgumentException is thrown when the type id is unknown or no factory is registered with the given input and output.
+     */
+    <Input, Output> IFactory<Input, Output> getFactoryForIO(@NotNull final Class<?> inputClass, final int outputTypeId) throws IllegalArgumentException;
+
+    /**
+     * Method used to get the id of a type.
+     * Output types of registered factories get their id during registration, other types on first use.
+     * The ids stay the same until the controller is reset, see {@link #getRevision()}.
+     *
+     * @param typeToken The type to get the id for.
+     * @return The id of the type.
+     */
+    int getTypeId(@NotNull final TypeToken<?> typeToken);
+
+    /**
+     * Method used to get the revision of this controller.
+     * Changes every time type ids are invalidated, used by handles to notice they have to look up their id again.
+     *
+     * @return The revision.
+     */
+    int getRevision();
+
     /**
      * Method used to register a new factory to this controller.
      *
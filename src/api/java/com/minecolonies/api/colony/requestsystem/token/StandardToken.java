@@ -1,18 +1,32 @@
 package com.minecolonies.api.colony.requestsystem.token;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.UUID;
 
 /**
  * Internal implementation of the IToken interface.
- * Uses UUID to store the ID of the request.
+ * Uses UUID to store the ID of the request, kept as its two longs.
+ * Tokens created through {@link #of(UUID)} are interned, so equal tokens share one instance.
  */
 public class StandardToken implements IToken<UUID>
 {
+    /**
+     * Interner for the tokens, weak so unused tokens can be collected.
+     */
+    private static final Interner<StandardToken> INTERNER = Interners.newWeakInterner();
 
-    @NotNull
-    private final UUID id;
+    /**
+     * The most significant bits of the id.
+     */
+    private final long msb;
+
+    /**
+     * The least significant bits of the id.
+     */
+    private final long lsb;
 
     /**
      * Creates a new token with a random id.
@@ -27,7 +41,44 @@ public class StandardToken implements IToken<UUID>
      */
     public StandardToken(@NotNull final UUID id)
     {
-        this.id = id;
+        this(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    /**
+     * Creates a new token with the given id bits.
+     *
+     * @param msb The most significant bits of the id.
+     * @param lsb The least significant bits of the id.
+     */
+    private StandardToken(final long msb, final long lsb)
+    {
+        this.msb = msb;
+        this.lsb = lsb;
+    }
+
+    /**
+     * Get the interned token for a given id.
+     *
+     * @param id The id.
+     * @return The shared token.
+     */
+    @NotNull
+    public static StandardToken of(@NotNull final UUID id)
+    {
+        return of(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    /**
+     * Get the interned token for given id bits.
+     *
+     * @param msb The most significant bits of the id.
+     * @param lsb The least significant bits of the id.
+     * @return The shared token.
+     */
+    @NotNull
+    public static StandardToken of(final long msb, final long lsb)
+    {
+        return INTERNER.intern(new StandardToken(msb, lsb));
     }
 
     /**
@@ -38,13 +89,35 @@ public class StandardToken implements IToken<UUID>
     @Override
     public UUID getIdentifier()
     {
-        return id;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Get the most significant bits of the id, without creating the UUID.
+     *
+     * @return The bits.
+     */
+    public long getMostSignificantBits()
+    {
+        return msb;
+    }
+
+    /**
+     * Get the least significant bits of the id, without creating the UUID.
+     *
+     * @return The bits.
+     */
+    public long getLeastSignificantBits()
+    {
+        return lsb;
     }
 
     @Override
     public int hashCode()
     {
-        return id.hashCode();
+        //Same as UUID.hashCode(), tokens with other types but the same UUID have to match.
+        final long hilo = msb ^ lsb;
+        return ((int) (hilo >> Integer.SIZE)) ^ (int) hilo;
     }
 
     @Override
@@ -54,6 +127,11 @@ public class StandardToken implements IToken<UUID>
         {
             return true;
         }
+        if (o instanceof StandardToken)
+        {
+            final StandardToken that = (StandardToken) o;
+            return msb == that.msb && lsb == that.lsb;
+        }
         if (!(o instanceof IToken))
         {
             return false;
@@ -61,14 +139,14 @@ public class StandardToken implements IToken<UUID>
 
         final IToken that = (IToken) o;
 
-        return id.equals(that.getIdentifier());
+        return getIdentifier().equals(that.getIdentifier());
     }
 
     @Override
     public String toString()
     {
         return "StandardToken{" +
-                 "id=" + id +
+                 "id=" + getIdentifier() +
                  '}';
     }
 }
@@ -45,8 +45,8 @@ public class StandardTokenFactory implements ITokenFactory<UUID, StandardToken>
     {
         final NBTTagCompound compound = new NBTTagCompound();
 
-        compound.setLong(NBT_LSB, request.getIdentifier().getLeastSignificantBits());
-        compound.setLong(NBT_MSB, request.getIdentifier().getMostSignificantBits());
+        compound.setLong(NBT_LSB, request.getLeastSignificantBits());
+        compound.setLong(NBT_MSB, request.getMostSignificantBits());
 
         return compound;
     }
@@ -62,12 +62,7 @@ public class StandardTokenFactory implements ITokenFactory<UUID, StandardToken>
     @Override
     public StandardToken deserialize(@NotNull final IFactoryController controller, @NotNull final NBTTagCompound nbt)
     {
-        final Long msb = nbt.getLong(NBT_MSB);
-        final Long lsb = nbt.getLong(NBT_LSB);
-
-        final UUID id = new UUID(msb, lsb);
-
-        return new StandardToken(id);
+        return StandardToken.of(nbt.getLong(NBT_MSB), nbt.getLong(NBT_LSB));
     }
 
     /**
@@ -80,6 +75,6 @@ public class StandardTokenFactory implements ITokenFactory<UUID, StandardToken>
     @Override
     public StandardToken getNewInstance(@NotNull final UUID input)
     {
-        return new StandardToken(input);
+        return StandardToken.of(input);
     }
 }
@@ -83,6 +83,9 @@ import static com.minecolonies.api.util.constant.Constants.*;
             @Config.Comment("Max amount of schematics to be cached on the server")
             public  int maxCachedSchematics = 100;
 
+            @Config.Comment("Max memory (in megabytes, estimated) used to keep parsed schematics in memory")
+            public  int parsedSchematicsCacheSize = 64;
+
     /* Command configs */
 
             @Config.Comment("Time until a next teleport can be executed (in seconds)")
@@ -149,9 +152,18 @@ import static com.minecolonies.api.util.constant.Constants.*;
             @Config.Comment("Amount of blocks the builder checks (to decrease lag by builder)")
             public  int maxBlocksCheckedByBuilder = 1000;
 
+            @Config.Comment("Max amount of requests the request system of a colony assigns per tick")
+            public  int maxRequestAssignmentsPerTick = 10;
+
             @Config.Comment("Chat frequency of worker requests")
             public  int chatFrequency = 30;
 
+            @Config.Comment("Should colonies produce while their chunks are unloaded (calculated when they get loaded again)?")
+            public  boolean simulateUnloadedColonies = true;
+
+            @Config.Comment("Max amount of minecraft days of production a colony gets for the time it was unloaded")
+            public  int maxSimulatedDays = 7;
+
             @Config.Comment("Should in development features be enabled (might be buggy)")
             public  boolean enableInDevelopmentFeatures = false;
 
@@ -0,0 +1,18 @@
+package com.minecolonies.api.inventory;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Implemented by inventories which keep an {@link InventorySummary} of their slots.
+ * {@link com.minecolonies.api.util.InventoryUtils} uses the summary when it is handed such an inventory.
+ */
+public interface IInventorySummaryProvider
+{
+    /**
+     * Get the summary of this inventory.
+     *
+     * @return the summary, kept up to date by the inventory.
+     */
+    @NotNull
+    InventorySummary getInventorySummary();
+}
@@ -0,0 +1,252 @@
+package com.minecolonies.api.inventory;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.constant.ToolType;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Index of the slots of an inventory by item and by tool type.
+ * <p>
+ * The index only records which slots may hold an item or tool, the stacks themselves are still read from the inventory.
+ * That way stacks which change in place (tools taking damage, stacks growing or shrinking) never make the summary wrong,
+ * only slots which get a different item have to be reported through {@link #onSlotChanged(int)}.
+ * Changes the inventory can't attribute to a slot are reported through {@link #invalidate()}, the index is then rebuilt on the next query.
+ */
+public final class InventorySummary
+{
+    /**
+     * The returned slot if a slot hasn't been found.
+     */
+    private static final int NO_SLOT = -1;
+
+    /**
+     * The inventory this summary indexes.
+     */
+    @NotNull
+    private final IInventory inventory;
+
+    /**
+     * Slots which hold a given item.
+     */
+    @NotNull
+    private final Map<Item, BitSet> slotsByItem = new HashMap<>();
+
+    /**
+     * Slots which hold a tool of a given type.
+     */
+    @NotNull
+    private final Map<ToolType, BitSet> slotsByToolType = new EnumMap<>(ToolType.class);
+
+    /**
+     * The item each slot was indexed with, null for empty slots.
+     */
+    @NotNull
+    private Item[] indexedItems = new Item[0];
+
+    /**
+     * True when the index has to be rebuilt before the next query.
+     */
+    private boolean dirty = true;
+
+    /**
+     * Creates a summary for an inventory.
+     *
+     * @param inventory the inventory to index.
+     */
+    public InventorySummary(@NotNull final IInventory inventory)
+    {
+        this.inventory = inventory;
+    }
+
+    /**
+     * Called by the inventory when the stack in a slot has been replaced.
+     *
+     * @param slot the slot.
+     */
+    public void onSlotChanged(final int slot)
+    {
+        if (dirty)
+        {
+            return;
+        }
+
+        //Slots outside of the inventory size aren't indexed.
+        if (slot < 0 || slot >= indexedItems.length)
+        {
+            return;
+        }
+
+        removeFromIndex(slot);
+        addToIndex(slot);
+    }
+
+    /**
+     * Called by the inventory when it changed without knowing which slots, rebuilds the index on the next query.
+     */
+    public void invalidate()
+    {
+        dirty = true;
+    }
+
+    /**
+     * Find the first slot holding the given item which matches the predicate.
+     *
+     * @param item      the item of the stack.
+     * @param predicate the predicate the stack has to match.
+     * @return the slot or -1 if none found.
+     */
+    public int findFirstSlot(@NotNull final Item item, @NotNull final Predicate<ItemStack> predicate)
+    {
+        update();
+        return findFirstSlot(slotsByItem.get(item), predicate);
+    }
+
+    /**
+     * Count the items in the stacks holding the given item which match the predicate.
+     *
+     * @param item      the item of the stacks.
+     * @param predicate the predicate the stacks have to match.
+     * @return the amount of items.
+     */
+    public int getItemCount(@NotNull final Item item, @NotNull final Predicate<ItemStack> predicate)
+    {
+        update();
+        final BitSet candidates = slotsByItem.get(item);
+        if (candidates == null)
+        {
+            return 0;
+        }
+
+        int count = 0;
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1))
+        {
+            final ItemStack stack = inventory.getStackInSlot(slot);
+            if (predicate.test(stack))
+            {
+                count += ItemStackUtils.getSize(stack);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Find the first slot holding a tool of the given type which matches the predicate.
+     *
+     * @param toolType  the type of the tool.
+     * @param predicate the predicate the tool has to match.
+     * @return the slot or -1 if none found.
+     */
+    public int findFirstSlotWithTool(@NotNull final ToolType toolType, @NotNull final Predicate<ItemStack> predicate)
+    {
+        update();
+        return findFirstSlot(slotsByToolType.get(toolType), predicate);
+    }
+
+    /**
+     * Find the first of the candidate slots which matches the predicate.
+     *
+     * @param candidates the slots to check, may be null.
+     * @param predicate  the predicate the stack has to match.
+     * @return the slot or -1 if none found.
+     */
+    private int findFirstSlot(@Nullable final BitSet candidates, @NotNull final Predicate<ItemStack> predicate)
+    {
+        if (candidates == null)
+        {
+            return NO_SLOT;
+        }
+
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1))
+        {
+            if (predicate.test(inventory.getStackInSlot(slot)))
+            {
+                return slot;
+            }
+        }
+        return NO_SLOT;
+    }
+
+    /**
+     * Rebuild the index if it is dirty.
+     */
+    private void update()
+    {
+        if (!dirty)
+        {
+            return;
+        }
+
+        slotsByItem.clear();
+        slotsByToolType.clear();
+        indexedItems = new Item[inventory.getSizeInventory()];
+        for (int slot = 0; slot < indexedItems.length; slot++)
+        {
+            addToIndex(slot);
+        }
+        dirty = false;
+    }
+
+    /**
+     * Add the current stack of a slot to the index.
+     *
+     * @param slot the slot.
+     */
+    private void addToIndex(final int slot)
+    {
+        final ItemStack stack = inventory.getStackInSlot(slot);
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return;
+        }
+
+        indexedItems[slot] = stack.getItem();
+        slotsByItem.computeIfAbsent(stack.getItem(), item -> new BitSet()).set(slot);
+        for (final ToolType toolType : ToolType.values())
+        {
+            if (ItemStackUtils.isTool(stack, toolType))
+            {
+                slotsByToolType.computeIfAbsent(toolType, type -> new BitSet()).set(slot);
+            }
+        }
+    }
+
+    /**
+     * Remove a slot from the index.
+     *
+     * @param slot the slot.
+     */
+    private void removeFromIndex(final int slot)
+    {
+        final Item item = indexedItems[slot];
+        if (item == null)
+        {
+            return;
+        }
+
+        final BitSet slots = slotsByItem.get(item);
+        if (slots != null)
+        {
+            slots.clear(slot);
+            if (slots.isEmpty())
+            {
+                slotsByItem.remove(item);
+            }
+        }
+
+        for (final BitSet toolSlots : slotsByToolType.values())
+        {
+            toolSlots.clear(slot);
+        }
+        indexedItems[slot] = null;
+    }
+}
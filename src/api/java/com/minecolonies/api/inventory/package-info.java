@@ -0,0 +1,4 @@
+/**
+ * This package contains the inventory summaries used to answer item and tool queries without scanning every slot.
+ */
+package com.minecolonies.api.inventory;
@@ -198,27 +198,26 @@ public final class BlockPosUtil
         int bot = 0;
         int mid = blockPos.getY();
 
-        BlockPos foundland = null;
-        BlockPos tempPos = blockPos;
+        final BlockPos.MutableBlockPos tempPos = new BlockPos.MutableBlockPos(blockPos.getX(), mid, blockPos.getZ());
+        int foundY = -1;
         //We are doing a binary search to limit the amount of checks (usually at most 9 this way)
         while (top >= bot)
         {
-            tempPos = new BlockPos(tempPos.getX(), mid, tempPos.getZ());
+            tempPos.setPos(blockPos.getX(), mid, blockPos.getZ());
             final Block blocks = world.getBlockState(tempPos).getBlock();
             if (blocks == Blocks.AIR && world.canSeeSky(tempPos))
             {
                 top = mid - 1;
-                foundland = tempPos;
             }
             else
             {
                 bot = mid + 1;
-                foundland = tempPos;
             }
+            foundY = mid;
             mid = (bot + top) / 2;
         }
 
-        return foundland;
+        return foundY < 0 ? null : new BlockPos(blockPos.getX(), foundY, blockPos.getZ());
     }
 
     /**
@@ -403,39 +402,24 @@ public final class BlockPosUtil
     @NotNull
     public static BlockPos getFloor(@NotNull final BlockPos position, @NotNull final World world)
     {
-        final BlockPos floor = getFloor(position, 0, world);
-        if (floor == null)
+        final BlockPos.MutableBlockPos floor = new BlockPos.MutableBlockPos(position.getX(), position.getY(), position.getZ());
+        final BlockPos.MutableBlockPos above = new BlockPos.MutableBlockPos();
+        for (int depth = 0; depth <= MAX_DEPTH; depth++)
         {
-            return position;
-        }
-        return floor;
-    }
-
-    /**
-     * Calculates the floor level.
-     *
-     * @param position input position.
-     * @param depth    the iteration depth.
-     * @param world    the world the position is in.
-     * @return returns BlockPos position with air above.
-     */
-    @Nullable
-    private static BlockPos getFloor(@NotNull final BlockPos position, final int depth, @NotNull final World world)
-    {
-        if (depth > MAX_DEPTH)
-        {
-            return null;
-        }
-        //If the position is floating in Air go downwards
-        if (!EntityUtils.solidOrLiquid(world, position))
-        {
-            return getFloor(position.down(), depth + 1, world);
-        }
-        //If there is no air above the block go upwards
-        if (!EntityUtils.solidOrLiquid(world, position.up()))
-        {
-            return position;
+            //If the position is floating in Air go downwards
+            if (!EntityUtils.solidOrLiquid(world, floor))
+            {
+                floor.setPos(floor.getX(), floor.getY() - 1, floor.getZ());
+                continue;
+            }
+            //If there is no air above the block go upwards
+            above.setPos(floor.getX(), floor.getY() + 1, floor.getZ());
+            if (!EntityUtils.solidOrLiquid(world, above))
+            {
+                return floor.toImmutable();
+            }
+            floor.setPos(above);
         }
-        return getFloor(position.up(), depth + 1, world);
+        return position;
     }
 }
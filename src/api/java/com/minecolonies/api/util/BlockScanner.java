@@ -0,0 +1,219 @@
+package com.minecolonies.api.util;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Block scanning primitives which don't allocate per block.
+ * <p>
+ * Boxes are walked chunk by chunk and section by section, in the order the blocks are stored in a section,
+ * one {@link BlockPos.MutableBlockPos} is reused for all positions. Unloaded chunks are skipped.
+ */
+public final class BlockScanner
+{
+    /**
+     * Shift from block to chunk and section coordinates.
+     */
+    private static final int SECTION_SHIFT = 4;
+
+    /**
+     * Mask of the block coordinate inside a section.
+     */
+    private static final int SECTION_MASK = 15;
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private BlockScanner()
+    {
+    }
+
+    /**
+     * Visitor of the blocks of a scan.
+     */
+    @FunctionalInterface
+    public interface IBlockVisitor
+    {
+        /**
+         * Visit a block.
+         *
+         * @param pos   the position of the block, reused for the next block: don't modify it and use {@link BlockPos#toImmutable()} to keep it.
+         * @param state the state of the block.
+         * @return true to continue the scan, false to stop it.
+         */
+        boolean visit(@NotNull BlockPos.MutableBlockPos pos, @NotNull IBlockState state);
+    }
+
+    /**
+     * Visit all loaded blocks of a box.
+     *
+     * @param world   the world to scan.
+     * @param minX    lowest x coordinate, inclusive.
+     * @param minY    lowest y coordinate, inclusive.
+     * @param minZ    lowest z coordinate, inclusive.
+     * @param maxX    highest x coordinate, inclusive.
+     * @param maxY    highest y coordinate, inclusive.
+     * @param maxZ    highest z coordinate, inclusive.
+     * @param visitor the visitor called for every block.
+     * @return false if the visitor stopped the scan, true if all blocks have been visited.
+     */
+    public static boolean scan(
+                                @NotNull final World world,
+                                final int minX,
+                                final int minY,
+                                final int minZ,
+                                final int maxX,
+                                final int maxY,
+                                final int maxZ,
+                                @NotNull final IBlockVisitor visitor)
+    {
+        final int lowY = Math.max(0, minY);
+        final int highY = Math.min(world.getHeight() - 1, maxY);
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        for (int chunkX = minX >> SECTION_SHIFT; chunkX <= maxX >> SECTION_SHIFT; chunkX++)
+        {
+            final int startX = Math.max(minX, chunkX << SECTION_SHIFT);
+            final int endX = Math.min(maxX, (chunkX << SECTION_SHIFT) | SECTION_MASK);
+            for (int chunkZ = minZ >> SECTION_SHIFT; chunkZ <= maxZ >> SECTION_SHIFT; chunkZ++)
+            {
+                final int startZ = Math.max(minZ, chunkZ << SECTION_SHIFT);
+                final int endZ = Math.min(maxZ, (chunkZ << SECTION_SHIFT) | SECTION_MASK);
+                if (!world.isBlockLoaded(pos.setPos(startX, 0, startZ)))
+                {
+                    continue;
+                }
+
+                for (int section = lowY >> SECTION_SHIFT; section <= highY >> SECTION_SHIFT; section++)
+                {
+                    final int startY = Math.max(lowY, section << SECTION_SHIFT);
+                    final int endY = Math.min(highY, (section << SECTION_SHIFT) | SECTION_MASK);
+                    if (!scanSection(world, pos, startX, startY, startZ, endX, endY, endZ, visitor))
+                    {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Visit the blocks of a box which lies inside a single chunk section.
+     *
+     * @param world   the world to scan.
+     * @param pos     the position to reuse.
+     * @param minX    lowest x coordinate, inclusive.
+     * @param minY    lowest y coordinate, inclusive.
+     * @param minZ    lowest z coordinate, inclusive.
+     * @param maxX    highest x coordinate, inclusive.
+     * @param maxY    highest y coordinate, inclusive.
+     * @param maxZ    highest z coordinate, inclusive.
+     * @param visitor the visitor called for every block.
+     * @return false if the visitor stopped the scan.
+     */
+    private static boolean scanSection(
+                                        @NotNull final World world,
+                                        @NotNull final BlockPos.MutableBlockPos pos,
+                                        final int minX,
+                                        final int minY,
+                                        final int minZ,
+                                        final int maxX,
+                                        final int maxY,
+                                        final int maxZ,
+                                        @NotNull final IBlockVisitor visitor)
+    {
+        for (int y = minY; y <= maxY; y++)
+        {
+            for (int z = minZ; z <= maxZ; z++)
+            {
+                for (int x = minX; x <= maxX; x++)
+                {
+                    pos.setPos(x, y, z);
+                    if (!visitor.visit(pos, world.getBlockState(pos)))
+                    {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find the position closest to a point which is the bottom of a column of the given blocks.
+     *
+     * @param world   the world to scan.
+     * @param point   the point to search around.
+     * @param radiusX x search distance.
+     * @param radiusY y search distance.
+     * @param radiusZ z search distance.
+     * @param height  the height of the column, the blocks above the bottom have to be in the set as well.
+     * @param blocks  the blocks the column has to consist of.
+     * @return the bottom of the closest column or null if there is none.
+     */
+    @Nullable
+    public static BlockPos findClosestColumn(
+                                              @NotNull final World world,
+                                              @NotNull final BlockPos point,
+                                              final int radiusX,
+                                              final int radiusY,
+                                              final int radiusZ,
+                                              final int height,
+                                              @NotNull final BlockSet blocks)
+    {
+        final BlockPos.MutableBlockPos above = new BlockPos.MutableBlockPos();
+        final BlockPos.MutableBlockPos closest = new BlockPos.MutableBlockPos();
+        final long[] closestDistance = {Long.MAX_VALUE};
+
+        scan(world,
+          point.getX() - radiusX, point.getY() - radiusY, point.getZ() - radiusZ,
+          point.getX() + radiusX, point.getY() + radiusY, point.getZ() + radiusZ,
+          (pos, state) ->
+          {
+              if (blocks.contains(state))
+              {
+                  final long distance = BlockPosUtil.getDistanceSquared(pos, point);
+                  if (distance < closestDistance[0] && isColumnAbove(world, pos, height, blocks, above))
+                  {
+                      closestDistance[0] = distance;
+                      closest.setPos(pos);
+                  }
+              }
+              return true;
+          });
+
+        return closestDistance[0] == Long.MAX_VALUE ? null : closest.toImmutable();
+    }
+
+    /**
+     * Checks if the blocks above a position, up to the height of the column, are all in the set.
+     *
+     * @param world  the world.
+     * @param bottom the bottom of the column, which has been checked already.
+     * @param height the height of the column.
+     * @param blocks the blocks the column has to consist of.
+     * @param above  the position to reuse.
+     * @return true if so.
+     */
+    private static boolean isColumnAbove(
+                                          @NotNull final World world,
+                                          @NotNull final BlockPos bottom,
+                                          final int height,
+                                          @NotNull final BlockSet blocks,
+                                          @NotNull final BlockPos.MutableBlockPos above)
+    {
+        for (int dy = 1; dy < height; dy++)
+        {
+            above.setPos(bottom.getX(), bottom.getY() + dy, bottom.getZ());
+            if (!blocks.contains(world.getBlockState(above)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,69 @@
+package com.minecolonies.api.util;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Immutable set of blocks compared by identity.
+ * <p>
+ * Membership tests are a single hash lookup, create the set once and keep it in a constant
+ * instead of passing the blocks as varargs to every scan.
+ * The blocks are not stored by their ids as those are remapped per world.
+ */
+public final class BlockSet
+{
+    /**
+     * The blocks in the set.
+     */
+    @NotNull
+    private final Set<Block> blocks = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates a set of blocks.
+     *
+     * @param blocks the blocks.
+     */
+    private BlockSet(@NotNull final Block... blocks)
+    {
+        Collections.addAll(this.blocks, blocks);
+    }
+
+    /**
+     * Create a set of blocks.
+     *
+     * @param blocks the blocks in the set.
+     * @return the new set.
+     */
+    @NotNull
+    public static BlockSet of(@NotNull final Block... blocks)
+    {
+        return new BlockSet(blocks);
+    }
+
+    /**
+     * Checks if a block is in the set.
+     *
+     * @param block the block.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final Block block)
+    {
+        return blocks.contains(block);
+    }
+
+    /**
+     * Checks if the block of a state is in the set.
+     *
+     * @param state the state.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final IBlockState state)
+    {
+        return contains(state.getBlock());
+    }
+}
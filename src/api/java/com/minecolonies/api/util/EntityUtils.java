@@ -37,6 +37,17 @@ public final class EntityUtils
     private static final double MIDDLE_BLOCK_OFFSET = 0.5D;
     private static final int    SCAN_RADIUS         = 5;
 
+    /**
+     * Blocks a citizen can be placed in.
+     */
+    private static final BlockSet SPAWN_SPACE = BlockSet.of(
+      Blocks.AIR,
+      Blocks.SNOW_LAYER,
+      Blocks.TALLGRASS,
+      Blocks.RED_FLOWER,
+      Blocks.YELLOW_FLOWER,
+      Blocks.CARPET);
+
     /**
      * Private constructor to hide the implicit public one.
      */
@@ -178,19 +189,7 @@ public final class EntityUtils
     @Nullable
     public static BlockPos getSpawnPoint(final World world, final BlockPos nearPoint)
     {
-        return Utils.scanForBlockNearPoint(
-          world,
-          nearPoint,
-          1,
-          1,
-          1,
-          2,
-          Blocks.AIR,
-          Blocks.SNOW_LAYER,
-          Blocks.TALLGRASS,
-          Blocks.RED_FLOWER,
-          Blocks.YELLOW_FLOWER,
-          Blocks.CARPET);
+        return BlockScanner.findClosestColumn(world, nearPoint, 1, 1, 1, 2, SPAWN_SPACE);
     }
 
     /**
@@ -257,15 +256,10 @@ public final class EntityUtils
         if (!isLivingAtSite(entity, x, y, z, TELEPORT_RANGE))
         {
             final BlockPos spawnPoint =
-                    Utils.scanForBlockNearPoint(entity.getEntityWorld(),
+                    BlockScanner.findClosestColumn(entity.getEntityWorld(),
                             new BlockPos(x, y, z),
                             SCAN_RADIUS, SCAN_RADIUS, SCAN_RADIUS, 2,
-                            Blocks.AIR,
-                            Blocks.SNOW_LAYER,
-                            Blocks.TALLGRASS,
-                            Blocks.RED_FLOWER,
-                            Blocks.YELLOW_FLOWER,
-                            Blocks.CARPET);
+                            SPAWN_SPACE);
 
             entity.setLocationAndAngles(
                     spawnPoint.getX() + MIDDLE_BLOCK_OFFSET,
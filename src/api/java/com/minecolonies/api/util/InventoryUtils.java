@@ -1,20 +1,27 @@
 package com.minecolonies.api.util;
 
+import com.minecolonies.api.inventory.IInventorySummaryProvider;
+import com.minecolonies.api.inventory.InventorySummary;
 import com.minecolonies.api.util.constant.IToolType;
+import com.minecolonies.api.util.constant.ToolType;
 import net.minecraft.block.Block;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.tileentity.TileEntityChest;
 import net.minecraft.util.EnumFacing;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.VanillaDoubleChestItemHandler;
+import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -35,6 +42,146 @@ public class InventoryUtils
          */
     }
 
+    /**
+     * Get the {@link InventorySummary} of an {@link IItemHandler}, if it has
+     * one.
+     *
+     * @param itemHandler The {@link IItemHandler} to get the summary of.
+     * @return The summary or null if the handler doesn't keep one.
+     */
+    @Nullable
+    private static InventorySummary getInventorySummary(@NotNull final IItemHandler itemHandler)
+    {
+        if (itemHandler instanceof IInventorySummaryProvider)
+        {
+            return ((IInventorySummaryProvider) itemHandler).getInventorySummary();
+        }
+        if (itemHandler instanceof InvWrapper && ((InvWrapper) itemHandler).getInv() instanceof IInventorySummaryProvider)
+        {
+            return ((IInventorySummaryProvider) ((InvWrapper) itemHandler).getInv()).getInventorySummary();
+        }
+        return null;
+    }
+
+    /**
+     * Split an {@link IItemHandler} into the parts which can be queried on
+     * their own, if at least one of them keeps an {@link InventorySummary}.
+     * A double chest is split into its two chests, so a hut chest next to a
+     * normal chest still answers from its summary.
+     *
+     * @param itemHandler The {@link IItemHandler} to split.
+     * @return The parts or null if no part keeps a summary.
+     */
+    @Nullable
+    private static List<SummaryPart> getSummaryParts(@NotNull final IItemHandler itemHandler)
+    {
+        final InventorySummary summary = getInventorySummary(itemHandler);
+        if (summary != null)
+        {
+            return Collections.singletonList(new SummaryPart(itemHandler, summary, 0));
+        }
+
+        if (itemHandler instanceof VanillaDoubleChestItemHandler)
+        {
+            final VanillaDoubleChestItemHandler doubleChest = (VanillaDoubleChestItemHandler) itemHandler;
+            final TileEntityChest upperChest = doubleChest.getChest(true);
+            final TileEntityChest lowerChest = doubleChest.getChest(false);
+            if (upperChest instanceof IInventorySummaryProvider || lowerChest instanceof IInventorySummaryProvider)
+            {
+                final List<SummaryPart> parts = new ArrayList<>();
+                final int lowerOffset = doubleChest.getSlots() / 2;
+                if (upperChest != null)
+                {
+                    final IItemHandler upperHandler = new InvWrapper(upperChest);
+                    parts.add(new SummaryPart(upperHandler, getInventorySummary(upperHandler), 0));
+                }
+                if (lowerChest != null)
+                {
+                    final IItemHandler lowerHandler = new InvWrapper(lowerChest);
+                    parts.add(new SummaryPart(lowerHandler, getInventorySummary(lowerHandler), lowerOffset));
+                }
+                return parts;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if one of the {@link IItemHandler}s of an {@link ICapabilityProvider}
+     * keeps an {@link InventorySummary}, so a check for an item or a tool is
+     * cheaper than walking the slots.
+     *
+     * @param provider The {@link ICapabilityProvider} to check.
+     * @return True if so.
+     */
+    public static boolean hasInventorySummary(@NotNull final ICapabilityProvider provider)
+    {
+        return getItemHandlersFromProvider(provider).stream().anyMatch(handler -> getSummaryParts(handler) != null);
+    }
+
+    /**
+     * Find the first slot of the parts of an {@link IItemHandler}, the parts
+     * with a summary are asked with the lookup, the others are scanned with
+     * the predicate.
+     *
+     * @param parts         The parts.
+     * @param summaryLookup The lookup of a slot in a summary.
+     * @param predicate     The predicate to match.
+     * @return Index of the first occurrence or -1 if none found.
+     */
+    private static int findFirstSlotInParts(
+                                             @NotNull final List<SummaryPart> parts,
+                                             @NotNull final ToIntFunction<InventorySummary> summaryLookup,
+                                             @NotNull final Predicate<ItemStack> predicate)
+    {
+        for (final SummaryPart part : parts)
+        {
+            final int slot = part.summary == null ? findFirstSlotInItemHandlerWith(part.handler, predicate) : summaryLookup.applyAsInt(part.summary);
+            if (slot != -1)
+            {
+                return slot + part.offset;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A part of an {@link IItemHandler} with its summary, if it keeps one.
+     */
+    private static final class SummaryPart
+    {
+        /**
+         * The handler of the part.
+         */
+        @NotNull
+        private final IItemHandler handler;
+
+        /**
+         * The summary of the part or null if it has to be scanned.
+         */
+        @Nullable
+        private final InventorySummary summary;
+
+        /**
+         * The index of the first slot of the part in the whole handler.
+         */
+        private final int offset;
+
+        /**
+         * Creates a part.
+         *
+         * @param handler The handler of the part.
+         * @param summary The summary of the part, if any.
+         * @param offset  The index of its first slot in the whole handler.
+         */
+        private SummaryPart(@NotNull final IItemHandler handler, @Nullable final InventorySummary summary, final int offset)
+        {
+            this.handler = handler;
+            this.summary = summary;
+            this.offset = offset;
+        }
+    }
+
     /**
      * Filters a list of items, matches the stack using {@link
      * #compareItems(ItemStack, Item, int)}, in an {@link IItemHandler}. Uses
@@ -142,7 +289,13 @@ public class InventoryUtils
      */
     public static int findFirstSlotInItemHandlerWith(@NotNull final IItemHandler itemHandler, @NotNull final Item targetItem, final int itemDamage)
     {
-        return findFirstSlotInItemHandlerWith(itemHandler, (ItemStack stack) -> compareItems(stack, targetItem, itemDamage));
+        final Predicate<ItemStack> predicate = (ItemStack stack) -> compareItems(stack, targetItem, itemDamage);
+        final List<SummaryPart> parts = getSummaryParts(itemHandler);
+        if (parts != null)
+        {
+            return findFirstSlotInParts(parts, summary -> summary.findFirstSlot(targetItem, predicate), predicate);
+        }
+        return findFirstSlotInItemHandlerWith(itemHandler, predicate);
     }
 
     /**
@@ -193,7 +346,18 @@ public class InventoryUtils
      */
     public static int getItemCountInItemHandler(@NotNull final IItemHandler itemHandler, @NotNull final Item targetItem, final int itemDamage)
     {
-        return getItemCountInItemHandler(itemHandler, (ItemStack stack) -> compareItems(stack, targetItem, itemDamage));
+        final Predicate<ItemStack> predicate = (ItemStack stack) -> compareItems(stack, targetItem, itemDamage);
+        final List<SummaryPart> parts = getSummaryParts(itemHandler);
+        if (parts != null)
+        {
+            int count = 0;
+            for (final SummaryPart part : parts)
+            {
+                count += part.summary == null ? getItemCountInItemHandler(part.handler, predicate) : part.summary.getItemCount(targetItem, predicate);
+            }
+            return count;
+        }
+        return getItemCountInItemHandler(itemHandler, predicate);
     }
 
     /**
@@ -234,7 +398,13 @@ public class InventoryUtils
      */
     public static boolean hasItemInItemHandler(@NotNull final IItemHandler itemHandler, @NotNull final Item item, final int itemDamage)
     {
-        return hasItemInItemHandler(itemHandler, (ItemStack stack) -> compareItems(stack, item, itemDamage));
+        final Predicate<ItemStack> predicate = (ItemStack stack) -> compareItems(stack, item, itemDamage);
+        final List<SummaryPart> parts = getSummaryParts(itemHandler);
+        if (parts != null)
+        {
+            return findFirstSlotInParts(parts, summary -> summary.findFirstSlot(item, predicate), predicate) != -1;
+        }
+        return hasItemInItemHandler(itemHandler, predicate);
     }
 
     /**
@@ -521,7 +691,16 @@ public class InventoryUtils
      */
     public static int findFirstSlotInProviderWith(@NotNull final ICapabilityProvider provider, final Item targetItem, final int itemDamage)
     {
-        return findFirstSlotInProviderWith(provider, (ItemStack stack) -> compareItems(stack, targetItem, itemDamage));
+        for (final IItemHandler handler : getItemHandlersFromProvider(provider))
+        {
+            final int foundSlot = findFirstSlotInItemHandlerWith(handler, targetItem, itemDamage);
+            if (foundSlot > -1)
+            {
+                return foundSlot;
+            }
+        }
+
+        return -1;
     }
 
     /**
@@ -622,7 +801,9 @@ public class InventoryUtils
      */
     public static int getItemCountInProvider(@NotNull final ICapabilityProvider provider, @NotNull final Item targetItem, final int itemDamage)
     {
-        return getItemCountInProvider(provider, (ItemStack stack) -> compareItems(stack, targetItem, itemDamage));
+        return getItemHandlersFromProvider(provider).stream()
+                 .mapToInt(handler -> getItemCountInItemHandler(handler, targetItem, itemDamage))
+                 .sum();
     }
 
     /**
@@ -667,7 +848,7 @@ public class InventoryUtils
      */
     public static boolean hasItemInProvider(@NotNull final ICapabilityProvider Provider, @NotNull final Item item, final int itemDamage)
     {
-        return hasItemInProvider(Provider, (ItemStack stack) -> compareItems(stack, item, itemDamage));
+        return getItemHandlersFromProvider(Provider).stream().anyMatch(handler -> hasItemInItemHandler(handler, item, itemDamage));
     }
 
     /**
@@ -724,7 +905,7 @@ public class InventoryUtils
      */
     public static boolean isToolInProvider(@NotNull final ICapabilityProvider provider, @NotNull final IToolType toolType, final int minimalLevel, final int maximumLevel)
     {
-        return hasItemInProvider(provider, (ItemStack stack) -> ItemStackUtils.hasToolLevel(stack, toolType, minimalLevel, maximumLevel));
+        return getItemHandlersFromProvider(provider).stream().anyMatch(handler -> isToolInItemHandler(handler, toolType, minimalLevel, maximumLevel));
     }
 
     /**
@@ -1225,8 +1406,7 @@ public class InventoryUtils
      */
     public static boolean isToolInItemHandler(@NotNull final IItemHandler itemHandler, @NotNull final IToolType toolType, final int minimalLevel, final int maximumLevel)
     {
-        return hasItemInItemHandler(itemHandler, (ItemStack stack) ->
-                                    ItemStackUtils.hasToolLevel(stack, toolType, minimalLevel, maximumLevel));
+        return getFirstSlotOfItemHandlerContainingTool(itemHandler, toolType, minimalLevel, maximumLevel) > -1;
     }
 
     /**
@@ -1255,7 +1435,7 @@ public class InventoryUtils
     public static int getFirstSlotOfItemHandlerContainingTool(@NotNull final IItemHandler itemHandler, @NotNull final IToolType toolType, final int minimalLevel,
                                                                 final int maximumLevel)
     {
-        return findFirstSlotInItemHandlerWith(itemHandler,
+        return findFirstSlotInItemHandlerWithTool(itemHandler, toolType,
           (ItemStack stack) -> ItemStackUtils.hasToolLevel(stack, toolType, minimalLevel, maximumLevel));
     }
 
@@ -1271,12 +1451,36 @@ public class InventoryUtils
      */
     public static boolean hasItemHandlerToolWithLevel(@NotNull final IItemHandler itemHandler, final IToolType toolType, final int requiredLevel, final int maximumLevel)
     {
-        return findFirstSlotInItemHandlerWith(itemHandler,
+        return findFirstSlotInItemHandlerWithTool(itemHandler, toolType,
           (ItemStack stack) -> (!ItemStackUtils.isEmpty(stack) && (ItemStackUtils.isTool(stack, toolType) && ItemStackUtils.verifyToolLevel(stack,
             ItemStackUtils.getMiningLevel(stack, toolType),
             requiredLevel, maximumLevel)))) > -1;
     }
 
+    /**
+     * Returns the index of the first tool of the given type that matches the
+     * given predicate in the {@link IItemHandler}. Only checks the slots
+     * holding such tools when the handler keeps an {@link InventorySummary}.
+     *
+     * @param itemHandler                 ItemHandler to check.
+     * @param toolType                    The type of the tool, the predicate
+     *                                    has to reject other stacks.
+     * @param itemStackSelectionPredicate The predicate to match.
+     * @return Index of the first occurrence or -1 if none found.
+     */
+    private static int findFirstSlotInItemHandlerWithTool(
+                                                           @NotNull final IItemHandler itemHandler,
+                                                           @NotNull final IToolType toolType,
+                                                           @NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
+    {
+        final List<SummaryPart> parts = getSummaryParts(itemHandler);
+        if (parts != null && toolType instanceof ToolType)
+        {
+            return findFirstSlotInParts(parts, summary -> summary.findFirstSlotWithTool((ToolType) toolType, itemStackSelectionPredicate), itemStackSelectionPredicate);
+        }
+        return findFirstSlotInItemHandlerWith(itemHandler, itemStackSelectionPredicate);
+    }
+
     /**
      * Method to swap the ItemStacks from the given source {@link IItemHandler}
      * to the given target {@link ICapabilityProvider}.
@@ -1349,7 +1553,7 @@ public class InventoryUtils
 
         if (!ItemStack.areItemStacksEqual(sourceStack, originalStack) && ItemStackUtils.compareItemStacksIgnoreStackSize(sourceStack, originalStack))
         {
-            final int usedAmount = ItemStackUtils.getSize(sourceStack) - ItemStackUtils.getSize(originalStack);
+            final int usedAmount = ItemStackUtils.getSize(originalStack) - ItemStackUtils.getSize(sourceStack);
             sourceHandler.extractItem(sourceIndex, usedAmount, false);
             return true;
         }
@@ -1357,6 +1561,62 @@ public class InventoryUtils
         return false;
     }
 
+    /**
+     * Method to move the items of a source {@link IItemHandler} into a list
+     * of target {@link IItemHandler}s in one pass.
+     * <p>
+     * The free and mergeable slots of the targets are collected once, so
+     * every stack only tries the slots which can take it instead of
+     * rescanning the targets. The source slots are visited in order, the
+     * amount function is called for each non empty stack right before it is
+     * moved. It may keep state, like the amount of an item kept so far, and
+     * sees the result of the earlier moves.
+     *
+     * @param sourceHandler  The {@link IItemHandler} that works as Source.
+     * @param amountToMove   Gives the amount of a stack to move, 0 to keep
+     *                       the stack.
+     * @param targetHandlers The {@link IItemHandler}s that work as Target,
+     *                       filled in order.
+     * @return The amount of items moved.
+     */
+    public static int transferItemStacksIntoItemHandlers(
+                                                          @NotNull final IItemHandler sourceHandler,
+                                                          @NotNull final ToIntFunction<ItemStack> amountToMove,
+                                                          @NotNull final List<IItemHandler> targetHandlers)
+    {
+        final TransferTargets targets = new TransferTargets(targetHandlers);
+        int moved = 0;
+        for (int slot = 0; slot < sourceHandler.getSlots() && targets.hasSpace(); slot++)
+        {
+            final ItemStack stack = sourceHandler.getStackInSlot(slot);
+            if (ItemStackUtils.isEmpty(stack))
+            {
+                continue;
+            }
+
+            final int amount = Math.min(amountToMove.applyAsInt(stack), ItemStackUtils.getSize(stack));
+            if (amount <= 0)
+            {
+                continue;
+            }
+
+            final ItemStack toMove = sourceHandler.extractItem(slot, amount, true);
+            if (ItemStackUtils.isEmpty(toMove))
+            {
+                continue;
+            }
+
+            final int inserted = ItemStackUtils.getSize(toMove) - ItemStackUtils.getSize(targets.insert(toMove));
+            if (inserted > 0)
+            {
+                sourceHandler.extractItem(slot, inserted, false);
+                moved += inserted;
+            }
+        }
+
+        return moved;
+    }
+
     /**
      * Method to swap the ItemStacks from the given source {@link
      * ICapabilityProvider} to the given target {@link IItemHandler}.
@@ -1487,4 +1747,160 @@ public class InventoryUtils
 
         return true;
     }
+
+    /**
+     * The slots of a list of target {@link IItemHandler}s which can still
+     * take items, collected once for a batch transfer.
+     */
+    private static final class TransferTargets
+    {
+        /**
+         * Slots holding a stack which isn't full yet, by item.
+         */
+        private final Map<Item, List<TransferSlot>> partialSlots = new HashMap<>();
+
+        /**
+         * Empty slots, in handler and slot order.
+         */
+        private final List<TransferSlot> emptySlots = new LinkedList<>();
+
+        /**
+         * Collects the free and mergeable slots of the targets.
+         *
+         * @param targetHandlers the targets.
+         */
+        private TransferTargets(@NotNull final List<IItemHandler> targetHandlers)
+        {
+            for (final IItemHandler handler : targetHandlers)
+            {
+                for (int slot = 0; slot < handler.getSlots(); slot++)
+                {
+                    final ItemStack stack = handler.getStackInSlot(slot);
+                    if (ItemStackUtils.isEmpty(stack))
+                    {
+                        emptySlots.add(new TransferSlot(handler, slot));
+                    }
+                    else if (ItemStackUtils.getSize(stack) < stack.getMaxStackSize())
+                    {
+                        partialSlots.computeIfAbsent(stack.getItem(), item -> new ArrayList<>()).add(new TransferSlot(handler, slot));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Check if any slot can still take items.
+         *
+         * @return true if so.
+         */
+        private boolean hasSpace()
+        {
+            return !emptySlots.isEmpty() || !partialSlots.isEmpty();
+        }
+
+        /**
+         * Insert a stack, first merging it with stacks of the same item, then into empty slots.
+         *
+         * @param stack the stack to insert.
+         * @return the part of the stack which didn't fit.
+         */
+        @NotNull
+        private ItemStack insert(@NotNull final ItemStack stack)
+        {
+            ItemStack remainder = stack;
+            final List<TransferSlot> partial = partialSlots.get(stack.getItem());
+            if (partial != null)
+            {
+                final Iterator<TransferSlot> iterator = partial.iterator();
+                while (iterator.hasNext() && !ItemStackUtils.isEmpty(remainder))
+                {
+                    final TransferSlot target = iterator.next();
+                    final ItemStack result = target.insert(remainder);
+                    //Full, or doesn't merge with this item at all.
+                    if (target.isFull() || ItemStackUtils.getSize(result) == ItemStackUtils.getSize(remainder))
+                    {
+                        iterator.remove();
+                    }
+                    remainder = result;
+                }
+
+                if (partial.isEmpty())
+                {
+                    partialSlots.remove(stack.getItem());
+                }
+            }
+
+            final Iterator<TransferSlot> iterator = emptySlots.iterator();
+            while (iterator.hasNext() && !ItemStackUtils.isEmpty(remainder))
+            {
+                final TransferSlot target = iterator.next();
+                final ItemStack result = target.insert(remainder);
+                if (ItemStackUtils.getSize(result) == ItemStackUtils.getSize(remainder))
+                {
+                    //The slot doesn't accept this item, keep it for others.
+                    continue;
+                }
+
+                iterator.remove();
+                if (!target.isFull())
+                {
+                    partialSlots.computeIfAbsent(stack.getItem(), item -> new ArrayList<>()).add(target);
+                }
+                remainder = result;
+            }
+
+            return remainder;
+        }
+    }
+
+    /**
+     * A slot of a target {@link IItemHandler}.
+     */
+    private static final class TransferSlot
+    {
+        /**
+         * The handler of the slot.
+         */
+        private final IItemHandler handler;
+
+        /**
+         * The index of the slot.
+         */
+        private final int slot;
+
+        /**
+         * Creates a new target slot.
+         *
+         * @param handler the handler.
+         * @param slot    the index of the slot.
+         */
+        private TransferSlot(@NotNull final IItemHandler handler, final int slot)
+        {
+            this.handler = handler;
+            this.slot = slot;
+        }
+
+        /**
+         * Insert a stack into the slot.
+         *
+         * @param stack the stack.
+         * @return the part which didn't fit.
+         */
+        @NotNull
+        private ItemStack insert(@NotNull final ItemStack stack)
+        {
+            return handler.insertItem(slot, stack, false);
+        }
+
+        /**
+         * Check if the slot holds a full stack.
+         *
+         * @return true if so.
+         */
+        private boolean isFull()
+        {
+            final ItemStack stack = handler.getStackInSlot(slot);
+            return !ItemStackUtils.isEmpty(stack) && ItemStackUtils.getSize(stack) >= stack.getMaxStackSize();
+        }
+    }
 }
@@ -1,20 +1,24 @@
 package com.minecolonies.api.util;
 
 import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Objects;
-
 /**
  * General purpose utilities class.
  * todo: split up into logically distinct parts
  */
 public final class Utils
 {
+    /**
+     * Blocks which are ignored when looking for the ground.
+     */
+    private static final BlockSet NOT_GROUND = BlockSet.of(Blocks.AIR, Blocks.LEAVES, Blocks.LEAVES2);
+
     /**
      * Private constructor to hide the implicit public one.
      */
@@ -44,73 +48,7 @@ public final class Utils
                                                   final int height,
                                                   final Block... blocks)
     {
-        @Nullable BlockPos closestCoords = null;
-        double minDistance = Double.MAX_VALUE;
-
-        for (int i = point.getX() - radiusX; i <= point.getX() + radiusX; i++)
-        {
-            for (int j = point.getY() - radiusY; j <= point.getY() + radiusY; j++)
-            {
-                for (int k = point.getZ() - radiusZ; k <= point.getZ() + radiusZ; k++)
-                {
-                    if (checkHeight(world, i, j, k, height, blocks))
-                    {
-                        @NotNull final BlockPos tempCoords = new BlockPos(i, j, k);
-
-                        final double distance = BlockPosUtil.getDistanceSquared(tempCoords, point);
-                        if (closestCoords == null || distance < minDistance)
-                        {
-                            closestCoords = tempCoords;
-                            minDistance = distance;
-                        }
-                    }
-                }
-            }
-        }
-        return closestCoords;
-    }
-
-    /**
-     * Checks if the blocks above that point are all of the spezified block
-     * types.
-     *
-     * @param world  the world we check on.
-     * @param x      the x coordinate.
-     * @param y      the y coordinate.
-     * @param z      the z coordinate.
-     * @param height the number of blocks above to check.
-     * @param blocks the block types required.
-     * @return true if all blocks are of that type.
-     */
-    private static boolean checkHeight(@NotNull final World world, final int x, final int y, final int z, final int height, @NotNull final Block... blocks)
-    {
-        for (int dy = 0; dy < height; dy++)
-        {
-            if (!arrayContains(blocks, world.getBlockState(new BlockPos(x, y + dy, z)).getBlock()))
-            {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    /**
-     * Returns whether or not the array contains the object given.
-     *
-     * @param array Array to scan.
-     * @param key   Object to look for.
-     * @return True if found, otherwise false.
-     */
-    private static boolean arrayContains(@NotNull final Object[] array, final Object key)
-    {
-        for (final Object o : array)
-        {
-            if (Objects.equals(key, o))
-            {
-                return true;
-            }
-        }
-        return false;
+        return BlockScanner.findClosestColumn(world, point, radiusX, radiusY, radiusZ, height, BlockSet.of(blocks));
     }
 
     /**
@@ -126,20 +64,10 @@ public final class Utils
      */
     public static boolean isBlockInRange(@NotNull final World world, final Block block, final int posX, final int posY, final int posZ, final int range)
     {
-        for (int x = posX - range; x < posX + range; x++)
-        {
-            for (int z = posZ - range; z < posZ + range; z++)
-            {
-                for (int y = posY - range; y < posY + range; y++)
-                {
-                    if (Objects.equals(world.getBlockState(new BlockPos(x, y, z)).getBlock(), block))
-                    {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
+        return !BlockScanner.scan(world,
+          posX - range, posY - range, posZ - range,
+          posX + range - 1, posY + range - 1, posZ + range - 1,
+          (pos, state) -> state.getBlock() != block);
     }
 
     /**
@@ -152,18 +80,18 @@ public final class Utils
      */
     public static int findTopGround(@NotNull final World world, final int x, final int z)
     {
-        int yHolder = 1;
-        while (!world.canBlockSeeSky(new BlockPos(x, yHolder, z)))
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos(x, 1, z);
+        while (!world.canBlockSeeSky(pos))
         {
-            yHolder++;
+            pos.setPos(x, pos.getY() + 1, z);
         }
-        while (!world.getBlockState(new BlockPos(x, yHolder, z)).isOpaqueCube()
-                 || arrayContains(new Block[] {Blocks.AIR, Blocks.LEAVES, Blocks.LEAVES2}
-          , world.getBlockState(new BlockPos(x, yHolder, z)).getBlock()))
+        IBlockState state = world.getBlockState(pos);
+        while (!state.isOpaqueCube() || NOT_GROUND.contains(state))
         {
-            yHolder--;
+            pos.setPos(x, pos.getY() - 1, z);
+            state = world.getBlockState(pos);
         }
-        return yHolder;
+        return pos.getY();
     }
 
     /**
@@ -0,0 +1,144 @@
+package com.minecolonies.api.colony.requestsystem;
+
+import com.minecolonies.api.colony.IColony;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmark of the {@link StandardRequestManager} under a large synthetic load.
+ * <p>
+ * Prints the create/assign and resolve throughput, the heap per open request and the NBT serialize and deserialize
+ * timings, to size colonies and spot regressions. Run with {@code gradlew runRequestBenchmark}, the arguments are
+ * passed with {@code -PbenchmarkArgs="roots depth fanOut providers iterations"}.
+ */
+public final class RequestSystemBenchmark
+{
+    private static final int DEFAULT_ROOTS      = 5_000;
+    private static final int DEFAULT_DEPTH      = 2;
+    private static final int DEFAULT_FAN_OUT    = 3;
+    private static final int DEFAULT_PROVIDERS  = 16;
+    private static final int DEFAULT_ITERATIONS = 5;
+
+    /**
+     * Nanoseconds of a millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    /**
+     * Nanoseconds of a second.
+     */
+    private static final double NANOS_PER_SECOND = 1_000_000_000D;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private RequestSystemBenchmark()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Runs the benchmark and prints the measurements of every iteration.
+     *
+     * @param args optional: roots, depth, fan out, providers, iterations.
+     * @throws IOException when the NBT can not be compressed.
+     */
+    public static void main(final String[] args) throws IOException
+    {
+        final int roots = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROOTS;
+        final int depth = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_DEPTH;
+        final int fanOut = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_FAN_OUT;
+        final int providers = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_PROVIDERS;
+        final int iterations = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_ITERATIONS;
+
+        RequestLoadGenerator.registerFactories();
+        try
+        {
+            System.out.println("Load: " + roots + " roots, depth " + depth + ", fan out " + fanOut + ", " + providers + " providers, "
+                                 + RequestLoadGenerator.countRequests(roots, depth, fanOut) + " requests");
+
+            //Warm up so the measured runs are compiled.
+            new RequestLoadGenerator(roots / 10 + 1, depth, fanOut, providers).run(true);
+
+            for (int iteration = 1; iteration <= iterations; iteration++)
+            {
+                System.out.println("Iteration " + iteration + ":");
+                measure(new RequestLoadGenerator(roots, depth, fanOut, providers));
+            }
+        }
+        finally
+        {
+            StandardFactoryController.reset();
+        }
+    }
+
+    /**
+     * Measure and print one load run.
+     *
+     * @param run the run, not started yet.
+     * @throws IOException when the NBT can not be compressed.
+     */
+    private static void measure(final RequestLoadGenerator run) throws IOException
+    {
+        final long memoryBefore = usedMemory();
+        final long assignStart = System.nanoTime();
+        run.createAndAssign();
+        final long assignTime = System.nanoTime() - assignStart;
+        final int openRequests = run.getOpenRequests();
+        final long memoryPerRequest = (usedMemory() - memoryBefore) / Math.max(1, openRequests);
+
+        final long serializeStart = System.nanoTime();
+        final NBTTagCompound compound = run.getManager().serializeNBT();
+        final long serializeTime = System.nanoTime() - serializeStart;
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CompressedStreamTools.writeCompressed(compound, bytes);
+        final NBTTagCompound readCompound = CompressedStreamTools.readCompressed(new ByteArrayInputStream(bytes.toByteArray()));
+
+        final long deserializeStart = System.nanoTime();
+        new StandardRequestManager(mock(IColony.class)).deserializeNBT(readCompound);
+        final long deserializeTime = System.nanoTime() - deserializeStart;
+
+        final long resolveStart = System.nanoTime();
+        run.removeProvider();
+        run.resolveAll();
+        final long resolveTime = System.nanoTime() - resolveStart;
+
+        System.out.printf("  create/assign: %d requests in %.1f ms (%.0f / s)%n", run.getAssigned(), millis(assignTime), perSecond(run.getAssigned(), assignTime));
+        System.out.printf("  resolve:       %d requests in %.1f ms (%.0f / s, including provider removal)%n",
+          run.getCompleted(), millis(resolveTime), perSecond(run.getCompleted(), resolveTime));
+        System.out.printf("  memory:        ~%d bytes per open request%n", memoryPerRequest);
+        System.out.printf("  NBT:           serialize %.1f ms, deserialize %.1f ms, %d bytes compressed (%d per request)%n",
+          millis(serializeTime), millis(deserializeTime), bytes.size(), bytes.size() / Math.max(1, openRequests));
+    }
+
+    /**
+     * Get the used heap after a garbage collection, only an approximation.
+     *
+     * @return the used bytes.
+     */
+    private static long usedMemory()
+    {
+        System.gc();
+        final Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static double millis(final long nanos)
+    {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    private static double perSecond(final int count, final long nanos)
+    {
+        return nanos == 0 ? 0 : count * NANOS_PER_SECOND / nanos;
+    }
+}
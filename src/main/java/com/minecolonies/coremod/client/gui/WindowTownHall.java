@@ -14,6 +14,7 @@ import com.minecolonies.blockout.views.ScrollingList;
 import com.minecolonies.blockout.views.SwitchView;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.CitizenDataView;
+import com.minecolonies.coremod.colony.ColonyView;
 import com.minecolonies.coremod.colony.WorkOrderView;
 import com.minecolonies.coremod.colony.buildings.BuildingTownHall;
 import com.minecolonies.coremod.network.messages.*;
@@ -240,6 +241,16 @@ public class WindowTownHall extends AbstractWindowBuilding<BuildingTownHall.View
      */
     private static final String BAKERS_LABEL = "bakers";
 
+    /**
+     * Id of the label with the production and deliveries of the last day in the GUI.
+     */
+    private static final String DAY_PRODUCTION_LABEL = "dayProduction";
+
+    /**
+     * Id of the label with the path jobs and tick cost of the last day in the GUI.
+     */
+    private static final String DAY_COST_LABEL = "dayCost";
+
     /**
      * Id of the total assignee label in the GUI.
      */
@@ -904,6 +915,12 @@ public class WindowTownHall extends AbstractWindowBuilding<BuildingTownHall.View
         findPaneOfTypeByID(LUMBERJACKS_LABEL, Label.class).setLabelText(numberOfLumberjacks);
         findPaneOfTypeByID(FARMERS_LABEL, Label.class).setLabelText(numberOfFarmers);
         findPaneOfTypeByID(BAKERS_LABEL, Label.class).setLabelText(numberOfbakers);
+
+        final ColonyView colony = townHall.getColony();
+        findPaneOfTypeByID(DAY_PRODUCTION_LABEL, Label.class).setLabelText(
+          LanguageHandler.format("com.minecolonies.coremod.gui.townHall.lastDay.production", colony.getDayProduction(), colony.getDayDeliveries()));
+        findPaneOfTypeByID(DAY_COST_LABEL, Label.class).setLabelText(
+          LanguageHandler.format("com.minecolonies.coremod.gui.townHall.lastDay.cost", colony.getDayPathJobs(), colony.getDayTickMillis()));
     }
 
     /**
@@ -486,6 +486,7 @@ public class CitizenData
         {
             homeBuilding = building;
             markDirty();
+            colony.onCitizenChanged(this);
         }
     }
 
@@ -538,6 +539,7 @@ public class CitizenData
             }
 
             markDirty();
+            colony.onCitizenChanged(this);
         }
     }
 
@@ -566,6 +568,10 @@ public class CitizenData
      */
     public void setJob(final AbstractJob job)
     {
+        if (colony != null)
+        {
+            colony.getJobIndex().onJobChanged(this, this.job, job);
+        }
         this.job = job;
 
         @Nullable final EntityCitizen localEntity = getCitizenEntity();
@@ -575,6 +581,10 @@ public class CitizenData
         }
 
         markDirty();
+        if (colony != null)
+        {
+            colony.onCitizenChanged(this);
+        }
     }
 
     /**
@@ -709,6 +719,7 @@ public class CitizenData
     public void increaseSaturation(final double extraSaturation)
     {
         this.saturation = Math.min(MAX_SATURATION, this.saturation + Math.abs(extraSaturation));
+        colony.onCitizenChanged(this);
     }
 
     /**
@@ -719,6 +730,7 @@ public class CitizenData
     public void decreaseSaturation(final double extraSaturation)
     {
         this.saturation = Math.max(MIN_SATURATION, this.saturation - Math.abs(extraSaturation));
+        colony.onCitizenChanged(this);
     }
 
     /**
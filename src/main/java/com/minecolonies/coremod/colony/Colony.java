@@ -15,6 +15,7 @@ import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.citizen.builder.ConstructionTapeHelper;
 import com.minecolonies.coremod.entity.ai.citizen.farmer.Field;
 import com.minecolonies.coremod.entity.ai.mobs.util.MobEventsUtils;
+import com.minecolonies.coremod.entity.ai.mobs.util.RaidFlowField;
 import com.minecolonies.coremod.network.messages.*;
 import com.minecolonies.coremod.permissions.ColonyPermissionEventHandler;
 import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
@@ -44,7 +45,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * This class describes a colony and contains all the data and methods for
@@ -71,25 +71,11 @@ public class Colony implements IColony
     private static final String TAG_FREE_POSITIONS             = "freePositions";
     private static final String TAG_HAPPINESS                  = "happiness";
     private static final String TAG_ABANDONED                  = "abandoned";
+    private static final String TAG_OFFLINE_SIMULATION         = "offlineSimulation";
+    private static final String TAG_WATER_INDEX                = "waterIndex";
 
     //statistics tags
     private static final String TAG_STATISTICS            = "statistics";
-    private static final String TAG_MINER_STATISTICS      = "minerStatistics";
-    private static final String TAG_MINER_ORES            = "ores";
-    private static final String TAG_MINER_DIAMONDS        = "diamonds";
-    private static final String TAG_FARMER_STATISTICS     = "farmerStatistics";
-    private static final String TAG_FARMER_WHEAT          = "wheat";
-    private static final String TAG_FARMER_POTATOES       = "potatoes";
-    private static final String TAG_FARMER_CARROTS        = "carrots";
-    private static final String TAG_GUARD_STATISTICS      = "guardStatistics";
-    private static final String TAG_GUARD_MOBS            = "mobs";
-    private static final String TAG_BUILDER_STATISTICS    = "builderStatistics";
-    private static final String TAG_BUILDER_HUTS          = "huts";
-    private static final String TAG_FISHERMAN_STATISTICS  = "fishermanStatistics";
-    private static final String TAG_FISHERMAN_FISH        = "fish";
-    private static final String TAG_LUMBERJACK_STATISTICS = "lumberjackStatistics";
-    private static final String TAG_LUMBERJACK_TREES      = "trees";
-    private static final String TAG_LUMBERJACK_SAPLINGS   = "saplings";
     private static final int    NUM_ACHIEVEMENT_FIRST     = 1;
     private static final int    NUM_ACHIEVEMENT_SECOND    = 25;
     private static final int    NUM_ACHIEVEMENT_THIRD     = 100;
@@ -163,6 +149,45 @@ public class Colony implements IColony
     private final List<Achievement> colonyAchievements;
     //  Workload and Jobs
     private final WorkManager                     workManager       = new WorkManager(this);
+    /**
+     * Simulates the production of the colony while its chunks are unloaded.
+     */
+    private final OfflineProductionSimulator      offlineSimulator  = new OfflineProductionSimulator(this);
+    /**
+     * Index of hostile entities around the colony, shared by guards and citizens.
+     */
+    private final ColonyThreatIndex               threatIndex       = new ColonyThreatIndex(this);
+    /**
+     * Index of dropped items and xp orbs around the colony, shared by all citizens.
+     */
+    private final ColonyItemIndex                 itemIndex         = new ColonyItemIndex(this);
+    /**
+     * Index of the citizens by job and idle state, used to assign work orders.
+     */
+    private final ColonyJobIndex                  jobIndex          = new ColonyJobIndex();
+    /**
+     * Index of the known tree bases of the colony, used by lumberjacks.
+     */
+    private final ColonyTreeIndex                 treeIndex         = new ColonyTreeIndex();
+    /**
+     * Index of the bodies of water around the colony, used by fishermen.
+     */
+    private final ColonyWaterIndex                waterIndex        = new ColonyWaterIndex(this);
+    /**
+     * Sums and sets over the citizens, buildings and fields, kept up to date incrementally.
+     */
+    private final ColonyAggregates                aggregates        = new ColonyAggregates();
+
+    /**
+     * The statistics and the daily history of the colony.
+     */
+    private final ColonyMetrics                   metrics           = new ColonyMetrics();
+
+    /**
+     * The flow field guiding the barbarians of the current raid to the huts, null if there is no raid.
+     */
+    @Nullable
+    private RaidFlowField                         raidFlowField     = null;
     @NotNull
     private final Map<BlockPos, AbstractBuilding> buildings         = new HashMap<>();
     //  Citizenry
@@ -176,16 +201,6 @@ public class Colony implements IColony
      * The Blocks which players can freely interact with.
      */
     private final Set<Block>                      freeBlocks        = new HashSet<>();
-    private       int                             minedOres         = 0;
-    private       int                             minedDiamonds     = 0;
-    private       int                             harvestedWheat    = 0;
-    private       int                             harvestedPotatoes = 0;
-    private       int                             harvestedCarrots  = 0;
-    private       int                             killedMobs        = 0;
-    private       int                             builtHuts         = 0;
-    private       int                             caughtFish        = 0;
-    private       int                             felledTrees       = 0;
-    private       int                             plantedSaplings   = 0;
     //  Runtime Data
     @Nullable
     private       World                           world             = null;
@@ -305,9 +320,19 @@ public class Colony implements IColony
             final NBTTagCompound citizenCompound = citizenTagList.getCompoundTagAt(i);
             final CitizenData data = CitizenData.createFromNBT(citizenCompound, this);
             citizens.put(data.getId(), data);
+            aggregates.onCitizenChanged(data);
             topCitizenId = Math.max(topCitizenId, data.getId());
         }
 
+        //  Fields before Buildings, because the farmers work on the fields of the colony
+        final NBTTagList fieldTagList = compound.getTagList(TAG_FIELDS, NBT.TAG_COMPOUND);
+        for (int i = 0; i < fieldTagList.tagCount(); ++i)
+        {
+            final NBTTagCompound fieldCompound = fieldTagList.getCompoundTagAt(i);
+            final Field f = Field.createFromNBT(this, fieldCompound);
+            addField(f);
+        }
+
         //  Buildings
         final NBTTagList buildingTagList = compound.getTagList(TAG_BUILDINGS, NBT.TAG_COMPOUND);
         for (int i = 0; i < buildingTagList.tagCount(); ++i)
@@ -320,15 +345,6 @@ public class Colony implements IColony
             }
         }
 
-        // Fields
-        final NBTTagList fieldTagList = compound.getTagList(TAG_FIELDS, NBT.TAG_COMPOUND);
-        for (int i = 0; i < fieldTagList.tagCount(); ++i)
-        {
-            final NBTTagCompound fieldCompound = fieldTagList.getCompoundTagAt(i);
-            final Field f = Field.createFromNBT(this, fieldCompound);
-            addField(f);
-        }
-
         // Restore colony achievements
         final NBTTagList achievementTagList = compound.getTagList(TAG_ACHIEVEMENT_LIST, NBT.TAG_COMPOUND);
         for (int i = 0; i < achievementTagList.tagCount(); ++i)
@@ -345,6 +361,11 @@ public class Colony implements IColony
         //  Workload
         workManager.readFromNBT(compound.getCompoundTag(TAG_WORK));
 
+        //  Offline production
+        offlineSimulator.readFromNBT(compound.getCompoundTag(TAG_OFFLINE_SIMULATION));
+
+        //  Water around the colony
+        waterIndex.readFromNBT(compound.getCompoundTag(TAG_WATER_INDEX));
 
         // Waypoints
         final NBTTagList wayPointTagList = compound.getTagList(TAG_WAYPOINT, NBT.TAG_COMPOUND);
@@ -358,22 +379,10 @@ public class Colony implements IColony
 
         //Statistics
         final NBTTagCompound statisticsCompound = compound.getCompoundTag(TAG_STATISTICS);
-        final NBTTagCompound minerStatisticsCompound = statisticsCompound.getCompoundTag(TAG_MINER_STATISTICS);
-        final NBTTagCompound farmerStatisticsCompound = statisticsCompound.getCompoundTag(TAG_FARMER_STATISTICS);
-        final NBTTagCompound guardStatisticsCompound = statisticsCompound.getCompoundTag(TAG_FARMER_STATISTICS);
-        final NBTTagCompound builderStatisticsCompound = statisticsCompound.getCompoundTag(TAG_BUILDER_STATISTICS);
-        final NBTTagCompound fishermanStatisticsCompound = statisticsCompound.getCompoundTag(TAG_FISHERMAN_STATISTICS);
-        final NBTTagCompound lumberjackStatisticsCompound = statisticsCompound.getCompoundTag(TAG_LUMBERJACK_STATISTICS);
-        minedOres = minerStatisticsCompound.getInteger(TAG_MINER_ORES);
-        minedDiamonds = minerStatisticsCompound.getInteger(TAG_MINER_DIAMONDS);
-        harvestedCarrots = farmerStatisticsCompound.getInteger(TAG_FARMER_CARROTS);
-        harvestedPotatoes = farmerStatisticsCompound.getInteger(TAG_FARMER_POTATOES);
-        harvestedWheat = farmerStatisticsCompound.getInteger(TAG_FARMER_WHEAT);
-        killedMobs = guardStatisticsCompound.getInteger(TAG_GUARD_MOBS);
-        builtHuts = builderStatisticsCompound.getInteger(TAG_BUILDER_HUTS);
-        caughtFish = fishermanStatisticsCompound.getInteger(TAG_FISHERMAN_FISH);
-        felledTrees = lumberjackStatisticsCompound.getInteger(TAG_LUMBERJACK_TREES);
-        plantedSaplings = lumberjackStatisticsCompound.getInteger(TAG_LUMBERJACK_SAPLINGS);
+        for (final ColonyStatistic statistic : ColonyStatistic.values())
+        {
+            metrics.setCounter(statistic, statisticsCompound.getCompoundTag(statistic.getCategoryTag()).getInteger(statistic.getTag()));
+        }
 
         // Free blocks
         final NBTTagList freeBlockTagList = compound.getTagList(TAG_FREE_BLOCKS, NBT.TAG_STRING);
@@ -412,6 +421,7 @@ public class Colony implements IColony
     {
         buildings.put(building.getID(), building);
         building.markDirty();
+        aggregates.onBuildingChanged(building);
 
         //  Limit 1 town hall
         if (building instanceof BuildingTownHall && townHall == null)
@@ -423,6 +433,22 @@ public class Colony implements IColony
         {
             wareHouse = (BuildingWareHouse) building;
         }
+
+        invalidatePatrolRoutes();
+    }
+
+    /**
+     * Let the guard towers compute their patrol routes again, after a building was added or removed.
+     */
+    private void invalidatePatrolRoutes()
+    {
+        for (final AbstractBuilding building : buildings.values())
+        {
+            if (building instanceof BuildingGuardTower)
+            {
+                ((BuildingGuardTower) building).invalidatePatrolRoute();
+            }
+        }
     }
 
     /**
@@ -433,6 +459,46 @@ public class Colony implements IColony
     private void addField(@NotNull final Field field)
     {
         fields.put(field.getID(), field);
+        aggregates.onFieldChanged(field);
+    }
+
+    /**
+     * Called by a citizen of the colony when its buildings, job, needed items or saturation changed.
+     *
+     * @param citizen the citizen.
+     */
+    public void onCitizenChanged(@NotNull final CitizenData citizen)
+    {
+        if (citizens.get(citizen.getId()) == citizen)
+        {
+            aggregates.onCitizenChanged(citizen);
+        }
+    }
+
+    /**
+     * Called by a building of the colony when its level changed.
+     *
+     * @param building the building.
+     */
+    public void onBuildingChanged(@NotNull final AbstractBuilding building)
+    {
+        if (buildings.get(building.getID()) == building)
+        {
+            aggregates.onBuildingChanged(building);
+        }
+    }
+
+    /**
+     * Called by a field of the colony when it has been taken or freed.
+     *
+     * @param field the field.
+     */
+    public void onFieldChanged(@NotNull final Field field)
+    {
+        if (fields.get(field.getID()) == field)
+        {
+            aggregates.onFieldChanged(field);
+        }
     }
 
     /**
@@ -501,6 +567,16 @@ public class Colony implements IColony
         workManager.writeToNBT(workManagerCompound);
         compound.setTag(TAG_WORK, workManagerCompound);
 
+        //  Offline production
+        @NotNull final NBTTagCompound offlineSimulationCompound = new NBTTagCompound();
+        offlineSimulator.writeToNBT(offlineSimulationCompound);
+        compound.setTag(TAG_OFFLINE_SIMULATION, offlineSimulationCompound);
+
+        //  Water around the colony
+        @NotNull final NBTTagCompound waterIndexCompound = new NBTTagCompound();
+        waterIndex.writeToNBT(waterIndexCompound);
+        compound.setTag(TAG_WATER_INDEX, waterIndexCompound);
+
         // Waypoints
         @NotNull final NBTTagList wayPointTagList = new NBTTagList();
         for (@NotNull final Map.Entry<BlockPos, IBlockState> entry : wayPoints.entrySet())
@@ -515,29 +591,15 @@ public class Colony implements IColony
 
         // Statistics
         @NotNull final NBTTagCompound statisticsCompound = new NBTTagCompound();
-        @NotNull final NBTTagCompound minerStatisticsCompound = new NBTTagCompound();
-        @NotNull final NBTTagCompound farmerStatisticsCompound = new NBTTagCompound();
-        @NotNull final NBTTagCompound guardStatisticsCompound = new NBTTagCompound();
-        @NotNull final NBTTagCompound builderStatisticsCompound = new NBTTagCompound();
-        @NotNull final NBTTagCompound fishermanStatisticsCompound = new NBTTagCompound();
-        @NotNull final NBTTagCompound lumberjackStatisticsCompound = new NBTTagCompound();
         compound.setTag(TAG_STATISTICS, statisticsCompound);
-        statisticsCompound.setTag(TAG_MINER_STATISTICS, minerStatisticsCompound);
-        minerStatisticsCompound.setInteger(TAG_MINER_ORES, minedOres);
-        minerStatisticsCompound.setInteger(TAG_MINER_DIAMONDS, minedDiamonds);
-        statisticsCompound.setTag(TAG_FARMER_STATISTICS, farmerStatisticsCompound);
-        farmerStatisticsCompound.setInteger(TAG_FARMER_CARROTS, harvestedCarrots);
-        farmerStatisticsCompound.setInteger(TAG_FARMER_POTATOES, harvestedPotatoes);
-        farmerStatisticsCompound.setInteger(TAG_FARMER_WHEAT, harvestedWheat);
-        statisticsCompound.setTag(TAG_GUARD_STATISTICS, guardStatisticsCompound);
-        guardStatisticsCompound.setInteger(TAG_GUARD_MOBS, killedMobs);
-        statisticsCompound.setTag(TAG_BUILDER_STATISTICS, builderStatisticsCompound);
-        builderStatisticsCompound.setInteger(TAG_BUILDER_HUTS, builtHuts);
-        statisticsCompound.setTag(TAG_FISHERMAN_STATISTICS, fishermanStatisticsCompound);
-        fishermanStatisticsCompound.setInteger(TAG_FISHERMAN_FISH, caughtFish);
-        statisticsCompound.setTag(TAG_LUMBERJACK_STATISTICS, lumberjackStatisticsCompound);
-        lumberjackStatisticsCompound.setInteger(TAG_LUMBERJACK_TREES, felledTrees);
-        lumberjackStatisticsCompound.setInteger(TAG_LUMBERJACK_SAPLINGS, plantedSaplings);
+        for (final ColonyStatistic statistic : ColonyStatistic.values())
+        {
+            if (!statisticsCompound.hasKey(statistic.getCategoryTag()))
+            {
+                statisticsCompound.setTag(statistic.getCategoryTag(), new NBTTagCompound());
+            }
+            statisticsCompound.getCompoundTag(statistic.getCategoryTag()).setInteger(statistic.getTag(), metrics.getCounter(statistic));
+        }
 
         // Free blocks
         @NotNull final NBTTagList freeBlocksTagList = new NBTTagList();
@@ -577,109 +639,41 @@ public class Colony implements IColony
      *
      * @param statistic the statistic.
      */
-    public void incrementStatistic(@NotNull final String statistic)
+    public void incrementStatistic(@NotNull final ColonyStatistic statistic)
     {
-        final int statisticAmount = this.getStatisticAmount(statistic);
-        incrementStatisticAmount(statistic);
+        final int statisticAmount = metrics.increment(statistic) - 1;
+        final String tag = statistic.getTag();
         if (statisticAmount >= NUM_ACHIEVEMENT_FIRST)
         {
-            TriggerColonyAchievements.triggerFirstAchievement(statistic, this);
+            TriggerColonyAchievements.triggerFirstAchievement(tag, this);
         }
         if (statisticAmount >= NUM_ACHIEVEMENT_SECOND)
         {
-            TriggerColonyAchievements.triggerSecondAchievement(statistic, this);
+            TriggerColonyAchievements.triggerSecondAchievement(tag, this);
         }
         if (statisticAmount >= NUM_ACHIEVEMENT_THIRD)
         {
-            TriggerColonyAchievements.triggerThirdAchievement(statistic, this);
+            TriggerColonyAchievements.triggerThirdAchievement(tag, this);
         }
         if (statisticAmount >= NUM_ACHIEVEMENT_FOURTH)
         {
-            TriggerColonyAchievements.triggerFourthAchievement(statistic, this);
+            TriggerColonyAchievements.triggerFourthAchievement(tag, this);
         }
         if (statisticAmount >= NUM_ACHIEVEMENT_FIFTH)
         {
-            TriggerColonyAchievements.triggerFifthAchievement(statistic, this);
+            TriggerColonyAchievements.triggerFifthAchievement(tag, this);
         }
     }
 
     /**
-     * Get the amount of statistic.
+     * Get the statistics and the daily history of the colony.
      *
-     * @param statistic the statistic.
-     * @return amount of statistic.
+     * @return the metrics.
      */
-    private int getStatisticAmount(@NotNull final String statistic)
+    @NotNull
+    public ColonyMetrics getMetrics()
     {
-        switch (statistic)
-        {
-            case TAG_GUARD_MOBS:
-                return killedMobs;
-            case TAG_MINER_ORES:
-                return minedOres;
-            case TAG_MINER_DIAMONDS:
-                return minedDiamonds;
-            case TAG_BUILDER_HUTS:
-                return builtHuts;
-            case TAG_FISHERMAN_FISH:
-                return caughtFish;
-            case TAG_FARMER_WHEAT:
-                return harvestedWheat;
-            case TAG_FARMER_POTATOES:
-                return harvestedPotatoes;
-            case TAG_FARMER_CARROTS:
-                return harvestedCarrots;
-            case TAG_LUMBERJACK_SAPLINGS:
-                return plantedSaplings;
-            case TAG_LUMBERJACK_TREES:
-                return felledTrees;
-            default:
-                return 0;
-        }
-    }
-
-    /**
-     * increment statistic amount.
-     *
-     * @param statistic the statistic.
-     */
-    private void incrementStatisticAmount(@NotNull final String statistic)
-    {
-        switch (statistic)
-        {
-            case TAG_GUARD_MOBS:
-                killedMobs++;
-                break;
-            case TAG_MINER_ORES:
-                minedOres++;
-                break;
-            case TAG_MINER_DIAMONDS:
-                minedDiamonds++;
-                break;
-            case TAG_BUILDER_HUTS:
-                builtHuts++;
-                break;
-            case TAG_FISHERMAN_FISH:
-                caughtFish++;
-                break;
-            case TAG_FARMER_WHEAT:
-                harvestedWheat++;
-                break;
-            case TAG_FARMER_POTATOES:
-                harvestedPotatoes++;
-                break;
-            case TAG_FARMER_CARROTS:
-                harvestedCarrots++;
-                break;
-            case TAG_LUMBERJACK_SAPLINGS:
-                plantedSaplings++;
-                break;
-            case TAG_LUMBERJACK_TREES:
-                felledTrees++;
-                break;
-            default:
-                break;
-        }
+        return metrics;
     }
 
     /**
@@ -720,6 +714,7 @@ public class Colony implements IColony
         }
 
         world = null;
+        raidFlowField = null;
     }
 
     /**
@@ -986,6 +981,98 @@ public class Colony implements IColony
         return workManager;
     }
 
+    /**
+     * Get the index of hostile entities around the colony.
+     *
+     * @return the ColonyThreatIndex of the colony.
+     */
+    @NotNull
+    public ColonyThreatIndex getThreatIndex()
+    {
+        return threatIndex;
+    }
+
+    /**
+     * Get the index of dropped items and xp orbs around the colony.
+     *
+     * @return the ColonyItemIndex of the colony.
+     */
+    @NotNull
+    public ColonyItemIndex getItemIndex()
+    {
+        return itemIndex;
+    }
+
+    /**
+     * Get the index of the citizens by job.
+     *
+     * @return the ColonyJobIndex of the colony.
+     */
+    @NotNull
+    public ColonyJobIndex getJobIndex()
+    {
+        return jobIndex;
+    }
+
+    /**
+     * Get the index of the known trees.
+     *
+     * @return the ColonyTreeIndex of the colony.
+     */
+    @NotNull
+    public ColonyTreeIndex getTreeIndex()
+    {
+        return treeIndex;
+    }
+
+    /**
+     * Get the index of the bodies of water.
+     *
+     * @return the ColonyWaterIndex of the colony.
+     */
+    @NotNull
+    public ColonyWaterIndex getWaterIndex()
+    {
+        return waterIndex;
+    }
+
+    /**
+     * Start building the flow field of a new raid, it is built over the next ticks.
+     *
+     * @param w the world of the colony.
+     */
+    public void startRaidFlowField(@NotNull final World w)
+    {
+        raidFlowField = RaidFlowField.create(w, this);
+    }
+
+    /**
+     * Get the flow field of the current raid.
+     *
+     * @param w the world the raid happens in.
+     * @return the field or null if there is no raid or the field is not complete yet.
+     */
+    @Nullable
+    public RaidFlowField getRaidFlowField(@NotNull final World w)
+    {
+        if (raidFlowField == null || !raidFlowField.isValidFor(w) || !raidFlowField.isReady())
+        {
+            return null;
+        }
+        return raidFlowField;
+    }
+
+    /**
+     * Get the aggregates over the citizens, buildings and fields.
+     *
+     * @return the ColonyAggregates of the colony.
+     */
+    @NotNull
+    public ColonyAggregates getAggregates()
+    {
+        return aggregates;
+    }
+
     /**
      * Get a copy of the freePositions list.
      *
@@ -1068,8 +1155,12 @@ public class Colony implements IColony
             return;
         }
 
+        final long tickStart = System.nanoTime();
         if (event.phase == TickEvent.Phase.START)
         {
+            //  Count the tick, finishes the day of the metrics when a new one started
+            metrics.onTick(event.world.getTotalWorldTime());
+
             //  Detect CitizenData whose EntityCitizen no longer exist in world, and clear the mapping
             //  Consider handing this in an ChunkUnload Event instead?
             citizens.values()
@@ -1087,6 +1178,31 @@ public class Colony implements IColony
                 citizens.values().forEach(this::spawnCitizenIfNull);
             }
 
+            //  Keep the sections of dropped items up to date
+            itemIndex.onWorldTick(event.world);
+
+            //  Scan the next slice of the water around the colony
+            waterIndex.onWorldTick(event.world);
+
+            //  Build the next part of the flow field of a raid, drop it when the raid is over
+            if (raidFlowField != null)
+            {
+                if (raidFlowField.isValidFor(event.world))
+                {
+                    raidFlowField.onWorldTick(event.world);
+                }
+                else
+                {
+                    raidFlowField = null;
+                }
+            }
+
+            //  Produce what the colony would have produced while its chunks were unloaded
+            offlineSimulator.onWorldTick(event.world);
+
+            //  Assign the queued requests
+            requestManager.update();
+
             //  Cleanup Buildings whose Blocks have gone AWOL
             cleanUpBuildings(event);
 
@@ -1126,37 +1242,15 @@ public class Colony implements IColony
 
         updateWayPoints();
         workManager.onWorldTick(event);
+        metrics.record(ColonyMetrics.Sample.TICK_NANOS, System.nanoTime() - tickStart);
     }
 
     private void updateOverallHappiness()
     {
-        int guards = 1;
-        int housing = 0;
-        int workers = 1;
-        double saturation = 0;
-        for (final CitizenData citizen : citizens.values())
-        {
-            final AbstractBuildingWorker buildingWorker = citizen.getWorkBuilding();
-            if (buildingWorker != null)
-            {
-                if (buildingWorker instanceof BuildingGuardTower)
-                {
-                    guards += buildingWorker.getBuildingLevel();
-                }
-                else
-                {
-                    workers += buildingWorker.getBuildingLevel();
-                }
-            }
-
-            final BuildingHome home = citizen.getHomeBuilding();
-            if (home != null)
-            {
-                housing += home.getBuildingLevel();
-            }
-
-            saturation += citizen.getSaturation();
-        }
+        final int guards = 1 + aggregates.getGuardLevels();
+        final int housing = aggregates.getHousingLevels();
+        final int workers = 1 + aggregates.getWorkerLevels();
+        final double saturation = aggregates.getSaturation();
 
         final int averageHousing = housing / Math.max(1, citizens.size());
 
@@ -1263,6 +1357,7 @@ public class Colony implements IColony
                 if (scarecrow == null)
                 {
                     fields.remove(field.getID());
+                    aggregates.removeField(field);
                 }
                 else
                 {
@@ -1409,6 +1504,7 @@ public class Colony implements IColony
                 citizenData.initializeFromEntity(entity);
 
                 citizens.put(citizenData.getId(), citizenData);
+                aggregates.onCitizenChanged(citizenData);
 
                 if (getMaxCitizens() == getCitizens().size())
                 {
@@ -1561,6 +1657,21 @@ public class Colony implements IColony
         return Collections.unmodifiableMap(fields);
     }
 
+    /**
+     * Called when a block in the world of the colony changed, updates the fields and the water index.
+     *
+     * @param w   the world of the block.
+     * @param pos the position of the block.
+     */
+    public void onBlockChanged(@NotNull final World w, @NotNull final BlockPos pos)
+    {
+        waterIndex.onBlockChanged(w, pos);
+        for (@NotNull final Field field : fields.values())
+        {
+            field.onBlockChanged(w, pos);
+        }
+    }
+
     /**
      * Get field in Colony by ID.
      *
@@ -1581,17 +1692,14 @@ public class Colony implements IColony
     @Nullable
     public Field getFreeField(final String owner)
     {
-        for (@NotNull final Field field : fields.values())
+        final Field field = aggregates.getFirstFreeField();
+        if (field != null)
         {
-            if (!field.isTaken())
-            {
-                field.setTaken(true);
-                field.setOwner(owner);
-                markFieldsDirty();
-                return field;
-            }
+            field.setTaken(true);
+            field.setOwner(owner);
+            markFieldsDirty();
         }
-        return null;
+        return field;
     }
 
     /**
@@ -1694,17 +1802,8 @@ public class Colony implements IColony
      */
     public void calculateMaxCitizens()
     {
-        int newMaxCitizens = 0;
-
-        for (final AbstractBuilding b : buildings.values())
-        {
-            if (b instanceof BuildingHome && b.getBuildingLevel() > 0)
-            {
-                newMaxCitizens += ((BuildingHome) b).getMaxInhabitants();
-            }
-        }
         // Have at least the minimum amount of citizens
-        newMaxCitizens = Math.max(Configurations.gameplay.maxCitizens, newMaxCitizens);
+        final int newMaxCitizens = Math.max(Configurations.gameplay.maxCitizens, aggregates.getHousingCapacity());
         if (maxCitizens != newMaxCitizens)
         {
             maxCitizens = newMaxCitizens;
@@ -1732,6 +1831,9 @@ public class Colony implements IColony
               building.getSchematicName()));
         }
 
+        aggregates.removeBuilding(building);
+        invalidatePatrolRoutes();
+
         if (building instanceof BuildingTownHall)
         {
             townHall = null;
@@ -1803,6 +1905,8 @@ public class Colony implements IColony
     {
         //Remove the Citizen
         citizens.remove(citizen.getId());
+        jobIndex.removeCitizen(citizen);
+        aggregates.removeCitizen(citizen);
 
         for (@NotNull final AbstractBuilding building : buildings.values())
         {
@@ -1840,25 +1944,22 @@ public class Colony implements IColony
     @Nullable
     public CitizenData getJoblessCitizen()
     {
-        for (@NotNull final CitizenData citizen : citizens.values())
-        {
-            if (citizen.getWorkBuilding() == null)
-            {
-                return citizen;
-            }
-        }
-
-        return null;
+        return aggregates.getFirstJoblessCitizen();
     }
 
+    /**
+     * Get the work buildings of the employed citizens whose job has all needed items.
+     *
+     * @return the locations of the buildings.
+     */
     public List<BlockPos> getDeliverymanRequired()
     {
-
-        return citizens.values().stream()
-                 .filter(citizen -> citizen.getWorkBuilding() != null && citizen.getJob() != null)
-                 .filter(citizen -> !citizen.getJob().isMissingNeededItem())
-                 .map(citizen -> citizen.getWorkBuilding().getLocation())
-                 .collect(Collectors.toList());
+        final List<BlockPos> locations = new ArrayList<>(aggregates.getEquippedWorkers().size());
+        for (final CitizenData citizen : aggregates.getEquippedWorkers())
+        {
+            locations.add(citizen.getWorkBuilding().getLocation());
+        }
+        return locations;
     }
 
     /**
@@ -1886,7 +1987,11 @@ public class Colony implements IColony
     public void removeField(final BlockPos pos)
     {
         this.markFieldsDirty();
-        fields.remove(pos);
+        final Field field = fields.remove(pos);
+        if (field != null)
+        {
+            aggregates.removeField(field);
+        }
     }
 
     /**
@@ -0,0 +1,349 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
+import com.minecolonies.coremod.colony.buildings.BuildingGuardTower;
+import com.minecolonies.coremod.colony.buildings.BuildingHome;
+import com.minecolonies.coremod.entity.ai.citizen.farmer.Field;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Colony wide sums and sets over the citizens, buildings and fields of a colony.
+ * <p>
+ * Every citizen and building keeps the values it currently contributes, when it changes only the difference is applied.
+ * The colony, {@link CitizenData}, {@link AbstractBuilding} and {@link Field} report their changes,
+ * so the happiness update and the lookups for jobless citizens, free fields and housing don't have to scan the colony.
+ */
+public class ColonyAggregates
+{
+    /**
+     * The values each citizen currently contributes.
+     */
+    private final Map<CitizenData, CitizenContribution> citizenContributions = new HashMap<>();
+
+    /**
+     * The inhabitants each home currently contributes to the housing capacity.
+     */
+    private final Map<BlockPos, Integer> housingCapacities = new HashMap<>();
+
+    /**
+     * Citizens without a work building.
+     */
+    private final Set<CitizenData> joblessCitizens = new LinkedHashSet<>();
+
+    /**
+     * Employed citizens whose job has all needed items.
+     */
+    private final Set<CitizenData> equippedWorkers = new LinkedHashSet<>();
+
+    /**
+     * Fields which are not taken by a farmer.
+     */
+    private final Set<Field> freeFields = new LinkedHashSet<>();
+
+    /**
+     * Sum of the levels of the guard towers citizens work at.
+     */
+    private int guardLevels = 0;
+
+    /**
+     * Sum of the levels of the other work buildings citizens work at.
+     */
+    private int workerLevels = 0;
+
+    /**
+     * Sum of the levels of the homes of the citizens.
+     */
+    private int housingLevels = 0;
+
+    /**
+     * Sum of the saturation of all citizens.
+     */
+    private double saturation = 0;
+
+    /**
+     * Sum of the inhabitants all built homes can take.
+     */
+    private int housingCapacity = 0;
+
+    /**
+     * Update the aggregates after a citizen joined the colony or one of its values changed.
+     *
+     * @param citizen the citizen.
+     */
+    public void onCitizenChanged(@NotNull final CitizenData citizen)
+    {
+        final CitizenContribution old = citizenContributions.get(citizen);
+        if (old != null)
+        {
+            apply(old, -1);
+        }
+
+        final CitizenContribution contribution = new CitizenContribution(citizen);
+        citizenContributions.put(citizen, contribution);
+        apply(contribution, 1);
+
+        final AbstractBuildingWorker workBuilding = citizen.getWorkBuilding();
+        if (workBuilding == null)
+        {
+            joblessCitizens.add(citizen);
+        }
+        else
+        {
+            joblessCitizens.remove(citizen);
+        }
+
+        if (workBuilding != null && citizen.getJob() != null && !citizen.getJob().isMissingNeededItem())
+        {
+            equippedWorkers.add(citizen);
+        }
+        else
+        {
+            equippedWorkers.remove(citizen);
+        }
+    }
+
+    /**
+     * Remove a citizen which left the colony.
+     *
+     * @param citizen the citizen.
+     */
+    public void removeCitizen(@NotNull final CitizenData citizen)
+    {
+        final CitizenContribution old = citizenContributions.remove(citizen);
+        if (old != null)
+        {
+            apply(old, -1);
+        }
+        joblessCitizens.remove(citizen);
+        equippedWorkers.remove(citizen);
+    }
+
+    /**
+     * Update the aggregates after a building was added or its level changed.
+     * Levels change rarely, so the citizens working or living there are looked up among all citizens.
+     *
+     * @param building the building.
+     */
+    public void onBuildingChanged(@NotNull final AbstractBuilding building)
+    {
+        if (building instanceof BuildingHome)
+        {
+            final int capacity = building.getBuildingLevel() > 0 ? ((BuildingHome) building).getMaxInhabitants() : 0;
+            final Integer old = housingCapacities.put(building.getID(), capacity);
+            housingCapacity += capacity - (old == null ? 0 : old);
+        }
+
+        for (final CitizenData citizen : new ArrayList<>(citizenContributions.keySet()))
+        {
+            if (citizen.getWorkBuilding() == building || citizen.getHomeBuilding() == building)
+            {
+                onCitizenChanged(citizen);
+            }
+        }
+    }
+
+    /**
+     * Remove a building which has been destroyed.
+     *
+     * @param building the building.
+     */
+    public void removeBuilding(@NotNull final AbstractBuilding building)
+    {
+        final Integer old = housingCapacities.remove(building.getID());
+        if (old != null)
+        {
+            housingCapacity -= old;
+        }
+    }
+
+    /**
+     * Update the aggregates after a field was added or taken or freed.
+     *
+     * @param field the field.
+     */
+    public void onFieldChanged(@NotNull final Field field)
+    {
+        if (field.isTaken())
+        {
+            freeFields.remove(field);
+        }
+        else
+        {
+            freeFields.add(field);
+        }
+    }
+
+    /**
+     * Remove a field which has been destroyed.
+     *
+     * @param field the field.
+     */
+    public void removeField(@NotNull final Field field)
+    {
+        freeFields.remove(field);
+    }
+
+    /**
+     * Add or subtract the values of a citizen.
+     *
+     * @param contribution the values.
+     * @param sign         1 to add, -1 to subtract.
+     */
+    private void apply(@NotNull final CitizenContribution contribution, final int sign)
+    {
+        guardLevels += sign * contribution.guardLevel;
+        workerLevels += sign * contribution.workerLevel;
+        housingLevels += sign * contribution.housingLevel;
+        saturation += sign * contribution.saturation;
+    }
+
+    /**
+     * Get the sum of the levels of the guard towers citizens work at.
+     *
+     * @return the sum.
+     */
+    public int getGuardLevels()
+    {
+        return guardLevels;
+    }
+
+    /**
+     * Get the sum of the levels of the other work buildings citizens work at.
+     *
+     * @return the sum.
+     */
+    public int getWorkerLevels()
+    {
+        return workerLevels;
+    }
+
+    /**
+     * Get the sum of the levels of the homes of the citizens.
+     *
+     * @return the sum.
+     */
+    public int getHousingLevels()
+    {
+        return housingLevels;
+    }
+
+    /**
+     * Get the sum of the saturation of all citizens.
+     *
+     * @return the sum.
+     */
+    public double getSaturation()
+    {
+        return saturation;
+    }
+
+    /**
+     * Get the amount of inhabitants all built homes can take.
+     *
+     * @return the capacity.
+     */
+    public int getHousingCapacity()
+    {
+        return housingCapacity;
+    }
+
+    /**
+     * Get the first citizen without a work building.
+     *
+     * @return the citizen or null if everyone is employed.
+     */
+    @Nullable
+    public CitizenData getFirstJoblessCitizen()
+    {
+        return joblessCitizens.isEmpty() ? null : joblessCitizens.iterator().next();
+    }
+
+    /**
+     * Get the citizens without a work building.
+     *
+     * @return an unmodifiable view of the citizens.
+     */
+    @NotNull
+    public Set<CitizenData> getJoblessCitizens()
+    {
+        return Collections.unmodifiableSet(joblessCitizens);
+    }
+
+    /**
+     * Get the employed citizens whose job has all needed items.
+     *
+     * @return an unmodifiable view of the citizens.
+     */
+    @NotNull
+    public Set<CitizenData> getEquippedWorkers()
+    {
+        return Collections.unmodifiableSet(equippedWorkers);
+    }
+
+    /**
+     * Get the first field which is not taken.
+     *
+     * @return the field or null if all are taken.
+     */
+    @Nullable
+    public Field getFirstFreeField()
+    {
+        return freeFields.isEmpty() ? null : freeFields.iterator().next();
+    }
+
+    /**
+     * Get the amount of fields which are not taken.
+     *
+     * @return the amount.
+     */
+    public int getFreeFieldCount()
+    {
+        return freeFields.size();
+    }
+
+    /**
+     * The values a citizen contributes to the sums.
+     */
+    private static final class CitizenContribution
+    {
+        /**
+         * Level of the guard tower the citizen works at.
+         */
+        private final int guardLevel;
+
+        /**
+         * Level of the other work building the citizen works at.
+         */
+        private final int workerLevel;
+
+        /**
+         * Level of the home of the citizen.
+         */
+        private final int housingLevel;
+
+        /**
+         * Saturation of the citizen.
+         */
+        private final double saturation;
+
+        /**
+         * Read the current values of a citizen.
+         *
+         * @param citizen the citizen.
+         */
+        private CitizenContribution(@NotNull final CitizenData citizen)
+        {
+            final AbstractBuildingWorker workBuilding = citizen.getWorkBuilding();
+            final int workLevel = workBuilding == null ? 0 : workBuilding.getBuildingLevel();
+            this.guardLevel = workBuilding instanceof BuildingGuardTower ? workLevel : 0;
+            this.workerLevel = workBuilding instanceof BuildingGuardTower ? 0 : workLevel;
+            this.housingLevel = citizen.getHomeBuilding() == null ? 0 : citizen.getHomeBuilding().getBuildingLevel();
+            this.saturation = citizen.getSaturation();
+        }
+    }
+}
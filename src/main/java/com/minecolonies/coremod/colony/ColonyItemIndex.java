@@ -0,0 +1,255 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.configuration.Configurations;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.item.EntityXPOrb;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Index of the dropped items and xp orbs in and around a colony, bucketed by chunk section.
+ * <p>
+ * Entities are added when they join the world and the index drops them again once they are dead or unloaded.
+ * Citizens query the index instead of scanning the world, so a colony without anything on the ground does no scans at all.
+ */
+public class ColonyItemIndex
+{
+    /**
+     * Additional range around the colony border covered by the index, citizens also work outside of the border.
+     */
+    private static final int INDEX_MARGIN = 64;
+
+    /**
+     * Shift from block to chunk section coordinates.
+     */
+    private static final int SECTION_SHIFT = 4;
+
+    /**
+     * Bits per coordinate in the section key.
+     */
+    private static final int KEY_BITS = 21;
+
+    /**
+     * Mask of a coordinate in the section key.
+     */
+    private static final long KEY_MASK = (1L << KEY_BITS) - 1;
+
+    /**
+     * The colony the index belongs to.
+     */
+    private final Colony colony;
+
+    /**
+     * The tracked entities by chunk section.
+     */
+    private final Map<Long, List<Entity>> sections = new HashMap<>();
+
+    /**
+     * The section each tracked entity is currently in.
+     */
+    private final Map<Entity, Long> sectionOfEntity = new IdentityHashMap<>();
+
+    /**
+     * Creates the item index of a colony.
+     *
+     * @param colony the colony.
+     */
+    public ColonyItemIndex(@NotNull final Colony colony)
+    {
+        this.colony = colony;
+    }
+
+    /**
+     * Checks if an entity is something the index keeps track of.
+     *
+     * @param entity the entity.
+     * @return true if it is an item or xp orb.
+     */
+    public static boolean isIndexed(@NotNull final Entity entity)
+    {
+        return entity instanceof EntityItem || entity instanceof EntityXPOrb;
+    }
+
+    /**
+     * Start tracking an item or xp orb which joined the world, if it is around the colony.
+     *
+     * @param entity the entity.
+     */
+    public void track(@NotNull final Entity entity)
+    {
+        if (isIndexed(entity) && !entity.isDead && covers(entity.posX, entity.posZ) && !sectionOfEntity.containsKey(entity))
+        {
+            addToSection(entity, getSectionKey(entity.posX, entity.posY, entity.posZ));
+        }
+    }
+
+    /**
+     * Move tracked entities into their current section and drop the ones which are gone.
+     * Called every tick, does nothing while nothing is on the ground.
+     *
+     * @param world the world of the colony.
+     */
+    public void onWorldTick(@NotNull final World world)
+    {
+        if (sectionOfEntity.isEmpty())
+        {
+            return;
+        }
+
+        final Iterator<Map.Entry<Entity, Long>> iterator = sectionOfEntity.entrySet().iterator();
+        final List<Entity> moved = new ArrayList<>();
+        while (iterator.hasNext())
+        {
+            final Map.Entry<Entity, Long> entry = iterator.next();
+            final Entity entity = entry.getKey();
+            final boolean gone = entity.isDead || world.getEntityByID(entity.getEntityId()) != entity;
+            final long key = getSectionKey(entity.posX, entity.posY, entity.posZ);
+            if (gone || key != entry.getValue())
+            {
+                removeFromSection(entity, entry.getValue());
+                iterator.remove();
+                if (!gone)
+                {
+                    moved.add(entity);
+                }
+            }
+        }
+
+        for (final Entity entity : moved)
+        {
+            addToSection(entity, getSectionKey(entity.posX, entity.posY, entity.posZ));
+        }
+    }
+
+    /**
+     * Get the living items or xp orbs of a type in a box.
+     * Falls back to a world query if the box is not within the indexed area.
+     *
+     * @param world the world.
+     * @param type  EntityItem or EntityXPOrb.
+     * @param box   the box to search in.
+     * @param <T>   the type.
+     * @return a new list of the entities.
+     */
+    @NotNull
+    public <T extends Entity> List<T> getEntitiesWithinAABB(@NotNull final World world, @NotNull final Class<T> type, @NotNull final AxisAlignedBB box)
+    {
+        if (!covers(box.minX, box.minZ) || !covers(box.maxX, box.maxZ) || !covers(box.minX, box.maxZ) || !covers(box.maxX, box.minZ))
+        {
+            return world.getEntitiesWithinAABB(type, box);
+        }
+
+        if (sectionOfEntity.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+
+        final List<T> result = new ArrayList<>();
+        final int minX = MathHelper.floor(box.minX) >> SECTION_SHIFT;
+        final int maxX = MathHelper.floor(box.maxX) >> SECTION_SHIFT;
+        final int minY = Math.max(0, MathHelper.floor(box.minY) >> SECTION_SHIFT);
+        final int maxY = Math.max(0, MathHelper.floor(box.maxY) >> SECTION_SHIFT);
+        final int minZ = MathHelper.floor(box.minZ) >> SECTION_SHIFT;
+        final int maxZ = MathHelper.floor(box.maxZ) >> SECTION_SHIFT;
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int z = minZ; z <= maxZ; z++)
+            {
+                for (int y = minY; y <= maxY; y++)
+                {
+                    final List<Entity> section = sections.get(packKey(x, y, z));
+                    if (section == null)
+                    {
+                        continue;
+                    }
+
+                    for (final Entity entity : section)
+                    {
+                        if (type.isInstance(entity) && !entity.isDead && box.intersectsWith(entity.getEntityBoundingBox()))
+                        {
+                            result.add(type.cast(entity));
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if a horizontal position is within the indexed area.
+     *
+     * @param x the x coordinate.
+     * @param z the z coordinate.
+     * @return true if so.
+     */
+    private boolean covers(final double x, final double z)
+    {
+        final BlockPos center = colony.getCenter();
+        final double range = (double) Configurations.gameplay.workingRangeTownHall + INDEX_MARGIN;
+        return Math.abs(x - center.getX()) <= range && Math.abs(z - center.getZ()) <= range;
+    }
+
+    /**
+     * Add an entity to a section.
+     *
+     * @param entity the entity.
+     * @param key    the section key.
+     */
+    private void addToSection(@NotNull final Entity entity, final long key)
+    {
+        sections.computeIfAbsent(key, k -> new ArrayList<>()).add(entity);
+        sectionOfEntity.put(entity, key);
+    }
+
+    /**
+     * Remove an entity from a section.
+     *
+     * @param entity the entity.
+     * @param key    the section key.
+     */
+    private void removeFromSection(@NotNull final Entity entity, final long key)
+    {
+        final List<Entity> section = sections.get(key);
+        if (section != null)
+        {
+            section.remove(entity);
+            if (section.isEmpty())
+            {
+                sections.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Get the key of the section of a position.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param z the z coordinate.
+     * @return the key.
+     */
+    private static long getSectionKey(final double x, final double y, final double z)
+    {
+        return packKey(MathHelper.floor(x) >> SECTION_SHIFT, Math.max(0, MathHelper.floor(y) >> SECTION_SHIFT), MathHelper.floor(z) >> SECTION_SHIFT);
+    }
+
+    /**
+     * Pack section coordinates into a key.
+     *
+     * @param x the section x.
+     * @param y the section y.
+     * @param z the section z.
+     * @return the key.
+     */
+    private static long packKey(final int x, final int y, final int z)
+    {
+        return ((x & KEY_MASK) << (2 * KEY_BITS)) | ((z & KEY_MASK) << KEY_BITS) | (y & KEY_MASK);
+    }
+}
@@ -0,0 +1,108 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.coremod.colony.jobs.AbstractJob;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Index of the citizens of a colony by job class and by idle/busy state.
+ * <p>
+ * Kept up to date from {@link CitizenData#setJob(AbstractJob)} and by jobs which claim work
+ * (like the builder with its work order), so the work manager can look up free workers directly.
+ */
+public class ColonyJobIndex
+{
+    /**
+     * Citizens by the exact class of their job.
+     */
+    private final Map<Class<? extends AbstractJob>, Set<CitizenData>> citizensByJob = new HashMap<>();
+
+    /**
+     * Citizens whose job currently has work claimed.
+     */
+    private final Set<CitizenData> busyCitizens = new HashSet<>();
+
+    /**
+     * Update the index when the job of a citizen changed.
+     *
+     * @param citizen the citizen.
+     * @param oldJob  the previous job or null.
+     * @param newJob  the new job or null.
+     */
+    public void onJobChanged(@NotNull final CitizenData citizen, @Nullable final AbstractJob oldJob, @Nullable final AbstractJob newJob)
+    {
+        if (oldJob != null)
+        {
+            final Set<CitizenData> citizens = citizensByJob.get(oldJob.getClass());
+            if (citizens != null)
+            {
+                citizens.remove(citizen);
+            }
+            //  Work claimed by the old job doesn't carry over.
+            busyCitizens.remove(citizen);
+        }
+
+        if (newJob != null)
+        {
+            citizensByJob.computeIfAbsent(newJob.getClass(), type -> new LinkedHashSet<>()).add(citizen);
+        }
+    }
+
+    /**
+     * Mark if a citizen has work claimed.
+     *
+     * @param citizen the citizen.
+     * @param busy    true if it claimed work, false if it is idle again.
+     */
+    public void setBusy(@NotNull final CitizenData citizen, final boolean busy)
+    {
+        if (busy)
+        {
+            busyCitizens.add(citizen);
+        }
+        else
+        {
+            busyCitizens.remove(citizen);
+        }
+    }
+
+    /**
+     * Remove a citizen which left the colony.
+     *
+     * @param citizen the citizen.
+     */
+    public void removeCitizen(@NotNull final CitizenData citizen)
+    {
+        for (final Set<CitizenData> citizens : citizensByJob.values())
+        {
+            citizens.remove(citizen);
+        }
+        busyCitizens.remove(citizen);
+    }
+
+    /**
+     * Get all citizens with a job.
+     *
+     * @param type the exact class of the job.
+     * @return an unmodifiable view of the citizens.
+     */
+    @NotNull
+    public Collection<CitizenData> getCitizensWithJob(@NotNull final Class<? extends AbstractJob> type)
+    {
+        final Set<CitizenData> citizens = citizensByJob.get(type);
+        return citizens == null ? Collections.emptySet() : Collections.unmodifiableSet(citizens);
+    }
+
+    /**
+     * Checks if a citizen has work claimed.
+     *
+     * @param citizen the citizen.
+     * @return true if busy.
+     */
+    public boolean isBusy(@NotNull final CitizenData citizen)
+    {
+        return busyCitizens.contains(citizen);
+    }
+}
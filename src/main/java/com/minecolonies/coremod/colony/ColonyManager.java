@@ -14,6 +14,7 @@ import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.util.AchievementUtils;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.client.Minecraft;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
@@ -28,9 +29,9 @@ import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.File;
-import java.io.IOException;
+import java.io.*;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
 import java.util.*;
 
@@ -54,6 +55,16 @@ public final class ColonyManager
      */
     private static final String FILENAME_MINECOLONIES_BACKUP = "colonies-%s.dat";
 
+    /**
+     * The file name of the binary side file with the history of the colony metrics.
+     */
+    private static final String FILENAME_METRICS = "metrics.dat";
+
+    /**
+     * The suffix of the temporary file the metrics are written to before replacing the side file.
+     */
+    private static final String FILENAME_TEMP_SUFFIX = ".tmp";
+
     /**
      * The tag of the colonies.
      */
@@ -306,6 +317,20 @@ public final class ColonyManager
         return coloniesInWorld;
     }
 
+    /**
+     * Called when a block changed in a server world, forwards the change to the colonies of that world.
+     *
+     * @param w   World.
+     * @param pos the position of the block.
+     */
+    public static void onBlockChanged(@NotNull final World w, @NotNull final BlockPos pos)
+    {
+        for (@NotNull final Colony colony : getColonies(w))
+        {
+            colony.onBlockChanged(w, pos);
+        }
+    }
+
     /**
      * Get all colonies in all worlds.
      *
@@ -583,10 +608,86 @@ public final class ColonyManager
 
         @NotNull final File file = getSaveLocation();
         saveNBTToPath(file, compound);
+        saveMetrics(getMetricsSaveLocation());
 
         saveNeeded = false;
     }
 
+    /**
+     * Get save location for the history of the colony metrics, from the world/save directory.
+     *
+     * @return Save file for the metrics.
+     */
+    @NotNull
+    private static File getMetricsSaveLocation()
+    {
+        @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
+        return new File(saveDir, FILENAME_METRICS);
+    }
+
+    /**
+     * Save the history of the metrics of all colonies to a binary file.
+     * Does so in a safe manner using an intermediate tmp file.
+     *
+     * @param file The destination file to write the data to.
+     */
+    private static void saveMetrics(@NotNull final File file)
+    {
+        file.getParentFile().mkdir();
+        @NotNull final File tempFile = new File(file.getPath() + FILENAME_TEMP_SUFFIX);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile))))
+        {
+            out.writeInt(colonies.size());
+            for (@NotNull final Colony colony : colonies)
+            {
+                out.writeInt(colony.getID());
+                colony.getMetrics().write(out);
+            }
+        }
+        catch (final IOException exception)
+        {
+            Log.getLogger().error("Exception when saving colony metrics", exception);
+            return;
+        }
+
+        try
+        {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (final IOException exception)
+        {
+            Log.getLogger().error("Exception when saving colony metrics", exception);
+        }
+    }
+
+    /**
+     * Load the history of the metrics of the loaded colonies from a binary file.
+     * Histories of colonies which don't exist anymore are skipped.
+     *
+     * @param file The path to the file.
+     */
+    private static void loadMetrics(@NotNull final File file)
+    {
+        if (!file.exists())
+        {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+        {
+            final int size = in.readInt();
+            for (int i = 0; i < size; i++)
+            {
+                final Colony colony = colonies.get(in.readInt());
+                (colony == null ? new ColonyMetrics() : colony.getMetrics()).read(in);
+            }
+        }
+        catch (final IOException exception)
+        {
+            Log.getLogger().error("Exception when loading colony metrics", exception);
+        }
+    }
+
     /**
      * Write colonies to NBT data for saving.
      *
@@ -668,6 +769,25 @@ public final class ColonyManager
         getColonies(event.world).forEach(c -> c.onWorldTick(event));
     }
 
+    /**
+     * When an item or xp orb joins a world, the colonies around it add it to their item index.
+     *
+     * @param world  World.
+     * @param entity the entity which joined.
+     */
+    public static void onEntityJoinWorld(@NotNull final World world, @NotNull final Entity entity)
+    {
+        if (!ColonyItemIndex.isIndexed(entity))
+        {
+            return;
+        }
+
+        for (@NotNull final Colony c : getColonies(world))
+        {
+            c.getItemIndex().track(entity);
+        }
+    }
+
     /**
      * When a world is loaded, Colonies in that world need to grab the reference
      * to the World. Additionally, when loading the first world, load all
@@ -694,6 +814,7 @@ public final class ColonyManager
                 if (data != null)
                 {
                     readFromNBT(data);
+                    loadMetrics(getMetricsSaveLocation());
                 }
                 if (serverUUID == null)
                 {
@@ -0,0 +1,344 @@
+package com.minecolonies.coremod.colony;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Counters and daily history of a colony.
+ * <p>
+ * The statistics are counted in an array indexed by {@link ColonyStatistic}. The samples are summed up over
+ * the current Minecraft day, when the day changes the sums are pushed into ring buffers holding the last
+ * {@link #HISTORY_DAYS} days the colony was loaded.
+ * The counters are saved with the colony, the history is written to a binary side file by the {@link ColonyManager}.
+ */
+public class ColonyMetrics
+{
+    /**
+     * Amount of days kept in the history.
+     */
+    public static final int HISTORY_DAYS = 30;
+
+    /**
+     * Ticks of a Minecraft day.
+     */
+    private static final int TICKS_PER_DAY = 24_000;
+
+    /**
+     * Nanoseconds of a millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    /**
+     * Version of the binary format of the history.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Values summed up per day.
+     */
+    public enum Sample
+    {
+        /**
+         * Goods produced, counted by the production statistics.
+         */
+        PRODUCTION,
+        /**
+         * Deliveries finished by the deliverymen.
+         */
+        DELIVERIES,
+        /**
+         * Path jobs the citizens started.
+         */
+        PATH_JOBS,
+        /**
+         * Ticks the colony was loaded.
+         */
+        TICKS,
+        /**
+         * Nanoseconds spent ticking the colony and its citizens.
+         */
+        TICK_NANOS
+    }
+
+    /**
+     * The counters, indexed by the ordinal of the statistic.
+     */
+    private final int[] counters = new int[ColonyStatistic.values().length];
+
+    /**
+     * The sums of the past days, indexed by the ordinal of the sample and the slot of the day.
+     */
+    private final long[][] history = new long[Sample.values().length][HISTORY_DAYS];
+
+    /**
+     * The sums of the current day, indexed by the ordinal of the sample.
+     */
+    private final long[] today = new long[Sample.values().length];
+
+    /**
+     * The current day, -1 until the first tick.
+     */
+    private long currentDay = -1;
+
+    /**
+     * The slot the next finished day is written to.
+     */
+    private int head = 0;
+
+    /**
+     * The amount of days in the history.
+     */
+    private int storedDays = 0;
+
+    /**
+     * Get a counter.
+     *
+     * @param statistic the statistic.
+     * @return the value.
+     */
+    public int getCounter(@NotNull final ColonyStatistic statistic)
+    {
+        return counters[statistic.ordinal()];
+    }
+
+    /**
+     * Set a counter, when the colony is loaded.
+     *
+     * @param statistic the statistic.
+     * @param value     the value.
+     */
+    public void setCounter(@NotNull final ColonyStatistic statistic, final int value)
+    {
+        counters[statistic.ordinal()] = value;
+    }
+
+    /**
+     * Increment a counter, production statistics are added to the production of the day as well.
+     *
+     * @param statistic the statistic.
+     * @return the new value of the counter.
+     */
+    public int increment(@NotNull final ColonyStatistic statistic)
+    {
+        if (statistic.isProduction())
+        {
+            record(Sample.PRODUCTION, 1);
+        }
+        return ++counters[statistic.ordinal()];
+    }
+
+    /**
+     * Add to the sum of a sample of the current day.
+     *
+     * @param sample the sample.
+     * @param amount the amount to add.
+     */
+    public void record(@NotNull final Sample sample, final long amount)
+    {
+        today[sample.ordinal()] += amount;
+    }
+
+    /**
+     * Count a tick of the colony, finishes the current day when the world reached the next one.
+     *
+     * @param totalWorldTime the total time of the world.
+     */
+    public void onTick(final long totalWorldTime)
+    {
+        final long day = totalWorldTime / TICKS_PER_DAY;
+        if (currentDay != -1 && day != currentDay)
+        {
+            finishDay();
+        }
+        currentDay = day;
+        record(Sample.TICKS, 1);
+    }
+
+    /**
+     * Push the sums of the current day into the history and start a new day.
+     */
+    private void finishDay()
+    {
+        for (int sample = 0; sample < today.length; sample++)
+        {
+            history[sample][head] = today[sample];
+            today[sample] = 0;
+        }
+        head = (head + 1) % HISTORY_DAYS;
+        storedDays = Math.min(storedDays + 1, HISTORY_DAYS);
+    }
+
+    /**
+     * Get the amount of finished days in the history.
+     *
+     * @return the amount, at most {@link #HISTORY_DAYS}.
+     */
+    public int getStoredDays()
+    {
+        return storedDays;
+    }
+
+    /**
+     * Get the sum of a sample of the current day.
+     *
+     * @param sample the sample.
+     * @return the sum.
+     */
+    public long getToday(@NotNull final Sample sample)
+    {
+        return today[sample.ordinal()];
+    }
+
+    /**
+     * Get the sum of a sample of a finished day.
+     *
+     * @param sample  the sample.
+     * @param daysAgo 1 for the last finished day, up to {@link #getStoredDays()}.
+     * @return the sum or 0 if the day is not in the history.
+     */
+    public long getDay(@NotNull final Sample sample, final int daysAgo)
+    {
+        if (daysAgo < 1 || daysAgo > storedDays)
+        {
+            return 0;
+        }
+        return history[sample.ordinal()][(head - daysAgo + HISTORY_DAYS) % HISTORY_DAYS];
+    }
+
+    /**
+     * Get the sum of a sample over the last finished days.
+     *
+     * @param sample the sample.
+     * @param days   the amount of days, limited to the stored days.
+     * @return the sum.
+     */
+    public long getTotal(@NotNull final Sample sample, final int days)
+    {
+        long total = 0;
+        for (int daysAgo = 1; daysAgo <= Math.min(days, storedDays); daysAgo++)
+        {
+            total += getDay(sample, daysAgo);
+        }
+        return total;
+    }
+
+    /**
+     * Get the average time a tick of the colony took during the current day.
+     *
+     * @return the average in milliseconds.
+     */
+    public double getTodayTickMillis()
+    {
+        return toMillisPerTick(getToday(Sample.TICK_NANOS), getToday(Sample.TICKS));
+    }
+
+    /**
+     * Get the average time a tick of the colony took during a finished day.
+     *
+     * @param daysAgo 1 for the last finished day, up to {@link #getStoredDays()}.
+     * @return the average in milliseconds.
+     */
+    public double getDayTickMillis(final int daysAgo)
+    {
+        return toMillisPerTick(getDay(Sample.TICK_NANOS, daysAgo), getDay(Sample.TICKS, daysAgo));
+    }
+
+    /**
+     * Get the average time a tick of the colony took over the last finished days,
+     * or during the current day if no day has been finished yet.
+     *
+     * @param days the amount of days, limited to the stored days.
+     * @return the average in milliseconds.
+     */
+    public double getAverageTickMillis(final int days)
+    {
+        if (storedDays == 0)
+        {
+            return getTodayTickMillis();
+        }
+        return toMillisPerTick(getTotal(Sample.TICK_NANOS, days), getTotal(Sample.TICKS, days));
+    }
+
+    /**
+     * Convert a sum of nanoseconds into milliseconds per tick.
+     *
+     * @param nanos the nanoseconds.
+     * @param ticks the amount of ticks.
+     * @return the milliseconds per tick, 0 if there were no ticks.
+     */
+    private static double toMillisPerTick(final long nanos, final long ticks)
+    {
+        return ticks == 0 ? 0 : nanos / NANOS_PER_MILLI / ticks;
+    }
+
+    /**
+     * Write the history, the finished days are written from the oldest to the newest.
+     *
+     * @param out the output to write to.
+     * @throws IOException if the output fails.
+     */
+    public void write(@NotNull final DataOutput out) throws IOException
+    {
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(currentDay);
+        out.writeInt(today.length);
+        out.writeInt(storedDays);
+        for (final long sum : today)
+        {
+            out.writeLong(sum);
+        }
+        for (int daysAgo = storedDays; daysAgo >= 1; daysAgo--)
+        {
+            for (final Sample sample : Sample.values())
+            {
+                out.writeLong(getDay(sample, daysAgo));
+            }
+        }
+    }
+
+    /**
+     * Read the history written by {@link #write(DataOutput)}.
+     * Samples unknown to this version are skipped, missing ones stay 0.
+     *
+     * @param in the input to read from.
+     * @throws IOException if the input fails or has an unknown version.
+     */
+    public void read(@NotNull final DataInput in) throws IOException
+    {
+        final int version = in.readInt();
+        if (version != FORMAT_VERSION)
+        {
+            throw new IOException("Unknown colony metrics version " + version);
+        }
+
+        currentDay = in.readLong();
+        final int samples = in.readInt();
+        final int days = in.readInt();
+        for (int sample = 0; sample < samples; sample++)
+        {
+            final long sum = in.readLong();
+            if (sample < today.length)
+            {
+                today[sample] = sum;
+            }
+        }
+
+        storedDays = Math.min(days, HISTORY_DAYS);
+        head = storedDays % HISTORY_DAYS;
+        final int skippedDays = days - storedDays;
+        for (int day = 0; day < days; day++)
+        {
+            for (int sample = 0; sample < samples; sample++)
+            {
+                final long sum = in.readLong();
+                if (day >= skippedDays && sample < today.length)
+                {
+                    history[sample][day - skippedDays] = sum;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.minecolonies.coremod.colony;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The statistics a colony counts.
+ * <p>
+ * The tag is the name the achievements use and the key the counter is saved under,
+ * inside the compound of its category.
+ */
+public enum ColonyStatistic
+{
+    ORES("ores", "minerStatistics", true),
+    DIAMONDS("diamonds", "minerStatistics", true),
+    WHEAT("wheat", "farmerStatistics", true),
+    POTATOES("potatoes", "farmerStatistics", true),
+    CARROTS("carrots", "farmerStatistics", true),
+    MOBS("mobs", "guardStatistics", false),
+    HUTS("huts", "builderStatistics", true),
+    FISH("fish", "fishermanStatistics", true),
+    TREES("trees", "lumberjackStatistics", true),
+    SAPLINGS("saplings", "lumberjackStatistics", true);
+
+    /**
+     * The name of the statistic.
+     */
+    @NotNull
+    private final String tag;
+
+    /**
+     * The tag of the compound the statistic is saved in.
+     */
+    @NotNull
+    private final String categoryTag;
+
+    /**
+     * Whether the statistic counts goods the colony produced.
+     */
+    private final boolean production;
+
+    /**
+     * Creates a statistic.
+     *
+     * @param tag         the name of the statistic.
+     * @param categoryTag the tag of the compound the statistic is saved in.
+     * @param production  whether the statistic counts goods the colony produced.
+     */
+    ColonyStatistic(@NotNull final String tag, @NotNull final String categoryTag, final boolean production)
+    {
+        this.tag = tag;
+        this.categoryTag = categoryTag;
+        this.production = production;
+    }
+
+    /**
+     * Get the name of the statistic.
+     *
+     * @return the name.
+     */
+    @NotNull
+    public String getTag()
+    {
+        return tag;
+    }
+
+    /**
+     * Get the tag of the compound the statistic is saved in.
+     *
+     * @return the tag.
+     */
+    @NotNull
+    public String getCategoryTag()
+    {
+        return categoryTag;
+    }
+
+    /**
+     * Check if the statistic counts goods the colony produced.
+     *
+     * @return true if so.
+     */
+    public boolean isProduction()
+    {
+        return production;
+    }
+}
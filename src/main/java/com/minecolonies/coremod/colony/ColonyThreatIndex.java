@@ -0,0 +1,223 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.coremod.entity.ai.mobs.barbarians.AbstractEntityBarbarian;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.monster.EntityMob;
+import net.minecraft.entity.monster.EntitySlime;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Index of the hostile entities (mobs, slimes, players and barbarians) in and around a colony.
+ * <p>
+ * The index collects the threats per chunk section (16x16x16 blocks), only for the loaded sections inside the colony area
+ * some guard or citizen searches, and at most once per tick for each of them.
+ * Guards and citizens query it by position and radius instead of scanning the world themselves.
+ */
+public class ColonyThreatIndex
+{
+    /**
+     * Additional range around the colony border covered by the index, guards can look beyond the border.
+     */
+    private static final double INDEX_MARGIN = 64.0D;
+
+    /**
+     * Shift from block to chunk section coordinates.
+     */
+    private static final int SECTION_SHIFT = 4;
+
+    /**
+     * Highest index of the sections of a chunk.
+     */
+    private static final int MAX_SECTION = 15;
+
+    /**
+     * The colony the index belongs to.
+     */
+    private final Colony colony;
+
+    /**
+     * The possible threats of the collected sections, keyed by chunk x, section y and chunk z, as of indexedTick.
+     */
+    private final Map<BlockPos, List<EntityLivingBase>> sections = new HashMap<>();
+
+    /**
+     * The world tick the sections were collected at.
+     */
+    private long indexedTick = -1;
+
+    /**
+     * The world the sections were collected in.
+     */
+    @Nullable
+    private World indexedWorld = null;
+
+    /**
+     * Creates the threat index of a colony.
+     *
+     * @param colony the colony.
+     */
+    public ColonyThreatIndex(@NotNull final Colony colony)
+    {
+        this.colony = colony;
+    }
+
+    /**
+     * Get all threats close to an entity, sorted by distance, closest first.
+     *
+     * @param entity         the entity searching.
+     * @param range          the horizontal range to search in.
+     * @param heightRange    the vertical range to search in.
+     * @return a new list of the threats.
+     */
+    @NotNull
+    public List<Entity> getThreatsCloseTo(@NotNull final Entity entity, final double range, final double heightRange)
+    {
+        final List<EntityLivingBase> candidates = getCandidates(entity, range, heightRange);
+        final List<Entity> result = new ArrayList<>(candidates.size());
+        for (final EntityLivingBase candidate : candidates)
+        {
+            if (candidate != entity)
+            {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the barbarian closest to an entity.
+     *
+     * @param entity         the entity searching.
+     * @param range          the horizontal range to search in.
+     * @param heightRange    the vertical range to search in.
+     * @return the closest living barbarian or null.
+     */
+    @Nullable
+    public AbstractEntityBarbarian getClosestBarbarian(@NotNull final Entity entity, final double range, final double heightRange)
+    {
+        for (final EntityLivingBase candidate : getCandidates(entity, range, heightRange))
+        {
+            if (candidate instanceof AbstractEntityBarbarian)
+            {
+                return (AbstractEntityBarbarian) candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Collect the living threats in the box around an entity, sorted by distance.
+     *
+     * @param entity      the entity searching.
+     * @param range       the horizontal range.
+     * @param heightRange the vertical range.
+     * @return the sorted list.
+     */
+    @NotNull
+    private List<EntityLivingBase> getCandidates(@NotNull final Entity entity, final double range, final double heightRange)
+    {
+        final World world = entity.getEntityWorld();
+        final long tick = world.getTotalWorldTime();
+        if (tick != indexedTick || world != indexedWorld)
+        {
+            indexedTick = tick;
+            indexedWorld = world;
+            sections.clear();
+        }
+
+        final AxisAlignedBB box = entity.getEntityBoundingBox().expand(range, heightRange, range);
+        final BlockPos center = colony.getCenter();
+        final double colonyRange = Configurations.gameplay.workingRangeTownHall + Configurations.gameplay.townHallPadding + INDEX_MARGIN;
+
+        final int minX = toSection(Math.max(box.minX, center.getX() - colonyRange) - World.MAX_ENTITY_RADIUS);
+        final int maxX = toSection(Math.min(box.maxX, center.getX() + colonyRange) + World.MAX_ENTITY_RADIUS);
+        final int minZ = toSection(Math.max(box.minZ, center.getZ() - colonyRange) - World.MAX_ENTITY_RADIUS);
+        final int maxZ = toSection(Math.min(box.maxZ, center.getZ() + colonyRange) + World.MAX_ENTITY_RADIUS);
+        final int minY = MathHelper.clamp(toSection(box.minY - World.MAX_ENTITY_RADIUS), 0, MAX_SECTION);
+        final int maxY = MathHelper.clamp(toSection(box.maxY + World.MAX_ENTITY_RADIUS), 0, MAX_SECTION);
+
+        final List<EntityLivingBase> candidates = new ArrayList<>();
+        for (int chunkX = minX; chunkX <= maxX; chunkX++)
+        {
+            for (int chunkZ = minZ; chunkZ <= maxZ; chunkZ++)
+            {
+                final Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+                if (chunk == null)
+                {
+                    continue;
+                }
+
+                for (int sectionY = minY; sectionY <= maxY; sectionY++)
+                {
+                    for (final EntityLivingBase threat : getSection(chunk, sectionY))
+                    {
+                        if (threat.isEntityAlive() && box.intersectsWith(threat.getEntityBoundingBox()))
+                        {
+                            candidates.add(threat);
+                        }
+                    }
+                }
+            }
+        }
+
+        candidates.sort(Comparator.comparingDouble(entity::getDistanceSqToEntity));
+        return candidates;
+    }
+
+    /**
+     * Get the threats of a chunk section, collects them if they have not been collected this tick.
+     *
+     * @param chunk    the loaded chunk.
+     * @param sectionY the index of the section.
+     * @return the threats in the section.
+     */
+    @NotNull
+    private List<EntityLivingBase> getSection(@NotNull final Chunk chunk, final int sectionY)
+    {
+        return sections.computeIfAbsent(new BlockPos(chunk.xPosition, sectionY, chunk.zPosition), key ->
+        {
+            final List<EntityLivingBase> threats = new ArrayList<>();
+            for (final Entity candidate : chunk.getEntityLists()[sectionY])
+            {
+                if (candidate instanceof EntityLivingBase && isThreat((EntityLivingBase) candidate))
+                {
+                    threats.add((EntityLivingBase) candidate);
+                }
+            }
+            return threats;
+        });
+    }
+
+    /**
+     * Convert a block coordinate to a chunk or section coordinate.
+     *
+     * @param coordinate the block coordinate.
+     * @return the chunk or section coordinate.
+     */
+    private static int toSection(final double coordinate)
+    {
+        return MathHelper.floor(coordinate) >> SECTION_SHIFT;
+    }
+
+    /**
+     * Checks if an entity is something guards could attack.
+     *
+     * @param entity the entity.
+     * @return true if so.
+     */
+    private static boolean isThreat(@Nullable final EntityLivingBase entity)
+    {
+        return entity instanceof EntityMob || entity instanceof EntitySlime || entity instanceof EntityPlayer;
+    }
+}
@@ -0,0 +1,106 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.Tree;
+import com.minecolonies.coremod.entity.ai.item.handling.ItemStorage;
+import net.minecraft.block.BlockSapling;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the known tree bases of a colony.
+ * <p>
+ * Positions are stored as packed longs. Saplings planted in the colony are registered as future tree bases,
+ * bases get removed when the block is broken or when a lookup finds neither a log nor a sapling there anymore.
+ * Lumberjacks ask the index for the closest tree before searching for one by pathfinding.
+ * The index isn't saved, it fills up again while the colony is running.
+ */
+public class ColonyTreeIndex
+{
+    /**
+     * The positions of the known tree bases.
+     */
+    private final Set<Long> treeBases = new HashSet<>();
+
+    /**
+     * Register a tree base or a sapling which will grow into one.
+     *
+     * @param pos the position of the base.
+     */
+    public void addTree(@NotNull final BlockPos pos)
+    {
+        treeBases.add(pos.toLong());
+    }
+
+    /**
+     * Remove a tree base, for example when a lumberjack claimed it.
+     *
+     * @param pos the position of the base.
+     */
+    public void removeTree(@NotNull final BlockPos pos)
+    {
+        treeBases.remove(pos.toLong());
+    }
+
+    /**
+     * Update the index when a block in the colony has been broken.
+     *
+     * @param pos the position of the block.
+     */
+    public void onBlockBroken(@NotNull final BlockPos pos)
+    {
+        treeBases.remove(pos.toLong());
+    }
+
+    /**
+     * Find the closest known tree the lumberjack is supposed to cut.
+     * Bases which don't hold a log or a sapling anymore are removed on the way.
+     *
+     * @param world      the world the trees are in.
+     * @param center     the position to measure the distance from.
+     * @param range      the maximum horizontal distance.
+     * @param treesToCut the trees the lumberjack is supposed to cut.
+     * @return the position of the base of the tree or null if none is known.
+     */
+    @Nullable
+    public BlockPos getClosestTree(
+            @NotNull final World world,
+            @NotNull final BlockPos center,
+            final int range,
+            @NotNull final Map<ItemStorage, Boolean> treesToCut)
+    {
+        final long maxDistanceSq = (long) range * range;
+        BlockPos closest = null;
+        long closestDistanceSq = Long.MAX_VALUE;
+
+        final Iterator<Long> iterator = treeBases.iterator();
+        while (iterator.hasNext())
+        {
+            final BlockPos pos = BlockPos.fromLong(iterator.next());
+            final long dx = pos.getX() - center.getX();
+            final long dz = pos.getZ() - center.getZ();
+            final long distanceSq = dx * dx + dz * dz;
+            if (distanceSq > maxDistanceSq || distanceSq >= closestDistanceSq || !world.isBlockLoaded(pos))
+            {
+                continue;
+            }
+
+            if (Tree.checkTree(world, pos, treesToCut))
+            {
+                closest = pos;
+                closestDistanceSq = distanceSq;
+            }
+            else if (!(world.getBlockState(pos).getBlock() instanceof BlockSapling) && !world.getBlockState(pos).getBlock().isWood(world, pos))
+            {
+                iterator.remove();
+            }
+        }
+        return closest;
+    }
+}
@@ -92,6 +92,26 @@ public final class ColonyView implements IColony
      */
     private int lastContactInHours = 0;
 
+    /**
+     * The goods produced during the last finished day.
+     */
+    private long dayProduction = 0;
+
+    /**
+     * The deliveries finished during the last finished day.
+     */
+    private long dayDeliveries = 0;
+
+    /**
+     * The path jobs started during the last finished day.
+     */
+    private long dayPathJobs = 0;
+
+    /**
+     * The average milliseconds a tick of the colony took during the last finished day.
+     */
+    private double dayTickMillis = 0;
+
     /**
      * Base constructor for a colony.
      *
@@ -157,6 +177,12 @@ public final class ColonyView implements IColony
 
         buf.writeInt(colony.getLastContactInHours());
         buf.writeBoolean(colony.isManualHousing());
+
+        final ColonyMetrics metrics = colony.getMetrics();
+        buf.writeLong(metrics.getDay(ColonyMetrics.Sample.PRODUCTION, 1));
+        buf.writeLong(metrics.getDay(ColonyMetrics.Sample.DELIVERIES, 1));
+        buf.writeLong(metrics.getDay(ColonyMetrics.Sample.PATH_JOBS, 1));
+        buf.writeDouble(metrics.getDayTickMillis(1));
         //  Citizens are sent as a separate packet
     }
 
@@ -270,6 +296,46 @@ public final class ColonyView implements IColony
         this.manualHousing = manualHousing;
     }
 
+    /**
+     * Get the goods produced during the last finished day.
+     *
+     * @return the amount.
+     */
+    public long getDayProduction()
+    {
+        return dayProduction;
+    }
+
+    /**
+     * Get the deliveries finished during the last finished day.
+     *
+     * @return the amount.
+     */
+    public long getDayDeliveries()
+    {
+        return dayDeliveries;
+    }
+
+    /**
+     * Get the path jobs started during the last finished day.
+     *
+     * @return the amount.
+     */
+    public long getDayPathJobs()
+    {
+        return dayPathJobs;
+    }
+
+    /**
+     * Get the average milliseconds a tick of the colony took during the last finished day.
+     *
+     * @return the milliseconds.
+     */
+    public double getDayTickMillis()
+    {
+        return dayTickMillis;
+    }
+
     /**
      * Get the town hall View for this ColonyView.
      *
@@ -454,6 +520,10 @@ public final class ColonyView implements IColony
         }
         this.lastContactInHours = buf.readInt();
         this.manualHousing = buf.readBoolean();
+        this.dayProduction = buf.readLong();
+        this.dayDeliveries = buf.readLong();
+        this.dayPathJobs = buf.readLong();
+        this.dayTickMillis = buf.readDouble();
         return null;
     }
 
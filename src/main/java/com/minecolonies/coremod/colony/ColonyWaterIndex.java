@@ -0,0 +1,580 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.coremod.entity.ai.citizen.fisherman.Pond;
+import net.minecraft.init.Blocks;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Index of the bodies of surface water in and around a colony.
+ * <p>
+ * The area is scanned column by column, a slice every world tick, so the scan never stalls the server.
+ * Connected water columns form regions, every region keeps its size and a few spots along its shoreline which are valid {@link Pond}s.
+ * Block changes update the affected column right away, the regions are rebuilt the next time someone asks for them.
+ * The whole area is scanned again once in a while to pick up columns which were not loaded during the last scan.
+ * The water columns are saved with the colony, so the fishermen of a loaded colony don't wait for a new scan.
+ */
+public class ColonyWaterIndex
+{
+    /**
+     * Additional range around the colony border covered by the index, fishermen also fish outside of the border.
+     */
+    private static final int INDEX_MARGIN = 32;
+
+    /**
+     * Amount of columns scanned every world tick.
+     */
+    private static final int COLUMNS_PER_TICK = 512;
+
+    /**
+     * Ticks after which the whole area is scanned again.
+     */
+    private static final long RESCAN_INTERVAL = 24000L;
+
+    /**
+     * Minimum amount of water columns of a region to be used for fishing.
+     */
+    private static final int MIN_REGION_SIZE = 20;
+
+    /**
+     * Maximum amount of fishing spots kept per region.
+     */
+    private static final int MAX_SPOTS_PER_REGION = 16;
+
+    /**
+     * Minimum square distance between two fishing spots of a region.
+     */
+    private static final int MIN_SPOT_DISTANCE_SQ = 16;
+
+    /**
+     * Bits of a saved water column used for the height, the index of the column is stored above.
+     */
+    private static final int HEIGHT_BITS = 8;
+
+    /**
+     * Mask of the height of a saved water column.
+     */
+    private static final int HEIGHT_MASK = 0xFF;
+
+    /**
+     * Tag to store the lowest x coordinate of the area.
+     */
+    private static final String TAG_MIN_X = "minX";
+
+    /**
+     * Tag to store the lowest z coordinate of the area.
+     */
+    private static final String TAG_MIN_Z = "minZ";
+
+    /**
+     * Tag to store the amount of columns per side of the area.
+     */
+    private static final String TAG_SIDE = "side";
+
+    /**
+     * Tag to store the water columns.
+     */
+    private static final String TAG_WATER = "water";
+
+    /**
+     * Tag to store the next column to scan.
+     */
+    private static final String TAG_SCAN_CURSOR = "scanCursor";
+
+    /**
+     * Tag to store the time the last scan started.
+     */
+    private static final String TAG_SCAN_START = "scanStart";
+
+    /**
+     * Tag to store if the first scan is done.
+     */
+    private static final String TAG_SCANNED = "scanned";
+
+    /**
+     * The colony the index belongs to.
+     */
+    private final Colony colony;
+
+    /**
+     * Columns holding surface water, indexed by (x - minX) * side + (z - minZ).
+     */
+    private final BitSet water = new BitSet();
+
+    /**
+     * Height of the water surface of every water column.
+     */
+    @Nullable
+    private byte[] surfaceY;
+
+    /**
+     * The regions of connected water columns, rebuilt when regionsDirty is set.
+     */
+    @NotNull
+    private final List<WaterRegion> regions = new ArrayList<>();
+
+    /**
+     * Lowest x coordinate of the area.
+     */
+    private int minX;
+
+    /**
+     * Lowest z coordinate of the area.
+     */
+    private int minZ;
+
+    /**
+     * Amount of columns per side of the area.
+     */
+    private int side;
+
+    /**
+     * The next column to scan, equals the column count when the scan is done.
+     */
+    private int scanCursor;
+
+    /**
+     * World time at which the last scan started.
+     */
+    private long scanStartTime;
+
+    /**
+     * Set when the first scan is done.
+     */
+    private boolean scanned = false;
+
+    /**
+     * Set when water columns changed since the regions were built.
+     */
+    private boolean regionsDirty = false;
+
+    /**
+     * Creates the water index of a colony.
+     *
+     * @param colony the colony.
+     */
+    public ColonyWaterIndex(@NotNull final Colony colony)
+    {
+        this.colony = colony;
+    }
+
+    /**
+     * Scan the next slice of columns.
+     *
+     * @param world the world of the colony.
+     */
+    public void onWorldTick(@NotNull final World world)
+    {
+        if (surfaceY == null)
+        {
+            if (colony.getCenter() == null)
+            {
+                return;
+            }
+            final int range = getRange();
+            minX = colony.getCenter().getX() - range;
+            minZ = colony.getCenter().getZ() - range;
+            side = range * 2 + 1;
+            surfaceY = new byte[side * side];
+            scanStartTime = world.getTotalWorldTime();
+        }
+
+        if (scanCursor >= surfaceY.length)
+        {
+            if (world.getTotalWorldTime() - scanStartTime < RESCAN_INTERVAL)
+            {
+                return;
+            }
+            scanCursor = 0;
+            scanStartTime = world.getTotalWorldTime();
+        }
+
+        final int end = Math.min(surfaceY.length, scanCursor + COLUMNS_PER_TICK);
+        for (; scanCursor < end; scanCursor++)
+        {
+            scanColumn(world, scanCursor);
+        }
+
+        if (scanCursor >= surfaceY.length)
+        {
+            scanned = true;
+        }
+    }
+
+    /**
+     * Update the column of a block which changed.
+     *
+     * @param world the world of the block.
+     * @param pos   the position of the block.
+     */
+    public void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        if (surfaceY == null)
+        {
+            return;
+        }
+
+        final int index = getColumnIndex(pos.getX(), pos.getZ());
+        if (index < 0)
+        {
+            return;
+        }
+
+        //Only changes at the water surface or new water can change the column.
+        final boolean affectsColumn = water.get(index)
+                                        ? Math.abs(pos.getY() - (surfaceY[index] & 0xFF)) <= 1
+                                        : world.getBlockState(pos).getBlock() == Blocks.WATER;
+        if (affectsColumn)
+        {
+            scanColumn(world, index);
+        }
+    }
+
+    /**
+     * Get the distance of the border of the area to the center of the colony.
+     *
+     * @return the range in blocks.
+     */
+    private static int getRange()
+    {
+        return Configurations.gameplay.workingRangeTownHall + Configurations.gameplay.townHallPadding + INDEX_MARGIN;
+    }
+
+    /**
+     * Save the water columns and the state of the scan.
+     *
+     * @param compound Compound to save to.
+     */
+    public void writeToNBT(@NotNull final NBTTagCompound compound)
+    {
+        if (surfaceY == null)
+        {
+            return;
+        }
+
+        final int[] columns = new int[water.cardinality()];
+        int i = 0;
+        for (int index = water.nextSetBit(0); index >= 0; index = water.nextSetBit(index + 1))
+        {
+            columns[i++] = (index << HEIGHT_BITS) | (surfaceY[index] & HEIGHT_MASK);
+        }
+
+        compound.setInteger(TAG_MIN_X, minX);
+        compound.setInteger(TAG_MIN_Z, minZ);
+        compound.setInteger(TAG_SIDE, side);
+        compound.setIntArray(TAG_WATER, columns);
+        compound.setInteger(TAG_SCAN_CURSOR, scanCursor);
+        compound.setLong(TAG_SCAN_START, scanStartTime);
+        compound.setBoolean(TAG_SCANNED, scanned);
+    }
+
+    /**
+     * Restore the water columns, they are dropped if the area of the colony changed since they were saved.
+     *
+     * @param compound Compound to read from.
+     */
+    public void readFromNBT(@NotNull final NBTTagCompound compound)
+    {
+        final BlockPos center = colony.getCenter();
+        final int range = getRange();
+        if (!compound.hasKey(TAG_WATER)
+              || center == null
+              || compound.getInteger(TAG_SIDE) != range * 2 + 1
+              || compound.getInteger(TAG_MIN_X) != center.getX() - range
+              || compound.getInteger(TAG_MIN_Z) != center.getZ() - range)
+        {
+            return;
+        }
+
+        minX = compound.getInteger(TAG_MIN_X);
+        minZ = compound.getInteger(TAG_MIN_Z);
+        side = compound.getInteger(TAG_SIDE);
+        surfaceY = new byte[side * side];
+        water.clear();
+        for (final int column : compound.getIntArray(TAG_WATER))
+        {
+            final int index = column >>> HEIGHT_BITS;
+            if (index < surfaceY.length)
+            {
+                water.set(index);
+                surfaceY[index] = (byte) (column & HEIGHT_MASK);
+            }
+        }
+        scanCursor = Math.min(compound.getInteger(TAG_SCAN_CURSOR), surfaceY.length);
+        scanStartTime = compound.getLong(TAG_SCAN_START);
+        scanned = compound.getBoolean(TAG_SCANNED);
+        regionsDirty = true;
+    }
+
+    /**
+     * Checks if the whole area has been scanned at least once.
+     *
+     * @return true if the index can be queried.
+     */
+    public boolean isReady()
+    {
+        return scanned;
+    }
+
+    /**
+     * Find the fishing spot closest to a position.
+     *
+     * @param world       the world of the colony.
+     * @param center      the position to measure the distance from.
+     * @param range       the maximum horizontal distance.
+     * @param excluded    spots which should not be returned.
+     * @param minDistance minimum square distance to the excluded spots.
+     * @return the water block of the fishing spot or null if there is none.
+     */
+    @Nullable
+    public BlockPos getClosestFishingSpot(
+                                           @NotNull final World world,
+                                           @NotNull final BlockPos center,
+                                           final int range,
+                                           @NotNull final Collection<BlockPos> excluded,
+                                           final double minDistance)
+    {
+        updateRegions(world);
+
+        final long maxDistanceSq = (long) range * range;
+        BlockPos closest = null;
+        long closestDistanceSq = Long.MAX_VALUE;
+        for (final WaterRegion region : regions)
+        {
+            for (final BlockPos spot : region.fishingSpots)
+            {
+                final long dx = spot.getX() - center.getX();
+                final long dz = spot.getZ() - center.getZ();
+                final long distanceSq = dx * dx + dz * dz;
+                if (distanceSq <= maxDistanceSq && distanceSq < closestDistanceSq && !isNear(spot, excluded, minDistance))
+                {
+                    closest = spot;
+                    closestDistanceSq = distanceSq;
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Get the amount of water columns of the region a water block belongs to.
+     *
+     * @param world the world of the colony.
+     * @param pos   the water block.
+     * @return the size of the region or 0 if the block is not in any known region.
+     */
+    public int getRegionSize(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        updateRegions(world);
+
+        final int index = getColumnIndex(pos.getX(), pos.getZ());
+        if (index < 0)
+        {
+            return 0;
+        }
+
+        for (final WaterRegion region : regions)
+        {
+            if (region.columns.get(index))
+            {
+                return region.size;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Checks if a spot is near one of the given positions.
+     *
+     * @param spot        the spot.
+     * @param positions   the positions.
+     * @param minDistance the square distance below which a position is near.
+     * @return true if so.
+     */
+    private static boolean isNear(@NotNull final BlockPos spot, @NotNull final Collection<BlockPos> positions, final double minDistance)
+    {
+        for (final BlockPos pos : positions)
+        {
+            if (pos.distanceSq(spot) < minDistance)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Read the surface of a column from the world.
+     *
+     * @param world the world.
+     * @param index the index of the column.
+     */
+    private void scanColumn(@NotNull final World world, final int index)
+    {
+        final int x = minX + index / side;
+        final int z = minZ + index % side;
+        final BlockPos top = new BlockPos(x, world.getHeight(x, z) - 1, z);
+        final boolean isWater = top.getY() > 0 && world.isBlockLoaded(top) && world.getBlockState(top).getBlock() == Blocks.WATER;
+        final byte height = isWater ? (byte) top.getY() : 0;
+        if (isWater != water.get(index) || height != surfaceY[index])
+        {
+            water.set(index, isWater);
+            surfaceY[index] = height;
+            regionsDirty = true;
+        }
+    }
+
+    /**
+     * Rebuild the regions if columns changed since they were built.
+     *
+     * @param world the world of the colony.
+     */
+    private void updateRegions(@NotNull final World world)
+    {
+        if (!regionsDirty)
+        {
+            return;
+        }
+        regionsDirty = false;
+        regions.clear();
+
+        final BitSet visited = new BitSet();
+        final Deque<Integer> open = new ArrayDeque<>();
+        for (int start = water.nextSetBit(0); start >= 0; start = water.nextSetBit(start + 1))
+        {
+            if (visited.get(start))
+            {
+                continue;
+            }
+
+            final WaterRegion region = new WaterRegion();
+            final List<Integer> shore = new ArrayList<>();
+            visited.set(start);
+            open.add(start);
+            while (!open.isEmpty())
+            {
+                final int index = open.poll();
+                region.columns.set(index);
+                region.size++;
+
+                final int row = index / side;
+                final int column = index % side;
+                boolean isShore = false;
+                isShore |= visitNeighbour(index, row - 1, column, visited, open);
+                isShore |= visitNeighbour(index, row + 1, column, visited, open);
+                isShore |= visitNeighbour(index, row, column - 1, visited, open);
+                isShore |= visitNeighbour(index, row, column + 1, visited, open);
+                if (isShore)
+                {
+                    shore.add(index);
+                }
+            }
+
+            if (region.size >= MIN_REGION_SIZE)
+            {
+                findFishingSpots(world, region, shore);
+                regions.add(region);
+            }
+        }
+    }
+
+    /**
+     * Queue a neighbouring column if it is water at the same height.
+     *
+     * @param index   the index of the current column.
+     * @param row     the row of the neighbour.
+     * @param column  the column of the neighbour.
+     * @param visited the columns already queued.
+     * @param open    the columns to visit.
+     * @return true if the neighbour is not water of the same body, which makes the current column shore.
+     */
+    private boolean visitNeighbour(final int index, final int row, final int column, @NotNull final BitSet visited, @NotNull final Deque<Integer> open)
+    {
+        if (row < 0 || row >= side || column < 0 || column >= side)
+        {
+            return false;
+        }
+
+        final int neighbour = row * side + column;
+        if (!water.get(neighbour) || surfaceY[neighbour] != surfaceY[index])
+        {
+            return true;
+        }
+
+        if (!visited.get(neighbour))
+        {
+            visited.set(neighbour);
+            open.add(neighbour);
+        }
+        return false;
+    }
+
+    /**
+     * Pick the fishing spots of a region among its shore columns.
+     *
+     * @param world  the world of the colony.
+     * @param region the region.
+     * @param shore  the indices of the shore columns.
+     */
+    private void findFishingSpots(@NotNull final World world, @NotNull final WaterRegion region, @NotNull final List<Integer> shore)
+    {
+        for (final int index : shore)
+        {
+            if (region.fishingSpots.size() >= MAX_SPOTS_PER_REGION)
+            {
+                return;
+            }
+
+            final BlockPos spot = new BlockPos(minX + index / side, surfaceY[index] & 0xFF, minZ + index % side);
+            if (!isNear(spot, region.fishingSpots, MIN_SPOT_DISTANCE_SQ) && world.isBlockLoaded(spot) && Pond.createWater(world, spot) != null)
+            {
+                region.fishingSpots.add(spot);
+            }
+        }
+    }
+
+    /**
+     * Get the index of a column.
+     *
+     * @param x the x coordinate.
+     * @param z the z coordinate.
+     * @return the index or -1 if the column is outside of the area.
+     */
+    private int getColumnIndex(final int x, final int z)
+    {
+        final int row = x - minX;
+        final int column = z - minZ;
+        if (row < 0 || row >= side || column < 0 || column >= side)
+        {
+            return -1;
+        }
+        return row * side + column;
+    }
+
+    /**
+     * A body of connected water columns at the same height.
+     */
+    private static final class WaterRegion
+    {
+        /**
+         * The columns of the region.
+         */
+        private final BitSet columns = new BitSet();
+
+        /**
+         * The water blocks along the shore to fish at.
+         */
+        private final List<BlockPos> fishingSpots = new ArrayList<>();
+
+        /**
+         * Amount of columns of the region.
+         */
+        private int size;
+    }
+}
@@ -0,0 +1,290 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.InventoryUtils;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
+import com.minecolonies.coremod.tileentities.TileEntityColonyBuilding;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.Constants.NBT;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Advances the production of a colony while its chunks are unloaded.
+ * <p>
+ * The simulator only remembers the world time at which each worker hut got unloaded.
+ * Once the hut is loaded again, the building estimates what its worker would have produced
+ * in the elapsed time (from building level and citizen skills) and the result is put into the hut inventories.
+ * Items the worker would have used up, like seeds and saplings, are taken from the hut and limit the production.
+ */
+public class OfflineProductionSimulator
+{
+    /**
+     * Tag to store the unloaded buildings.
+     */
+    private static final String TAG_UNLOADED_BUILDINGS = "unloadedBuildings";
+
+    /**
+     * Tag to store the location of an unloaded building.
+     */
+    private static final String TAG_LOCATION = "location";
+
+    /**
+     * Tag to store the time the building got unloaded.
+     */
+    private static final String TAG_UNLOADED_SINCE = "unloadedSince";
+
+    /**
+     * Amount of ticks in a minecraft day.
+     */
+    private static final int TICKS_PER_DAY = 24000;
+
+    /**
+     * Share of a minecraft day citizens actually work (they sleep at night).
+     */
+    private static final double WORKING_SHARE_OF_DAY = 0.5D;
+
+    /**
+     * Check every x ticks if buildings got unloaded.
+     */
+    private static final int CHECK_INTERVAL = 20;
+
+    /**
+     * The Colony the simulator takes part of.
+     */
+    private final Colony colony;
+
+    /**
+     * World time at which each currently unloaded worker building was first seen unloaded.
+     */
+    private final Map<BlockPos, Long> unloadedSince = new HashMap<>();
+
+    /**
+     * Random used for the statistical output.
+     */
+    private final Random random = new Random();
+
+    /**
+     * Constructor, saves reference to the colony.
+     *
+     * @param c Colony the simulator is for.
+     */
+    public OfflineProductionSimulator(final Colony c)
+    {
+        colony = c;
+    }
+
+    /**
+     * Check on the world tick which worker buildings got unloaded or loaded again.
+     * Applies the simulated production when a building comes back.
+     *
+     * @param world the world of the colony.
+     */
+    public void onWorldTick(@NotNull final World world)
+    {
+        if (!Configurations.gameplay.simulateUnloadedColonies)
+        {
+            unloadedSince.clear();
+            return;
+        }
+
+        if (world.getTotalWorldTime() % CHECK_INTERVAL != 0)
+        {
+            return;
+        }
+
+        unloadedSince.keySet().removeIf(pos -> !(colony.getBuilding(pos) instanceof AbstractBuildingWorker));
+        for (final AbstractBuilding building : colony.getBuildings().values())
+        {
+            if (!(building instanceof AbstractBuildingWorker))
+            {
+                continue;
+            }
+
+            final BlockPos pos = building.getLocation();
+            final boolean loaded = world.isBlockLoaded(pos);
+            final Long since = unloadedSince.get(pos);
+            if (!loaded && since == null)
+            {
+                unloadedSince.put(pos, world.getTotalWorldTime());
+            }
+            else if (loaded && since != null)
+            {
+                unloadedSince.remove(pos);
+                applyOfflineProduction(world, (AbstractBuildingWorker) building, world.getTotalWorldTime() - since);
+            }
+        }
+    }
+
+    /**
+     * Calculate and store the production of a worker building for the unloaded time.
+     *
+     * @param world        the world of the colony.
+     * @param building     the building which was unloaded.
+     * @param elapsedTicks the ticks the building has been unloaded.
+     */
+    private void applyOfflineProduction(@NotNull final World world, @NotNull final AbstractBuildingWorker building, final long elapsedTicks)
+    {
+        final CitizenData worker = building.getWorker();
+        if (worker == null || building.getBuildingLevel() <= 0)
+        {
+            return;
+        }
+
+        final double workDays = Math.min((double) elapsedTicks / TICKS_PER_DAY, Configurations.gameplay.maxSimulatedDays) * WORKING_SHARE_OF_DAY;
+        if (workDays <= 0)
+        {
+            return;
+        }
+
+        int produced = 0;
+        for (final ItemStack stack : building.simulateOfflineProduction(worker, workDays, random))
+        {
+            if (!ItemStackUtils.isEmpty(stack))
+            {
+                produced += ItemStackUtils.getSize(stack);
+                storeInBuilding(world, building, stack);
+            }
+        }
+
+        if (produced > 0)
+        {
+            Log.getLogger().info(String.format("Colony %d - %s at %s produced %d items in %.2f work days while unloaded",
+              colony.getID(), building.getJobName(), building.getLocation(), produced, workDays));
+        }
+    }
+
+    /**
+     * Put a produced stack into the inventories of the building.
+     * What doesn't fit is lost, just as with a full hut.
+     *
+     * @param world    the world.
+     * @param building the building.
+     * @param stack    the produced stack.
+     */
+    private static void storeInBuilding(@NotNull final World world, @NotNull final AbstractBuilding building, @NotNull final ItemStack stack)
+    {
+        //  Refresh the tile entity reference, the old one got invalid when the chunk unloaded.
+        building.getTileEntity();
+
+        ItemStack rest = stack;
+        while (!ItemStackUtils.isEmpty(rest))
+        {
+            final int size = ItemStackUtils.getSize(rest);
+            rest = building.transferStack(rest, world);
+            if (ItemStackUtils.getSize(rest) >= size)
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Turn an expected amount into a whole amount, the fraction decides by chance.
+     *
+     * @param expected the expected amount.
+     * @param rand     the random to use.
+     * @return the amount.
+     */
+    public static int sampleAmount(final double expected, @NotNull final Random rand)
+    {
+        if (expected <= 0)
+        {
+            return 0;
+        }
+        final int whole = (int) expected;
+        return rand.nextDouble() < expected - whole ? whole + 1 : whole;
+    }
+
+    /**
+     * Split an amount of items into stacks.
+     *
+     * @param template the item to produce.
+     * @param amount   the total amount.
+     * @return the list of stacks.
+     */
+    @NotNull
+    public static List<ItemStack> toStacks(@NotNull final ItemStack template, final int amount)
+    {
+        final List<ItemStack> stacks = new ArrayList<>();
+        int remaining = amount;
+        final int maxSize = template.getMaxStackSize();
+        while (remaining > 0)
+        {
+            final ItemStack stack = template.copy();
+            final int size = Math.min(remaining, maxSize);
+            ItemStackUtils.setSize(stack, size);
+            stacks.add(stack);
+            remaining -= size;
+        }
+        return stacks;
+    }
+
+    /**
+     * Take the items the worker would have used up from the inventories of the building.
+     * Takes at most the available amount, so the production can be limited by it.
+     *
+     * @param building the building of the worker.
+     * @param template the item to take.
+     * @param amount   the amount the worker would have used.
+     * @return the amount taken.
+     */
+    public static int takeFromBuilding(@NotNull final AbstractBuilding building, @NotNull final ItemStack template, final int amount)
+    {
+        final TileEntityColonyBuilding tileEntity = building.getTileEntity();
+        if (tileEntity == null || amount <= 0)
+        {
+            return 0;
+        }
+
+        final int taken = Math.min(amount, InventoryUtils.getItemCountInProvider(tileEntity, template.getItem(), template.getItemDamage()));
+        if (taken <= 0 || !InventoryUtils.removeStacksFromProvider(tileEntity, toStacks(template, taken)))
+        {
+            return 0;
+        }
+        return taken;
+    }
+
+    /**
+     * Save the simulator.
+     *
+     * @param compound Compound to save to.
+     */
+    public void writeToNBT(@NotNull final NBTTagCompound compound)
+    {
+        @NotNull final NBTTagList list = new NBTTagList();
+        for (@NotNull final Map.Entry<BlockPos, Long> entry : unloadedSince.entrySet())
+        {
+            @NotNull final NBTTagCompound buildingCompound = new NBTTagCompound();
+            BlockPosUtil.writeToNBT(buildingCompound, TAG_LOCATION, entry.getKey());
+            buildingCompound.setLong(TAG_UNLOADED_SINCE, entry.getValue());
+            list.appendTag(buildingCompound);
+        }
+        compound.setTag(TAG_UNLOADED_BUILDINGS, list);
+    }
+
+    /**
+     * Restore the simulator.
+     *
+     * @param compound Compound to read from.
+     */
+    public void readFromNBT(@NotNull final NBTTagCompound compound)
+    {
+        unloadedSince.clear();
+        final NBTTagList list = compound.getTagList(TAG_UNLOADED_BUILDINGS, NBT.TAG_COMPOUND);
+        for (int i = 0; i < list.tagCount(); ++i)
+        {
+            final NBTTagCompound buildingCompound = list.getCompoundTagAt(i);
+            unloadedSince.put(BlockPosUtil.readFromNBT(buildingCompound, TAG_LOCATION), buildingCompound.getLong(TAG_UNLOADED_SINCE));
+        }
+    }
+}
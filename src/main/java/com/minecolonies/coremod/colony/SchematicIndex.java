@@ -0,0 +1,269 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.Log;
+import com.minecolonies.structures.helpers.Structure;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.common.util.Constants.NBT;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persistent index of the schematic files, used to avoid hashing unchanged schematics on every start.
+ * <p>
+ * Every schematic file is identified by its path, size and modification time. For each file the index stores the
+ * MD5 hash and the compressed size (used to check if the schematic can be sent to clients).
+ * Files which are not in the index or changed are hashed in parallel on the fork join pool.
+ */
+final class SchematicIndex
+{
+    /**
+     * Tag to store the entries.
+     */
+    private static final String TAG_ENTRIES = "entries";
+
+    /**
+     * Tag to store the path of an entry.
+     */
+    private static final String TAG_PATH = "path";
+
+    /**
+     * Tag to store the file size of an entry.
+     */
+    private static final String TAG_SIZE = "size";
+
+    /**
+     * Tag to store the modification time of an entry.
+     */
+    private static final String TAG_MODIFIED = "modified";
+
+    /**
+     * Tag to store the MD5 hash of an entry.
+     */
+    private static final String TAG_MD5 = "md5";
+
+    /**
+     * Tag to store the compressed size of an entry.
+     */
+    private static final String TAG_COMPRESSED_SIZE = "compressedSize";
+
+    /**
+     * Name of the index file.
+     */
+    private static final String INDEX_FILE = "schematics.index";
+
+    /**
+     * Information about one schematic file.
+     */
+    static final class Entry
+    {
+        /**
+         * The file size and modification time the entry was calculated for.
+         */
+        private final long size;
+        private final long modified;
+
+        /**
+         * The MD5 hash of the file.
+         */
+        private final String md5;
+
+        /**
+         * The size of the file when compressed again, as sent to clients.
+         */
+        private final int compressedSize;
+
+        /**
+         * Create an entry.
+         *
+         * @param size           the file size.
+         * @param modified       the modification time.
+         * @param md5            the MD5 hash.
+         * @param compressedSize the compressed size.
+         */
+        private Entry(final long size, final long modified, @NotNull final String md5, final int compressedSize)
+        {
+            this.size = size;
+            this.modified = modified;
+            this.md5 = md5;
+            this.compressedSize = compressedSize;
+        }
+
+        /**
+         * Get the MD5 hash.
+         *
+         * @return the hash.
+         */
+        @NotNull
+        String getMD5()
+        {
+            return md5;
+        }
+
+        /**
+         * Get the compressed size.
+         *
+         * @return the size in bytes.
+         */
+        int getCompressedSize()
+        {
+            return compressedSize;
+        }
+    }
+
+    /**
+     * The entries by path.
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the index changed since it was loaded.
+     */
+    private volatile boolean dirty = false;
+
+    /**
+     * Get the entries of a list of schematic files, hashing the unknown or changed ones in parallel.
+     *
+     * @param paths the schematic files.
+     * @return the entries by path, files which could not be read are missing.
+     */
+    @NotNull
+    Map<Path, Entry> getEntries(@NotNull final List<Path> paths)
+    {
+        final Map<Path, Entry> result = new ConcurrentHashMap<>();
+        paths.parallelStream().forEach(path ->
+        {
+            final Entry entry = getEntry(path);
+            if (entry != null)
+            {
+                result.put(path, entry);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Get the entry of a schematic file, hashes it if it is unknown or changed.
+     *
+     * @param path the schematic file.
+     * @return the entry or null if it could not be read.
+     */
+    @Nullable
+    private Entry getEntry(@NotNull final Path path)
+    {
+        final String key = path.toUri().toString();
+        try
+        {
+            final long size = Files.size(path);
+            final long modified = Files.getLastModifiedTime(path).toMillis();
+            final Entry known = entries.get(key);
+            if (known != null && known.size == size && known.modified == modified)
+            {
+                return known;
+            }
+
+            final byte[] data = Files.readAllBytes(path);
+            final String md5 = Structure.calculateMD5(data);
+            if (md5 == null)
+            {
+                return null;
+            }
+
+            final Entry entry = new Entry(size, modified, md5, Structure.compress(data).length);
+            entries.put(key, entry);
+            dirty = true;
+            return entry;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("SchematicIndex: Could not read " + path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Load the index from a folder.
+     *
+     * @param folder the folder, nothing is loaded if null.
+     * @return the index.
+     */
+    @NotNull
+    static SchematicIndex load(@Nullable final File folder)
+    {
+        final SchematicIndex index = new SchematicIndex();
+        if (folder == null)
+        {
+            return index;
+        }
+
+        final File file = new File(folder, INDEX_FILE);
+        try
+        {
+            if (file.exists())
+            {
+                final NBTTagCompound compound = CompressedStreamTools.read(file);
+                final NBTTagList list = compound == null ? new NBTTagList() : compound.getTagList(TAG_ENTRIES, NBT.TAG_COMPOUND);
+                for (int i = 0; i < list.tagCount(); ++i)
+                {
+                    final NBTTagCompound entryCompound = list.getCompoundTagAt(i);
+                    index.entries.put(entryCompound.getString(TAG_PATH), new Entry(entryCompound.getLong(TAG_SIZE),
+                                                                                    entryCompound.getLong(TAG_MODIFIED),
+                                                                                    entryCompound.getString(TAG_MD5),
+                                                                                    entryCompound.getInteger(TAG_COMPRESSED_SIZE)));
+                }
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("SchematicIndex: Could not load " + file, e);
+        }
+        return index;
+    }
+
+    /**
+     * Save the index to a folder if it changed.
+     *
+     * @param folder the folder, nothing is saved if null.
+     */
+    void save(@Nullable final File folder)
+    {
+        if (folder == null || !dirty)
+        {
+            return;
+        }
+
+        @NotNull final NBTTagList list = new NBTTagList();
+        for (@NotNull final Map.Entry<String, Entry> entry : entries.entrySet())
+        {
+            @NotNull final NBTTagCompound entryCompound = new NBTTagCompound();
+            entryCompound.setString(TAG_PATH, entry.getKey());
+            entryCompound.setLong(TAG_SIZE, entry.getValue().size);
+            entryCompound.setLong(TAG_MODIFIED, entry.getValue().modified);
+            entryCompound.setString(TAG_MD5, entry.getValue().md5);
+            entryCompound.setInteger(TAG_COMPRESSED_SIZE, entry.getValue().compressedSize);
+            list.appendTag(entryCompound);
+        }
+
+        @NotNull final NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag(TAG_ENTRIES, list);
+        final File file = new File(folder, INDEX_FILE);
+        try
+        {
+            folder.mkdirs();
+            CompressedStreamTools.safeWrite(compound, file);
+            dirty = false;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("SchematicIndex: Could not save " + file, e);
+        }
+    }
+}
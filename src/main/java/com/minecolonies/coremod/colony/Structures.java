@@ -91,6 +91,11 @@ public final class Structures
     @NotNull
     private static Map<String, String> md5Map = new HashMap<>();
 
+    /**
+     * Index of the schematic files, to skip hashing unchanged files.
+     */
+    private static SchematicIndex schematicIndex = null;
+
     /**
      * Whether or not the schematics list have changed.
      */
@@ -114,6 +119,8 @@ public final class Structures
      */
     public static void init()
     {
+        //The index lives in the world folder, load it again for the new world
+        schematicIndex = null;
         loadStyleMaps();
     }
 
@@ -227,6 +234,7 @@ public final class Structures
      */
     private static void loadSchematicsForPrefix(@NotNull final Path basePath, @NotNull final String prefix)
     {
+        final List<Path> paths = new ArrayList<>();
         try (Stream<Path> walk = Files.walk(basePath.resolve(prefix)))
         {
             final Iterator<Path> it = walk.iterator();
@@ -235,54 +243,75 @@ public final class Structures
                 final Path path = it.next();
                 if (path.toString().endsWith(SCHEMATIC_EXTENSION))
                 {
-                    String relativePath = path.toString().substring(basePath.toString().length()).split("\\" + SCHEMATIC_EXTENSION)[0];
-                    if (!SCHEMATICS_SEPARATOR.equals(path.getFileSystem().getSeparator()))
-                    {
-                        relativePath = relativePath.replace(path.getFileSystem().getSeparator(), SCHEMATICS_SEPARATOR);
-                    }
-                    if (relativePath.startsWith(SCHEMATICS_SEPARATOR))
-                    {
-                        relativePath = relativePath.substring(1);
-                    }
-
-                    final StructureName structureName = new StructureName(relativePath);
-                    final String md5 = Structure.calculateMD5(Structure.getStream(relativePath));
-                    if (md5 == null)
-                    {
-                        Log.getLogger().error("Structures: " + structureName + " with md5 null.");
-                    }
-                    else if (isSchematicSizeValid(structureName.toString()))
-                    {
-                        md5Map.put(structureName.toString(), md5);
-                        if (MineColonies.isClient())
-                        {
-                            addSchematic(structureName);
-                        }
-                    }
+                    paths.add(path);
                 }
             }
         }
         catch (@NotNull final IOException e)
         {
             Log.getLogger().warn("loadSchematicsForPrefix: Could not load schematics from " + basePath.resolve(prefix), e);
+            return;
         }
+
+        final Map<Path, SchematicIndex.Entry> entries = getSchematicIndex().getEntries(paths);
+        for (final Path path : paths)
+        {
+            String relativePath = path.toString().substring(basePath.toString().length()).split("\\" + SCHEMATIC_EXTENSION)[0];
+            if (!SCHEMATICS_SEPARATOR.equals(path.getFileSystem().getSeparator()))
+            {
+                relativePath = relativePath.replace(path.getFileSystem().getSeparator(), SCHEMATICS_SEPARATOR);
+            }
+            if (relativePath.startsWith(SCHEMATICS_SEPARATOR))
+            {
+                relativePath = relativePath.substring(1);
+            }
+
+            final StructureName structureName = new StructureName(relativePath);
+            final SchematicIndex.Entry entry = entries.get(path);
+            if (entry == null)
+            {
+                Log.getLogger().error("Structures: " + structureName + " with md5 null.");
+            }
+            else if (isSchematicSizeValid(structureName.toString(), entry.getCompressedSize()))
+            {
+                md5Map.put(structureName.toString(), entry.getMD5());
+                if (MineColonies.isClient())
+                {
+                    addSchematic(structureName);
+                }
+            }
+        }
+        getSchematicIndex().save(Structure.getCachedSchematicsFolder());
+    }
+
+    /**
+     * Get the index of the schematic files, loads it on first use.
+     *
+     * @return the index.
+     */
+    @NotNull
+    private static SchematicIndex getSchematicIndex()
+    {
+        if (schematicIndex == null)
+        {
+            schematicIndex = SchematicIndex.load(Structure.getCachedSchematicsFolder());
+        }
+        return schematicIndex;
     }
 
     /**
      * check that a schematic is not too big to be sent.
      *
-     * @param structureName name of the structure to check for.
+     * @param structureName  name of the structure to check for.
+     * @param compressedSize the size of the schematic when compressed.
      * @return True when the schematic is not too big.
      */
-    private static boolean isSchematicSizeValid(@NotNull final String structureName)
+    private static boolean isSchematicSizeValid(@NotNull final String structureName, final int compressedSize)
     {
         final int maxSize = MAX_TOTAL_SIZE - Integer.SIZE / Byte.SIZE;
-        final byte[] data = Structure.getStreamAsByteArray(Structure.getStream(structureName));
-        final byte[] compressed = Structure.compress(data);
-
-        if (compressed != null && compressed.length > maxSize)
+        if (compressedSize > maxSize)
         {
-            Log.getLogger().warn("Structure " + structureName + " is " + compressed.length + " bytes when compress, maximum allowed is " + maxSize + " bytes.");
+            Log.getLogger().warn("Structure " + structureName + " is " + compressedSize + " bytes when compress, maximum allowed is " + maxSize + " bytes.");
             return false;
         }
         return true;
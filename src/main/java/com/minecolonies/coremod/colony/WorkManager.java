@@ -30,6 +30,16 @@ public class WorkManager
      * Checks if there has been changes.
      */
     private       boolean                         dirty          = false;
+    /**
+     * Unclaimed work orders, highest priority first, oldest first on equal priority.
+     */
+    @NotNull
+    private final PriorityQueue<AbstractWorkOrder> unclaimedWorkOrders = new PriorityQueue<>(
+      Comparator.comparingInt(AbstractWorkOrder::getPriority).reversed().thenComparingInt(AbstractWorkOrder::getID));
+    /**
+     * Checks if the unclaimed work orders have to be collected again.
+     */
+    private       boolean                         unclaimedDirty = true;
 
     /**
      * Constructor, saves reference to the colony.
@@ -60,6 +70,7 @@ public class WorkManager
     {
         final AbstractWorkOrder workOrder = workOrders.get(orderId);
         workOrders.remove(orderId);
+        unclaimedDirty = true;
         colony.removeWorkOrder(orderId);
         workOrder.onRemoved(colony);
     }
@@ -150,6 +161,7 @@ public class WorkManager
     public void clearWorkForCitizen(@NotNull final CitizenData citizen)
     {
         dirty = true;
+        unclaimedDirty = true;
         workOrders.values().stream().filter(o -> o != null && o.isClaimedBy(citizen)).forEach(AbstractWorkOrder::clearClaimedBy);
     }
 
@@ -217,6 +229,7 @@ public class WorkManager
         }
 
         workOrders.put(order.getID(), order);
+        unclaimedDirty = true;
         order.onAdded(colony);
     }
 
@@ -238,21 +251,58 @@ public class WorkManager
                 {
                     iter.remove();
                     dirty = true;
+                    unclaimedDirty = true;
                 }
                 else if (o.hasChanged())
                 {
+                    //  Claims and priorities are changed directly on the order.
                     dirty = true;
+                    unclaimedDirty = true;
                     o.resetChange();
                 }
             }
 
             if ((event.world.getWorldTime() % WORK_ORDER_FULFILL_INCREMENT) == 0)
             {
-                workOrders.values().stream().filter(o -> !o.isClaimed())
-                  .sorted(Comparator.comparingInt(AbstractWorkOrder::getPriority).reversed())
-                  .forEach(o -> o.attemptToFulfill(colony));
+                fulfillUnclaimedWorkOrders();
+            }
+        }
+    }
+
+    /**
+     * Try to assign the unclaimed work orders by priority.
+     * The queue is only collected again if work orders were added, removed or changed since the last time.
+     */
+    private void fulfillUnclaimedWorkOrders()
+    {
+        if (unclaimedDirty)
+        {
+            unclaimedWorkOrders.clear();
+            workOrders.values().stream().filter(o -> !o.isClaimed()).forEach(unclaimedWorkOrders::add);
+            unclaimedDirty = false;
+        }
+
+        if (unclaimedWorkOrders.isEmpty())
+        {
+            return;
+        }
+
+        @NotNull final List<AbstractWorkOrder> stillUnclaimed = new ArrayList<>(unclaimedWorkOrders.size());
+        while (!unclaimedWorkOrders.isEmpty())
+        {
+            final AbstractWorkOrder o = unclaimedWorkOrders.poll();
+            if (o.isClaimed() || workOrders.get(o.getID()) != o)
+            {
+                continue;
+            }
+
+            o.attemptToFulfill(colony);
+            if (!o.isClaimed())
+            {
+                stillUnclaimed.add(o);
             }
         }
+        unclaimedWorkOrders.addAll(stillUnclaimed);
     }
 
     /**
@@ -832,6 +832,7 @@ public abstract class AbstractBuilding
 
         buildingLevel = level;
         markDirty();
+        getColony().onBuildingChanged(this);
         ColonyManager.markDirty();
     }
 
@@ -15,6 +15,10 @@ import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
 import static com.minecolonies.api.util.constant.ToolLevelConstants.TOOL_LEVEL_HAND;
 import static com.minecolonies.api.util.constant.ToolLevelConstants.TOOL_LEVEL_WOOD_OR_GOLD;
 import static com.minecolonies.api.util.constant.ToolLevelConstants.TOOL_LEVEL_MAXIMUM;
@@ -34,6 +38,11 @@ public abstract class AbstractBuildingWorker extends AbstractBuildingHut
      */
     private static final String TAG_WORKER = "worker";
 
+    /**
+     * Divider of the skill sum for the offline production factor.
+     */
+    private static final double OFFLINE_SKILL_DIVIDER = 20.0D;
+
     /**
      * The citizenData of the assigned worker.
      */
@@ -276,6 +285,34 @@ public abstract class AbstractBuildingWorker extends AbstractBuildingHut
         buf.writeInt(worker == null ? 0 : worker.getId());
     }
 
+    /**
+     * Estimate what the worker of this building would have produced while the colony was unloaded.
+     * Override this in buildings whose worker produces items.
+     *
+     * @param citizen  the worker of the building.
+     * @param workDays the amount of minecraft days the worker would have been working.
+     * @param random   the random to use for the estimation.
+     * @return the list of produced stacks, to be put into the hut.
+     */
+    @NotNull
+    public List<ItemStack> simulateOfflineProduction(@NotNull final CitizenData citizen, final double workDays, @NotNull final Random random)
+    {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Calculates the productivity factor of a worker for the offline production.
+     * Scales with the building level and the primary and secondary skill of the worker.
+     *
+     * @param primarySkill   the primary skill value of the worker.
+     * @param secondarySkill the secondary skill value of the worker.
+     * @return the factor, 1 for a level 1 hut with an untrained worker.
+     */
+    protected double getOfflineProductivity(final int primarySkill, final int secondarySkill)
+    {
+        return getBuildingLevel() * (1 + (primarySkill + secondarySkill / 2.0D) / OFFLINE_SKILL_DIVIDER);
+    }
+
     /**
      * Available skills of the citizens.
      */
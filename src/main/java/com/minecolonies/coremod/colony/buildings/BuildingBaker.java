@@ -1,17 +1,20 @@
 package com.minecolonies.coremod.colony.buildings;
 
 import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.blockout.views.Window;
 import com.minecolonies.coremod.client.gui.WindowHutBaker;
 import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyView;
+import com.minecolonies.coremod.colony.OfflineProductionSimulator;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.colony.jobs.JobBaker;
 import com.minecolonies.coremod.entity.ai.citizen.baker.BakerRecipes;
 import com.minecolonies.coremod.entity.ai.citizen.baker.BakingProduct;
 import com.minecolonies.coremod.entity.ai.citizen.baker.ProductState;
 import com.minecolonies.coremod.entity.ai.item.handling.ItemStorage;
+import com.minecolonies.coremod.entity.ai.util.CraftingPlan;
 import com.minecolonies.coremod.entity.ai.util.RecipeStorage;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockFurnace;
@@ -24,6 +27,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.items.IItemHandler;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -88,6 +92,11 @@ public class BuildingBaker extends AbstractBuildingWorker
      */
     private static final int WHEAT_TO_KEEP = 128;
 
+    /**
+     * Amount of recipes a level 1 baker finishes per day.
+     */
+    private static final double OFFLINE_BATCHES_PER_DAY = 8.0D;
+
     /**
      * Ticks past since the last check.
      */
@@ -107,12 +116,9 @@ public class BuildingBaker extends AbstractBuildingWorker
     public BuildingBaker(final Colony c, final BlockPos l)
     {
         super(c, l);
-        for(final RecipeStorage storage: BakerRecipes.getRecipes())
+        for (final ItemStorage input : BakerRecipes.getIndex().getInputs())
         {
-            for(final ItemStack stack: storage.getInput())
-            {
-                keepX.put(new ItemStorage(stack, false), WHEAT_TO_KEEP);
-            }
+            keepX.put(new ItemStorage(input.getItemStack(), false), WHEAT_TO_KEEP);
         }
     }
 
@@ -432,6 +438,47 @@ public class BuildingBaker extends AbstractBuildingWorker
         furnaces.replace(currentFurnace, bakingProduct);
     }
 
+    @NotNull
+    @Override
+    public List<ItemStack> simulateOfflineProduction(@NotNull final CitizenData citizen, final double workDays, @NotNull final Random random)
+    {
+        final List<ItemStack> production = new ArrayList<>();
+        if (getTileEntity() == null)
+        {
+            return production;
+        }
+
+        final List<IItemHandler> handlers = InventoryUtils.getItemHandlersFromProvider(getTileEntity());
+        final IItemHandler[] inventories = handlers.toArray(new IItemHandler[handlers.size()]);
+        final CraftingPlan plan = BakerRecipes.getIndex().plan(inventories);
+        final int batches = OfflineProductionSimulator.sampleAmount(workDays * getOfflineProductivity(citizen.getIntelligence(), citizen.getDexterity()) * OFFLINE_BATCHES_PER_DAY, random);
+
+        int recipeId = 0;
+        for (int batch = 0; batch < batches; batch++)
+        {
+            recipeId = plan.getNextCraftable(recipeId);
+            if (recipeId == CraftingPlan.NO_RECIPE)
+            {
+                break;
+            }
+
+            final RecipeStorage recipe = BakerRecipes.getIndex().getRecipe(recipeId);
+            if (!InventoryUtils.removeStacksFromProvider(getTileEntity(), recipe.getInput()))
+            {
+                break;
+            }
+            plan.consume(recipeId);
+            recipeId = (recipeId + 1) % BakerRecipes.getIndex().size();
+
+            production.add(recipe.getPrimaryOutput().copy());
+            for (final ItemStack secondary : recipe.getSecondaryOutput())
+            {
+                production.add(secondary.copy());
+            }
+        }
+        return production;
+    }
+
     /**
      * The client view for the baker building.
      */
@@ -18,6 +18,7 @@ import com.minecolonies.coremod.entity.ai.item.handling.ItemStorage;
 import com.minecolonies.coremod.network.messages.AssignFieldMessage;
 import com.minecolonies.coremod.network.messages.AssignmentModeMessage;
 import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
+import com.minecolonies.coremod.colony.OfflineProductionSimulator;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.init.Items;
 import net.minecraft.item.ItemStack;
@@ -91,6 +92,21 @@ public class BuildingFarmer extends AbstractBuildingWorker
      */
     private final Map<ItemStorage, Integer> keepX = new HashMap<>();
 
+    /**
+     * Times a field can be harvested in a minecraft day at most (crops need time to grow).
+     */
+    private static final double OFFLINE_HARVESTS_PER_DAY = 0.5D;
+
+    /**
+     * Amount of field cells a level 1 farmer takes care of per day.
+     */
+    private static final double OFFLINE_CELLS_PER_DAY = 60.0D;
+
+    /**
+     * Average amount of seeds a harvested crop drops besides the crop itself.
+     */
+    private static final double OFFLINE_SEEDS_PER_HARVEST = 1.5D;
+
     /**
      * Public constructor which instantiates the building.
      *
@@ -278,10 +294,9 @@ public class BuildingFarmer extends AbstractBuildingWorker
         {
             final NBTTagCompound fieldCompound = fieldTagList.getCompoundTagAt(i);
             final Field f = Field.createFromNBT(getColony(), fieldCompound);
-            if (f != null)
-            {
-                farmerFields.add(f);
-            }
+            //Share the field of the colony, only that one is kept up to date with block changes.
+            final Field colonyField = getColony().getField(f.getID());
+            farmerFields.add(colonyField == null ? f : colonyField);
         }
         assignManually = compound.getBoolean(TAG_ASSIGN_MANUALLY);
     }
@@ -513,6 +528,32 @@ public class BuildingFarmer extends AbstractBuildingWorker
         this.assignManually = assignManually;
     }
 
+    @NotNull
+    @Override
+    public List<ItemStack> simulateOfflineProduction(@NotNull final CitizenData citizen, final double workDays, @NotNull final Random random)
+    {
+        final double productivity = getOfflineProductivity(citizen.getEndurance(), citizen.getCharisma());
+        final List<ItemStack> production = new ArrayList<>();
+        for (final Field field : farmerFields)
+        {
+            final ItemStack seed = field.getSeed();
+            if (seed == null)
+            {
+                continue;
+            }
+
+            final int cells = (field.getLengthPlusX() + field.getLengthMinusX() + 1) * (field.getWidthPlusZ() + field.getWidthMinusZ() + 1);
+            final double harvests = Math.min(workDays * OFFLINE_HARVESTS_PER_DAY, workDays * productivity * OFFLINE_CELLS_PER_DAY / cells);
+            final ItemStack seedType = new ItemStack(seed.getItem(), 1, seed.getItemDamage());
+            //Every harvested cell has been planted with a seed from the hut first.
+            final int planted = OfflineProductionSimulator.takeFromBuilding(this, seedType, OfflineProductionSimulator.sampleAmount(harvests * cells, random));
+            final ItemStack crop = seed.getItem() == Items.WHEAT_SEEDS ? new ItemStack(Items.WHEAT) : seedType;
+            production.addAll(OfflineProductionSimulator.toStacks(crop, planted));
+            production.addAll(OfflineProductionSimulator.toStacks(seedType, OfflineProductionSimulator.sampleAmount(planted * OFFLINE_SEEDS_PER_HARVEST, random)));
+        }
+        return production;
+    }
+
     /**
      * Provides a view of the miner building class.
      */
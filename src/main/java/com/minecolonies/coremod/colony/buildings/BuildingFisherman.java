@@ -6,6 +6,7 @@ import com.minecolonies.coremod.client.gui.WindowHutFisherman;
 import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyView;
+import com.minecolonies.coremod.colony.OfflineProductionSimulator;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.colony.jobs.JobFisherman;
 import com.minecolonies.coremod.entity.ai.item.handling.ItemStorage;
@@ -15,7 +16,9 @@ import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 /**
  * The fishermans building.
@@ -31,6 +34,11 @@ public class BuildingFisherman extends AbstractBuildingWorker
      */
     private static final String FISHERMAN          = "Fisherman";
 
+    /**
+     * Amount of fish a level 1 fisherman catches per day.
+     */
+    private static final double OFFLINE_FISH_PER_DAY = 12.0D;
+
     private final Map<ItemStorage, Integer> keepX = new HashMap<>();
 
     /**
@@ -125,6 +133,14 @@ public class BuildingFisherman extends AbstractBuildingWorker
         return FISHERMAN;
     }
 
+    @NotNull
+    @Override
+    public List<ItemStack> simulateOfflineProduction(@NotNull final CitizenData citizen, final double workDays, @NotNull final Random random)
+    {
+        final int fish = OfflineProductionSimulator.sampleAmount(workDays * getOfflineProductivity(citizen.getIntelligence(), citizen.getDexterity()) * OFFLINE_FISH_PER_DAY, random);
+        return OfflineProductionSimulator.toStacks(new ItemStack(Items.FISH), fish);
+    }
+
     /**
      * Provides a view of the fisherman building class.
      */
@@ -117,6 +117,17 @@ public class BuildingGuardTower extends AbstractBuildingWorker
      */
     private EntityPlayer followPlayer;
 
+    /**
+     * The automatic patrol route, a closed tour over the buildings in patrol distance starting at the tower.
+     */
+    @Nullable
+    private List<BlockPos> patrolRoute;
+
+    /**
+     * Patrol distance the patrol route was computed with.
+     */
+    private int patrolRouteDistance = -1;
+
     /**
      * Constructor for the guardTower building.
      *
@@ -216,6 +227,82 @@ public class BuildingGuardTower extends AbstractBuildingWorker
         return this.getBuildingLevel() * PATROL_DISTANCE;
     }
 
+    /**
+     * Get a stop of the automatic patrol route.
+     * The route is shared by all guards of the tower, every guard walks it with its own step counter.
+     *
+     * @param step the step of the guard, wraps around the route.
+     * @return the position of the building to go to.
+     */
+    @NotNull
+    public BlockPos getPatrolRouteTarget(final int step)
+    {
+        final List<BlockPos> route = getPatrolRoute();
+        return route.get(Math.floorMod(step, route.size()));
+    }
+
+    /**
+     * Get the automatic patrol route, computing it again when it was invalidated or the patrol distance changed.
+     *
+     * @return the stops of the route, the tower is always the first one.
+     */
+    @NotNull
+    public List<BlockPos> getPatrolRoute()
+    {
+        if (patrolRoute == null || patrolRouteDistance != getPatrolDistance())
+        {
+            patrolRoute = computePatrolRoute();
+            patrolRouteDistance = getPatrolDistance();
+        }
+        return patrolRoute;
+    }
+
+    /**
+     * Drop the automatic patrol route, called by the colony when a building is added or removed.
+     */
+    public void invalidatePatrolRoute()
+    {
+        patrolRoute = null;
+    }
+
+    /**
+     * Compute the patrol route: starting at the tower always visit the closest building not visited yet.
+     * Guard towers are left out, they are guarded already.
+     *
+     * @return the stops of the route.
+     */
+    @NotNull
+    private List<BlockPos> computePatrolRoute()
+    {
+        final List<BlockPos> open = new ArrayList<>();
+        for (final AbstractBuilding building : getColony().getBuildings().values())
+        {
+            if (!(building instanceof BuildingGuardTower)
+                  && BlockPosUtil.getDistance2D(building.getLocation(), getLocation()) <= getPatrolDistance())
+            {
+                open.add(building.getLocation());
+            }
+        }
+
+        final List<BlockPos> route = new ArrayList<>(open.size() + 1);
+        BlockPos current = getLocation();
+        route.add(current);
+        while (!open.isEmpty())
+        {
+            int closest = 0;
+            for (int i = 1; i < open.size(); i++)
+            {
+                if (BlockPosUtil.getDistanceSquared(current, open.get(i)) < BlockPosUtil.getDistanceSquared(current, open.get(closest)))
+                {
+                    closest = i;
+                }
+            }
+            current = open.remove(closest);
+            route.add(current);
+        }
+        return route;
+    }
+
     /**
      * Gets the player to follow.
      *
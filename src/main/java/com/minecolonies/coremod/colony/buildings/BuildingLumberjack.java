@@ -9,12 +9,15 @@ import com.minecolonies.coremod.client.gui.WindowHutLumberjack;
 import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyView;
+import com.minecolonies.coremod.colony.OfflineProductionSimulator;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.colony.jobs.JobLumberjack;
 import com.minecolonies.coremod.entity.ai.item.handling.ItemStorage;
 import com.minecolonies.coremod.network.messages.LumberjackSaplingSelectorMessage;
 import io.netty.buffer.ByteBuf;
+import net.minecraft.block.BlockPlanks;
 import net.minecraft.init.Blocks;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -59,6 +62,26 @@ public class BuildingLumberjack extends AbstractBuildingWorker
      */
     private static final int SAPLINGS_TO_KEEP = 32;
 
+    /**
+     * Amount of trees a level 1 lumberjack fells per day.
+     */
+    private static final double OFFLINE_TREES_PER_DAY = 4.0D;
+
+    /**
+     * Average amount of logs a tree drops.
+     */
+    private static final int OFFLINE_LOGS_PER_TREE = 5;
+
+    /**
+     * Average amount of saplings the leaves of a tree drop.
+     */
+    private static final double OFFLINE_SAPLINGS_PER_TREE = 1.5D;
+
+    /**
+     * Amount of wood types stored in the first log block, the others are in log2.
+     */
+    private static final int OLD_LOG_TYPES = 4;
+
     /**
      * List of the items the lumberjack has to keep.
      */
@@ -243,6 +266,52 @@ public class BuildingLumberjack extends AbstractBuildingWorker
         return new JobLumberjack(citizen);
     }
 
+    @NotNull
+    @Override
+    public List<ItemStack> simulateOfflineProduction(@NotNull final CitizenData citizen, final double workDays, @NotNull final Random random)
+    {
+        final List<Integer> woodTypes = new ArrayList<>();
+        for (final Map.Entry<ItemStorage, Boolean> entry : treesToFell.entrySet())
+        {
+            if (entry.getValue() && entry.getKey().getItem() == Item.getItemFromBlock(Blocks.SAPLING))
+            {
+                woodTypes.add(entry.getKey().getDamageValue());
+            }
+        }
+        if (woodTypes.isEmpty())
+        {
+            woodTypes.add(BlockPlanks.EnumType.OAK.getMetadata());
+        }
+
+        final int[] treesPerType = new int[BlockPlanks.EnumType.values().length];
+        final int trees = OfflineProductionSimulator.sampleAmount(workDays * getOfflineProductivity(citizen.getStrength(), citizen.getCharisma()) * OFFLINE_TREES_PER_DAY, random);
+        for (int i = 0; i < trees; i++)
+        {
+            final int type = woodTypes.get(random.nextInt(woodTypes.size()));
+            if (type >= 0 && type < treesPerType.length)
+            {
+                treesPerType[type]++;
+            }
+        }
+
+        final List<ItemStack> production = new ArrayList<>();
+        for (int type = 0; type < treesPerType.length; type++)
+        {
+            if (treesPerType[type] == 0)
+            {
+                continue;
+            }
+
+            final ItemStack sapling = new ItemStack(Blocks.SAPLING, 1, type);
+            //Every felled tree has been replanted with a sapling from the hut.
+            final int felled = OfflineProductionSimulator.takeFromBuilding(this, sapling, treesPerType[type]);
+            final ItemStack log = type < OLD_LOG_TYPES ? new ItemStack(Blocks.LOG, 1, type) : new ItemStack(Blocks.LOG2, 1, type - OLD_LOG_TYPES);
+            production.addAll(OfflineProductionSimulator.toStacks(log, felled * OFFLINE_LOGS_PER_TREE));
+            production.addAll(OfflineProductionSimulator.toStacks(sapling, OfflineProductionSimulator.sampleAmount(felled * OFFLINE_SAPLINGS_PER_TREE, random)));
+        }
+        return production;
+    }
+
     /**
      * Provides a view of the lumberjack building class.
      */
@@ -269,6 +269,18 @@ public abstract class AbstractJob
     public void clearItemsNeeded()
     {
         itemsNeeded.clear();
+        onItemsNeededChanged();
+    }
+
+    /**
+     * Inform the colony that the items needed changed.
+     */
+    private void onItemsNeededChanged()
+    {
+        if (getColony() != null)
+        {
+            getColony().onCitizenChanged(citizen);
+        }
     }
 
     /**
@@ -289,6 +301,7 @@ public abstract class AbstractJob
         }
 
         itemsNeeded.add(stack.copy());
+        onItemsNeededChanged();
     }
 
     /**
@@ -319,6 +332,7 @@ public abstract class AbstractJob
 
                 //Deativate this if for now in order to keep working even if not all items are given. previously checked if stackSize is 0 and only removed then.
                 itemsNeeded.remove(neededItem);
+                onItemsNeededChanged();
 
                 break;
             }
@@ -2,6 +2,7 @@ package com.minecolonies.coremod.colony.jobs;
 
 import com.minecolonies.coremod.client.render.RenderBipedCitizen;
 import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.ColonyStatistic;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.BuildingBuilder;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
@@ -43,6 +44,7 @@ public class JobBuilder extends AbstractJobStructure
         if (compound.hasKey(TAG_WORK_ORDER))
         {
             workOrderId = compound.getInteger(TAG_WORK_ORDER);
+            getColony().getJobIndex().setBusy(getCitizen(), true);
         }
     }
 
@@ -118,7 +120,7 @@ public class JobBuilder extends AbstractJobStructure
         getCitizen().getColony().getWorkManager().removeWorkOrder(workOrderId);
         setWorkOrder(null);
         setStructure(null);
-        this.getColony().incrementStatistic("huts");
+        this.getColony().incrementStatistic(ColonyStatistic.HUTS);
     }
 
     /**
@@ -160,5 +162,6 @@ public class JobBuilder extends AbstractJobStructure
         {
             workOrderId = order.getID();
         }
+        getColony().getJobIndex().setBusy(getCitizen(), order != null);
     }
 }
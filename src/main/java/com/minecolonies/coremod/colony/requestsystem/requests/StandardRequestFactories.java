@@ -2,6 +2,7 @@ package com.minecolonies.coremod.colony.requestsystem.requests;
 
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.RequestState;
+import com.minecolonies.api.colony.requestsystem.factory.FactoryHandle;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.request.IRequestFactory;
 import com.minecolonies.api.colony.requestsystem.requestable.Delivery;
@@ -33,6 +34,18 @@ public final class StandardRequestFactories
     private static final String NBT_CHILDREN  = "Children";
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
 
+    /**
+     * Handle to create item stack requests.
+     */
+    private static final FactoryHandle<StandardRequests.ItemStackRequest> ITEM_STACK_REQUEST_FACTORY =
+      new FactoryHandle<>(new TypeToken<StandardRequests.ItemStackRequest>() {});
+
+    /**
+     * Handle to create delivery requests.
+     */
+    private static final FactoryHandle<StandardRequests.DeliveryRequest> DELIVERY_REQUEST_FACTORY =
+      new FactoryHandle<>(new TypeToken<StandardRequests.DeliveryRequest>() {});
+
     /**
      * Private constructor to hide the implicit public one.
      */
@@ -143,8 +156,7 @@ public final class StandardRequestFactories
                 childTokens.add(controller.deserialize(childCompound.getCompoundTagAt(i)));
             }
 
-            @SuppressWarnings(Suppression.LEFT_CURLY_BRACE)
-            final StandardRequests.ItemStackRequest request = controller.getNewInstance(requested, new TypeToken<StandardRequests.ItemStackRequest>() {}, token, state);
+            final StandardRequests.ItemStackRequest request = ITEM_STACK_REQUEST_FACTORY.getNewInstance(controller, requested, token, state);
 
             if (nbt.hasKey(NBT_PARENT))
             {
@@ -245,8 +257,7 @@ public final class StandardRequestFactories
                 childTokens.add(controller.deserialize(childCompound.getCompoundTagAt(i)));
             }
 
-            @SuppressWarnings(Suppression.LEFT_CURLY_BRACE)
-            final StandardRequests.DeliveryRequest request = controller.getNewInstance(requested, new TypeToken<StandardRequests.DeliveryRequest>() {}, token, state);
+            final StandardRequests.DeliveryRequest request = DELIVERY_REQUEST_FACTORY.getNewInstance(controller, requested, token, state);
 
             if (nbt.hasKey(NBT_PARENT))
             {
@@ -3,6 +3,8 @@ package com.minecolonies.coremod.colony.requestsystem.resolvers;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.factory.FactoryHandle;
+import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.location.ILocation;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requestable.Delivery;
@@ -24,6 +26,15 @@ import java.util.UUID;
  */
 public class WarehouseRequestResolver extends AbstractRequestResolver<ItemStack>
 {
+    /**
+     * Handle to create tokens.
+     */
+    private static final FactoryHandle<IToken> TOKEN_FACTORY = new FactoryHandle<>(new TypeToken<IToken>() {});
+
+    /**
+     * Handle to create locations.
+     */
+    private static final FactoryHandle<ILocation> LOCATION_FACTORY = new FactoryHandle<>(new TypeToken<ILocation>() {});
 
     public WarehouseRequestResolver(
                                      @NotNull final ILocation location,
@@ -74,12 +85,13 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<ItemStack>
             final TileEntityWareHouse wareHouse = (TileEntityWareHouse) tileEntity;
             final BlockPos pos = wareHouse.getPositionOfChestWithItemStack(request.getRequest());
 
+            final IFactoryController controller = manager.getFactoryController();
+            final ILocation chestLocation = LOCATION_FACTORY.getNewInstance(controller, pos);
+
             request.setResult(request.getRequest().copy());
-            return Lists.newArrayList(manager.createRequest(new WarehouseChestDeliveryRequester(this, manager.getFactoryController().getNewInstance(UUID.randomUUID(),
-              new TypeToken<IToken>() {}), manager.getFactoryController().getNewInstance(pos, new TypeToken<ILocation>() {}), request.getToken()),
-              new Delivery(manager.getFactoryController().getNewInstance(
-                pos,
-                new TypeToken<ILocation>() {}), request.getRequester().getDeliveryLocation(), request.getRequest())));
+            return Lists.newArrayList(manager.createRequest(new WarehouseChestDeliveryRequester(this, TOKEN_FACTORY.getNewInstance(controller, UUID.randomUUID()),
+              chestLocation, request.getToken()),
+              new Delivery(chestLocation, request.getRequester().getDeliveryLocation(), request.getRequest())));
         }
 
         return Lists.newArrayList();
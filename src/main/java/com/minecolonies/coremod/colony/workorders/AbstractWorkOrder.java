@@ -175,6 +175,7 @@ public abstract class AbstractWorkOrder
      */
     public void setPriority(final int priority)
     {
+        changed = true;
         this.priority = priority;
     }
 
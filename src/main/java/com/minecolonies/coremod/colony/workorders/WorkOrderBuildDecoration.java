@@ -165,11 +165,9 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
         double distanceToBuilder = 0;
         CitizenData claimedBy = null;
 
-        for (@NotNull final CitizenData citizen : colony.getCitizens().values())
+        for (@NotNull final CitizenData citizen : colony.getJobIndex().getCitizensWithJob(JobBuilder.class))
         {
-            final JobBuilder job = citizen.getJob(JobBuilder.class);
-
-            if (job == null || citizen.getWorkBuilding() == null)
+            if (citizen.getWorkBuilding() == null)
             {
                 continue;
             }
@@ -182,7 +180,7 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
                 sendMessage = false;
             }
 
-            if (!job.hasWorkOrder() && canBuild(citizen))
+            if (!colony.getJobIndex().isBusy(citizen) && canBuild(citizen))
             {
                 final double distance = citizen.getWorkBuilding().getID().distanceSq(this.buildingLocation);
                 if(claimedBy == null || distance < distanceToBuilder)
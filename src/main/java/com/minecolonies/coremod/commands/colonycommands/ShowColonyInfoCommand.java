@@ -2,6 +2,7 @@ package com.minecolonies.coremod.commands.colonycommands;
 
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.ColonyMetrics;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.coremod.commands.AbstractSingleCommand;
 import net.minecraft.command.CommandException;
@@ -35,6 +36,11 @@ public class ShowColonyInfoCommand extends AbstractSingleCommand
     private static final String NO_COLONY_FOUND_MESSAGE    = "Colony with mayor %s not found.";
     private static final String NO_COLONY_FOUND_MESSAGE_ID = "Colony with ID %d not found.";
     private static final String LAST_CONTACT_TEXT          = "Last contact with Owner or Officer: %d hours ago!";
+    private static final String TODAY_TEXT                 = "§2Today: §f%d produced, %d delivered, %d path jobs, %.3f ms/tick";
+    private static final String DAY_TEXT                   = "§2%d days ago: §f%d produced, %d delivered, %d path jobs, %.3f ms/tick";
+    private static final String HISTORY_TEXT               = "§2Last %d days: §f%d produced, %d delivered, %d path jobs, %.3f ms/tick";
+    private static final String IDLE_TEXT                  = "§4Nothing produced or delivered in the last %d days!";
+    private static final int    SHOWN_DAYS                 = 3;
 
     /**
      * Initialize this SubCommand with it's parents.
@@ -125,6 +131,47 @@ public class ShowColonyInfoCommand extends AbstractSingleCommand
         sender.sendMessage(new TextComponentString(CITIZENS + colony.getCitizens().size() + "/" + colony.getMaxCitizens()));
         sender.sendMessage(new TextComponentString(COORDINATES_TEXT + String.format(COORDINATES_XYZ, position.getX(), position.getY(), position.getZ())));
         sender.sendMessage(new TextComponentString(String.format(LAST_CONTACT_TEXT, colony.getLastContactInHours())));
+        sendMetrics(sender, colony.getMetrics());
+    }
+
+    /**
+     * Send the metrics of the current day, of the last few days and the sums over the whole history.
+     *
+     * @param sender  the sender of the command.
+     * @param metrics the metrics of the colony.
+     */
+    private static void sendMetrics(@NotNull final ICommandSender sender, @NotNull final ColonyMetrics metrics)
+    {
+        sender.sendMessage(new TextComponentString(String.format(TODAY_TEXT,
+          metrics.getToday(ColonyMetrics.Sample.PRODUCTION),
+          metrics.getToday(ColonyMetrics.Sample.DELIVERIES),
+          metrics.getToday(ColonyMetrics.Sample.PATH_JOBS),
+          metrics.getTodayTickMillis())));
+
+        for (int daysAgo = 1; daysAgo <= Math.min(SHOWN_DAYS, metrics.getStoredDays()); daysAgo++)
+        {
+            sender.sendMessage(new TextComponentString(String.format(DAY_TEXT, daysAgo,
+              metrics.getDay(ColonyMetrics.Sample.PRODUCTION, daysAgo),
+              metrics.getDay(ColonyMetrics.Sample.DELIVERIES, daysAgo),
+              metrics.getDay(ColonyMetrics.Sample.PATH_JOBS, daysAgo),
+              metrics.getDayTickMillis(daysAgo))));
+        }
+
+        final int days = metrics.getStoredDays();
+        if (days == 0)
+        {
+            return;
+        }
+
+        final long produced = metrics.getTotal(ColonyMetrics.Sample.PRODUCTION, days);
+        final long delivered = metrics.getTotal(ColonyMetrics.Sample.DELIVERIES, days);
+        sender.sendMessage(new TextComponentString(String.format(HISTORY_TEXT, days, produced, delivered,
+          metrics.getTotal(ColonyMetrics.Sample.PATH_JOBS, days),
+          metrics.getAverageTickMillis(days))));
+        if (produced == 0 && delivered == 0)
+        {
+            sender.sendMessage(new TextComponentString(String.format(IDLE_TEXT, days)));
+        }
     }
 
     @NotNull
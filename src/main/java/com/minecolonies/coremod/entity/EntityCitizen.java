@@ -16,7 +16,6 @@ import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.colony.jobs.JobGuard;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
 import com.minecolonies.coremod.entity.ai.minimal.*;
-import com.minecolonies.coremod.entity.ai.mobs.util.BarbarianUtils;
 import com.minecolonies.coremod.entity.pathfinding.EntityCitizenWalkToProxy;
 import com.minecolonies.coremod.entity.pathfinding.PathNavigate;
 import com.minecolonies.coremod.inventory.InventoryCitizen;
@@ -116,6 +115,11 @@ public class EntityCitizen extends EntityAgeable implements INpc
      */
     private static final double AVOID_BARBARIAN_RANGE = 20D;
 
+    /**
+     * The vertical range in which citizens avoid barbarians.
+     */
+    private static final double AVOID_BARBARIAN_HEIGHT_RANGE = 3D;
+
     /**
      * The delta yaw value for looking at things.
      */
@@ -182,10 +186,21 @@ public class EntityCitizen extends EntityAgeable implements INpc
      */
     private static final double RANGE_TO_BE_HOME           = 16;
     /**
-     * If the entitiy is stuck for 2 minutes do something.
+     * If the entitiy made no progress along its path for 2 minutes do something.
      */
     private static final int    MAX_STUCK_TIME             = 20 * 60 * 2;
 
+    /**
+     * Height of the free space a stuck entity is put into near its target.
+     */
+    private static final int    STUCK_SPAWN_HEIGHT         = 3;
+
+    /**
+     * Blocks a stuck entity can be put into near its target.
+     */
+    private static final BlockSet STUCK_SPAWN_SPACE =
+      BlockSet.of(Blocks.AIR, Blocks.SNOW_LAYER, Blocks.TALLGRASS, Blocks.RED_FLOWER, Blocks.YELLOW_FLOWER, Blocks.CARPET);
+
     /**
      * Distance from mobs the entity should hold.
      */
@@ -272,16 +287,6 @@ public class EntityCitizen extends EntityAgeable implements INpc
     @Nullable
     private CitizenData citizenData;
 
-    /**
-     * The entities current Position.
-     */
-    private BlockPos currentPosition = null;
-
-    /**
-     * Time the entity is at the same position already.
-     */
-    private int stuckTime = 0;
-
     /**
      * Variable to check what time it is for the citizen.
      */
@@ -597,7 +602,7 @@ public class EntityCitizen extends EntityAgeable implements INpc
     {
         @NotNull final AxisAlignedBB bb = new AxisAlignedBB(posX - 2, posY - 2, posZ - 2, posX + 2, posY + 2, posZ + 2);
 
-        return CompatibilityUtils.getWorld(this).getEntitiesWithinAABB(EntityXPOrb.class, bb);
+        return getEntitiesOnGround(EntityXPOrb.class, bb);
     }
 
     /**
@@ -1030,6 +1035,7 @@ public class EntityCitizen extends EntityAgeable implements INpc
     @Override
     public void onLivingUpdate()
     {
+        final long tickStart = System.nanoTime();
         if (recentlyHit > 0)
         {
             citizenData.markDirty();
@@ -1082,6 +1088,11 @@ public class EntityCitizen extends EntityAgeable implements INpc
 
         checkHeal();
         super.onLivingUpdate();
+
+        if (colony != null && !CompatibilityUtils.getWorld(this).isRemote)
+        {
+            colony.getMetrics().record(ColonyMetrics.Sample.TICK_NANOS, System.nanoTime() - tickStart);
+        }
     }
 
     private void updateColonyClient()
@@ -1114,21 +1125,36 @@ public class EntityCitizen extends EntityAgeable implements INpc
      */
     private void pickupItems()
     {
-        @NotNull final List<EntityItem> retList = new ArrayList<>();
-        //I know streams look better but they are flawed in type erasure
-        for (final Object o : CompatibilityUtils.getWorld(this).getEntitiesWithinAABB(EntityItem.class, getEntityBoundingBox().expand(2.0F, 0.0F, 2.0F)))
+        if (!canPickUpLoot())
         {
-            if (o instanceof EntityItem)
+            return;
+        }
+
+        for (@NotNull final EntityItem item : getEntitiesOnGround(EntityItem.class, getEntityBoundingBox().expand(2.0F, 0.0F, 2.0F)))
+        {
+            if (!item.isDead)
             {
-                retList.add((EntityItem) o);
+                tryPickupEntityItem(item);
             }
         }
+    }
 
-        retList.stream()
-                .filter(Objects::nonNull)
-                .filter(item -> !item.isDead)
-                .filter(item -> canPickUpLoot())
-                .forEach(this::tryPickupEntityItem);
+    /**
+     * Get the dropped items or xp orbs in an area, from the item index of the colony if possible.
+     *
+     * @param type EntityItem or EntityXPOrb.
+     * @param bb   the area.
+     * @param <T>  the type.
+     * @return a list of the entities.
+     */
+    @NotNull
+    private <T extends Entity> List<T> getEntitiesOnGround(@NotNull final Class<T> type, @NotNull final AxisAlignedBB bb)
+    {
+        if (colony == null)
+        {
+            return CompatibilityUtils.getWorld(this).getEntitiesWithinAABB(type, bb);
+        }
+        return colony.getItemIndex().getEntitiesWithinAABB(CompatibilityUtils.getWorld(this), type, bb);
     }
 
     private void cleanupChatMessages()
@@ -1147,50 +1173,35 @@ public class EntityCitizen extends EntityAgeable implements INpc
         }
     }
 
+    /**
+     * Teleport the citizen to the end of its path when it did not make progress along it for too long.
+     */
     private void checkIfStuck()
     {
-        if (this.currentPosition == null)
+        if (newNavigator == null || newNavigator.getStalledTicks() < MAX_STUCK_TIME)
         {
-            this.currentPosition = this.getPosition();
             return;
         }
 
-        if (this.currentPosition.equals(this.getPosition()) && newNavigator != null && newNavigator.getDestination() != null)
+        final BlockPos target = newNavigator.getStallTarget();
+        if (target == null || target.distanceSq(posX, posY, posZ) < MOVE_AWAY_RANGE)
         {
-            stuckTime++;
-            if (stuckTime >= MAX_STUCK_TIME)
-            {
-                if (newNavigator.getDestination().distanceSq(posX, posY, posZ) < MOVE_AWAY_RANGE)
-                {
-                    stuckTime = 0;
-                    return;
-                }
-                final BlockPos destination = BlockPosUtil.getFloor(newNavigator.getDestination(), CompatibilityUtils.getWorld(this));
-                @Nullable final BlockPos spawnPoint =
-                        Utils.scanForBlockNearPoint
-                                (CompatibilityUtils.getWorld(this), destination, 1, 1, 1, 3,
-                                        Blocks.AIR,
-                                        Blocks.SNOW_LAYER,
-                                        Blocks.TALLGRASS,
-                                        Blocks.RED_FLOWER,
-                                        Blocks.YELLOW_FLOWER,
-                                        Blocks.CARPET);
-
-                WorkerUtil.setSpawnPoint(spawnPoint, this);
-                if (colony != null)
-                {
-                    Log.getLogger().info("Teleported stuck citizen " + this.getName() + " from colony: " + colony.getID() + " to target location");
-                }
-                stuckTime = 0;
-            }
+            newNavigator.resetStalledTicks();
+            return;
         }
-        else
+
+        @Nullable BlockPos spawnPoint = BlockScanner.findClosestColumn(CompatibilityUtils.getWorld(this),
+          BlockPosUtil.getFloor(target, CompatibilityUtils.getWorld(this)), 1, 1, 1, STUCK_SPAWN_HEIGHT, STUCK_SPAWN_SPACE);
+        if (spawnPoint == null)
         {
-            stuckTime = 0;
-            this.currentPosition = this.getPosition();
+            spawnPoint = newNavigator.getSafeSpot();
         }
 
-        this.currentPosition = this.getPosition();
+        newNavigator.resetStalledTicks();
+        if (WorkerUtil.setSpawnPoint(spawnPoint, this) && colony != null)
+        {
+            Log.getLogger().info("Teleported stuck citizen " + this.getName() + " from colony: " + colony.getID() + " to target location");
+        }
     }
 
     /**
@@ -1567,7 +1578,7 @@ public class EntityCitizen extends EntityAgeable implements INpc
             return DesiredActivity.WORK;
         }
 
-        if (BarbarianUtils.getClosestBarbarianToEntity(this,AVOID_BARBARIAN_RANGE) != null && !(this.getColonyJob() instanceof JobGuard))
+        if (colony != null && colony.getThreatIndex().getClosestBarbarian(this, AVOID_BARBARIAN_RANGE, AVOID_BARBARIAN_HEIGHT_RANGE) != null)
         {
             return DesiredActivity.SLEEP;
         }
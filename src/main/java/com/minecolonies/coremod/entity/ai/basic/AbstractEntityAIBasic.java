@@ -496,7 +496,9 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
      */
     public boolean isInTileEntity(final TileEntityChest entity, final ItemStack is)
     {
+        //Cheap check first if the chest answers it from its summary, else it would walk the slots twice.
         return is != null
+                && (!InventoryUtils.hasInventorySummary(entity) || InventoryUtils.hasItemInProvider(entity, is.getItem(), -1))
                 && InventoryFunctions
                            .matchFirstInProviderWithAction(
                         entity,
@@ -585,7 +587,8 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
      */
     public boolean retrieveToolInTileEntity(final TileEntityChest entity, final IToolType toolType, final int minLevel, final int maxLevel)
     {
-        if (ToolType.NONE.equals(toolType))
+        if (ToolType.NONE.equals(toolType)
+              || (InventoryUtils.hasInventorySummary(entity) && !InventoryUtils.isToolInProvider(entity, toolType, minLevel, maxLevel)))
         {
             return false;
         }
@@ -779,7 +782,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
             return INVENTORY_FULL;
         }
 
-        if (dumpOneMoreSlot())
+        if (dumpInventoryIntoBuilding())
         {
             delay += DELAY_RECHECK;
             return INVENTORY_FULL;
@@ -798,11 +801,13 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
     /**
      * Dump the workers inventory into his building chest.
      * Only useful tools are kept!
-     * Only dumps one block at a time!
+     * Dumps everything that fits at once.
+     *
+     * @return true while still walking to the building.
      */
-    private boolean dumpOneMoreSlot()
+    private boolean dumpInventoryIntoBuilding()
     {
-        return dumpOneMoreSlot(getOwnBuilding()::neededForWorker);
+        return dumpInventoryIntoBuilding(getOwnBuilding()::neededForWorker);
     }
 
     /**
@@ -841,66 +846,59 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
     }
 
     /**
-     * Dumps one inventory slot into the building chest.
+     * Dumps the inventory into the building chest in one batch.
      *
      * @param keepIt used to test it that stack should be kept
-     * @return true if is has to dump more.
+     * @return true while still walking to the building.
      */
-    private boolean dumpOneMoreSlot(@NotNull final Predicate<ItemStack> keepIt)
+    private boolean dumpInventoryIntoBuilding(@NotNull final Predicate<ItemStack> keepIt)
     {
+        @Nullable final AbstractBuildingWorker buildingWorker = getOwnBuilding();
+        if (buildingWorker == null)
+        {
+            return false;
+        }
+
+        if (walkToBuilding())
+        {
+            return true;
+        }
+
         //Items already kept in the inventory
         final Map<ItemStorage, Integer> alreadyKept = new HashMap<>();
-        final Map<ItemStorage, Integer> shouldKeep = getOwnBuilding().getRequiredItemsAndAmount();
-
-        @Nullable final AbstractBuildingWorker buildingWorker = getOwnBuilding();
+        final Map<ItemStorage, Integer> shouldKeep = buildingWorker.getRequiredItemsAndAmount();
 
-        return buildingWorker != null
-                && (walkToBuilding()
-                || InventoryFunctions.matchFirstInProvider(worker,
-                (slot, stack) -> !(ItemStackUtils.isEmpty(stack) || keepIt.test(stack)) && shouldDumpItem(alreadyKept, shouldKeep, buildingWorker, stack, slot)));
+        InventoryUtils.transferItemStacksIntoItemHandlers(new InvWrapper(worker.getInventoryCitizen()),
+          stack -> getAmountToDump(alreadyKept, shouldKeep, keepIt, stack),
+          InventoryUtils.getItemHandlersFromProvider(buildingWorker.getTileEntity()));
+        return false;
     }
 
     /**
-     * Checks if an item should be kept and deposits the rest into his chest.
+     * Calculates how much of a stack should be dumped into the chest.
      *
-     * @param alreadyKept    already kept items.
-     * @param shouldKeep     items that should be kept.
-     * @param buildingWorker the building of the worker.
-     * @param stack          the stack being analyzed.
-     * @param slot           the iteration inside the inventory.
-     * @return true if should be dumped.
-     */
-    private boolean shouldDumpItem(
-                                    @NotNull final Map<ItemStorage, Integer> alreadyKept, @NotNull final Map<ItemStorage, Integer> shouldKeep,
-                                    @NotNull final AbstractBuildingWorker buildingWorker, @NotNull final ItemStack stack, final int slot)
+     * @param alreadyKept already kept items.
+     * @param shouldKeep  items that should be kept.
+     * @param keepIt      used to test it that stack should be kept entirely.
+     * @param stack       the stack being analyzed.
+     * @return the amount to dump, 0 to keep the stack.
+     */
+    private static int getAmountToDump(
+                                        @NotNull final Map<ItemStorage, Integer> alreadyKept, @NotNull final Map<ItemStorage, Integer> shouldKeep,
+                                        @NotNull final Predicate<ItemStack> keepIt, @NotNull final ItemStack stack)
     {
-        @Nullable final ItemStack returnStack;
-        int amountToKeep = 0;
-        if (keptEnough(alreadyKept, shouldKeep, stack))
+        if (ItemStackUtils.isEmpty(stack) || keepIt.test(stack))
         {
-            returnStack = InventoryUtils.addItemStackToProviderWithResult(buildingWorker.getTileEntity(), stack.copy());
+            return 0;
         }
-        else
-        {
-            final ItemStorage tempStorage = new ItemStorage(stack, false);
-            final ItemStack tempStack = handleKeepX(alreadyKept, shouldKeep, tempStorage);
-            if (ItemStackUtils.isEmpty(tempStack))
-            {
-                return false;
-            }
-            amountToKeep = ItemStackUtils.getSize(stack) - tempStorage.getAmount();
-            returnStack = InventoryUtils.addItemStackToProviderWithResult(buildingWorker.getTileEntity(), tempStack);
-        }
-        if (ItemStackUtils.isEmpty(returnStack))
+
+        if (keptEnough(alreadyKept, shouldKeep, stack))
         {
-            new InvWrapper(worker.getInventoryCitizen()).extractItem(slot, ItemStackUtils.getSize(stack) - amountToKeep, false);
-            return amountToKeep == 0;
+            return ItemStackUtils.getSize(stack);
         }
 
-        new InvWrapper(worker.getInventoryCitizen()).extractItem(slot, ItemStackUtils.getSize(stack) - ItemStackUtils.getSize(returnStack) - amountToKeep, false);
-
-        //Check that we are not inserting into a full inventory.
-        return ItemStackUtils.getSize(stack) != ItemStackUtils.getSize(returnStack);
+        final ItemStack dumpStack = handleKeepX(alreadyKept, shouldKeep, new ItemStorage(stack, false));
+        return ItemStackUtils.isEmpty(dumpStack) ? 0 : ItemStackUtils.getSize(dumpStack);
     }
 
     /**
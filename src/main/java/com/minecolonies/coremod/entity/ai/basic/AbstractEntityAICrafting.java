@@ -1,8 +1,18 @@
 package com.minecolonies.coremod.entity.ai.basic;
 
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
+import com.minecolonies.coremod.entity.ai.util.CraftingPlan;
+import com.minecolonies.coremod.entity.ai.util.RecipeIndex;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityChest;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Basic class for all crafting AIs.
  *
@@ -20,4 +30,28 @@ public abstract class AbstractEntityAICrafting<J extends AbstractJob> extends Ab
     {
         super(job);
     }
+
+    /**
+     * Plan the recipes of an index against the inventory of the worker, the hut and its additional containers.
+     *
+     * @param index the recipes the worker knows.
+     * @return the plan.
+     */
+    @NotNull
+    protected CraftingPlan planCrafting(@NotNull final RecipeIndex index)
+    {
+        final List<IItemHandler> handlers = new ArrayList<>();
+        handlers.add(new InvWrapper(worker.getInventoryCitizen()));
+        handlers.add(new InvWrapper(getOwnBuilding().getTileEntity()));
+
+        for (final BlockPos pos : getOwnBuilding().getAdditionalCountainers())
+        {
+            final TileEntity entity = world.getTileEntity(pos);
+            if (entity instanceof TileEntityChest)
+            {
+                handlers.add(new InvWrapper((TileEntityChest) entity));
+            }
+        }
+        return index.plan(handlers.toArray(new IItemHandler[handlers.size()]));
+    }
 }
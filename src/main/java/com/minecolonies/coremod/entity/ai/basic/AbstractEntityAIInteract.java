@@ -2,6 +2,8 @@ package com.minecolonies.coremod.entity.ai.basic;
 
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.*;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyStatistic;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
@@ -228,23 +230,23 @@ public abstract class AbstractEntityAIInteract<J extends AbstractJob> extends Ab
                 || world.getBlockState(blockToMine).getBlock() == (Blocks.REDSTONE_ORE)
                 || world.getBlockState(blockToMine).getBlock() == (Blocks.EMERALD_ORE))
         {
-            this.getOwnBuilding().getColony().incrementStatistic("ores");
+            this.getOwnBuilding().getColony().incrementStatistic(ColonyStatistic.ORES);
         }
         if (world.getBlockState(blockToMine).getBlock().equals(Blocks.DIAMOND_ORE))
         {
-            this.getOwnBuilding().getColony().incrementStatistic("diamonds");
+            this.getOwnBuilding().getColony().incrementStatistic(ColonyStatistic.DIAMONDS);
         }
         if (world.getBlockState(blockToMine).getBlock().equals(Blocks.CARROTS))
         {
-            this.getOwnBuilding().getColony().incrementStatistic("carrots");
+            this.getOwnBuilding().getColony().incrementStatistic(ColonyStatistic.CARROTS);
         }
         if (world.getBlockState(blockToMine).getBlock().equals(Blocks.POTATOES))
         {
-            this.getOwnBuilding().getColony().incrementStatistic("potatoes");
+            this.getOwnBuilding().getColony().incrementStatistic(ColonyStatistic.POTATOES);
         }
         if (world.getBlockState(blockToMine).getBlock().equals(Blocks.WHEAT))
         {
-            this.getOwnBuilding().getColony().incrementStatistic("wheat");
+            this.getOwnBuilding().getColony().incrementStatistic(ColonyStatistic.WHEAT);
         }
     }
 
@@ -285,7 +287,11 @@ public abstract class AbstractEntityAIInteract<J extends AbstractJob> extends Ab
      */
     public void searchForItems(final AxisAlignedBB boundingBox)
     {
-        items = world.getEntitiesWithinAABB(EntityItem.class, boundingBox)
+        final Colony colony = worker.getColony();
+        final List<EntityItem> entities = colony == null
+                                            ? world.getEntitiesWithinAABB(EntityItem.class, boundingBox)
+                                            : colony.getItemIndex().getEntitiesWithinAABB(world, EntityItem.class, boundingBox);
+        items = entities
                 .stream()
                 .filter(item -> item != null && !item.isDead)
                 .map(BlockPosUtil::fromEntity)
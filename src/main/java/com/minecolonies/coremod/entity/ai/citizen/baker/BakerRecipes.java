@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.entity.ai.citizen.baker;
 
 import com.google.common.collect.ImmutableList;
+import com.minecolonies.coremod.entity.ai.util.RecipeIndex;
 import com.minecolonies.coremod.entity.ai.util.RecipeStorage;
 import net.minecraft.init.Items;
 import net.minecraft.item.ItemStack;
@@ -53,6 +54,11 @@ public final class BakerRecipes
      */
     private static final ImmutableList<RecipeStorage> recipes;
 
+    /**
+     * Index of the recipes by output and input.
+     */
+    private static final RecipeIndex index;
+
     /**
      * Amount of buckets he should give back after a cake
      */
@@ -82,6 +88,7 @@ public final class BakerRecipes
                 .add(new RecipeStorage(inputCookie, GRID_SIZE, new ItemStack(Items.COOKIE, COOKIES)))
                 .add(new RecipeStorage(inputCake, GRID_SIZE, new ItemStack(Items.CAKE, 1), new ItemStack(Items.BUCKET, BUCKET_COUNT)))
                 .add(new RecipeStorage(inputBread, GRID_SIZE, new ItemStack(Items.BREAD, 1))).build();
+        index = new RecipeIndex(recipes);
     }
     /**
      * Private constructor to hide implicit one.
@@ -102,4 +109,14 @@ public final class BakerRecipes
     {
         return recipes;
     }
+
+    /**
+     * Get the index of the recipes, the recipe ids are the positions in {@link #getRecipes()}.
+     *
+     * @return the index.
+     */
+    public static RecipeIndex getIndex()
+    {
+        return index;
+    }
 }
@@ -4,6 +4,8 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 public class BakingProduct
 {
     /**
@@ -135,8 +137,17 @@ public class BakingProduct
         if(productCompound.hasKey(TAG_STATE))
         {
             final ProductState state = ProductState.values()[productCompound.getInteger(TAG_STATE)];
-            final int recipeId = productCompound.getInteger(TAG_RECIPE_ID);
-            final BakingProduct bakingProduct = new BakingProduct(new ItemStack(productCompound), recipeId);
+            final ItemStack endProduct = new ItemStack(productCompound);
+            int recipeId = productCompound.getInteger(TAG_RECIPE_ID);
+
+            //Products saved without a recipe id, or with one of a changed recipe list, are matched by their output.
+            final List<Integer> producingRecipes = BakerRecipes.getIndex().getRecipesFor(endProduct);
+            if (!producingRecipes.isEmpty() && !producingRecipes.contains(recipeId))
+            {
+                recipeId = producingRecipes.get(0);
+            }
+
+            final BakingProduct bakingProduct = new BakingProduct(endProduct, recipeId);
             bakingProduct.setState(state);
             return bakingProduct;
         }
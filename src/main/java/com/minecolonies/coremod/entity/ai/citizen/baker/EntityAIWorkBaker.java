@@ -5,20 +5,18 @@ import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.coremod.colony.buildings.BuildingBaker;
 import com.minecolonies.coremod.colony.jobs.JobBaker;
 import com.minecolonies.coremod.entity.EntityCitizen;
-import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAISkill;
+import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAICrafting;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
+import com.minecolonies.coremod.entity.ai.util.CraftingPlan;
 import com.minecolonies.coremod.entity.ai.util.RecipeStorage;
 import net.minecraft.block.BlockFurnace;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
 import net.minecraft.item.ItemStack;
-import net.minecraft.tileentity.TileEntity;
-import net.minecraft.tileentity.TileEntityChest;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.math.BlockPos;
-import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -38,7 +36,7 @@ import static com.minecolonies.coremod.entity.ai.util.AIState.*;
  * <p>
  * To keep it immersive he chooses his place at random around the pond.
  */
-public class EntityAIWorkBaker extends AbstractEntityAISkill<JobBaker>
+public class EntityAIWorkBaker extends AbstractEntityAICrafting<JobBaker>
 {
     /**
      * How often should intelligence factor into the fisherman's skill modifier.
@@ -328,36 +326,13 @@ public class EntityAIWorkBaker extends AbstractEntityAISkill<JobBaker>
     private AIState createNewProduct()
     {
         progress = 0;
-        final List<IItemHandler> handlers = new ArrayList<>();
-        handlers.add(new InvWrapper(worker.getInventoryCitizen()));
-        handlers.add(new InvWrapper(getOwnBuilding().getTileEntity()));
-
-        for (final BlockPos pos : getOwnBuilding().getAdditionalCountainers())
-        {
-            final TileEntity entity = world.getTileEntity(pos);
-            if (entity instanceof TileEntityChest)
-            {
-                handlers.add(new InvWrapper((TileEntityChest) entity));
-            }
-        }
-
-        RecipeStorage storage = null;
-        int recipeId = 0;
-        for (final RecipeStorage tempStorage : BakerRecipes.getRecipes())
-        {
-            if (tempStorage.canFullFillRecipe(handlers.toArray(new IItemHandler[handlers.size()])))
-            {
-                storage = tempStorage;
-                break;
-            }
-            recipeId++;
-        }
-
-        if (storage == null)
+        final CraftingPlan plan = planCrafting(BakerRecipes.getIndex());
+        final int recipeId = plan.getNextCraftable(0);
+        if (recipeId == CraftingPlan.NO_RECIPE)
         {
-            final List<RecipeStorage> recipes = BakerRecipes.getRecipes();
-            final List<ItemStack> lastRecipe = recipes.get(recipes.size() - 1).getInput();
-            final ItemStack[] arrayToRequestAndRetrieve = lastRecipe.toArray(new ItemStack[lastRecipe.size()]);
+            //Request only what the last recipe still misses in the inventory, the hut and its containers
+            final List<ItemStack> missing = plan.getMissingInputs(BakerRecipes.getIndex().size() - 1);
+            final ItemStack[] arrayToRequestAndRetrieve = missing.toArray(new ItemStack[missing.size()]);
             if(checkOrRequestItemsAsynch(true, arrayToRequestAndRetrieve))
             {
                 tryToTakeFromListOrRequest(shouldRequest(), arrayToRequestAndRetrieve);
@@ -366,6 +341,7 @@ public class EntityAIWorkBaker extends AbstractEntityAISkill<JobBaker>
             return PREPARING;
         }
 
+        final RecipeStorage storage = BakerRecipes.getIndex().getRecipe(recipeId);
         final BakingProduct bakingProduct = new BakingProduct(storage.getPrimaryOutput().copy(), recipeId);
         getOwnBuilding().addToTasks(bakingProduct.getState(), bakingProduct);
         currentBakingProduct = bakingProduct;
@@ -3,7 +3,6 @@ package com.minecolonies.coremod.entity.ai.citizen.builder;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.*;
 import com.minecolonies.coremod.blocks.AbstractBlockHut;
-import com.minecolonies.coremod.blocks.BlockSolidSubstitution;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
 import com.minecolonies.coremod.colony.buildings.BuildingBuilder;
@@ -14,10 +13,10 @@ import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIStructure;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
+import com.minecolonies.coremod.util.StructureBillOfMaterials;
+import com.minecolonies.coremod.util.StructureBuildPlan;
 import com.minecolonies.coremod.util.StructureWrapper;
 import net.minecraft.block.Block;
-import net.minecraft.block.BlockBed;
-import net.minecraft.block.BlockDoor;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.item.EntityArmorStand;
@@ -26,10 +25,7 @@ import net.minecraft.entity.monster.EntityMob;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityFlowerPot;
-import net.minecraft.tileentity.TileEntityLockable;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.gen.structure.template.Template;
@@ -40,7 +36,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import static com.minecolonies.api.util.constant.Suppression.LOOPS_SHOULD_NOT_CONTAIN_MORE_THAN_A_SINGLE_BREAK_OR_CONTINUE_STATEMENT;
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_ENTITY_BUILDER_BUILDCOMPLETE;
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_ENTITY_BUILDER_BUILDSTART;
 import static com.minecolonies.coremod.entity.ai.util.AIState.*;
@@ -72,6 +67,11 @@ public class EntityAIStructureBuilder extends AbstractEntityAIStructure<JobBuild
     @Nullable
     private BlockPos workFrom = null;
 
+    /**
+     * Index of the next entry of the bill of materials to check against the world.
+     */
+    private int materialCursor = 0;
+
     /**
      * Initialize the builder and add all his tasks.
      *
@@ -122,6 +122,7 @@ public class EntityAIStructureBuilder extends AbstractEntityAIStructure<JobBuild
         loadStructure(workOrder.getStructureName(), tempRotation, pos, workOrder.isMirrored());
         workOrder.setCleared(false);
         workOrder.setRequested(false);
+        materialCursor = 0;
 
         //We need to deal with materials
         requestMaterialsIfRequired();
@@ -154,6 +155,10 @@ public class EntityAIStructureBuilder extends AbstractEntityAIStructure<JobBuild
         {
             initiate();
         }
+        else
+        {
+            requestMaterialsIfRequired();
+        }
 
         return false;
     }
@@ -168,90 +173,81 @@ public class EntityAIStructureBuilder extends AbstractEntityAIStructure<JobBuild
     }
 
     /**
-     * Iterates through all the required resources and stores them in the building.
-     * Suppressing Sonar Rule Squid:S135
-     * The rule thinks we should have less continue and breaks.
-     * But in this case the rule does not apply because code would become unreadable and uneffective without.
+     * Checks the next part of the bill of materials of the structure against the world
+     * and stores the required resources in the building.
+     * Called every tick until all entries have been checked, at most maxBlocksCheckedByBuilder entries per tick.
      */
-    @SuppressWarnings(LOOPS_SHOULD_NOT_CONTAIN_MORE_THAN_A_SINGLE_BREAK_OR_CONTINUE_STATEMENT)
     private void requestMaterials()
     {
-        if (job.getWorkOrder().isRequested())
+        final StructureWrapper structure = job.getStructure();
+        if (structure == null || job.getWorkOrder() == null || job.getWorkOrder().isRequested() || !(getOwnBuilding() instanceof BuildingBuilder))
         {
             return;
         }
 
-        final AbstractBuildingWorker buildingWorker = getOwnBuilding();
-        if(buildingWorker instanceof BuildingBuilder)
+        final BuildingBuilder building = (BuildingBuilder) getOwnBuilding();
+        final StructureBuildPlan plan = structure.getBuildPlan();
+        if (materialCursor == 0)
         {
-            ((BuildingBuilder) buildingWorker).resetNeededResources();
+            building.resetNeededResources();
+            requestEntitiesToBuilding(structure, plan);
         }
 
-        while (job.getStructure().findNextBlock())
+        final StructureBillOfMaterials bill = plan.getBillOfMaterials(structure.structure(), world);
+        final BlockPos.MutableBlockPos localPos = new BlockPos.MutableBlockPos();
+        final int end = Math.min(bill.size(), materialCursor + Configurations.gameplay.maxBlocksCheckedByBuilder);
+        for (; materialCursor < end; materialCursor++)
         {
-            @Nullable final Template.BlockInfo blockInfo = job.getStructure().getBlockInfo();
-            @Nullable final Template.EntityInfo entityInfo = job.getStructure().getEntityinfo();
-
-            if (entityInfo != null)
+            final StructureBillOfMaterials.Entry entry = bill.get(materialCursor);
+            plan.setToCell(entry.cell, localPos);
+            if (structure.isStructureBlockEqualWorldBlock(localPos))
             {
-                requestEntityToBuildingIfRequired(entityInfo);
+                continue;
             }
 
-            if (blockInfo == null)
+            final BlockPos worldPos = localPos.add(structure.getOffsetPosition());
+            final Block worldBlock = BlockPosUtil.getBlock(world, worldPos);
+            if (worldBlock == Blocks.BEDROCK || worldBlock instanceof AbstractBlockHut)
             {
                 continue;
             }
 
-            @Nullable IBlockState blockState = blockInfo.blockState;
-            @Nullable Block block = blockState.getBlock();
-
-            if (job.getStructure().isStructureBlockEqualWorldBlock()
-                    || (blockState.getBlock() instanceof BlockBed && blockState.getValue(BlockBed.PART).equals(BlockBed.EnumPartType.FOOT))
-                    || (blockState.getBlock() instanceof BlockDoor && blockState.getValue(BlockDoor.HALF).equals(BlockDoor.EnumDoorHalf.UPPER)))
+            if (entry.isSolidSubstitution())
             {
+                final IBlockState substitution = getSolidSubstitution(worldPos);
+                if (substitution.getBlock() != Blocks.AIR && !isBlockFree(substitution.getBlock(), 0))
+                {
+                    building.addNeededResource(BlockUtils.getItemStackFromBlockState(substitution), 1);
+                }
                 continue;
             }
 
-            if(block instanceof BlockSolidSubstitution)
+            for (final ItemStack stack : entry.stacks)
             {
-                blockState = getSolidSubstitution(job.getStructure().getBlockPosition());
-                block = blockState.getBlock();
+                building.addNeededResource(stack, 1);
             }
+        }
 
-            final Block worldBlock = BlockPosUtil.getBlock(world, job.getStructure().getBlockPosition());
-
-            if (block != null
-                    && block != Blocks.AIR
-                    && worldBlock != Blocks.BEDROCK
-                    && !(worldBlock instanceof AbstractBlockHut)
-                    && !isBlockFree(block, 0))
-            {
-                requestBlockToBuildingIfRequired((BuildingBuilder) getOwnBuilding(), blockState);
-            }
+        if (materialCursor >= bill.size())
+        {
+            job.getWorkOrder().setRequested(true);
         }
-        job.getWorkOrder().setRequested(true);
     }
 
     /**
-     * Add blocks to the builder building if he needs it.
+     * Request the entities of the structure.
      *
-     * @param building   the building.
-     * @param blockState the block to add.
+     * @param structure the structure.
+     * @param plan      its build plan.
      */
-    private void requestBlockToBuildingIfRequired(final BuildingBuilder building, final IBlockState blockState)
+    private void requestEntitiesToBuilding(@NotNull final StructureWrapper structure, @NotNull final StructureBuildPlan plan)
     {
-        if (job.getStructure().getBlockInfo().tileentityData != null)
+        final BlockPos.MutableBlockPos localPos = new BlockPos.MutableBlockPos();
+        for (final int cell : plan.getSpawnCells())
         {
-            final List<ItemStack> itemList = new ArrayList<>();
-            itemList.addAll(getItemsFromTileEntity());
-
-            for (final ItemStack stack : itemList)
-            {
-                building.addNeededResource(stack, 1);
-            }
+            plan.setToCell(cell, localPos);
+            requestEntityToBuildingIfRequired(structure.structure().getEntityinfo(localPos));
         }
-
-        building.addNeededResource(BlockUtils.getItemStackFromBlockState(blockState), 1);
     }
 
     /**
@@ -388,39 +384,11 @@ public class EntityAIStructureBuilder extends AbstractEntityAIStructure<JobBuild
     {
         if (job.getStructure() != null && job.getStructure().getBlockInfo() != null && job.getStructure().getBlockInfo().tileentityData != null)
         {
-            return getItemStacksOfTileEntity(job.getStructure().getBlockInfo().tileentityData);
+            return StructureBillOfMaterials.getItemStacksOfTileEntity(world, job.getStructure().getBlockInfo().tileentityData);
         }
         return Collections.emptyList();
     }
 
-    /**
-     * Get itemStack of tileEntityData. Retrieve the data from the tileEntity.
-     *
-     * @param compound the tileEntity stored in a compound.
-     * @return the list of itemstacks.
-     */
-    private List<ItemStack> getItemStacksOfTileEntity(final NBTTagCompound compound)
-    {
-        final List<ItemStack> items = new ArrayList<>();
-        final TileEntity tileEntity = TileEntity.create(world, compound);
-        if (tileEntity instanceof TileEntityFlowerPot)
-        {
-            items.add(((TileEntityFlowerPot) tileEntity).getFlowerItemStack());
-        }
-        else if (tileEntity instanceof TileEntityLockable)
-        {
-            for (int i = 0; i < ((TileEntityLockable) tileEntity).getSizeInventory(); i++)
-            {
-                final ItemStack stack = ((TileEntityLockable) tileEntity).getStackInSlot(i);
-                if (stack != null)
-                {
-                    items.add(stack);
-                }
-            }
-        }
-        return items;
-    }
-
     /**
      * Check how much of a certain stuck is actually required.
      *
@@ -4,6 +4,7 @@ import com.minecolonies.api.util.constant.IToolType;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyMetrics;
 import com.minecolonies.coremod.colony.buildings.*;
 import com.minecolonies.coremod.colony.jobs.JobDeliveryman;
 import com.minecolonies.coremod.entity.EntityCitizen;
@@ -26,6 +27,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -84,16 +86,6 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
      */
     private BlockPos gatherTarget = null;
 
-    /**
-     * Amount of stacks left to gather from the inventory at the gathering step.
-     */
-    private int currentSlot = 0;
-
-    /**
-     * Amount of stacks the worker already kept in the current gathering process.
-     */
-    private List<ItemStorage> alreadyKept = new ArrayList<>();
-
     /**
      * The inventory's slot which is held in hand.
      */
@@ -156,14 +148,8 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
                 gatherTarget = null;
                 return START_WORKING;
             }
-            if (gatherFromBuilding(building) || cannotHoldMoreItems())
-            {
-                this.alreadyKept = new ArrayList<>();
-                this.currentSlot = 0;
-                return DUMPING;
-            }
-            currentSlot++;
-            return GATHERING;
+            gatherFromBuilding(building);
+            return DUMPING;
         }
         return START_WORKING;
     }
@@ -197,29 +183,22 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
 
     /**
      * Gather not needed Items from building.
+     * Takes everything the building doesn't need in one batch, until the worker can't hold more items.
      *
      * @param building building to gather it from.
-     * @return true when finished.
      */
-    private boolean gatherFromBuilding(@NotNull final AbstractBuilding building)
+    private void gatherFromBuilding(@NotNull final AbstractBuilding building)
     {
-        if (currentSlot >= building.getTileEntity().getSizeInventory())
-        {
-            return true;
-        }
-
-        final ItemStack stack = building.getTileEntity().getStackInSlot(currentSlot);
-        if (workerRequiresItem(building, stack, alreadyKept)
-                || (building instanceof BuildingHome && stack.getItem() instanceof ItemFood))
-        {
-            return false;
-        }
-
-        InventoryUtils.transferItemStackIntoNextFreeSlotInItemHandlers(building.getTileEntity().getSingleChestHandler(), currentSlot, new InvWrapper(worker.getInventoryCitizen()));
+        //Stacks the worker already kept in this gathering process.
+        final List<ItemStorage> alreadyKept = new ArrayList<>();
+        InventoryUtils.transferItemStacksIntoItemHandlers(building.getTileEntity().getSingleChestHandler(),
+          stack -> cannotHoldMoreItems()
+                     || workerRequiresItem(building, stack, alreadyKept)
+                     || (building instanceof BuildingHome && stack.getItem() instanceof ItemFood) ? 0 : ItemStackUtils.getSize(stack),
+          Collections.singletonList(new InvWrapper(worker.getInventoryCitizen())));
         building.markDirty();
         setDelay(DUMP_AND_GATHER_DELAY);
         worker.setHeldItem(SLOT_HAND);
-        return false;
     }
 
     /**
@@ -348,6 +327,7 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
 
         worker.addExperience(1.0D);
         worker.setHeldItem(SLOT_HAND);
+        deliveryHut.getColony().getMetrics().record(ColonyMetrics.Sample.DELIVERIES, 1);
         buildingToDeliver.setOnGoingDelivery(false);
         deliveryHut.setBuildingToDeliver(null);
 
@@ -1,11 +1,9 @@
 package com.minecolonies.coremod.entity.ai.citizen.farmer;
 
 import com.minecolonies.api.compatibility.Compatibility;
-import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.api.util.InventoryUtils;
-import com.minecolonies.coremod.blocks.BlockHutField;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.BuildingFarmer;
 import com.minecolonies.coremod.colony.jobs.JobFarmer;
@@ -13,10 +11,7 @@ import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
-import net.minecraft.block.Block;
 import net.minecraft.block.BlockCrops;
-import net.minecraft.block.BlockStem;
-import net.minecraft.block.IGrowable;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
@@ -28,7 +23,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import static com.minecolonies.coremod.entity.ai.util.AIState.*;
 import static com.minecolonies.api.util.constant.ToolLevelConstants.TOOL_LEVEL_WOOD_OR_GOLD;
@@ -76,13 +70,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
     @Nullable
     private BlockPos prevPos;
 
-    /**
-     * Variables used in handleOffset.
-     */
-    private int     totalDis;
-    private int     dist;
-    private boolean horizontal;
-
     /**
      * Constructor for the Farmer.
      * Defines the tasks the Farmer executes.
@@ -155,7 +142,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         @Nullable final Field currentField = building.getCurrentField();
         if (currentField.needsWork())
         {
-            if(currentField.getFieldStage() == Field.FieldStage.PLANTED && checkIfShouldExecute(currentField, this::shouldHarvest))
+            if(currentField.getFieldStage() == Field.FieldStage.PLANTED && currentField.hasCellWith(world, Field.CELL_MATURE))
             {
                 return FARMER_HARVEST;
             }
@@ -163,7 +150,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
             {
                 return canGoPlanting(currentField, building, true);
             }
-            else if (currentField.getFieldStage() == Field.FieldStage.EMPTY && checkIfShouldExecute(currentField, this::shouldHoe))
+            else if (currentField.getFieldStage() == Field.FieldStage.EMPTY && currentField.hasCellWith(world, Field.CELL_HOEABLE))
             {
                 return FARMER_HOE;
             }
@@ -224,144 +211,19 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
 
         if (checkOrRequestItemsAsynch(true, seeds))
         {
-            tryToTakeFromListOrRequest(checkField && !containsPlants(currentField), seeds);
+            tryToTakeFromListOrRequest(checkField && !currentField.hasCellWith(world, Field.CELL_PLANTED), seeds);
         }
 
         currentField.nextState();
         return PREPARING;
     }
 
-    /**
-     * Checks to see if field contains plants.
-     *
-     * @param field the field to check.
-     * @return Boolean if there were plants found.
-     */
-    private boolean containsPlants(final Field field)
-    {
-        BlockPos position;
-        IBlockState blockState;
-
-        while (handleOffset(field))
-        {
-            // Check to see if the block is a plant, and if it is, break it.
-            position = field.getLocation().down().south(workingOffset.getZ()).east(workingOffset.getX());
-            blockState = world.getBlockState(position.up());
-
-            if (blockState.getBlock() instanceof BlockCrops)
-            {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    /**
-     * Handles the offset of the field for the farmer.
-     *
-     * @param field the field object.
-     * @return true if successful.
-     */
-    private boolean handleOffset(@NotNull final Field field)
-    {
-        if (workingOffset == null)
-        {
-            workingOffset = new BlockPos(0, 0, 0);
-            totalDis = 1;
-            dist = 0;
-            horizontal = true;
-        }
-        else
-        {
-            if (workingOffset.getZ() >= field.getWidthPlusZ() && workingOffset.getX() <= -field.getLengthMinusX())
-            {
-                workingOffset = null;
-                return false;
-            }
-            else
-            {
-                if (totalDis == dist)
-                {
-                    horizontal = !horizontal;
-                    dist = 0;
-                    if (horizontal)
-                    {
-                        totalDis++;
-                    }
-                }
-                if (horizontal)
-                {
-                    workingOffset = new BlockPos(workingOffset.getX(), 0, workingOffset.getZ() - Math.pow(-1, totalDis));
-                }
-                else
-                {
-                    workingOffset = new BlockPos(workingOffset.getX() - Math.pow(-1, totalDis), 0, workingOffset.getZ());
-                }
-                dist++;
-            }
-        }
-        return true;
-    }
-
     @Override
     protected int getLevelDelay()
     {
         return (int) Math.max(SMALLEST_DELAY, STANDARD_DELAY - (this.worker.getLevel() * DELAY_DIVIDER));
     }
 
-    /**
-     * Handles the offset of the field for the farmer.
-     * Checks if the field needs a certain operation checked with a given predicate.
-     *
-     * @param field the field object.
-     * @param predicate the predicate to test.
-     * @return true if a harvestable crop was found.
-     */
-    private boolean checkIfShouldExecute(@NotNull final Field field, @NotNull final Predicate<BlockPos> predicate)
-    {
-        if (workingOffset == null)
-        {
-            handleOffset(field);
-        }
-
-        BlockPos position = field.getLocation().down().south(workingOffset.getZ()).east(workingOffset.getX());
-
-        while (!predicate.test(position))
-        {
-            if (!handleOffset(field))
-            {
-                return false;
-            }
-            position = field.getLocation().down().south(workingOffset.getZ()).east(workingOffset.getX());
-        }
-        return true;
-    }
-
-    /**
-     * Checks if the crop should be harvested.
-     *
-     * @param position the position to check.
-     * @return true if should be harvested.
-     */
-    private boolean shouldHarvest(@NotNull final BlockPos position)
-    {
-        final IBlockState state = world.getBlockState(position.up());
-        final Block block = state.getBlock();
-
-        if(block == Blocks.PUMPKIN || block == Blocks.MELON_BLOCK)
-        {
-            return true;
-        }
-
-        if (block instanceof IGrowable && block instanceof BlockCrops && !(block instanceof BlockStem))
-        {
-            @NotNull final BlockCrops crop = (BlockCrops) block;
-            return crop.isMaxAge(state);
-        }
-
-        return false;
-    }
-
     /**
      * This (re)initializes a field.
      * Checks the block above to see if it is a plant, if so, breaks it. Then tills.
@@ -375,6 +237,18 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
             return PREPARING;
         }
         @Nullable final Field field = buildingFarmer.getCurrentField();
+        final int cellFlag = getCellFlag(getState());
+        if (cellFlag == 0)
+        {
+            return PREPARING;
+        }
+
+        //Only cells which need the work of the current state are visited.
+        if (workingOffset == null)
+        {
+            workingOffset = field.getNextCellWith(world, cellFlag, null);
+        }
+
         if (workingOffset != null)
         {
             final BlockPos position = field.getLocation().down().south(workingOffset.getZ()).east(workingOffset.getX());
@@ -387,7 +261,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
             switch (getState())
             {
                 case FARMER_HOE:
-                    if(!hoeIfAble(position))
+                    if(!hoeIfAble(field, position))
                     {
                         return getState();
                     }
@@ -399,7 +273,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
                     }
                     break;
                 case FARMER_HARVEST:
-                    if(!harvestIfAble(position))
+                    if(!harvestIfAble(field, position))
                     {
                         return getState();
                     }
@@ -407,11 +281,13 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
                 default:
                     return PREPARING;
             }
+            field.refreshCell(world, position);
             prevPos = position;
+            setDelay(getLevelDelay());
+            workingOffset = field.getNextCellWith(world, cellFlag, workingOffset);
         }
-        setDelay(getLevelDelay());
 
-        if (!handleOffset(field))
+        if (workingOffset == null)
         {
             shouldDumpInventory = true;
             field.nextState();
@@ -422,6 +298,27 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         return getState();
     }
 
+    /**
+     * Get the cell flag of the cells which need work in a state.
+     *
+     * @param state the state of the farmer.
+     * @return the Field.CELL_ flag or 0 if the state doesn't work at the field.
+     */
+    private static int getCellFlag(@NotNull final AIState state)
+    {
+        switch (state)
+        {
+            case FARMER_HOE:
+                return Field.CELL_HOEABLE;
+            case FARMER_PLANT:
+                return Field.CELL_PLANTABLE;
+            case FARMER_HARVEST:
+                return Field.CELL_MATURE;
+            default:
+                return 0;
+        }
+    }
+
     /**
      * Try to plant the field at a certain position.
      * @param field the field to try to plant.
@@ -430,17 +327,19 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private boolean tryToPlant(final Field field, final BlockPos position)
     {
-        return !shouldPlant(position, field) || plantCrop(field.getSeed(), position);
+        return (field.refreshCell(world, position) & Field.CELL_PLANTABLE) == 0 || plantCrop(field.getSeed(), position);
     }
 
     /**
      * Checks if we can harvest, and does so if we can.
      *
+     * @param field    the field that we are working with.
+     * @param position the position to check.
      * @return true if we harvested or not supposed to.
      */
-    private boolean harvestIfAble(final BlockPos position)
+    private boolean harvestIfAble(@NotNull final Field field, final BlockPos position)
     {
-        if (shouldHarvest(position))
+        if ((field.refreshCell(world, position) & Field.CELL_MATURE) != 0)
         {
             worker.addExperience(XP_PER_HARVEST);
             if(Compatibility.isPamsInstalled())
@@ -481,13 +380,13 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
     /**
      * Checks if we can hoe, and does so if we can.
      *
-     * @param position the position to check.
      * @param field    the field that we are working with.
+     * @param position the position to check.
      * @return true if the farmer should move on.
      */
-    private boolean hoeIfAble(final BlockPos position)
+    private boolean hoeIfAble(@NotNull final Field field, final BlockPos position)
     {
-        if (shouldHoe(position) && !checkForToolOrWeapon(ToolType.HOE))
+        if ((field.refreshCell(world, position) & Field.CELL_HOEABLE) != 0 && !checkForToolOrWeapon(ToolType.HOE))
         {
             if(mineBlock(position.up()))
             {
@@ -502,20 +401,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         return true;
     }
 
-    /**
-     * Checks if the ground should be planted.
-     *
-     * @param position the position to check.
-     * @param field    the field close to this position.
-     * @return true if the farmer should plant.
-     */
-    private boolean shouldPlant(@NotNull final BlockPos position, @NotNull final Field field)
-    {
-        return !field.isNoPartOfField(world, position) && !(world.getBlockState(position.up()).getBlock() instanceof BlockCrops)
-                && !(world.getBlockState(position.up()).getBlock() instanceof BlockStem)
-                && !(world.getBlockState(position).getBlock() instanceof BlockHutField) && world.getBlockState(position).getBlock() == Blocks.FARMLAND;
-    }
-
     /**
      * Plants the crop at a given location.
      *
@@ -542,20 +427,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         return true;
     }
 
-    /**
-     * Checks if the ground should be hoed and the block above removed.
-     *
-     * @param position the position to check.
-     * @param field    the field close to this position.
-     * @return true if should be hoed.
-     */
-    private boolean shouldHoe(@NotNull final BlockPos position)
-    {
-        return !BlockUtils.isBlockSeed(world, position.up())
-                && !(world.getBlockState(position.up()).getBlock() instanceof BlockHutField)
-                && (world.getBlockState(position).getBlock() == Blocks.DIRT || world.getBlockState(position).getBlock() == Blocks.GRASS);
-    }
-
     /**
      * Sets the hoe as held item.
      */
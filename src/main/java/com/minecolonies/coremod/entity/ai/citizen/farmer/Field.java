@@ -2,13 +2,21 @@ package com.minecolonies.coremod.entity.ai.citizen.farmer;
 
 import com.minecolonies.api.colony.permissions.Action;
 import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.coremod.blocks.BlockHutField;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.inventory.InventoryField;
 import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockCrops;
+import net.minecraft.block.BlockStem;
+import net.minecraft.block.IGrowable;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.init.Blocks;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.Container;
 import net.minecraft.inventory.Slot;
@@ -132,6 +140,31 @@ public class Field extends Container
      */
     private static final int MAX_RANGE = 5;
 
+    /**
+     * Cell state flag: the ground is farmland.
+     */
+    public static final int CELL_TILLED = 0x01;
+
+    /**
+     * Cell state flag: a crop or stem is planted on the cell.
+     */
+    public static final int CELL_PLANTED = 0x02;
+
+    /**
+     * Cell state flag: the cell holds something to harvest.
+     */
+    public static final int CELL_MATURE = 0x04;
+
+    /**
+     * Cell state flag: the ground can be hoed.
+     */
+    public static final int CELL_HOEABLE = 0x08;
+
+    /**
+     * Cell state flag: the cell is tilled, part of the field and can be planted.
+     */
+    public static final int CELL_PLANTABLE = 0x10;
+
     /**
      * The colony of the field.
      */
@@ -183,6 +216,13 @@ public class Field extends Container
      */
     private InventoryField inventory;
 
+    /**
+     * State of every cell of the field, indexed by row (x) and column (z), null until first used.
+     * Kept up to date from block changes, see {@link #onBlockChanged(World, BlockPos)}.
+     */
+    @Nullable
+    private byte[] cells;
+
     /**
      * Name of the citizen claiming the field.
      */
@@ -352,6 +392,7 @@ public class Field extends Container
         this.lengthMinusX = searchNextBlock(0, position.west(), EnumFacing.WEST, world);
         this.widthPlusZ = searchNextBlock(0, position.south(), EnumFacing.SOUTH, world);
         this.widthMinusZ = searchNextBlock(0, position.north(), EnumFacing.NORTH, world);
+        this.cells = null;
     }
 
     /**
@@ -384,6 +425,175 @@ public class Field extends Container
         return world.isAirBlock(position) || world.getBlockState(position.up()).getMaterial().isSolid();
     }
 
+    /**
+     * Called when a block in the world changed, updates the cell it belongs to.
+     *
+     * @param world the world the block is in.
+     * @param pos   the position of the block.
+     */
+    public void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        //Changes to the ground and to the crops on top of it affect the cell.
+        if (cells != null && (pos.getY() == location.getY() || pos.getY() == location.getY() - 1) && getCellIndex(pos) >= 0)
+        {
+            refreshCell(world, new BlockPos(pos.getX(), location.getY() - 1, pos.getZ()));
+        }
+    }
+
+    /**
+     * Read the state of a cell from the world and store it.
+     *
+     * @param world  the world the field is in.
+     * @param ground the position of the ground of the cell.
+     * @return the state of the cell, a combination of the CELL_ flags.
+     */
+    public int refreshCell(@NotNull final World world, @NotNull final BlockPos ground)
+    {
+        final int state = computeCellState(world, ground);
+        final int index = getCellIndex(ground);
+        if (cells != null && index >= 0)
+        {
+            cells[index] = (byte) state;
+        }
+        return state;
+    }
+
+    /**
+     * Checks if any cell of the field has a flag set.
+     *
+     * @param world the world the field is in.
+     * @param flag  the CELL_ flag.
+     * @return true if so.
+     */
+    public boolean hasCellWith(@NotNull final World world, final int flag)
+    {
+        for (final byte cell : getCells(world))
+        {
+            if ((cell & flag) != 0)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Find the next cell with a flag set.
+     * Cells are visited row by row, going back and forth along the rows.
+     *
+     * @param world          the world the field is in.
+     * @param flag           the CELL_ flag.
+     * @param previousOffset the offset of the previous cell to continue after, null to start at the beginning.
+     * @return the offset of the cell relative to the scarecrow or null if there is none.
+     */
+    @Nullable
+    public BlockPos getNextCellWith(@NotNull final World world, final int flag, @Nullable final BlockPos previousOffset)
+    {
+        final byte[] fieldCells = getCells(world);
+        final int depth = widthMinusZ + widthPlusZ + 1;
+        int order = 0;
+        if (previousOffset != null)
+        {
+            final int row = previousOffset.getX() + lengthMinusX;
+            final int column = previousOffset.getZ() + widthMinusZ;
+            order = row * depth + (row % 2 == 0 ? column : depth - 1 - column) + 1;
+        }
+
+        for (; order < fieldCells.length; order++)
+        {
+            final int row = order / depth;
+            final int column = row % 2 == 0 ? order % depth : depth - 1 - order % depth;
+            if ((fieldCells[row * depth + column] & flag) != 0)
+            {
+                return new BlockPos(row - lengthMinusX, 0, column - widthMinusZ);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the cell states, reading them from the world on first use.
+     *
+     * @param world the world the field is in.
+     * @return the cell states.
+     */
+    @NotNull
+    private byte[] getCells(@NotNull final World world)
+    {
+        if (cells == null)
+        {
+            final int depth = widthMinusZ + widthPlusZ + 1;
+            cells = new byte[(lengthMinusX + lengthPlusX + 1) * depth];
+            for (int index = 0; index < cells.length; index++)
+            {
+                final BlockPos ground = location.down().east(index / depth - lengthMinusX).south(index % depth - widthMinusZ);
+                cells[index] = (byte) computeCellState(world, ground);
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Get the index of the cell a position is in, ignoring the height.
+     *
+     * @param pos the position.
+     * @return the index or -1 if the position is outside of the field.
+     */
+    private int getCellIndex(@NotNull final BlockPos pos)
+    {
+        final int row = pos.getX() - location.getX() + lengthMinusX;
+        final int column = pos.getZ() - location.getZ() + widthMinusZ;
+        final int depth = widthMinusZ + widthPlusZ + 1;
+        if (row < 0 || row > lengthMinusX + lengthPlusX || column < 0 || column >= depth)
+        {
+            return -1;
+        }
+        return row * depth + column;
+    }
+
+    /**
+     * Read the state of a cell from the world.
+     *
+     * @param world  the world the field is in.
+     * @param ground the position of the ground of the cell.
+     * @return the state of the cell, a combination of the CELL_ flags.
+     */
+    private int computeCellState(@NotNull final World world, @NotNull final BlockPos ground)
+    {
+        final Block groundBlock = world.getBlockState(ground).getBlock();
+        final IBlockState cropState = world.getBlockState(ground.up());
+        final Block cropBlock = cropState.getBlock();
+
+        int state = 0;
+        if (groundBlock == Blocks.FARMLAND)
+        {
+            state |= CELL_TILLED;
+        }
+
+        if (cropBlock instanceof BlockCrops || cropBlock instanceof BlockStem)
+        {
+            state |= CELL_PLANTED;
+        }
+
+        if (cropBlock == Blocks.PUMPKIN || cropBlock == Blocks.MELON_BLOCK
+              || (cropBlock instanceof IGrowable && cropBlock instanceof BlockCrops && ((BlockCrops) cropBlock).isMaxAge(cropState)))
+        {
+            state |= CELL_MATURE;
+        }
+
+        if (!BlockUtils.isBlockSeed(world, ground.up()) && !(cropBlock instanceof BlockHutField) && (groundBlock == Blocks.DIRT || groundBlock == Blocks.GRASS))
+        {
+            state |= CELL_HOEABLE;
+        }
+
+        if ((state & (CELL_TILLED | CELL_PLANTED)) == CELL_TILLED && !isNoPartOfField(world, ground))
+        {
+            state |= CELL_PLANTABLE;
+        }
+
+        return state;
+    }
+
     /**
      * Returns the {@link BlockPos} of the current object, also used as ID.
      *
@@ -432,6 +642,10 @@ public class Field extends Container
     public void setTaken(final boolean taken)
     {
         this.taken = taken;
+        if (colony != null)
+        {
+            colony.onFieldChanged(this);
+        }
     }
 
     public void nextState()
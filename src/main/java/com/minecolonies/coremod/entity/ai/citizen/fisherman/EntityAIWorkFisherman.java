@@ -3,6 +3,8 @@ package com.minecolonies.coremod.entity.ai.citizen.fisherman;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.api.util.Utils;
+import com.minecolonies.coremod.colony.ColonyStatistic;
+import com.minecolonies.coremod.colony.ColonyWaterIndex;
 import com.minecolonies.coremod.colony.buildings.BuildingFisherman;
 import com.minecolonies.coremod.colony.jobs.JobFisherman;
 import com.minecolonies.coremod.entity.EntityCitizen;
@@ -10,7 +12,7 @@ import com.minecolonies.coremod.entity.EntityFishHook;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAISkill;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
-import com.minecolonies.coremod.entity.pathfinding.PathJobFindWater;
+import com.minecolonies.coremod.entity.pathfinding.PathResult;
 import com.minecolonies.coremod.sounds.FishermanSounds;
 import com.minecolonies.coremod.util.SoundUtils;
 import net.minecraft.entity.player.EntityPlayer;
@@ -21,10 +23,13 @@ import net.minecraft.item.ItemFishingRod;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import static com.minecolonies.coremod.entity.ai.util.AIState.*;
@@ -94,6 +99,16 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
      */
     private static final int SEARCH_RANGE = 50;
 
+    /**
+     * The minimum square distance of a new pond to the already known ponds.
+     */
+    private static final double MIN_DISTANCE_TO_KNOWN_PONDS = 40;
+
+    /**
+     * Ticks to wait while the colony hasn't finished indexing its water.
+     */
+    private static final int WAIT_FOR_WATER_INDEX = 100;
+
     /**
      * The percentage of times where the fisherman will check out a new pond.
      */
@@ -124,16 +139,6 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
      * The number of executed adjusts of the fisherman's rotation.
      */
     private              int    executedRotations    = 0;
-    /**
-     * The PathResult when the fisherman searches water.
-     */
-    @Nullable
-    private PathJobFindWater.WaterPathResult pathResult;
-    /**
-     * The Previous PathResult when the fisherman already found water.
-     */
-    @Nullable
-    private PathJobFindWater.WaterPathResult lastPathResult;
     /**
      * The fishingSkill which directly influences the fisherman's chance to throw his rod.
      * May in the future also influence his luck/charisma.
@@ -144,6 +149,21 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
      */
     @Nullable
     private EntityFishHook entityFishHook;
+    /**
+     * The fishing spot the fisherman searches a path to, before it becomes one of his ponds.
+     */
+    @Nullable
+    private BlockPos pondToCheck;
+    /**
+     * The PathResult of the path to the fishing spot to check.
+     */
+    @Nullable
+    private PathResult pathResult;
+    /**
+     * Fishing spots the fisherman couldn't find a path to.
+     */
+    @NotNull
+    private final List<BlockPos> unreachablePonds = new ArrayList<>();
 
     /**
      * Constructor for the Fisherman.
@@ -355,60 +375,100 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
 
     /**
      * If the fisherman can't find 20 ponds or already has found 20, the fisherman should randomly choose a fishing spot
-     * from the previously found ones.
+     * from the previously found ones, spots in larger bodies of water are chosen more often.
+     * Spots which are no longer part of a body of water are forgotten.
      *
      * @return the next AIState.
      */
     private AIState setRandomWater()
     {
-        if (job.getPonds().isEmpty())
+        final ColonyWaterIndex waterIndex = getOwnBuilding().getColony().getWaterIndex();
+        final List<BlockPos> ponds = new ArrayList<>();
+        final List<Integer> sizes = new ArrayList<>();
+        int totalSize = 0;
+        for (final BlockPos pond : new ArrayList<>(job.getPonds()))
         {
-            if (lastPathResult != null && lastPathResult.isEmpty && !lastPathResult.isCancelled())
+            final int size = waterIndex.isReady() ? waterIndex.getRegionSize(world, pond) : 1;
+            if (size == 0)
             {
-                chatSpamFilter.talkWithoutSpam("entity.fisherman.messageWaterTooFar");
+                job.removeFromPonds(pond);
+                continue;
             }
-            pathResult = worker.getNavigator().moveToWater(SEARCH_RANGE, 1.0D, job.getPonds());
+            ponds.add(pond);
+            sizes.add(size);
+            totalSize += size;
+        }
+
+        if (ponds.isEmpty())
+        {
+            chatSpamFilter.talkWithoutSpam("entity.fisherman.messageWaterTooFar");
+            setDelay(WAIT_FOR_WATER_INDEX);
             return getState();
         }
-        job.setWater(job.getPonds().get(random.nextInt(job.getPonds().size())));
+
+        int pick = random.nextInt(totalSize);
+        int i = 0;
+        while (pick >= sizes.get(i))
+        {
+            pick -= sizes.get(i);
+            i++;
+        }
+        job.setWater(ponds.get(i));
 
         return FISHERMAN_CHECK_WATER;
     }
 
     /**
-     * Uses the pathFinding system to search close water spots which possibilitate fishing.
+     * Asks the water index of the colony for the closest fishing spot which hasn't been visited yet
+     * and checks that the fisherman can walk there before he remembers it.
      * Sets a number of possible water pools and sets the water pool the fisherman should fish now.
      *
      * @return the next AIState the fisherman should switch to, after executing this method
      */
     private AIState findNewWater()
     {
+        final ColonyWaterIndex waterIndex = getOwnBuilding().getColony().getWaterIndex();
+        if (!waterIndex.isReady())
+        {
+            setDelay(WAIT_FOR_WATER_INDEX);
+            return getState();
+        }
+
         if (pathResult == null)
         {
-            pathResult = worker.getNavigator().moveToWater(SEARCH_RANGE, 1.0D, job.getPonds());
+            final List<BlockPos> excluded = new ArrayList<>(job.getPonds());
+            excluded.addAll(unreachablePonds);
+            pondToCheck = waterIndex.getClosestFishingSpot(world, getOwnBuilding().getLocation(), SEARCH_RANGE, excluded, MIN_DISTANCE_TO_KNOWN_PONDS);
+            if (pondToCheck == null)
+            {
+                return setRandomWater();
+            }
+            pathResult = worker.getNavigator().moveToXYZ(pondToCheck.getX(), pondToCheck.getY(), pondToCheck.getZ(), 1.0D);
             return getState();
         }
-        if (pathResult.failedToReachDestination())
+
+        if (pathResult.isComputing())
         {
-            return setRandomWater();
+            return getState();
         }
-        if (pathResult.getPathReachesDestination())
+
+        final BlockPos pond = pondToCheck;
+        final boolean reachable = pathResult.getPathReachesDestination();
+        pathResult = null;
+        pondToCheck = null;
+        if (pond == null)
         {
-            if (pathResult.pond != null)
-            {
-                job.setWater(pathResult.pond);
-                job.addToPonds(pathResult.pond);
-            }
-            lastPathResult = pathResult;
-            pathResult = null;
-            return FISHERMAN_CHECK_WATER;
+            return getState();
         }
-        if (pathResult.isCancelled())
+        if (!reachable)
         {
-            pathResult = null;
-            return PREPARING;
+            unreachablePonds.add(pond);
+            return getState();
         }
-        return getState();
+
+        job.setWater(pond);
+        job.addToPonds(pond);
+        return FISHERMAN_CHECK_WATER;
     }
 
     /**
@@ -429,7 +489,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
         }
         if (caughtFish())
         {
-            this.getOwnBuilding().getColony().incrementStatistic("fish");
+            this.getOwnBuilding().getColony().incrementStatistic(ColonyStatistic.FISH);
             playCaughtFishSound();
             if (random.nextDouble() < CHANCE_NEW_POND)
             {
@@ -4,29 +4,26 @@ import com.minecolonies.api.colony.permissions.Action;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.*;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyStatistic;
+import com.minecolonies.coremod.colony.ColonyThreatIndex;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
 import com.minecolonies.coremod.colony.buildings.BuildingGuardTower;
 import com.minecolonies.coremod.colony.jobs.JobGuard;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
-import com.minecolonies.coremod.entity.ai.mobs.util.BarbarianUtils;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
 import com.minecolonies.coremod.tileentities.TileEntityColonyBuilding;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
-import net.minecraft.entity.monster.EntityMob;
-import net.minecraft.entity.monster.EntitySlime;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.EntityEquipmentSlot;
 import net.minecraft.item.ItemArmor;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collection;
 import java.util.List;
 
 import static com.minecolonies.coremod.entity.ai.util.AIState.*;
@@ -64,6 +61,10 @@ public abstract class AbstractEntityAIGuard extends AbstractEntityAIInteract<Job
      * Y range in which the guard detects other entities.
      */
     private static final   double HEIGHT_DETECTION_RANGE           = 10D;
+    /**
+     * Y range in which the guard detects barbarians.
+     */
+    private static final   double BARBARIAN_HEIGHT_DETECTION_RANGE = 3D;
     /**
      * Path that close to the patrol target.
      */
@@ -97,6 +98,10 @@ public abstract class AbstractEntityAIGuard extends AbstractEntityAIInteract<Job
      * Current goTo task.
      */
     private BlockPos     currentPathTarget;
+    /**
+     * Step of the guard on the patrol route of his tower, -1 until he starts patrolling.
+     */
+    private int patrolStep = -1;
     /**
      * Containing all close entities.
      */
@@ -309,14 +314,19 @@ public abstract class AbstractEntityAIGuard extends AbstractEntityAIInteract<Job
             return AIState.GUARD_HUNT_DOWN_TARGET;
         }
 
+        final Colony colony = worker.getColony();
+        if (colony == null)
+        {
+            return AIState.GUARD_PATROL;
+        }
+
+        final ColonyThreatIndex threatIndex = colony.getThreatIndex();
         if (targetEntity == null)
         {
-            targetEntity = BarbarianUtils.getClosestBarbarianToEntity(this.worker, currentSearchDistance);
+            targetEntity = threatIndex.getClosestBarbarian(this.worker, currentSearchDistance, BARBARIAN_HEIGHT_DETECTION_RANGE);
         }
 
-        entityList = CompatibilityUtils.getWorld(worker).getEntitiesWithinAABB(EntityMob.class, this.getTargetableArea(currentSearchDistance));
-        entityList.addAll(CompatibilityUtils.getWorld(worker).getEntitiesWithinAABB(EntitySlime.class, this.getTargetableArea(currentSearchDistance)));
-        entityList.addAll(CompatibilityUtils.getWorld(worker).getEntitiesWithinAABB(EntityPlayer.class, this.getTargetableArea(currentSearchDistance)));
+        entityList = threatIndex.getThreatsCloseTo(this.worker, currentSearchDistance, HEIGHT_DETECTION_RANGE);
 
         if (targetEntity != null && targetEntity.isEntityAlive() && worker.getEntitySenses().canSee(targetEntity))
         {
@@ -341,11 +351,6 @@ public abstract class AbstractEntityAIGuard extends AbstractEntityAIInteract<Job
         return AIState.GUARD_GET_TARGET;
     }
 
-    private AxisAlignedBB getTargetableArea(final double range)
-    {
-        return this.worker.getEntityBoundingBox().expand(range, HEIGHT_DETECTION_RANGE, range);
-    }
-
     /**
      * Getter for the vision or attack distance.
      *
@@ -445,35 +450,33 @@ public abstract class AbstractEntityAIGuard extends AbstractEntityAIInteract<Job
             currentPathTarget = pos;
             return AIState.GUARD_SEARCH_TARGET;
         }
-        currentPathTarget = getRandomBuilding();
+        currentPathTarget = getNextRouteTarget(building);
         return AIState.GUARD_SEARCH_TARGET;
     }
 
     /**
-     * Gets a random building from his colony.
+     * Gets the next stop of the patrol route of his tower.
+     * Guards start at different stops of the route, depending on their citizen id.
      *
-     * @return a random blockPos.
+     * @param building his building.
+     * @return the position to go to.
      */
-    private BlockPos getRandomBuilding()
+    private BlockPos getNextRouteTarget(@NotNull final BuildingGuardTower building)
     {
-        if (worker.getColony() == null || getOwnBuilding() == null)
+        if (worker.getColony() == null)
         {
             return worker.getPosition();
         }
 
-        final Collection<AbstractBuilding> buildingList = worker.getColony().getBuildings().values();
-        final Object[] buildingArray = buildingList.toArray();
-
-        final int random = worker.getRandom().nextInt(buildingArray.length);
-        final AbstractBuilding building = (AbstractBuilding) buildingArray[random];
-
-        if (building instanceof BuildingGuardTower
-              || BlockPosUtil.getDistance2D(building.getLocation(), this.getOwnBuilding().getLocation()) > ((BuildingGuardTower) getOwnBuilding()).getPatrolDistance())
+        if (patrolStep < 0)
         {
-            return this.getOwnBuilding().getLocation();
+            patrolStep = worker.getCitizenData() == null ? 0 : worker.getCitizenData().getId();
         }
-
-        return building.getLocation();
+        else
+        {
+            patrolStep++;
+        }
+        return building.getPatrolRouteTarget(patrolStep);
     }
 
     /**
@@ -502,7 +505,7 @@ public abstract class AbstractEntityAIGuard extends AbstractEntityAIInteract<Job
     protected void onKilledEntity(final EntityLivingBase killedEntity)
     {
         final Colony colony = this.getOwnBuilding().getColony();
-        colony.incrementStatistic("mobs");
+        colony.incrementStatistic(ColonyStatistic.MOBS);
         incrementActionsDone();
         worker.getNavigator().clearPathEntity();
     }
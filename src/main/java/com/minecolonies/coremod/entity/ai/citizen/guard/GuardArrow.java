@@ -4,6 +4,7 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.achievements.ModAchievements;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.ColonyStatistic;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
@@ -71,7 +72,7 @@ public class GuardArrow extends EntityTippedArrow
                     this.colony.triggerAchievement(ModAchievements.achievementPlayerDeathGuard);
                 }
             }
-            colony.incrementStatistic("mobs");
+            colony.incrementStatistic(ColonyStatistic.MOBS);
         }
     }
 
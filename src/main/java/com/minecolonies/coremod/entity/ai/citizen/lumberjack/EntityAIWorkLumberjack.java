@@ -3,6 +3,8 @@ package com.minecolonies.coremod.entity.ai.citizen.lumberjack;
 import com.minecolonies.api.compatibility.Compatibility;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.api.util.*;
+import com.minecolonies.coremod.colony.ColonyStatistic;
+import com.minecolonies.coremod.colony.ColonyTreeIndex;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.BuildingLumberjack;
 import com.minecolonies.coremod.colony.jobs.JobLumberjack;
@@ -129,6 +131,10 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
      * Return to chest after half a stack.
      */
     private static final int   MAX_BLOCKS_MINED        = 32;
+    /**
+     * Blocks the lumberjack can be placed in when he is standing on a sapling.
+     */
+    private static final BlockSet SPAWN_SPACE = BlockSet.of(Blocks.AIR, Blocks.SNOW_LAYER, Blocks.TALLGRASS, Blocks.RED_FLOWER, Blocks.YELLOW_FLOWER);
     /**
      * The time in ticks the lumberjack has waited already.
      * Directly connected with the MAX_WAITING_TIME.
@@ -240,6 +246,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
 
     /**
      * Search for a tree.
+     * Trees known to the colony are used first, only if there are none in range the lumberjack searches by pathfinding.
      *
      * @return LUMBERJACK_GATHERING if job was canceled.
      */
@@ -249,6 +256,19 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
 
         if (pathResult == null || pathResult.treeLocation == null)
         {
+            final ColonyTreeIndex treeIndex = building.getColony().getTreeIndex();
+            final BlockPos knownTree
+                    = treeIndex.getClosestTree(world, building.getLocation(), SEARCH_RANGE + searchIncrement, ((BuildingLumberjack) building).getTreesToCut());
+            if (knownTree != null)
+            {
+                //Claim the tree so no other lumberjack picks it, the saplings get registered again once planted.
+                treeIndex.removeTree(knownTree);
+                pathResult = null;
+                job.tree = new Tree(world, knownTree);
+                job.tree.findLogs(world);
+                return getState();
+            }
+
             pathResult = worker.getNavigator().moveToTree(SEARCH_RANGE + searchIncrement, 1.0D, ((BuildingLumberjack) building).getTreesToCut());
             return getState();
         }
@@ -363,7 +383,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
                 return getState();
             }
             plantSapling();
-            this.getOwnBuilding().getColony().incrementStatistic("trees");
+            this.getOwnBuilding().getColony().incrementStatistic(ColonyStatistic.TREES);
             workFrom = null;
             return LUMBERJACK_GATHERING;
         }
@@ -371,13 +391,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
         if (isOnSapling())
         {
             @Nullable final BlockPos spawnPoint =
-                    Utils.scanForBlockNearPoint
-                            (world, workFrom, 1, 1, 1, 3,
-                                    Blocks.AIR,
-                                    Blocks.SNOW_LAYER,
-                                    Blocks.TALLGRASS,
-                                    Blocks.RED_FLOWER,
-                                    Blocks.YELLOW_FLOWER);
+                    BlockScanner.findClosestColumn(world, workFrom, 1, 1, 1, 3, SPAWN_SPACE);
             WorkerUtil.setSpawnPoint(spawnPoint, worker);
         }
 
@@ -510,7 +524,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
                     soundType.getVolume(),
                     soundType.getPitch());
             worker.swingArm(worker.getActiveHand());
-            this.getOwnBuilding().getColony().incrementStatistic("saplings");
+            this.getOwnBuilding().getColony().incrementStatistic(ColonyStatistic.SAPLINGS);
         }
 
         if (job.tree.getStumpLocations().isEmpty() || timeWaited >= MAX_WAITING_TIME)
@@ -580,6 +594,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
 
                 new InvWrapper(getInventory()).extractItem(saplingSlot, 1, false);
                 job.tree.removeStump(pos);
+                getOwnBuilding().getColony().getTreeIndex().addTree(pos);
             }
             else
             {
@@ -18,10 +18,7 @@ import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -204,7 +201,7 @@ public class Tree
             return false;
         }
 
-        final Tuple<BlockPos, BlockPos> baseAndTOp = getBottomAndTopLog(world, pos, new LinkedList<>(), null, null);
+        final Tuple<BlockPos, BlockPos> baseAndTOp = getBottomAndTopLog(world, pos);
 
         //Get base log, should already be base log.
         final BlockPos basePos = baseAndTOp.getFirst();
@@ -216,56 +213,79 @@ public class Tree
     }
 
     /**
-     * Adds a log and searches for further logs(Breadth first search).
+     * Walks along connected logs to find the lowest and highest log of a tree.
+     * From every log the walk continues with the first neighbouring log which hasn't been visited yet.
      *
      * @param world The world the log is in.
-     * @param log   the log to add.
+     * @param log   the log to start from.
      * @return a tuple containing, first: bottom log and second: top log.
      */
     @NotNull
-    private static Tuple<BlockPos, BlockPos> getBottomAndTopLog(
-            @NotNull final IBlockAccess world,
-            @NotNull final BlockPos log,
-            @NotNull final LinkedList<BlockPos> woodenBlocks,
-            final BlockPos bottomLog,
-            final BlockPos topLog)
+    private static Tuple<BlockPos, BlockPos> getBottomAndTopLog(@NotNull final IBlockAccess world, @NotNull final BlockPos log)
     {
-        BlockPos bottom = bottomLog == null ? log : bottomLog;
-        BlockPos top = topLog == null ? log : topLog;
-
-        if (woodenBlocks.size() >= MAX_TREE_SIZE)
+        final Set<Long> visited = new HashSet<>();
+        BlockPos bottom = log;
+        BlockPos top = log;
+        BlockPos current = log;
+        while (current != null && visited.size() < MAX_TREE_SIZE)
         {
-            return new Tuple<>(bottom, top);
-        }
+            if (current.getY() < bottom.getY())
+            {
+                bottom = current;
+            }
 
-        if (log.getY() < bottom.getY())
-        {
-            bottom = log;
-        }
+            if (current.getY() > top.getY())
+            {
+                top = current;
+            }
 
-        if (log.getY() > top.getY())
-        {
-            top = log;
+            visited.add(current.toLong());
+            current = findUnvisitedLog(world, current, visited);
         }
 
-        woodenBlocks.add(log);
+        return new Tuple<>(bottom, top);
+    }
+
+    /**
+     * Find the first log around a position which hasn't been visited yet.
+     *
+     * @param world   The world the log is in.
+     * @param log     the position to look around.
+     * @param visited the visited positions as packed longs.
+     * @return the position of the log or null if there is none.
+     */
+    @Nullable
+    private static BlockPos findUnvisitedLog(@NotNull final IBlockAccess world, @NotNull final BlockPos log, @NotNull final Set<Long> visited)
+    {
+        final BlockPos.MutableBlockPos temp = new BlockPos.MutableBlockPos();
         for (int y = -1; y <= 1; y++)
         {
             for (int x = -1; x <= 1; x++)
             {
                 for (int z = -1; z <= 1; z++)
                 {
-                    final BlockPos temp = log.add(x, y, z);
-                    final Block block = world.getBlockState(temp).getBlock();
-                    if ((block.isWood(null, temp) || Compatibility.isSlimeBlock(block)) && !woodenBlocks.contains(temp))
+                    temp.setPos(log.getX() + x, log.getY() + y, log.getZ() + z);
+                    if (!visited.contains(temp.toLong()) && isLog(world, temp))
                     {
-                        return getBottomAndTopLog(world, temp, woodenBlocks, bottom, top);
+                        return temp.toImmutable();
                     }
                 }
             }
         }
+        return null;
+    }
 
-        return new Tuple<>(bottom, top);
+    /**
+     * Checks if a block is a log or a slime log.
+     *
+     * @param world the world the block is in.
+     * @param pos   the position of the block.
+     * @return true if so.
+     */
+    private static boolean isLog(@NotNull final IBlockAccess world, @NotNull final BlockPos pos)
+    {
+        final Block block = world.getBlockState(pos).getBlock();
+        return block.isWood(world, pos) || Compatibility.isSlimeBlock(block);
     }
 
     /**
@@ -438,39 +458,51 @@ public class Tree
 
     /**
      * Adds a log and searches for further logs(Breadth first search).
+     * Positions are tracked as packed longs, logs already in the tree aren't visited again.
      *
      * @param world The world the log is in.
      * @param log   the log to add.
      */
     private void addAndSearch(@NotNull final World world, @NotNull final BlockPos log)
     {
-        if (woodBlocks.size() >= MAX_TREE_SIZE)
+        final Set<Long> visited = new HashSet<>();
+        for (final BlockPos pos : woodBlocks)
         {
-            return;
+            visited.add(pos.toLong());
         }
 
-        if (log.getY() < location.getY())
+        final Deque<BlockPos> open = new ArrayDeque<>();
+        if (visited.add(log.toLong()))
         {
-            location = log;
+            open.add(log);
         }
 
-        if (log.getY() > topLog.getY())
+        final BlockPos.MutableBlockPos temp = new BlockPos.MutableBlockPos();
+        while (!open.isEmpty() && woodBlocks.size() < MAX_TREE_SIZE)
         {
-            topLog = log;
-        }
+            final BlockPos current = open.poll();
+            if (current.getY() < location.getY())
+            {
+                location = current;
+            }
 
-        woodBlocks.add(log);
-        for (int y = -1; y <= 1; y++)
-        {
-            for (int x = -1; x <= 1; x++)
+            if (current.getY() > topLog.getY())
             {
-                for (int z = -1; z <= 1; z++)
+                topLog = current;
+            }
+
+            woodBlocks.add(current);
+            for (int y = -1; y <= 1; y++)
+            {
+                for (int x = -1; x <= 1; x++)
                 {
-                    final BlockPos temp = log.add(x, y, z);
-                    final Block block = BlockPosUtil.getBlock(world, temp);
-                    if ((block.isWood(null, temp) || Compatibility.isSlimeBlock(block)) && !woodBlocks.contains(temp))
+                    for (int z = -1; z <= 1; z++)
                     {
-                        addAndSearch(world, temp);
+                        temp.setPos(current.getX() + x, current.getY() + y, current.getZ() + z);
+                        if (isLog(world, temp) && visited.add(temp.toLong()))
+                        {
+                            open.add(temp.toImmutable());
+                        }
                     }
                 }
             }
@@ -479,39 +511,29 @@ public class Tree
 
     /**
      * Adds a leaf and searches for further leaves.
+     * Every column is only scanned up to its highest block, or a bit above the top log if that is higher.
      *
      * @param world The world the leaf is in.
      */
     private void addAndSearch(@NotNull final World world)
     {
-        int locXMin = location.getX() - LEAVES_WIDTH;
-        int locXMax = location.getX() + LEAVES_WIDTH;
+        final int locXMin = location.getX() - LEAVES_WIDTH;
+        final int locXMax = location.getX() + LEAVES_WIDTH;
         final int locYMin = location.getY() + 2;
-        int locZMin = location.getZ() - LEAVES_WIDTH;
-        int locZMax = location.getZ() + LEAVES_WIDTH;
-        int temp;
-        if (locXMin > locXMax)
-        {
-            temp = locXMax;
-            locXMax = locXMin;
-            locXMin = temp;
-        }
-        if (locZMin > locZMax)
-        {
-            temp = locZMax;
-            locZMax = locZMin;
-            locZMin = temp;
-        }
+        final int locZMin = location.getZ() - LEAVES_WIDTH;
+        final int locZMax = location.getZ() + LEAVES_WIDTH;
+        final BlockPos.MutableBlockPos leaf = new BlockPos.MutableBlockPos();
         for (int locX = locXMin; locX <= locXMax; locX++)
         {
-            for (int locY = locYMin; locY <= MAX_TREE_SIZE; locY++)
+            for (int locZ = locZMin; locZ <= locZMax; locZ++)
             {
-                for (int locZ = locZMin; locZ <= locZMax; locZ++)
+                final int locYMax = Math.min(MAX_TREE_SIZE, Math.max(world.getHeight(locX, locZ), topLog.getY() + LEAVES_WIDTH));
+                for (int locY = locYMin; locY <= locYMax; locY++)
                 {
-                    final BlockPos leaf = new BlockPos(locX, locY, locZ);
+                    leaf.setPos(locX, locY, locZ);
                     if (world.getBlockState(leaf).getMaterial() == Material.LEAVES)
                     {
-                        leaves.add(leaf);
+                        leaves.add(leaf.toImmutable());
                     }
                 }
             }
@@ -11,7 +11,6 @@ import com.minecolonies.coremod.entity.ai.util.AITarget;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockLadder;
 import net.minecraft.block.BlockOre;
-import net.minecraft.block.BlockRedstoneOre;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
@@ -21,6 +20,12 @@ import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
 import static com.minecolonies.coremod.entity.ai.util.AIState.*;
 
 /**
@@ -65,6 +70,17 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
     @Nullable
     private Node workingNode = null;
 
+    /**
+     * The blocks of the current shaft layer in the order they are mined.
+     */
+    @NotNull
+    private final Deque<BlockPos> shaftDigList = new ArrayDeque<>();
+
+    /**
+     * The height of the layer the dig list was planned for.
+     */
+    private int shaftDigLayer = -1;
+
     /**
      * Constructor for the Miner.
      * Defines the tasks the miner executes.
@@ -94,12 +110,6 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
         worker.setCanPickUpLoot(true);
     }
 
-    private static boolean isOre(final Block block)
-    {
-        //TODO make this more sophisticated
-        return block instanceof BlockOre || block instanceof BlockRedstoneOre;
-    }
-
     //Miner wants to work but is not at building
     @NotNull
     private AIState startWorkingAtOwnBuilding()
@@ -379,7 +389,7 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
         {
             minerWorkingLocation = new BlockPos(ladderPos.getX(), lastLadder + 1, ladderPos.getZ());
         }
-        Block block = getBlock(minerWorkingLocation);
+        final Block block = getBlock(minerWorkingLocation);
         if (block != null
               && block != Blocks.AIR
               && block != Blocks.LADDER
@@ -389,8 +399,62 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
             return minerWorkingLocation;
         }
         currentStandingPosition = minerWorkingLocation;
+        if (shaftDigLayer != lastLadder || shaftDigList.isEmpty())
+        {
+            planShaftLayer(ladderPos, lastLadder);
+        }
+
         @Nullable BlockPos nextBlockToMine = null;
+        while (nextBlockToMine == null && !shaftDigList.isEmpty())
+        {
+            final BlockPos curBlock = shaftDigList.poll();
+            if (!world.isAirBlock(curBlock))
+            {
+                if (isLiquid(getBlock(curBlock)))
+                {
+                    setBlockFromInventory(curBlock, Blocks.COBBLESTONE);
+                }
+                nextBlockToMine = curBlock;
+            }
+        }
+
+        //find good looking standing position
         double bestDistance = Double.MAX_VALUE;
+        if (nextBlockToMine != null)
+        {
+            for (int x = 1; x >= -1; x--)
+            {
+                for (int z = -1; z <= 1; z++)
+                {
+                    if (x == 0 && 0 == z)
+                    {
+                        continue;
+                    }
+                    @NotNull final BlockPos curBlock = new BlockPos(nextBlockToMine.getX() + x, lastLadder, nextBlockToMine.getZ() + z);
+                    final double distance = curBlock.distanceSq(ladderPos);
+                    if (distance < bestDistance && world.isAirBlock(curBlock))
+                    {
+                        currentStandingPosition = curBlock;
+                        bestDistance = distance;
+                    }
+                }
+            }
+        }
+        return nextBlockToMine;
+    }
+
+    /**
+     * Plans the order in which the blocks of a layer of the shaft are mined.
+     * Liquids around the layer are replaced first, then the blocks are queued by their distance
+     * to the ladder and to the working location of the miner.
+     *
+     * @param ladderPos  the position of the ladder.
+     * @param lastLadder the height of the layer.
+     */
+    private void planShaftLayer(@NotNull final BlockPos ladderPos, final int lastLadder)
+    {
+        shaftDigList.clear();
+        shaftDigLayer = lastLadder;
 
         final int xOffset = SHAFT_RADIUS * getOwnBuilding().getVectorX();
         final int zOffset = SHAFT_RADIUS * getOwnBuilding().getVectorZ();
@@ -405,20 +469,15 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
                     continue;
                 }
                 @NotNull final BlockPos curBlock = new BlockPos(ladderPos.getX() + x, lastLadder, ladderPos.getZ() + z);
-                block = getBlock(curBlock);
-                if (block.equals(Blocks.WATER)
-                      || block.equals(Blocks.LAVA)
-                      || block.equals(Blocks.FLOWING_WATER)
-                      || block.equals(Blocks.FLOWING_LAVA))
+                if (isLiquid(getBlock(curBlock)))
                 {
                     setBlockFromInventory(curBlock, Blocks.COBBLESTONE);
                 }
             }
         }
 
-
-        //7x7 shaft find nearest block
-        //Beware from positive to negative! to draw the miner to a wall to go down
+        //7x7 shaft, beware from positive to negative! to draw the miner to a wall to go down
+        final List<BlockPos> remaining = new ArrayList<>();
         for (int x = SHAFT_RADIUS + xOffset; x >= -SHAFT_RADIUS + xOffset; x--)
         {
             for (int z = -SHAFT_RADIUS + zOffset; z <= SHAFT_RADIUS + zOffset; z++)
@@ -428,46 +487,31 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
                     continue;
                 }
                 @NotNull final BlockPos curBlock = new BlockPos(ladderPos.getX() + x, lastLadder, ladderPos.getZ() + z);
-                final double distance = curBlock.distanceSq(ladderPos) + Math.pow(curBlock.distanceSq(minerWorkingLocation), 2);
-                block = getBlock(curBlock);
-                if (distance < bestDistance
-                      && !world.isAirBlock(curBlock))
+                if (!world.isAirBlock(curBlock))
                 {
-                    if (block.equals(Blocks.WATER)
-                          || block.equals(Blocks.LAVA)
-                          || block.equals(Blocks.FLOWING_WATER)
-                          || block.equals(Blocks.FLOWING_LAVA))
-                    {
-                        setBlockFromInventory(curBlock, Blocks.COBBLESTONE);
-                    }
-                    nextBlockToMine = curBlock;
-                    bestDistance = distance;
+                    remaining.add(curBlock);
                 }
             }
         }
-        //find good looking standing position
-        bestDistance = Double.MAX_VALUE;
-        if (nextBlockToMine != null)
-        {
-            for (int x = 1; x >= -1; x--)
-            {
-                for (int z = -1; z <= 1; z++)
-                {
-                    if (x == 0 && 0 == z)
-                    {
-                        continue;
-                    }
-                    @NotNull final BlockPos curBlock = new BlockPos(nextBlockToMine.getX() + x, lastLadder, nextBlockToMine.getZ() + z);
-                    final double distance = curBlock.distanceSq(ladderPos);
-                    if (distance < bestDistance && world.isAirBlock(curBlock))
-                    {
-                        currentStandingPosition = curBlock;
-                        bestDistance = distance;
-                    }
-                }
-            }
-        }
-        return nextBlockToMine;
+
+        //The working location is the same for the whole layer, so this is the order the miner used to pick the blocks in
+        final BlockPos anchor = minerWorkingLocation;
+        remaining.sort(Comparator.comparingDouble(curBlock -> curBlock.distanceSq(ladderPos) + Math.pow(curBlock.distanceSq(anchor), 2)));
+        shaftDigList.addAll(remaining);
+    }
+
+    /**
+     * Checks if a block is water or lava.
+     *
+     * @param block the block.
+     * @return true if so.
+     */
+    private static boolean isLiquid(@NotNull final Block block)
+    {
+        return block.equals(Blocks.WATER)
+                 || block.equals(Blocks.LAVA)
+                 || block.equals(Blocks.FLOWING_WATER)
+                 || block.equals(Blocks.FLOWING_LAVA);
     }
 
     @NotNull
@@ -569,7 +613,7 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
 
     private boolean secureBlock(@NotNull final BlockPos curBlock, @NotNull final BlockPos safeStand)
     {
-        if ((!getBlockState(curBlock).getMaterial().blocksMovement() && getBlock(curBlock) != Blocks.TORCH) || isOre(getBlock(curBlock)))
+        if ((!getBlockState(curBlock).getMaterial().blocksMovement() && getBlock(curBlock) != Blocks.TORCH) || Level.isOre(getBlock(curBlock)))
         {
 
             if (!mineBlock(curBlock, safeStand))
@@ -762,7 +806,7 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
         //If shaft isn't cleared we're in shaft clearing mode.
         if (minerBuilding.clearedShaft)
         {
-            minerBuilding.getCurrentLevel().closeNextNode(getRotation());
+            minerBuilding.getCurrentLevel().closeNextNode(getRotation(), world);
         }
         else
         {
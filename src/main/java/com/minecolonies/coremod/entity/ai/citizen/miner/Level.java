@@ -2,9 +2,14 @@ package com.minecolonies.coremod.entity.ai.citizen.miner;
 
 import com.minecolonies.api.util.Vec2i;
 import com.minecolonies.coremod.colony.buildings.BuildingMiner;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockOre;
+import net.minecraft.block.BlockRedstoneOre;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
@@ -43,11 +48,20 @@ public class Level
      * Number to choose random types. It's random.nextInt(RANDOM_TYPES),
      */
     private static final int                  RANDOM_TYPES    = 4;
+    /**
+     * Horizontal distance from the center of a node to the edge of the area scanned for ores.
+     */
+    private static final int                  ORE_SCAN_RADIUS = 4;
+    /**
+     * Height of the area scanned for ores, starting one below the level.
+     */
+    private static final int                  ORE_SCAN_HEIGHT = 6;
     /**
      * Comparator to compare two nodes, for the priority queue.
+     * Nodes with more ore come first, nodes with the same amount are ordered by a scrambled position so the mine still spreads in all directions.
      */
     @NotNull
-    private static final Comparator<Node>     NODE_COMPARATOR = (Node n1, Node n2) -> rand.nextInt(100) > 50 ? 1 : -1;
+    private static final Comparator<Node>     NODE_COMPARATOR = Comparator.comparingInt(Node::getOreCount).reversed().thenComparingInt(Level::scramblePosition);
     /**
      * The hashMap of nodes, check for nodes with the tuple of the parent x and z.
      */
@@ -78,6 +92,7 @@ public class Level
     public Level(@NotNull final BuildingMiner buildingMiner, final int depth)
     {
         this.depth = depth;
+        final World world = buildingMiner.getColony().getWorld();
 
         final int cobbleX = buildingMiner.getCobbleLocation().getX();
         final int cobbleZ = buildingMiner.getCobbleLocation().getZ();
@@ -112,6 +127,7 @@ public class Level
             }
             final Node tempNode = new Node(pos.getX(), pos.getZ(), ladderCenter);
             tempNode.setStyle(TUNNEL);
+            tempNode.setOreCount(countOres(world, pos));
             nodes.put(pos, tempNode);
             openNodes.add(tempNode);
         }
@@ -161,9 +177,9 @@ public class Level
     }
 
     /**
-     * Getter for a random Node in the level.
+     * Getter for the next Node to mine in the level, the open node with the most ore around it.
      *
-     * @return any random node.
+     * @return the next node.
      */
     public Node getRandomNode()
     {
@@ -172,11 +188,12 @@ public class Level
 
     /**
      * Closes the first Node in the list (Has been returned previously probably).
-     * Then creates the new nodes connected to it.
+     * Then creates the new nodes connected to it and counts the ore around them.
      *
      * @param rotation the rotation of the node.
+     * @param world    the world the mine is in.
      */
-    public void closeNextNode(final int rotation)
+    public void closeNextNode(final int rotation, @NotNull final World world)
     {
         final Node tempNode = openNodes.poll();
         final List<Vec2i> nodeCenterList = new ArrayList<>(3);
@@ -206,12 +223,65 @@ public class Level
             }
             final Node tempNodeToAdd = new Node(pos.getX(), pos.getZ(), new Vec2i(tempNode.getX(), tempNode.getZ()));
             tempNodeToAdd.setStyle(getRandomNodeType());
+            tempNodeToAdd.setOreCount(countOres(world, pos));
             nodes.put(pos, tempNodeToAdd);
             openNodes.add(tempNodeToAdd);
         }
         nodes.get(new Vec2i(tempNode.getX(), tempNode.getZ())).setStatus(Node.NodeStatus.COMPLETED);
     }
 
+    /**
+     * Count the ore blocks in and around the area of a node.
+     *
+     * @param world  the world the mine is in.
+     * @param center the center of the node.
+     * @return the amount of ore blocks.
+     */
+    private int countOres(@NotNull final World world, @NotNull final Vec2i center)
+    {
+        int ores = 0;
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int x = center.getX() - ORE_SCAN_RADIUS; x <= center.getX() + ORE_SCAN_RADIUS; x++)
+        {
+            for (int z = center.getZ() - ORE_SCAN_RADIUS; z <= center.getZ() + ORE_SCAN_RADIUS; z++)
+            {
+                for (int y = depth - 1; y < depth - 1 + ORE_SCAN_HEIGHT; y++)
+                {
+                    pos.setPos(x, y, z);
+                    if (world.isBlockLoaded(pos) && isOre(world.getBlockState(pos).getBlock()))
+                    {
+                        ores++;
+                    }
+                }
+            }
+        }
+        return ores;
+    }
+
+    /**
+     * Checks if a block is an ore.
+     *
+     * @param block the block.
+     * @return true if so.
+     */
+    public static boolean isOre(final Block block)
+    {
+        //TODO make this more sophisticated
+        return block instanceof BlockOre || block instanceof BlockRedstoneOre;
+    }
+
+    /**
+     * Scramble the position of a node, used to order nodes with the same amount of ore.
+     *
+     * @param node the node.
+     * @return the scrambled position.
+     */
+    private static int scramblePosition(@NotNull final Node node)
+    {
+        final int hash = node.getX() * 0x9E3779B9 ^ node.getZ() * 0x85EBCA6B;
+        return hash ^ (hash >>> 16);
+    }
+
     private static Node.NodeType getRandomNodeType()
     {
         final int randNumber = rand.nextInt(RANDOM_TYPES);
@@ -25,6 +25,7 @@ public class Node
     private static final String TAG_STATUS  = "Status";
     private static final String TAG_PARENTX = "ParentX";
     private static final String TAG_PARENTZ = "ParentZ";
+    private static final String TAG_ORES    = "Ores";
 
     /**
      * The distance to the center of the next node.
@@ -59,6 +60,11 @@ public class Node
     @NotNull
     private NodeStatus status;
 
+    /**
+     * Amount of ore blocks around the node, found when the node was created.
+     */
+    private int oreCount = 0;
+
     /**
      * Initializes the node.
      * Requires a location in the node as parameters
@@ -125,6 +131,7 @@ public class Node
         @NotNull final Node node = new Node(x, z, parent);
         node.setStyle(style);
         node.setStatus(status);
+        node.setOreCount(compound.getInteger(TAG_ORES));
 
         return node;
     }
@@ -147,6 +154,8 @@ public class Node
             compound.setInteger(TAG_PARENTX, parent.getX());
             compound.setInteger(TAG_PARENTZ, parent.getZ());
         }
+
+        compound.setInteger(TAG_ORES, oreCount);
     }
 
     /**
@@ -170,6 +179,26 @@ public class Node
         this.status = status;
     }
 
+    /**
+     * Returns the amount of ore blocks around the node.
+     *
+     * @return the amount.
+     */
+    public int getOreCount()
+    {
+        return oreCount;
+    }
+
+    /**
+     * Sets the amount of ore blocks around the node.
+     *
+     * @param oreCount the amount.
+     */
+    public void setOreCount(final int oreCount)
+    {
+        this.oreCount = oreCount;
+    }
+
     /**
      * Getter for the parent value.
      *
@@ -189,6 +218,7 @@ public class Node
                  + ", z=" + z
                  + ", style=" + style
                  + ", status=" + status
+                 + ", oreCount=" + oreCount
                  + '}';
     }
 
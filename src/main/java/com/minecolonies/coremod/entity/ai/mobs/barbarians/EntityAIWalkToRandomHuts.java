@@ -4,6 +4,7 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.entity.ai.mobs.util.RaidFlowField;
 import com.minecolonies.coremod.entity.pathfinding.GeneralEntityWalkToProxy;
 import com.minecolonies.coremod.entity.pathfinding.PathNavigate;
 import net.minecraft.entity.EntityCreature;
@@ -20,9 +21,21 @@ import java.util.Random;
 
 /**
  * Barbarian Pathing Class
+ * <p>
+ * During a raid the barbarians follow the flow field of the colony towards the closest hut.
+ * Without a field, or when stuck, they pathfind to random huts instead.
  */
 public class EntityAIWalkToRandomHuts extends EntityAIBase
 {
+    /**
+     * Amount of columns to look ahead on the flow field.
+     */
+    private static final int FLOW_LOOK_AHEAD = 2;
+
+    /**
+     * Ticks without getting closer on the flow field after which the barbarian counts as stuck.
+     */
+    private static final int FLOW_STUCK_TICKS = 100;
 
     protected final EntityCreature entity;
     private         BlockPos       targetBlock;
@@ -41,6 +54,22 @@ public class EntityAIWalkToRandomHuts extends EntityAIBase
     private final PathNavigate newNavigator;
     private       Field        navigatorField;
 
+    /**
+     * Whether the barbarian currently follows the flow field.
+     */
+    private boolean followingFlow = false;
+
+    /**
+     * Set once the barbarian got stuck on the flow field, it pathfinds from then on.
+     */
+    private boolean flowFailed = false;
+
+    /**
+     * The lowest flow distance reached so far and the ticks since it was reached.
+     */
+    private int lowestFlowDistance   = RaidFlowField.UNREACHABLE;
+    private int ticksWithoutProgress = 0;
+
     /**
      * Constructor for AI
      *
@@ -64,6 +93,11 @@ public class EntityAIWalkToRandomHuts extends EntityAIBase
     @Override
     public boolean shouldExecute()
     {
+        if (getFlowDistance() > 0 && getFlowDistance() != RaidFlowField.UNREACHABLE)
+        {
+            return true;
+        }
+
         if (this.targetBlock == null)
         {
             this.targetBlock = getRandomBuilding();
@@ -141,6 +175,10 @@ public class EntityAIWalkToRandomHuts extends EntityAIBase
      */
     public boolean continueExecuting()
     {
+        if (followingFlow)
+        {
+            return this.entity.isEntityAlive() && ticksWithoutProgress < FLOW_STUCK_TICKS && getFlowDistance() > 0;
+        }
         return !this.entity.getNavigator().noPath() && this.entity.isEntityAlive();
     }
 
@@ -150,6 +188,16 @@ public class EntityAIWalkToRandomHuts extends EntityAIBase
     public void startExecuting()
     {
         updateNavigatorField();
+        final int flowDistance = getFlowDistance();
+        followingFlow = flowDistance > 0 && flowDistance != RaidFlowField.UNREACHABLE;
+        if (followingFlow)
+        {
+            this.entity.getNavigator().clearPathEntity();
+            lowestFlowDistance = flowDistance;
+            ticksWithoutProgress = 0;
+            return;
+        }
+
         if (targetBlock != null)
         {
             if (this.isEntityAtSiteWithMove(targetBlock, 2))
@@ -163,6 +211,55 @@ public class EntityAIWalkToRandomHuts extends EntityAIBase
         }
     }
 
+    /**
+     * Walks along the flow field, is executed every tick while the ai runs.
+     */
+    @Override
+    public void updateTask()
+    {
+        if (!followingFlow)
+        {
+            return;
+        }
+
+        final RaidFlowField field = colony == null ? null : colony.getRaidFlowField(world);
+        final BlockPos next = field == null ? null : field.getNextStep(entity.getPosition(), FLOW_LOOK_AHEAD);
+        if (next == null)
+        {
+            followingFlow = false;
+            return;
+        }
+
+        final int distance = field.getDistance(entity.getPosition());
+        if (distance < lowestFlowDistance)
+        {
+            lowestFlowDistance = distance;
+            ticksWithoutProgress = 0;
+        }
+        else if (++ticksWithoutProgress >= FLOW_STUCK_TICKS)
+        {
+            flowFailed = true;
+        }
+
+        this.entity.getMoveHelper().setMoveTo(next.getX() + 0.5D, next.getY(), next.getZ() + 0.5D, speed);
+    }
+
+    /**
+     * Get the flow field distance of the barbarian to the closest hut.
+     *
+     * @return the distance or UNREACHABLE if there is no field to follow.
+     */
+    private int getFlowDistance()
+    {
+        if (flowFailed)
+        {
+            return RaidFlowField.UNREACHABLE;
+        }
+
+        final RaidFlowField field = colony == null ? null : colony.getRaidFlowField(world);
+        return field == null ? RaidFlowField.UNREACHABLE : field.getDistance(entity.getPosition());
+    }
+
     /**
      * gets a random building from the nearby colony
      *
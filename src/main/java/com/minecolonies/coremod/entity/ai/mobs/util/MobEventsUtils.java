@@ -66,6 +66,8 @@ public final class MobEventsUtils
           colony.getMessageEntityPlayers(),
           "event.minecolonies.raidMessage");
 
+        colony.startRaidFlowField(world);
+
         BarbarianSpawnUtils.spawn(BARBARIAN, numberOfBarbarians, targetSpawnPoint, world);
         BarbarianSpawnUtils.spawn(ARCHER, numberOfArchers, targetSpawnPoint, world);
         BarbarianSpawnUtils.spawn(CHIEF, numberOfChiefs, targetSpawnPoint, world);
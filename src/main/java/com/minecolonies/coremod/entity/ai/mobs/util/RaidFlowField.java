@@ -0,0 +1,476 @@
+package com.minecolonies.coremod.entity.ai.mobs.util;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import net.minecraft.block.material.Material;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Distance map (flow field) towards the huts of a colony, used by barbarians during a raid.
+ * <p>
+ * The field is calculated once per raid with a Dijkstra search starting at all huts at the same time.
+ * Every column of the colony area stores its surface height and its walking distance to the closest hut,
+ * barbarians then just walk to the neighbouring column with the lowest distance instead of pathfinding.
+ * The colony builds the field over several ticks, first a slice of the surface per tick, then a part of the search,
+ * it is only handed out once it is complete.
+ */
+public final class RaidFlowField
+{
+    /**
+     * Distance value of columns no hut can be reached from.
+     */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /**
+     * Cost to walk to a straight neighbour.
+     */
+    private static final int STRAIGHT_COST = 10;
+
+    /**
+     * Cost to walk to a diagonal neighbour.
+     */
+    private static final int DIAGONAL_COST = 14;
+
+    /**
+     * Additional cost to swim through a column.
+     */
+    private static final int WATER_PENALTY = 20;
+
+    /**
+     * Max height a barbarian can climb between two columns.
+     */
+    private static final int MAX_CLIMB = 1;
+
+    /**
+     * Max height a barbarian drops down between two columns.
+     */
+    private static final int MAX_DROP = 3;
+
+    /**
+     * Radius around a hut which counts as arrived.
+     */
+    private static final int HUT_RADIUS = 4;
+
+    /**
+     * Margin around the colony border so that barbarians spawning at the border are covered.
+     */
+    private static final int BORDER_MARGIN = 16;
+
+    /**
+     * Height value of columns which can't be walked on.
+     */
+    private static final short NOT_WALKABLE = -1;
+
+    /**
+     * Ticks until a field is considered outdated (half a minecraft day, one night).
+     */
+    private static final int FIELD_LIFETIME = 12_000;
+
+    /**
+     * Columns scanned per tick.
+     */
+    private static final int COLUMNS_PER_TICK = 2048;
+
+    /**
+     * Columns settled by the search per tick.
+     */
+    private static final int NODES_PER_TICK = 8192;
+
+    /**
+     * X and z offsets of the eight neighbours of a column.
+     */
+    private static final int[][] NEIGHBOURS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}, {1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+
+    /**
+     * The world the field was calculated for.
+     */
+    @Nullable
+    private final World world;
+
+    /**
+     * The world time the field was started at.
+     */
+    private final long createdAt;
+
+    /**
+     * Lowest x of the field.
+     */
+    private final int minX;
+
+    /**
+     * Lowest z of the field.
+     */
+    private final int minZ;
+
+    /**
+     * Width and length of the field.
+     */
+    private final int size;
+
+    /**
+     * Surface height of every column, the y a barbarian stands at, or NOT_WALKABLE.
+     */
+    private final short[] heights;
+
+    /**
+     * Whether a column is water.
+     */
+    private final boolean[] water;
+
+    /**
+     * Walking distance of every column to the closest hut.
+     */
+    private final int[] distances;
+
+    /**
+     * Locations of the huts the barbarians walk to.
+     */
+    @NotNull
+    private final List<BlockPos> huts;
+
+    /**
+     * Columns of the search which are not settled yet, as distance and index.
+     */
+    private final PriorityQueue<long[]> open = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+
+    /**
+     * Index of the next column to scan.
+     */
+    private int scanCursor = 0;
+
+    /**
+     * Whether the columns at the huts have been added to the search.
+     */
+    private boolean seeded = false;
+
+    /**
+     * Whether the search is complete.
+     */
+    private boolean ready = false;
+
+    /**
+     * Creates an empty field.
+     *
+     * @param world     the world the field is calculated for, null in tests.
+     * @param minX      the lowest x.
+     * @param minZ      the lowest z.
+     * @param size      the width and length.
+     * @param huts      the locations of the huts.
+     * @param createdAt the world time.
+     */
+    RaidFlowField(@Nullable final World world, final int minX, final int minZ, final int size, @NotNull final List<BlockPos> huts, final long createdAt)
+    {
+        this.world = world;
+        this.minX = minX;
+        this.minZ = minZ;
+        this.size = size;
+        this.huts = new ArrayList<>(huts);
+        this.createdAt = createdAt;
+        this.heights = new short[size * size];
+        this.water = new boolean[size * size];
+        this.distances = new int[size * size];
+        Arrays.fill(distances, UNREACHABLE);
+    }
+
+    /**
+     * Create the field of a colony for a new raid, it is built by {@link #onWorldTick(World)}.
+     *
+     * @param world  the world of the colony.
+     * @param colony the colony being raided.
+     * @return the new field.
+     */
+    @NotNull
+    public static RaidFlowField create(@NotNull final World world, @NotNull final Colony colony)
+    {
+        final BlockPos center = colony.getCenter();
+        final int radius = Configurations.gameplay.workingRangeTownHall + BORDER_MARGIN;
+        final List<BlockPos> huts = new ArrayList<>();
+        for (final AbstractBuilding building : colony.getBuildings().values())
+        {
+            huts.add(building.getLocation());
+        }
+        return new RaidFlowField(world, center.getX() - radius, center.getZ() - radius, radius * 2 + 1, huts, world.getTotalWorldTime());
+    }
+
+    /**
+     * Checks if the field belongs to a world and the raid it was made for is not over.
+     *
+     * @param currentWorld the current world of the colony.
+     * @return true if the field can still be used.
+     */
+    public boolean isValidFor(@Nullable final World currentWorld)
+    {
+        return currentWorld != null && currentWorld == world && currentWorld.getTotalWorldTime() - createdAt <= FIELD_LIFETIME;
+    }
+
+    /**
+     * Checks if the field is complete.
+     *
+     * @return true if so.
+     */
+    public boolean isReady()
+    {
+        return ready;
+    }
+
+    /**
+     * Build the next part of the field: scan a slice of the surface or continue the search.
+     *
+     * @param currentWorld the world of the colony.
+     */
+    public void onWorldTick(@NotNull final World currentWorld)
+    {
+        if (ready)
+        {
+            return;
+        }
+
+        if (scanCursor < heights.length)
+        {
+            scanSurface(currentWorld, COLUMNS_PER_TICK);
+        }
+        else
+        {
+            calculateDistances(NODES_PER_TICK);
+        }
+    }
+
+    /**
+     * Read the surface height of the next loaded columns.
+     *
+     * @param currentWorld the world.
+     * @param budget       the amount of columns to scan.
+     */
+    private void scanSurface(@NotNull final World currentWorld, final int budget)
+    {
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        final int end = Math.min(heights.length, scanCursor + budget);
+        for (; scanCursor < end; scanCursor++)
+        {
+            pos.setPos(minX + scanCursor / size, 0, minZ + scanCursor % size);
+            if (!currentWorld.isBlockLoaded(pos))
+            {
+                heights[scanCursor] = NOT_WALKABLE;
+                continue;
+            }
+
+            final BlockPos surface = currentWorld.getTopSolidOrLiquidBlock(pos);
+            final Material material = currentWorld.getBlockState(surface.down()).getMaterial();
+            setColumn(scanCursor, material == Material.LAVA ? NOT_WALKABLE : surface.getY(), material.isLiquid());
+        }
+    }
+
+    /**
+     * Set the surface of a column.
+     *
+     * @param x       the x coordinate.
+     * @param z       the z coordinate.
+     * @param height  the y a barbarian stands at, negative if it can't be walked on.
+     * @param isWater whether the column is water.
+     */
+    void setColumn(final int x, final int z, final int height, final boolean isWater)
+    {
+        final int index = getIndex(x, z);
+        if (index >= 0)
+        {
+            setColumn(index, height, isWater);
+        }
+    }
+
+    /**
+     * Set the surface of a column.
+     *
+     * @param index   the index of the column.
+     * @param height  the y a barbarian stands at, negative if it can't be walked on.
+     * @param isWater whether the column is water.
+     */
+    private void setColumn(final int index, final int height, final boolean isWater)
+    {
+        heights[index] = height < 0 ? NOT_WALKABLE : (short) height;
+        water[index] = isWater;
+    }
+
+    /**
+     * Continue the Dijkstra search from all huts of the colony.
+     *
+     * @param budget the amount of columns to settle.
+     * @return true if the search is complete.
+     */
+    boolean calculateDistances(final int budget)
+    {
+        if (!seeded)
+        {
+            seedHuts();
+            seeded = true;
+        }
+
+        for (int settled = 0; settled < budget && !open.isEmpty(); settled++)
+        {
+            final long[] node = open.poll();
+            final int index = (int) node[1];
+            if (node[0] > distances[index])
+            {
+                continue;
+            }
+
+            final int x = index / size;
+            final int z = index % size;
+            for (final int[] offset : NEIGHBOURS)
+            {
+                final int nx = x + offset[0];
+                final int nz = z + offset[1];
+                if (nx < 0 || nz < 0 || nx >= size || nz >= size)
+                {
+                    continue;
+                }
+
+                // A barbarian on the neighbour column walks to this column, closer to the huts.
+                final int neighbour = nx * size + nz;
+                if (!canWalk(neighbour, index))
+                {
+                    continue;
+                }
+
+                final int cost = (offset[0] != 0 && offset[1] != 0 ? DIAGONAL_COST : STRAIGHT_COST) + (water[neighbour] ? WATER_PENALTY : 0);
+                final int newDistance = distances[index] + cost;
+                if (newDistance < distances[neighbour])
+                {
+                    distances[neighbour] = newDistance;
+                    open.add(new long[] {newDistance, neighbour});
+                }
+            }
+        }
+
+        ready = open.isEmpty();
+        return ready;
+    }
+
+    /**
+     * Start the search at the walkable columns around the huts at about the height of the hut block,
+     * so the roofs of the huts are no targets.
+     */
+    private void seedHuts()
+    {
+        for (final BlockPos location : huts)
+        {
+            for (int x = -HUT_RADIUS; x <= HUT_RADIUS; x++)
+            {
+                for (int z = -HUT_RADIUS; z <= HUT_RADIUS; z++)
+                {
+                    final int index = getIndex(location.getX() + x, location.getZ() + z);
+                    if (index < 0 || heights[index] == NOT_WALKABLE || distances[index] == 0)
+                    {
+                        continue;
+                    }
+
+                    final int climb = heights[index] - location.getY();
+                    if (climb <= MAX_CLIMB && -climb <= MAX_DROP)
+                    {
+                        distances[index] = 0;
+                        open.add(new long[] {0, index});
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if a barbarian can walk from one column to a neighbouring one.
+     *
+     * @param from the index of the column it stands on.
+     * @param to   the index of the column it walks to.
+     * @return true if possible.
+     */
+    private boolean canWalk(final int from, final int to)
+    {
+        if (heights[from] == NOT_WALKABLE || heights[to] == NOT_WALKABLE)
+        {
+            return false;
+        }
+        final int climb = heights[to] - heights[from];
+        return climb <= MAX_CLIMB && -climb <= MAX_DROP;
+    }
+
+    /**
+     * Get the index of a column.
+     *
+     * @param x the x coordinate.
+     * @param z the z coordinate.
+     * @return the index or -1 if outside of the field.
+     */
+    private int getIndex(final int x, final int z)
+    {
+        final int dx = x - minX;
+        final int dz = z - minZ;
+        if (dx < 0 || dz < 0 || dx >= size || dz >= size)
+        {
+            return -1;
+        }
+        return dx * size + dz;
+    }
+
+    /**
+     * Get the walking distance of a position to the closest hut.
+     *
+     * @param pos the position.
+     * @return the distance, 0 at a hut or UNREACHABLE.
+     */
+    public int getDistance(@NotNull final BlockPos pos)
+    {
+        final int index = getIndex(pos.getX(), pos.getZ());
+        return index < 0 ? UNREACHABLE : distances[index];
+    }
+
+    /**
+     * Follow the field downhill from a position for some columns.
+     *
+     * @param pos       the current position.
+     * @param lookAhead the amount of columns to follow.
+     * @return the position to walk to, or null if the position is at a hut or can't reach one.
+     */
+    @Nullable
+    public BlockPos getNextStep(@NotNull final BlockPos pos, final int lookAhead)
+    {
+        int index = getIndex(pos.getX(), pos.getZ());
+        if (index < 0 || distances[index] == 0 || distances[index] == UNREACHABLE)
+        {
+            return null;
+        }
+
+        for (int step = 0; step < lookAhead && distances[index] > 0; step++)
+        {
+            final int x = index / size;
+            final int z = index % size;
+            int best = index;
+            for (final int[] offset : NEIGHBOURS)
+            {
+                final int nx = x + offset[0];
+                final int nz = z + offset[1];
+                if (nx < 0 || nz < 0 || nx >= size || nz >= size)
+                {
+                    continue;
+                }
+
+                final int neighbour = nx * size + nz;
+                if (distances[neighbour] < distances[best] && canWalk(index, neighbour))
+                {
+                    best = neighbour;
+                }
+            }
+
+            if (best == index)
+            {
+                break;
+            }
+            index = best;
+        }
+
+        return new BlockPos(minX + index / size, heights[index], minZ + index % size);
+    }
+}
@@ -0,0 +1,149 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.coremod.entity.ai.item.handling.ItemStorage;
+import net.minecraft.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * The result of planning the recipes of a {@link RecipeIndex} against the content of some inventories.
+ * <p>
+ * The available inputs are counted once when the plan is made, and the craftable amount of every recipe is computed
+ * from them. {@link #consume(int)} keeps both up to date when a recipe is crafted, recomputing only the recipes that
+ * use one of the consumed inputs, so the plan can be reused for several crafts.
+ */
+public class CraftingPlan
+{
+    /**
+     * Returned if no recipe can be crafted.
+     */
+    public static final int NO_RECIPE = -1;
+
+    /**
+     * The index the plan was made for.
+     */
+    @NotNull
+    private final RecipeIndex index;
+
+    /**
+     * The available amount of every recipe input.
+     */
+    @NotNull
+    private final Map<ItemStorage, Integer> available;
+
+    /**
+     * How often every recipe can be crafted with the available inputs, by recipe id.
+     */
+    @NotNull
+    private final int[] craftable;
+
+    /**
+     * Creates a plan.
+     *
+     * @param index     the index the plan is made for.
+     * @param available the available amount of every recipe input.
+     */
+    CraftingPlan(@NotNull final RecipeIndex index, @NotNull final Map<ItemStorage, Integer> available)
+    {
+        this.index = index;
+        this.available = available;
+        this.craftable = new int[index.size()];
+        for (int id = 0; id < craftable.length; id++)
+        {
+            craftable[id] = computeCraftableAmount(id);
+        }
+    }
+
+    /**
+     * Get how often a recipe can be crafted with the available inputs.
+     *
+     * @param id the id of the recipe.
+     * @return the amount of crafts.
+     */
+    public int getCraftableAmount(final int id)
+    {
+        return craftable[id];
+    }
+
+    /**
+     * Compute how often a recipe can be crafted with the available inputs.
+     *
+     * @param id the id of the recipe.
+     * @return the amount of crafts.
+     */
+    private int computeCraftableAmount(final int id)
+    {
+        int amount = Integer.MAX_VALUE;
+        for (final Map.Entry<ItemStorage, Integer> entry : index.getRequiredInputs(id).entrySet())
+        {
+            amount = Math.min(amount, available.getOrDefault(entry.getKey(), 0) / entry.getValue());
+        }
+        return amount == Integer.MAX_VALUE ? 0 : amount;
+    }
+
+    /**
+     * Get the inputs missing to craft a recipe once.
+     *
+     * @param id the id of the recipe.
+     * @return the missing stacks with the missing amounts, empty if the recipe can be crafted.
+     */
+    @NotNull
+    public List<ItemStack> getMissingInputs(final int id)
+    {
+        final List<ItemStack> missing = new ArrayList<>();
+        for (final Map.Entry<ItemStorage, Integer> entry : index.getRequiredInputs(id).entrySet())
+        {
+            final int amount = entry.getValue() - available.getOrDefault(entry.getKey(), 0);
+            if (amount > 0)
+            {
+                final ItemStack stack = entry.getKey().getItemStack().copy();
+                ItemStackUtils.setSize(stack, amount);
+                missing.add(stack);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Get the first recipe, starting at a given id and wrapping around, which can be crafted at least once.
+     *
+     * @param startId the id of the recipe to check first.
+     * @return the id of the recipe or {@link #NO_RECIPE} if none can be crafted.
+     */
+    public int getNextCraftable(final int startId)
+    {
+        for (int i = 0; i < index.size(); i++)
+        {
+            final int id = (startId + i) % index.size();
+            if (craftable[id] > 0)
+            {
+                return id;
+            }
+        }
+        return NO_RECIPE;
+    }
+
+    /**
+     * Take the inputs of one craft of a recipe from the available inputs.
+     *
+     * @param id the id of the recipe.
+     */
+    public void consume(final int id)
+    {
+        final Set<Integer> changed = new HashSet<>();
+        for (final Map.Entry<ItemStorage, Integer> entry : index.getRequiredInputs(id).entrySet())
+        {
+            if (available.computeIfPresent(entry.getKey(), (key, amount) -> Math.max(0, amount - entry.getValue())) != null)
+            {
+                changed.addAll(index.getRecipesUsing(entry.getKey()));
+            }
+        }
+
+        for (final int changedId : changed)
+        {
+            craftable[changedId] = computeCraftableAmount(changedId);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import com.google.common.collect.ImmutableList;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.coremod.entity.ai.item.handling.ItemStorage;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Index of a fixed list of recipes by their outputs and by their inputs.
+ * <p>
+ * Recipes are identified by their position in the list. Items are compared by item and damage value,
+ * like {@link RecipeStorage#canFullFillRecipe(IItemHandler...)} does.
+ */
+public class RecipeIndex
+{
+    /**
+     * The recipes, the position is the id of the recipe.
+     */
+    @NotNull
+    private final ImmutableList<RecipeStorage> recipes;
+
+    /**
+     * Ids of the recipes producing an item, as primary or secondary output.
+     */
+    @NotNull
+    private final Map<ItemStorage, List<Integer>> recipesByOutput = new HashMap<>();
+
+    /**
+     * Ids of the recipes using an item as input.
+     */
+    @NotNull
+    private final Map<ItemStorage, List<Integer>> recipesByInput = new HashMap<>();
+
+    /**
+     * The amount of every input a single craft of a recipe needs, by recipe id.
+     * Inputs listed several times in a recipe are merged into one entry.
+     */
+    @NotNull
+    private final List<Map<ItemStorage, Integer>> requiredInputs = new ArrayList<>();
+
+    /**
+     * Creates the index of a list of recipes.
+     *
+     * @param recipes the recipes.
+     */
+    public RecipeIndex(@NotNull final List<RecipeStorage> recipes)
+    {
+        this.recipes = ImmutableList.copyOf(recipes);
+        for (int id = 0; id < this.recipes.size(); id++)
+        {
+            final RecipeStorage recipe = this.recipes.get(id);
+
+            addToIndex(recipesByOutput, recipe.getPrimaryOutput(), id);
+            for (final ItemStack output : recipe.getSecondaryOutput())
+            {
+                addToIndex(recipesByOutput, output, id);
+            }
+
+            final Map<ItemStorage, Integer> required = new LinkedHashMap<>();
+            for (final ItemStack input : recipe.getInput())
+            {
+                if (ItemStackUtils.isEmpty(input))
+                {
+                    continue;
+                }
+                addToIndex(recipesByInput, input, id);
+                required.merge(new ItemStorage(input), ItemStackUtils.getSize(input), Integer::sum);
+            }
+            requiredInputs.add(Collections.unmodifiableMap(required));
+        }
+    }
+
+    /**
+     * Add a recipe to the list of an item, once.
+     *
+     * @param index the index to add to.
+     * @param stack the item.
+     * @param id    the id of the recipe.
+     */
+    private static void addToIndex(@NotNull final Map<ItemStorage, List<Integer>> index, @NotNull final ItemStack stack, final int id)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return;
+        }
+
+        final List<Integer> ids = index.computeIfAbsent(new ItemStorage(stack), key -> new ArrayList<>());
+        if (!ids.contains(id))
+        {
+            ids.add(id);
+        }
+    }
+
+    /**
+     * Get a recipe by its id.
+     *
+     * @param id the id of the recipe.
+     * @return the recipe.
+     */
+    @NotNull
+    public RecipeStorage getRecipe(final int id)
+    {
+        return recipes.get(id);
+    }
+
+    /**
+     * Get the amount of recipes.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return recipes.size();
+    }
+
+    /**
+     * Get the ids of the recipes producing an item, as primary or secondary output.
+     *
+     * @param output the item.
+     * @return the ids, empty if no recipe produces it.
+     */
+    @NotNull
+    public List<Integer> getRecipesFor(@NotNull final ItemStack output)
+    {
+        if (ItemStackUtils.isEmpty(output))
+        {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(recipesByOutput.getOrDefault(new ItemStorage(output), Collections.emptyList()));
+    }
+
+    /**
+     * Get the ids of the recipes using an item as input.
+     *
+     * @param input the item.
+     * @return the ids, empty if no recipe uses it.
+     */
+    @NotNull
+    public List<Integer> getRecipesUsing(@NotNull final ItemStorage input)
+    {
+        return Collections.unmodifiableList(recipesByInput.getOrDefault(input, Collections.emptyList()));
+    }
+
+    /**
+     * Get the items used as input by any of the recipes.
+     *
+     * @return the items.
+     */
+    @NotNull
+    public Set<ItemStorage> getInputs()
+    {
+        return Collections.unmodifiableSet(recipesByInput.keySet());
+    }
+
+    /**
+     * Get the amount of every input a single craft of a recipe needs.
+     *
+     * @param id the id of the recipe.
+     * @return the amounts by item.
+     */
+    @NotNull
+    public Map<ItemStorage, Integer> getRequiredInputs(final int id)
+    {
+        return requiredInputs.get(id);
+    }
+
+    /**
+     * Plan the crafting of all recipes with the content of some inventories.
+     * The inventories are read once, only the items used by the recipes are counted.
+     *
+     * @param inventories the inventories the inputs are taken from.
+     * @return the plan.
+     */
+    @NotNull
+    public CraftingPlan plan(@NotNull final IItemHandler... inventories)
+    {
+        final Map<ItemStorage, Integer> available = new HashMap<>();
+        for (final IItemHandler handler : inventories)
+        {
+            for (int slot = 0; slot < handler.getSlots(); slot++)
+            {
+                final ItemStack stack = handler.getStackInSlot(slot);
+                if (ItemStackUtils.isEmpty(stack))
+                {
+                    continue;
+                }
+
+                final ItemStorage key = new ItemStorage(stack);
+                if (available.containsKey(key))
+                {
+                    available.merge(key, ItemStackUtils.getSize(stack), Integer::sum);
+                }
+                else if (recipesByInput.containsKey(key))
+                {
+                    //The stack stays in the inventory, the key must not change with it.
+                    available.put(new ItemStorage(stack.copy()), ItemStackUtils.getSize(stack));
+                }
+            }
+        }
+        return new CraftingPlan(this, available);
+    }
+}
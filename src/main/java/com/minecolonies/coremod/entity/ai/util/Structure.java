@@ -4,6 +4,7 @@ import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.coremod.blocks.ModBlocks;
+import com.minecolonies.coremod.util.StructureBuildPlan;
 import com.minecolonies.coremod.util.StructureWrapper;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockDoor;
@@ -326,28 +327,29 @@ public class Structure
     /**
      * Advance one block in the StructureProxy.
      * <p>
-     * Will skip blocks not relevant.
+     * Will skip blocks not relevant, only the cells of the current stage in the build plan are checked.
      *
      * @return a Result enum specifying the result
      */
     @NotNull
     public Result advanceBlock()
     {
+        final StructureBuildPlan plan = this.structure.getBuildPlan();
         switch (this.stage)
         {
             case CLEAR:
-                return advanceBlocks(this.structure::decrementBlock,
+                return advanceBlocks(() -> this.structure.decrementBlock(plan.getClearCells()),
                   structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
                                       || structureBlock.worldBlock == Blocks.AIR);
             case BUILD:
-                return advanceBlocks(this.structure::incrementBlock, structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
+                return advanceBlocks(() -> this.structure.incrementBlock(plan.getBuildCells()), structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
                                                                                          && structureBlock.block == Blocks.AIR
                                                                                          && !structureBlock.metadata.getMaterial().isSolid());
             case SPAWN:
-                return advanceBlocks(this.structure::decrementBlock, structureBlock ->
+                return advanceBlocks(() -> this.structure.decrementBlock(plan.getSpawnCells()), structureBlock ->
                                                                        structureBlock.entity == null);
             case DECORATE:
-                return advanceBlocks(this.structure::incrementBlock, structureBlock ->
+                return advanceBlocks(() -> this.structure.incrementBlock(plan.getDecorateCells()), structureBlock ->
                                                                        structureBlock.doesStructureBlockEqualWorldBlock()
                                                                          || structureBlock.metadata.getMaterial().isSolid());
             default:
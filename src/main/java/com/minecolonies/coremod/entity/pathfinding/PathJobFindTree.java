@@ -8,7 +8,9 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Find and return a path to the nearest tree.
@@ -31,6 +33,12 @@ public class PathJobFindTree extends AbstractPathJob
      */
     private final Map<ItemStorage, Boolean> treesToCut;
 
+    /**
+     * Positions already found not to be a tree, as packed longs.
+     * Neighbouring nodes share most of their neighbours, so every position is only checked once.
+     */
+    private final Set<Long> checkedPositions = new HashSet<>();
+
     /**
      * AbstractPathJob constructor.
      * @param world the world within which to path.
@@ -102,6 +110,11 @@ public class PathJobFindTree extends AbstractPathJob
 
     private boolean isTree(final BlockPos pos)
     {
+        if (!checkedPositions.add(pos.toLong()))
+        {
+            return false;
+        }
+
         if (Tree.checkTree(world, pos, treesToCut))
         {
             getResult().treeLocation = pos;
@@ -4,6 +4,7 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.ColonyMetrics;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.item.handling.ItemStorage;
 import net.minecraft.entity.Entity;
@@ -17,7 +18,6 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -29,6 +29,16 @@ public class PathNavigate extends PathNavigateGround
 {
     private static final double ON_PATH_SPEED_MULTIPLIER    = 1.3D;
 
+    /**
+     * Distance the entity has to get closer to its target than ever before to count as progress.
+     */
+    private static final double MIN_TARGET_PROGRESS = 0.5D;
+
+    /**
+     * Offset to the middle of a block.
+     */
+    private static final double MIDDLE_BLOCK_OFFSET = 0.5D;
+
     //  Parent class private members
     private final EntityLiving entity;
 
@@ -43,6 +53,33 @@ public class PathNavigate extends PathNavigateGround
     @Nullable
     private PathResult   pathResult;
 
+    /**
+     * The target the stalled ticks are counted for, kept when the path to it is cleared and computed again.
+     */
+    @Nullable
+    private BlockPos stallTarget;
+
+    /**
+     * The path index reached on the current path, -1 until the path has been followed for a tick.
+     */
+    private int progressIndex = -1;
+
+    /**
+     * The closest the entity got to the stall target.
+     */
+    private double bestTargetDistance = Double.MAX_VALUE;
+
+    /**
+     * Ticks the entity has been navigating to the stall target without reaching a node or getting closer to it.
+     */
+    private int stalledTicks = 0;
+
+    /**
+     * Last node of the current path, a walkable spot the entity can be put on when it is stuck.
+     */
+    @Nullable
+    private BlockPos safeSpot;
+
     /**
      * Instantiates the navigation of an entity.
      *
@@ -169,12 +206,22 @@ public class PathNavigate extends PathNavigateGround
     {
         clearPathEntity();
 
+        if (dest == null || !dest.equals(stallTarget))
+        {
+            startStallTracking(dest);
+        }
+
         this.destination = dest;
         this.originalDestination = dest;
         this.walkSpeed = speed;
 
         future = Pathfinding.enqueue(job);
         pathResult = job.getResult();
+
+        if (entity instanceof EntityCitizen && ((EntityCitizen) entity).getColony() != null)
+        {
+            ((EntityCitizen) entity).getColony().getMetrics().record(ColonyMetrics.Sample.PATH_JOBS, 1);
+        }
         return pathResult;
     }
 
@@ -200,11 +247,28 @@ public class PathNavigate extends PathNavigateGround
             destination = new BlockPos(finalPoint.xCoord, finalPoint.yCoord, finalPoint.zCoord);
         }
 
+        progressIndex = -1;
+        if (pathLength > 0)
+        {
+            final PathPoint finalPoint = path.getFinalPathPoint();
+            safeSpot = new BlockPos(finalPoint.xCoord, finalPoint.yCoord, finalPoint.zCoord);
+        }
+
         return super.setPath(tempPath == null ? path : tempPath, speed);
     }
 
     @Override
     public void onUpdateNavigation()
+    {
+        followPath();
+        updateProgress();
+    }
+
+    /**
+     * Take the result of a finished path job and move the entity along the current path.
+     * Returns early while a path job is pending or no path has been found, the progress is counted by the caller.
+     */
+    private void followPath()
     {
         if (future != null)
         {
@@ -333,6 +397,92 @@ public class PathNavigate extends PathNavigateGround
         }
     }
 
+    /**
+     * Count the ticks the entity navigates to its target without making progress.
+     * Reaching the next node of the path or getting closer to the target than ever before is progress.
+     * Only a new target resets the count, clearing and computing the path again does not,
+     * so the count keeps running while a path job is pending, when no path is found or vanilla clears a path the entity got stuck on.
+     */
+    private void updateProgress()
+    {
+        if (stallTarget == null || (destination == null && future == null))
+        {
+            return;
+        }
+
+        boolean progressed = false;
+        if (getPath() != null)
+        {
+            final int index = getPath().getCurrentPathIndex();
+            progressed = progressIndex != -1 && index > progressIndex;
+            progressIndex = index;
+        }
+
+        final double targetDistance =
+          Math.sqrt(entity.getDistanceSq(stallTarget.getX() + MIDDLE_BLOCK_OFFSET, stallTarget.getY(), stallTarget.getZ() + MIDDLE_BLOCK_OFFSET));
+        if (targetDistance < bestTargetDistance - MIN_TARGET_PROGRESS)
+        {
+            bestTargetDistance = targetDistance;
+            progressed = true;
+        }
+
+        stalledTicks = progressed ? 0 : stalledTicks + 1;
+    }
+
+    /**
+     * Start counting the stalled ticks for a new target.
+     *
+     * @param target the target, null to stop counting.
+     */
+    private void startStallTracking(@Nullable final BlockPos target)
+    {
+        stallTarget = target;
+        progressIndex = -1;
+        bestTargetDistance = Double.MAX_VALUE;
+        stalledTicks = 0;
+        safeSpot = null;
+    }
+
+    /**
+     * Restart counting the stalled ticks for the current target, after the entity has been moved.
+     */
+    public void resetStalledTicks()
+    {
+        startStallTracking(stallTarget);
+    }
+
+    /**
+     * Get the target the stalled ticks are counted for.
+     *
+     * @return the target or null if the entity isn't navigating to a position.
+     */
+    @Nullable
+    public BlockPos getStallTarget()
+    {
+        return stallTarget;
+    }
+
+    /**
+     * Get the amount of ticks the entity has been navigating to its target without making progress.
+     *
+     * @return the amount of ticks, 0 if there is no target.
+     */
+    public int getStalledTicks()
+    {
+        return stalledTicks;
+    }
+
+    /**
+     * Get a walkable spot of the current path to put the entity on when it is stuck.
+     *
+     * @return the last node of the latest path to the target or null if none has been found.
+     */
+    @Nullable
+    public BlockPos getSafeSpot()
+    {
+        return safeSpot;
+    }
+
     @Override
     protected void pathFollow()
     {
@@ -405,22 +555,6 @@ public class PathNavigate extends PathNavigateGround
           new PathJobFindTree(CompatibilityUtils.getWorld(entity), start, ((EntityCitizen) entity).getWorkBuilding().getLocation(), range, treesToCut), null, speed);
     }
 
-    /**
-     * Used to find a water.
-     *
-     * @param range in the range.
-     * @param speed walking speed.
-     * @param ponds a list of ponds.
-     * @return the result of the search.
-     */
-    @Nullable
-    public PathJobFindWater.WaterPathResult moveToWater(final int range, final double speed, final List<BlockPos> ponds)
-    {
-        @NotNull final BlockPos start = AbstractPathJob.prepareStart(entity);
-        return (PathJobFindWater.WaterPathResult) setPathJob(
-          new PathJobFindWater(CompatibilityUtils.getWorld(entity), start, ((EntityCitizen) entity).getWorkBuilding().getLocation(), range, ponds), null, speed);
-    }
-
     /**
      * Used to move a living entity with a speed.
      *
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.event;
 
 import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.api.compatibility.Compatibility;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.Log;
@@ -8,10 +9,12 @@ import com.minecolonies.api.util.MathUtils;
 import com.minecolonies.coremod.blocks.AbstractBlockHut;
 import com.minecolonies.coremod.blocks.BlockHutTownHall;
 import com.minecolonies.coremod.blocks.BlockHutWareHouse;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import net.minecraft.block.Block;
+import net.minecraft.block.BlockSapling;
 import net.minecraft.block.BlockSilverfish;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.EntityPlayerSP;
@@ -90,6 +93,18 @@ public class EventHandler
     public void onBlockBreak(@NotNull final BlockEvent.BreakEvent event)
     {
         final World world = event.getWorld();
+        final Block brokenBlock = event.getState().getBlock();
+
+        //Only logs and saplings can be tree bases, skip the colony lookup for every other block.
+        if (!world.isRemote
+              && (brokenBlock.isWood(world, event.getPos()) || brokenBlock instanceof BlockSapling || Compatibility.isSlimeBlock(brokenBlock)))
+        {
+            @Nullable final Colony colony = ColonyManager.getColony(world, event.getPos());
+            if (colony != null)
+            {
+                colony.getTreeIndex().onBlockBroken(event.getPos());
+            }
+        }
 
         if (!world.isRemote && event.getState().getBlock() instanceof AbstractBlockHut)
         {
@@ -109,6 +124,27 @@ public class EventHandler
         }
     }
 
+    /**
+     * Event when a block is placed.
+     * Saplings placed in a colony are registered as future trees.
+     *
+     * @param event {@link net.minecraftforge.event.world.BlockEvent.PlaceEvent}
+     */
+    @SubscribeEvent
+    public void onBlockPlace(@NotNull final BlockEvent.PlaceEvent event)
+    {
+        final World world = event.getWorld();
+
+        if (!world.isRemote && event.getPlacedBlock().getBlock() instanceof BlockSapling)
+        {
+            @Nullable final Colony colony = ColonyManager.getColony(world, event.getPos());
+            if (colony != null)
+            {
+                colony.getTreeIndex().addTree(event.getPos());
+            }
+        }
+    }
+
     /**
      * Event when a player right clicks a block, or right clicks with an item.
      * Event gets cancelled when player has no permission. Event gets cancelled
@@ -379,6 +415,21 @@ public class EventHandler
         }
     }*/
 
+    /**
+     * Gets called when an entity joins the world.
+     * Calls {@link ColonyManager#onEntityJoinWorld(World, net.minecraft.entity.Entity)}
+     *
+     * @param event {@link EntityJoinWorldEvent}
+     */
+    @SubscribeEvent
+    public void onItemJoinWorld(@NotNull final EntityJoinWorldEvent event)
+    {
+        if (!event.getWorld().isRemote)
+        {
+            ColonyManager.onEntityJoinWorld(event.getWorld(), event.getEntity());
+        }
+    }
+
     /**
      * Gets called when world loads.
      * Calls {@link ColonyManager#onWorldLoad(World)}
@@ -1,6 +1,8 @@
 package com.minecolonies.coremod.inventory;
 
 import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.api.inventory.IInventorySummaryProvider;
+import com.minecolonies.api.inventory.InventorySummary;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import net.minecraft.block.state.IBlockState;
@@ -31,7 +33,7 @@ import java.util.List;
 /**
  * Basic inventory for the citizens.
  */
-public class InventoryCitizen implements IInventory
+public class InventoryCitizen implements IInventory, IInventorySummaryProvider
 {
     /**
      * Max size of the stacks.
@@ -77,6 +79,10 @@ public class InventoryCitizen implements IInventory
      * The citizen which owns the inventory.
      */
     private EntityCitizen citizen;
+    /**
+     * Index of the slots by item and tool type.
+     */
+    private final InventorySummary summary = new InventorySummary(this);
 
     /**
      * Creates the inventory of the citizen.
@@ -139,6 +145,13 @@ public class InventoryCitizen implements IInventory
         this.customName = customName;
     }
 
+    @NotNull
+    @Override
+    public InventorySummary getInventorySummary()
+    {
+        return summary;
+    }
+
     /**
      * Checks if the inventory has been changed and then resets the boolean.
      *
@@ -217,6 +230,8 @@ public class InventoryCitizen implements IInventory
         final ItemStack itemstack = this.mainInventory.get(this.currentItem);
         this.mainInventory.set(this.currentItem, this.mainInventory.get(index));
         this.mainInventory.set(index, itemstack);
+        summary.onSlotChanged(this.currentItem);
+        summary.onSlotChanged(index);
     }
 
     /**
@@ -445,7 +460,14 @@ public class InventoryCitizen implements IInventory
             tempIndex -= nonnulllist.size();
         }
 
-        return list != null && !ItemStackUtils.isEmpty(list.get(tempIndex)) ? ItemStackHelper.getAndSplit(list, tempIndex, count) : ItemStackUtils.EMPTY;
+        if (list == null || ItemStackUtils.isEmpty(list.get(tempIndex)))
+        {
+            return ItemStackUtils.EMPTY;
+        }
+
+        final ItemStack removed = ItemStackHelper.getAndSplit(list, tempIndex, count);
+        summary.onSlotChanged(index);
+        return removed;
     }
 
     /**
@@ -474,6 +496,7 @@ public class InventoryCitizen implements IInventory
         {
             final ItemStack itemstack = nonnulllist.get(tempIndex);
             nonnulllist.set(tempIndex, ItemStackUtils.EMPTY);
+            summary.onSlotChanged(index);
             return itemstack;
         }
         else
@@ -507,6 +530,7 @@ public class InventoryCitizen implements IInventory
         if (nonnulllist != null)
         {
             nonnulllist.set(tempIndex, stack);
+            summary.onSlotChanged(index);
         }
     }
 
@@ -643,6 +667,7 @@ public class InventoryCitizen implements IInventory
         {
             list.clear();
         }
+        summary.invalidate();
     }
 
     /**
@@ -677,6 +702,8 @@ public class InventoryCitizen implements IInventory
         }
         else
         {
+            //Stacks are placed empty and grown afterwards, the summary can't follow that slot by slot.
+            summary.invalidate();
             try
             {
                 if (itemStackIn.isItemDamaged())
@@ -859,6 +886,7 @@ public class InventoryCitizen implements IInventory
                 }
             }
         }
+        summary.invalidate();
     }
 
     /**
@@ -934,6 +962,7 @@ public class InventoryCitizen implements IInventory
         this.mainInventory.clear();
         this.armorInventory.clear();
         this.offHandInventory.clear();
+        summary.invalidate();
 
         for (int i = 0; i < nbtTagListIn.tagCount(); ++i)
         {
@@ -1007,6 +1036,7 @@ public class InventoryCitizen implements IInventory
                 }
             }
         }
+        summary.invalidate();
     }
 
     /**
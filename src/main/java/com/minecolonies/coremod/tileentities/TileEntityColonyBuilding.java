@@ -1,12 +1,15 @@
 package com.minecolonies.coremod.tileentities;
 
 import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.api.inventory.IInventorySummaryProvider;
+import com.minecolonies.api.inventory.InventorySummary;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.ColonyView;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.SPacketUpdateTileEntity;
@@ -17,7 +20,7 @@ import org.jetbrains.annotations.NotNull;
 /**
  * Class which handles the tileEntity of our colonyBuildings.
  */
-public class TileEntityColonyBuilding extends TileEntityChest
+public class TileEntityColonyBuilding extends TileEntityChest implements IInventorySummaryProvider
 {
     /**
      * NBTTag to store the colony id.
@@ -51,6 +54,11 @@ public class TileEntityColonyBuilding extends TileEntityChest
      */
     private String style = "";
 
+    /**
+     * Index of the chest slots by item and tool type.
+     */
+    private final InventorySummary summary = new InventorySummary(this);
+
     /**
      * Empty standard constructor.
      */
@@ -148,6 +156,49 @@ public class TileEntityColonyBuilding extends TileEntityChest
         {
             building.markDirty();
         }
+        if (colony != null && colony.getRequestManager() != null)
+        {
+            colony.getRequestManager().onColonyInventoryChanged();
+        }
+    }
+
+    @NotNull
+    @Override
+    public InventorySummary getInventorySummary()
+    {
+        return summary;
+    }
+
+    @Override
+    public void setInventorySlotContents(final int index, @NotNull final ItemStack stack)
+    {
+        super.setInventorySlotContents(index, stack);
+        summary.onSlotChanged(index);
+    }
+
+    @NotNull
+    @Override
+    public ItemStack decrStackSize(final int index, final int count)
+    {
+        final ItemStack removed = super.decrStackSize(index, count);
+        summary.onSlotChanged(index);
+        return removed;
+    }
+
+    @NotNull
+    @Override
+    public ItemStack removeStackFromSlot(final int index)
+    {
+        final ItemStack removed = super.removeStackFromSlot(index);
+        summary.onSlotChanged(index);
+        return removed;
+    }
+
+    @Override
+    public void clear()
+    {
+        super.clear();
+        summary.invalidate();
     }
 
     @Override
@@ -230,6 +281,7 @@ public class TileEntityColonyBuilding extends TileEntityChest
     public void readFromNBT(final NBTTagCompound compound)
     {
         super.readFromNBT(compound);
+        summary.invalidate();
         if (compound.hasKey(TAG_COLONY))
         {
             colonyId = compound.getInteger(TAG_COLONY);
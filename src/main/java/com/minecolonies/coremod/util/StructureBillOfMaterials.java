@@ -0,0 +1,184 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.util.BlockUtils;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.coremod.blocks.BlockSolidSubstitution;
+import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIStructure;
+import com.minecolonies.structures.helpers.StructureProxy;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockBed;
+import net.minecraft.block.BlockDoor;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityFlowerPot;
+import net.minecraft.tileentity.TileEntityLockable;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.gen.structure.template.Template;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The materials a rotated structure needs if nothing of it is built yet.
+ * <p>
+ * Contains one entry per cell which needs items, with the items already calculated.
+ * Builders check the entries against the world over several ticks to find out what they actually need.
+ * The bill is compiled once per {@link StructureBuildPlan} and shared, its entries must not be modified.
+ */
+public final class StructureBillOfMaterials
+{
+    /**
+     * The materials of one cell.
+     */
+    public static final class Entry
+    {
+        /**
+         * The cell index in the build plan.
+         */
+        public final int cell;
+
+        /**
+         * The block state of the schematic.
+         */
+        public final IBlockState blockState;
+
+        /**
+         * The items needed, the block and the content of its tile entity.
+         * Empty for solid substitution blocks, they depend on the world.
+         */
+        public final List<ItemStack> stacks;
+
+        /**
+         * Create an entry.
+         *
+         * @param cell       the cell index.
+         * @param blockState the block state.
+         * @param stacks     the items needed.
+         */
+        private Entry(final int cell, @NotNull final IBlockState blockState, @NotNull final List<ItemStack> stacks)
+        {
+            this.cell = cell;
+            this.blockState = blockState;
+            this.stacks = stacks;
+        }
+
+        /**
+         * Checks if the block of the entry is a solid substitution block.
+         *
+         * @return true if so.
+         */
+        public boolean isSolidSubstitution()
+        {
+            return blockState.getBlock() instanceof BlockSolidSubstitution;
+        }
+    }
+
+    /**
+     * The entries in build order.
+     */
+    private final List<Entry> entries;
+
+    /**
+     * Compile the bill of a rotated structure.
+     *
+     * @param structure the rotated structure.
+     * @param plan      the build plan of the structure.
+     * @param world     the world, used to read tile entity data.
+     */
+    StructureBillOfMaterials(@NotNull final StructureProxy structure, @NotNull final StructureBuildPlan plan, @NotNull final World world)
+    {
+        final List<Entry> list = new ArrayList<>();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (final int cell : plan.getBuildCells())
+        {
+            plan.setToCell(cell, pos);
+            final Template.BlockInfo info = structure.getBlockInfo(pos);
+            final IBlockState blockState = info.blockState;
+            final Block block = blockState.getBlock();
+
+            if ((block instanceof BlockBed && blockState.getValue(BlockBed.PART).equals(BlockBed.EnumPartType.FOOT))
+                  || (block instanceof BlockDoor && blockState.getValue(BlockDoor.HALF).equals(BlockDoor.EnumDoorHalf.UPPER)))
+            {
+                continue;
+            }
+
+            if (block instanceof BlockSolidSubstitution)
+            {
+                list.add(new Entry(cell, blockState, Collections.emptyList()));
+                continue;
+            }
+
+            if (block == Blocks.AIR || AbstractEntityAIStructure.isBlockFree(block, 0))
+            {
+                continue;
+            }
+
+            final List<ItemStack> stacks = new ArrayList<>();
+            if (info.tileentityData != null)
+            {
+                stacks.addAll(getItemStacksOfTileEntity(world, info.tileentityData));
+            }
+            stacks.add(BlockUtils.getItemStackFromBlockState(blockState));
+            list.add(new Entry(cell, blockState, Collections.unmodifiableList(stacks)));
+        }
+        this.entries = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Get itemStack of tileEntityData. Retrieve the data from the tileEntity.
+     *
+     * @param world    the world.
+     * @param compound the tileEntity stored in a compound.
+     * @return the list of itemstacks.
+     */
+    @NotNull
+    public static List<ItemStack> getItemStacksOfTileEntity(@NotNull final World world, @NotNull final NBTTagCompound compound)
+    {
+        final List<ItemStack> items = new ArrayList<>();
+        final TileEntity tileEntity = TileEntity.create(world, compound);
+        if (tileEntity instanceof TileEntityFlowerPot)
+        {
+            items.add(((TileEntityFlowerPot) tileEntity).getFlowerItemStack());
+        }
+        else if (tileEntity instanceof TileEntityLockable)
+        {
+            for (int i = 0; i < ((TileEntityLockable) tileEntity).getSizeInventory(); i++)
+            {
+                final ItemStack stack = ((TileEntityLockable) tileEntity).getStackInSlot(i);
+                if (!ItemStackUtils.isEmpty(stack))
+                {
+                    items.add(stack);
+                }
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Get the amount of entries.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Get an entry.
+     *
+     * @param index the index, in build order.
+     * @return the entry.
+     */
+    @NotNull
+    public Entry get(final int index)
+    {
+        return entries.get(index);
+    }
+}
@@ -0,0 +1,279 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.coremod.blocks.ModBlocks;
+import com.minecolonies.structures.helpers.StructureProxy;
+import net.minecraft.block.Block;
+import net.minecraft.util.Mirror;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.gen.structure.template.Template;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compiled build plan of a rotated structure.
+ * <p>
+ * For each construction stage the plan holds the sorted cell indices (see {@link #getCellIndex(int, int, int)}) which can
+ * be relevant in that stage, judged from the schematic alone. Cells which never matter in a stage (like solid blocks while decorating
+ * or cells without entity while spawning) are left out, so the builder doesn't have to check them against the world.
+ * Plans are shared per schematic MD5, rotation and mirror.
+ */
+public final class StructureBuildPlan
+{
+    /**
+     * Max amount of plans to keep.
+     */
+    private static final int MAX_CACHED_PLANS = 32;
+
+    /**
+     * Shared plans by schematic MD5, rotation and mirror.
+     */
+    private static final Map<String, StructureBuildPlan> plans = new LinkedHashMap<String, StructureBuildPlan>(16, 0.75F, true)
+    {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, StructureBuildPlan> eldest)
+        {
+            return size() > MAX_CACHED_PLANS;
+        }
+    };
+
+    /**
+     * Width and length of the structure.
+     */
+    private final int width;
+    private final int length;
+
+    /**
+     * Cells to check when clearing, everything but substitution blocks.
+     */
+    private final int[] clearCells;
+
+    /**
+     * Cells to check when building, every cell of the schematic.
+     */
+    private final int[] buildCells;
+
+    /**
+     * Cells to check when decorating, non solid blocks but substitution blocks.
+     */
+    private final int[] decorateCells;
+
+    /**
+     * Cells to check when spawning, cells with an entity.
+     */
+    private final int[] spawnCells;
+
+    /**
+     * The materials of the structure, compiled when a builder first needs them.
+     */
+    private StructureBillOfMaterials billOfMaterials;
+
+    /**
+     * Compile the plan of a rotated structure.
+     *
+     * @param structure the rotated structure.
+     */
+    private StructureBuildPlan(@NotNull final StructureProxy structure)
+    {
+        this.width = structure.getWidth();
+        this.length = structure.getLength();
+
+        final int size = width * structure.getHeight() * length;
+        final int[] clear = new int[size];
+        final int[] build = new int[size];
+        final int[] decorate = new int[size];
+        final int[] spawn = new int[size];
+        int clearCount = 0;
+        int buildCount = 0;
+        int decorateCount = 0;
+        int spawnCount = 0;
+
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int y = 0; y < structure.getHeight(); y++)
+        {
+            for (int z = 0; z < length; z++)
+            {
+                for (int x = 0; x < width; x++)
+                {
+                    pos.setPos(x, y, z);
+                    final Template.BlockInfo info = structure.getBlockInfo(pos);
+                    if (info == null)
+                    {
+                        continue;
+                    }
+
+                    final int cell = getCellIndex(x, y, z);
+                    final Block block = info.blockState.getBlock();
+                    final boolean substitution = block == ModBlocks.blockSubstitution;
+
+                    build[buildCount++] = cell;
+                    if (!substitution)
+                    {
+                        clear[clearCount++] = cell;
+                        if (!info.blockState.getMaterial().isSolid())
+                        {
+                            decorate[decorateCount++] = cell;
+                        }
+                    }
+                    if (structure.getEntityinfo(pos) != null)
+                    {
+                        spawn[spawnCount++] = cell;
+                    }
+                }
+            }
+        }
+
+        this.clearCells = Arrays.copyOf(clear, clearCount);
+        this.buildCells = Arrays.copyOf(build, buildCount);
+        this.decorateCells = Arrays.copyOf(decorate, decorateCount);
+        this.spawnCells = Arrays.copyOf(spawn, spawnCount);
+    }
+
+    /**
+     * Get the plan of a rotated structure, compiles it if it isn't known yet.
+     *
+     * @param structure the rotated structure.
+     * @param rotation  the times it was rotated.
+     * @param mirror    the mirror it was rotated with.
+     * @return the plan.
+     */
+    @NotNull
+    public static StructureBuildPlan getPlan(@NotNull final StructureProxy structure, final int rotation, @NotNull final Mirror mirror)
+    {
+        final String md5 = structure.getStructure().getMD5();
+        if (md5 == null)
+        {
+            return new StructureBuildPlan(structure);
+        }
+
+        final String key = md5 + ':' + rotation + ':' + mirror.name();
+        synchronized (plans)
+        {
+            StructureBuildPlan plan = plans.get(key);
+            if (plan == null || plan.width != structure.getWidth() || plan.length != structure.getLength())
+            {
+                plan = new StructureBuildPlan(structure);
+                plans.put(key, plan);
+            }
+            return plan;
+        }
+    }
+
+    /**
+     * Get the index of a cell, cells in increment order have ascending indices.
+     *
+     * @param x the local x.
+     * @param y the local y.
+     * @param z the local z.
+     * @return the index.
+     */
+    public int getCellIndex(final int x, final int y, final int z)
+    {
+        return (y * length + z) * width + x;
+    }
+
+    /**
+     * Get the local position of a cell.
+     *
+     * @param cell the index of the cell.
+     * @param pos  the position to set.
+     */
+    public void setToCell(final int cell, @NotNull final BlockPos.MutableBlockPos pos)
+    {
+        pos.setPos(cell % width, cell / (width * length), (cell / width) % length);
+    }
+
+    /**
+     * Find the next relevant cell after a cell.
+     *
+     * @param cells   the sorted cells of a stage.
+     * @param current the current cell, -1 to start at the beginning.
+     * @return the next cell or -1 if there is none.
+     */
+    public static int nextCell(@NotNull final int[] cells, final int current)
+    {
+        final int found = Arrays.binarySearch(cells, current);
+        final int next = found >= 0 ? found + 1 : -found - 1;
+        return next < cells.length ? cells[next] : -1;
+    }
+
+    /**
+     * Find the previous relevant cell before a cell.
+     *
+     * @param cells   the sorted cells of a stage.
+     * @param current the current cell, Integer.MAX_VALUE to start at the end.
+     * @return the previous cell or -1 if there is none.
+     */
+    public static int previousCell(@NotNull final int[] cells, final int current)
+    {
+        final int found = Arrays.binarySearch(cells, current);
+        final int previous = found >= 0 ? found - 1 : -found - 2;
+        return previous >= 0 ? cells[previous] : -1;
+    }
+
+    /**
+     * Get the materials of the structure, compiles them on first use.
+     *
+     * @param structure the rotated structure this plan belongs to.
+     * @param world     the world, used to read tile entity data.
+     * @return the bill of materials.
+     */
+    @NotNull
+    public synchronized StructureBillOfMaterials getBillOfMaterials(@NotNull final StructureProxy structure, @NotNull final World world)
+    {
+        if (billOfMaterials == null)
+        {
+            billOfMaterials = new StructureBillOfMaterials(structure, this, world);
+        }
+        return billOfMaterials;
+    }
+
+    /**
+     * Get the cells relevant for clearing.
+     *
+     * @return the sorted cells, shared, don't modify them.
+     */
+    @NotNull
+    public int[] getClearCells()
+    {
+        return clearCells;
+    }
+
+    /**
+     * Get the cells relevant for building.
+     *
+     * @return the sorted cells, shared, don't modify them.
+     */
+    @NotNull
+    public int[] getBuildCells()
+    {
+        return buildCells;
+    }
+
+    /**
+     * Get the cells relevant for decorating.
+     *
+     * @return the sorted cells, shared, don't modify them.
+     */
+    @NotNull
+    public int[] getDecorateCells()
+    {
+        return decorateCells;
+    }
+
+    /**
+     * Get the cells relevant for spawning entities.
+     *
+     * @return the sorted cells, shared, don't modify them.
+     */
+    @NotNull
+    public int[] getSpawnCells()
+    {
+        return spawnCells;
+    }
+}
@@ -53,6 +53,16 @@ public final class StructureWrapper
      * placed on in the minecraft world.
      */
     private       BlockPos       position;
+    /**
+     * The times and mirror the structure has been rotated with.
+     */
+    private       int            rotation = 0;
+    private       Mirror         mirror   = Mirror.NONE;
+    /**
+     * The compiled build plan of the rotated structure, null until needed.
+     */
+    @Nullable
+    private       StructureBuildPlan buildPlan;
 
     /**
      * Load a structure into this world.
@@ -149,6 +159,66 @@ public final class StructureWrapper
     public void rotate(final int times, @NotNull final World world, @NotNull final BlockPos rotatePos, @NotNull final Mirror mirror)
     {
         structure.rotateWithMirror(times, world, rotatePos, mirror);
+        this.rotation = times;
+        this.mirror = mirror;
+        this.buildPlan = null;
+    }
+
+    /**
+     * Get the compiled build plan of the rotated structure.
+     *
+     * @return the plan.
+     */
+    @NotNull
+    public StructureBuildPlan getBuildPlan()
+    {
+        if (buildPlan == null)
+        {
+            buildPlan = StructureBuildPlan.getPlan(structure, rotation, mirror);
+        }
+        return buildPlan;
+    }
+
+    /**
+     * Move progressPos to the next cell of a stage of the build plan.
+     *
+     * @param cells the cells of the stage, from {@link #getBuildPlan()}.
+     * @return false if there are no cells left.
+     */
+    public boolean incrementBlock(@NotNull final int[] cells)
+    {
+        final StructureBuildPlan plan = getBuildPlan();
+        final int current = this.progressPos.equals(NULL_POS)
+                              ? -1 : plan.getCellIndex(this.progressPos.getX(), this.progressPos.getY(), this.progressPos.getZ());
+        final int next = StructureBuildPlan.nextCell(cells, current);
+        if (next < 0)
+        {
+            reset();
+            return false;
+        }
+        plan.setToCell(next, this.progressPos);
+        return true;
+    }
+
+    /**
+     * Move progressPos to the previous cell of a stage of the build plan.
+     *
+     * @param cells the cells of the stage, from {@link #getBuildPlan()}.
+     * @return false if there are no cells left.
+     */
+    public boolean decrementBlock(@NotNull final int[] cells)
+    {
+        final StructureBuildPlan plan = getBuildPlan();
+        final int current = this.progressPos.equals(NULL_POS)
+                              ? Integer.MAX_VALUE : plan.getCellIndex(this.progressPos.getX(), this.progressPos.getY(), this.progressPos.getZ());
+        final int previous = StructureBuildPlan.previousCell(cells, current);
+        if (previous < 0)
+        {
+            reset();
+            return false;
+        }
+        plan.setToCell(previous, this.progressPos);
+        return true;
     }
 
     /**
@@ -326,7 +396,18 @@ public final class StructureWrapper
      */
     public boolean isStructureBlockEqualWorldBlock()
     {
-        final IBlockState structureBlockState = structure.getBlockState(this.getLocalPosition());
+        return isStructureBlockEqualWorldBlock(this.getLocalPosition());
+    }
+
+    /**
+     * Checks if the block in the world is the same as what is in the structure at a local position.
+     *
+     * @param localPos the position in the structure.
+     * @return true if the structure block equals the world block.
+     */
+    public boolean isStructureBlockEqualWorldBlock(@NotNull final BlockPos localPos)
+    {
+        final IBlockState structureBlockState = structure.getBlockState(localPos);
         final Block structureBlock = structureBlockState.getBlock();
 
         //All worldBlocks are equal the substitution block
@@ -335,7 +416,7 @@ public final class StructureWrapper
             return true;
         }
 
-        final BlockPos worldPos = this.getBlockPosition();
+        final BlockPos worldPos = localPos.add(getOffsetPosition());
 
         final IBlockState worldBlockState = world.getBlockState(worldPos);
 
@@ -356,7 +437,7 @@ public final class StructureWrapper
             return true;
         }
 
-        final Template.EntityInfo entityInfo = structure.getEntityinfo(this.getLocalPosition());
+        final Template.EntityInfo entityInfo = structure.getEntityinfo(localPos);
         if (entityInfo != null)
         {
             return false;
@@ -108,6 +108,18 @@ public class Structure
             this.mc = Minecraft.getMinecraft();
         }
 
+        //Try the parsed templates first, a known schematic doesn't have to be read again
+        if (Structures.hasMD5(correctStructureName))
+        {
+            final TemplateCache.CachedTemplate cached = TemplateCache.get(Structures.getMD5(correctStructureName));
+            if (cached != null)
+            {
+                this.md5 = Structures.getMD5(correctStructureName);
+                this.template = cached.getTemplate();
+                return;
+            }
+        }
+
         InputStream inputStream = null;
         try
         {
@@ -135,8 +147,21 @@ public class Structure
 
             try
             {
-                this.md5 = Structure.calculateMD5(Structure.getStream(correctStructureName));
-                this.template = readTemplateFromStream(inputStream);
+                final byte[] bytes = Structure.getStreamAsByteArray(inputStream);
+                this.md5 = Structure.calculateMD5(bytes);
+                final TemplateCache.CachedTemplate cached = TemplateCache.get(md5);
+                if (cached == null)
+                {
+                    this.template = readTemplateFromStream(new ByteArrayInputStream(bytes));
+                    if (md5 != null)
+                    {
+                        TemplateCache.put(md5, template);
+                    }
+                }
+                else
+                {
+                    this.template = cached.getTemplate();
+                }
             }
             catch (final IOException e)
             {
@@ -430,6 +455,17 @@ public class Structure
         return template;
     }
 
+    /**
+     * Get the MD5 hash of the schematic of this structure.
+     *
+     * @return the hash or null if the schematic could not be loaded.
+     */
+    @Nullable
+    public String getMD5()
+    {
+        return md5;
+    }
+
     /**
      * Checks if the template is null.
      *
@@ -45,6 +45,15 @@ public class StructureProxy
         this.height = size.getY();
         this.length = size.getZ();
 
+        final TemplateCache.CachedTemplate cached = TemplateCache.get(structure.getMD5());
+        if (cached != null && cached.hasProxyArrays())
+        {
+            this.blocks = cached.getBlocks();
+            this.entities = cached.getEntities();
+            this.offset = cached.getOffset();
+            return;
+        }
+
         this.blocks = new Template.BlockInfo[width][height][length];
         this.entities = new Template.EntityInfo[width][height][length];
 
@@ -65,6 +74,11 @@ public class StructureProxy
             final BlockPos tempPos = info.blockPos;
             entities[tempPos.getX()][tempPos.getY()][tempPos.getZ()] = info;
         }
+
+        if (cached != null)
+        {
+            cached.setProxyArrays(blocks, entities, offset);
+        }
     }
 
     /**
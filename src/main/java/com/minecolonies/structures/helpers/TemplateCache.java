@@ -0,0 +1,213 @@
+package com.minecolonies.structures.helpers;
+
+import com.minecolonies.api.configuration.Configurations;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.gen.structure.template.Template;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of parsed schematic templates, keyed by the MD5 hash of the schematic file.
+ * <p>
+ * The cache also keeps the unrotated block arrays of {@link StructureProxy}, so loading a known schematic
+ * neither reads, decompresses nor parses the file again. The least recently used entries are dropped once the
+ * estimated memory of all entries exceeds the configured size. Cached templates and arrays are shared, they must not be modified.
+ */
+public final class TemplateCache
+{
+    /**
+     * Estimated bytes used by one block of a template (BlockInfo, position and array slots).
+     */
+    private static final long BYTES_PER_BLOCK = 96L;
+
+    /**
+     * Estimated bytes used by one tile entity of a template (EntityInfo and its nbt).
+     */
+    private static final long BYTES_PER_TILE_ENTITY = 512L;
+
+    /**
+     * Bytes in a megabyte.
+     */
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+    /**
+     * The cached templates by MD5, in access order.
+     */
+    private static final LinkedHashMap<String, CachedTemplate> templates = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     * Estimated memory of all cached templates.
+     */
+    private static long estimatedSize = 0;
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private TemplateCache()
+    {
+    }
+
+    /**
+     * Get a cached template.
+     *
+     * @param md5 the MD5 hash of the schematic.
+     * @return the cached template or null.
+     */
+    @Nullable
+    public static synchronized CachedTemplate get(@Nullable final String md5)
+    {
+        return md5 == null ? null : templates.get(md5);
+    }
+
+    /**
+     * Add a parsed template to the cache.
+     *
+     * @param md5      the MD5 hash of the schematic.
+     * @param template the parsed template.
+     * @return the cached template.
+     */
+    @NotNull
+    public static synchronized CachedTemplate put(@NotNull final String md5, @NotNull final Template template)
+    {
+        final CachedTemplate existing = templates.get(md5);
+        if (existing != null)
+        {
+            return existing;
+        }
+
+        final CachedTemplate cached = new CachedTemplate(template);
+        templates.put(md5, cached);
+        estimatedSize += cached.estimatedSize;
+        evict();
+        return cached;
+    }
+
+    /**
+     * Drop all cached templates.
+     */
+    public static synchronized void clear()
+    {
+        templates.clear();
+        estimatedSize = 0;
+    }
+
+    /**
+     * Drop the least recently used templates until the cache fits its memory limit, always keeps the newest.
+     */
+    private static void evict()
+    {
+        final long limit = Configurations.gameplay.parsedSchematicsCacheSize * BYTES_PER_MEGABYTE;
+        final Iterator<Map.Entry<String, CachedTemplate>> iterator = templates.entrySet().iterator();
+        while (estimatedSize > limit && templates.size() > 1 && iterator.hasNext())
+        {
+            estimatedSize -= iterator.next().getValue().estimatedSize;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * A parsed template and the unrotated proxy arrays derived from it.
+     */
+    public static final class CachedTemplate
+    {
+        /**
+         * The parsed template.
+         */
+        private final Template template;
+
+        /**
+         * Estimated memory of the template and its arrays.
+         */
+        private final long estimatedSize;
+
+        /**
+         * Unrotated proxy arrays, null until a StructureProxy was created for this template.
+         */
+        private Template.BlockInfo[][][]  blocks;
+        private Template.EntityInfo[][][] entities;
+        private BlockPos                  offset;
+
+        /**
+         * Create a cache entry.
+         *
+         * @param template the parsed template.
+         */
+        private CachedTemplate(@NotNull final Template template)
+        {
+            this.template = template;
+            final BlockPos size = template.getSize();
+            this.estimatedSize = template.blocks.size() * BYTES_PER_BLOCK
+                                   + template.entities.size() * BYTES_PER_TILE_ENTITY
+                                   + (long) size.getX() * size.getY() * size.getZ() * 2 * Integer.BYTES;
+        }
+
+        /**
+         * Get the parsed template.
+         *
+         * @return the template.
+         */
+        @NotNull
+        public Template getTemplate()
+        {
+            return template;
+        }
+
+        /**
+         * Checks if the proxy arrays have been calculated.
+         *
+         * @return true if so.
+         */
+        synchronized boolean hasProxyArrays()
+        {
+            return blocks != null;
+        }
+
+        /**
+         * Store the unrotated proxy arrays.
+         *
+         * @param blocks   the block array.
+         * @param entities the tile entity array.
+         * @param offset   the offset of the hut block.
+         */
+        synchronized void setProxyArrays(final Template.BlockInfo[][][] blocks, final Template.EntityInfo[][][] entities, final BlockPos offset)
+        {
+            this.blocks = blocks;
+            this.entities = entities;
+            this.offset = offset;
+        }
+
+        /**
+         * Get the cached block array.
+         *
+         * @return the array, shared, don't modify it.
+         */
+        synchronized Template.BlockInfo[][][] getBlocks()
+        {
+            return blocks;
+        }
+
+        /**
+         * Get the cached tile entity array.
+         *
+         * @return the array, shared, don't modify it.
+         */
+        synchronized Template.EntityInfo[][][] getEntities()
+        {
+            return entities;
+        }
+
+        /**
+         * Get the cached offset.
+         *
+         * @return the offset of the hut block.
+         */
+        synchronized BlockPos getOffset()
+        {
+            return offset;
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package com.minecolonies.api.colony.requestsystem;
+
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.requestsystem.SyntheticRequests.Payload;
+import com.minecolonies.api.colony.requestsystem.SyntheticRequests.PayloadLocation;
+import com.minecolonies.api.colony.requestsystem.SyntheticRequests.PayloadRequestFactory;
+import com.minecolonies.api.colony.requestsystem.SyntheticRequests.PayloadRequester;
+import com.minecolonies.api.colony.requestsystem.location.ILocation;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
+import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolverProvider;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardTokenFactory;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.common.util.Constants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Drives a fresh {@link StandardRequestManager} with synthetic requesters, resolvers and providers: many concurrent
+ * requests, cascades of child requests and provider removal while requests are open.
+ * Shared by the load tests and the request system benchmark.
+ */
+public final class RequestLoadGenerator
+{
+    /**
+     * Ticks after which a load run is considered stuck.
+     */
+    private static final int MAX_TICKS = 100_000;
+
+    private final StandardRequestManager manager   = new StandardRequestManager(mock(IColony.class));
+    private final int                    roots;
+    private final int                    depth;
+    private final int                    fanOut;
+    private final List<PayloadProvider>  providers = new ArrayList<>();
+    private final PayloadRequester       requester = new PayloadRequester();
+
+    /**
+     * Requests resolved by a resolver and waiting for their completion.
+     */
+    private final Deque<IRequest<Payload>> inProgress = new ArrayDeque<>();
+
+    /**
+     * Tokens of all requests ever created, to mark them received at the end.
+     */
+    private final Set<IToken> created = new HashSet<>();
+
+    private int assigned  = 0;
+    private int completed = 0;
+
+    /**
+     * Create a load run, the factories have to be registered with {@link #registerFactories()}.
+     *
+     * @param roots         the amount of root requests.
+     * @param depth         the levels of child requests below each root.
+     * @param fanOut        the amount of children of each request above the leaves.
+     * @param providerCount the amount of providers, each with two resolvers.
+     */
+    public RequestLoadGenerator(final int roots, final int depth, final int fanOut, final int providerCount)
+    {
+        this.roots = roots;
+        this.depth = depth;
+        this.fanOut = fanOut;
+        for (int i = 0; i < providerCount; i++)
+        {
+            final PayloadProvider provider = new PayloadProvider(this, i);
+            providers.add(provider);
+            manager.onProviderAddedToColony(provider);
+        }
+    }
+
+    /**
+     * Register the factories the load runs need.
+     */
+    public static void registerFactories()
+    {
+        StandardFactoryController.getInstance().registerNewFactory(new StandardTokenFactory());
+        StandardFactoryController.getInstance().registerNewFactory(new PayloadRequestFactory());
+    }
+
+    /**
+     * Count the requests in a serialized manager.
+     *
+     * @param compound the serialized manager.
+     * @return the amount of requests.
+     */
+    public static int countRequests(final NBTTagCompound compound)
+    {
+        return compound.getTagList(RequestTable.NBT_REQUESTS, Constants.NBT.TAG_COMPOUND).tagCount();
+    }
+
+    /**
+     * Get the amount of requests in a full run.
+     *
+     * @param roots  the amount of root requests.
+     * @param depth  the levels of child requests below each root.
+     * @param fanOut the amount of children of each request above the leaves.
+     * @return the amount of requests.
+     */
+    public static int countRequests(final int roots, final int depth, final int fanOut)
+    {
+        int perRoot = 0;
+        int level = 1;
+        for (int i = 0; i <= depth; i++)
+        {
+            perRoot += level;
+            level *= fanOut;
+        }
+        return roots * perRoot;
+    }
+
+    /**
+     * Run the full load: create and assign, optionally remove a provider, then resolve everything.
+     *
+     * @param removeProvider true to remove a provider before resolving.
+     */
+    public void run(final boolean removeProvider)
+    {
+        createAndAssign();
+        if (removeProvider)
+        {
+            removeProvider();
+        }
+        resolveAll();
+    }
+
+    /**
+     * Create the root requests and tick the manager until all requests are assigned.
+     */
+    public void createAndAssign()
+    {
+        for (int i = 0; i < roots; i++)
+        {
+            created.add(manager.createAndAssignRequest(requester, new Payload(depth)));
+        }
+        tickUntil(() -> assigned >= created.size());
+    }
+
+    /**
+     * Remove the first provider, its requests are reassigned to the others.
+     */
+    public void removeProvider()
+    {
+        if (providers.size() > 1)
+        {
+            manager.onProviderRemovedFromColony(providers.remove(0));
+        }
+    }
+
+    /**
+     * Complete the requests resolvers are working on until the roots are done, then mark everything received.
+     */
+    public void resolveAll()
+    {
+        tickUntil(() ->
+        {
+            while (!inProgress.isEmpty())
+            {
+                final IRequest<Payload> request = inProgress.poll();
+                if (request.getState() == RequestState.IN_PROGRESS)
+                {
+                    manager.updateRequestState(request.getToken(), RequestState.COMPLETED);
+                    completed++;
+                }
+            }
+            return requester.getCompleted() >= roots;
+        });
+
+        for (final IToken token : created)
+        {
+            manager.updateRequestState(token, RequestState.RECEIVED);
+        }
+    }
+
+    /**
+     * Tick the manager until a condition is met.
+     *
+     * @param condition the condition, checked after every tick.
+     * @throws IllegalStateException when the condition is not met within {@link #MAX_TICKS}.
+     */
+    private void tickUntil(final BooleanSupplier condition)
+    {
+        for (int tick = 0; tick < MAX_TICKS; tick++)
+        {
+            manager.update();
+            if (condition.getAsBoolean())
+            {
+                return;
+            }
+        }
+        throw new IllegalStateException("Load run did not finish within " + MAX_TICKS + " ticks.");
+    }
+
+    /**
+     * Get the manager of this run.
+     *
+     * @return the manager.
+     */
+    public StandardRequestManager getManager()
+    {
+        return manager;
+    }
+
+    /**
+     * Get the amount of assignments resolvers accepted.
+     *
+     * @return the amount.
+     */
+    public int getAssigned()
+    {
+        return assigned;
+    }
+
+    /**
+     * Get the amount of requests completed by the run.
+     *
+     * @return the amount.
+     */
+    public int getCompleted()
+    {
+        return completed;
+    }
+
+    /**
+     * Get the amount of root requests completed.
+     *
+     * @return the amount.
+     */
+    public int getCompletedRoots()
+    {
+        return requester.getCompleted();
+    }
+
+    /**
+     * Get the amount of requests still known to the manager.
+     *
+     * @return the amount.
+     */
+    public int getOpenRequests()
+    {
+        return countRequests(manager.serializeNBT());
+    }
+
+    /**
+     * Provider of a couple of resolvers with different priorities.
+     */
+    private static final class PayloadProvider implements IRequestResolverProvider
+    {
+        private final IToken                                token = StandardToken.of(UUID.randomUUID());
+        private final ImmutableCollection<IRequestResolver> resolvers;
+
+        private PayloadProvider(final RequestLoadGenerator run, final int index)
+        {
+            resolvers = ImmutableList.of(new PayloadResolver(run, index), new PayloadResolver(run, index + 1));
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T extends IToken> T getToken()
+        {
+            return (T) token;
+        }
+
+        @Override
+        public ImmutableCollection<IRequestResolver> getResolvers()
+        {
+            return resolvers;
+        }
+    }
+
+    /**
+     * Resolver which creates child requests for deep payloads and hands resolved requests to the load run.
+     */
+    private static final class PayloadResolver implements IRequestResolver<Payload>
+    {
+        private final IToken               token = StandardToken.of(UUID.randomUUID());
+        private final RequestLoadGenerator run;
+        private final int                  priority;
+
+        private PayloadResolver(final RequestLoadGenerator run, final int priority)
+        {
+            this.run = run;
+            this.priority = priority;
+        }
+
+        @Override
+        public Class<? extends Payload> getRequestType()
+        {
+            return Payload.class;
+        }
+
+        @Override
+        public boolean canResolve(@NotNull final IRequestManager manager, final IRequest<Payload> requestToCheck)
+        {
+            //Every other resolver only takes leaves, so the negative cache has something to do.
+            return priority % 2 == 0 || requestToCheck.getRequest().getDepth() == 0;
+        }
+
+        @Nullable
+        @Override
+        public List<IToken> attemptResolve(@NotNull final IRequestManager manager, @NotNull final IRequest<Payload> request)
+        {
+            run.assigned++;
+            final List<IToken> children = new ArrayList<>();
+            for (int i = 0; request.getRequest().getDepth() > 0 && i < run.fanOut; i++)
+            {
+                final IToken child = manager.createRequest(this, new Payload(request.getRequest().getDepth() - 1));
+                run.created.add(child);
+                children.add(child);
+            }
+            return children;
+        }
+
+        @Override
+        public void resolve(@NotNull final IRequestManager manager, @NotNull final IRequest<Payload> request)
+        {
+            run.inProgress.add(request);
+        }
+
+        @Nullable
+        @Override
+        public IRequest getFollowupRequestForCompletion(@NotNull final IRequestManager manager, @NotNull final IRequest<Payload> completedRequest)
+        {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public IRequest onParentCancelled(@NotNull final IRequestManager manager, @NotNull final IRequest<Payload> request)
+        {
+            return null;
+        }
+
+        @Override
+        public void onResolvingOverruled(@NotNull final IRequestManager manager, @NotNull final IRequest<Payload> request)
+        {
+            //Nothing to clean up.
+        }
+
+        @Override
+        public int getPriority()
+        {
+            return priority;
+        }
+
+        @Override
+        public IToken getID()
+        {
+            return token;
+        }
+
+        @NotNull
+        @Override
+        public ILocation getLocation()
+        {
+            return PayloadLocation.INSTANCE;
+        }
+
+        @Override
+        public void onRequestComplete(@NotNull final IToken token)
+        {
+            //Child completions are handled by the manager.
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.minecolonies.api.colony.requestsystem;
 
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.factory.FactoryHandle;
 import com.minecolonies.api.colony.requestsystem.factory.IFactory;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
@@ -14,7 +15,9 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.UUID;
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.Assert.*;
 
@@ -107,4 +110,67 @@ public class StandardFactoryControllerTest
 
         assertEquals(output, token);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getNewInstanceWithHandle()
+    {
+        final FactoryHandle<IToken<UUID>> handle = new FactoryHandle<>(new TypeToken<IToken<UUID>>() {});
+        final UUID id = UUID.randomUUID();
+
+        assertEquals(new StandardToken(id), handle.getNewInstance(StandardFactoryController.getInstance(), id));
+
+        //The handle has to look up its type id again after a reset.
+        StandardFactoryController.reset();
+        StandardFactoryController.getInstance().registerNewFactory(factory);
+
+        assertEquals(new StandardToken(id), handle.getNewInstance(StandardFactoryController.getInstance(), id));
+    }
+
+    @Test
+    public void concurrentLookupsAgreeOnTypeIds() throws InterruptedException, ExecutionException
+    {
+        final int types = 64;
+        final int threads = 8;
+        final List<TypeToken<?>> tokens = new ArrayList<>();
+        Class<?> type = UUID.class;
+        for (int i = 0; i < types; i++)
+        {
+            type = Array.newInstance(type, 0).getClass();
+            tokens.add(TypeToken.of(type));
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<Map<TypeToken<?>, Integer>>> results = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++)
+            {
+                final List<TypeToken<?>> order = new ArrayList<>(tokens);
+                Collections.shuffle(order, new Random(thread));
+                results.add(executor.submit(() ->
+                {
+                    start.await();
+                    final Map<TypeToken<?>, Integer> ids = new HashMap<>();
+                    for (final TypeToken<?> token : order)
+                    {
+                        ids.put(token, StandardFactoryController.getInstance().getTypeId(token));
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            final Map<TypeToken<?>, Integer> expected = results.get(0).get();
+            assertEquals(types, new HashSet<>(expected.values()).size());
+            for (final Future<Map<TypeToken<?>, Integer>> result : results)
+            {
+                assertEquals(expected, result.get());
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.minecolonies.api.colony.requestsystem;
+
+import com.minecolonies.api.colony.IColony;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Functional checks of the {@link StandardRequestManager} under a small synthetic load.
+ * The throughput, memory and NBT timings of large loads are measured by the request system benchmark instead.
+ */
+public class StandardRequestManagerLoadTest
+{
+    @Before
+    public void setUp()
+    {
+        RequestLoadGenerator.registerFactories();
+    }
+
+    @After
+    public void tearDown()
+    {
+        StandardFactoryController.reset();
+    }
+
+    @Test
+    public void resolvesAllRequestsWithCascades()
+    {
+        final RequestLoadGenerator run = new RequestLoadGenerator(200, 2, 3, 4);
+        run.run(false);
+
+        assertEquals(200, run.getCompletedRoots());
+        assertEquals(RequestLoadGenerator.countRequests(200, 2, 3), run.getAssigned());
+        assertEquals(RequestLoadGenerator.countRequests(200, 2, 3), run.getCompleted());
+        assertEquals(0, run.getOpenRequests());
+    }
+
+    @Test
+    public void nbtRoundTripKeepsOpenRequests()
+    {
+        final RequestLoadGenerator run = new RequestLoadGenerator(100, 1, 2, 2);
+        run.createAndAssign();
+
+        final NBTTagCompound compound = run.getManager().serializeNBT();
+        final StandardRequestManager copy = new StandardRequestManager(mock(IColony.class));
+        copy.deserializeNBT(compound);
+
+        assertEquals(RequestLoadGenerator.countRequests(100, 1, 2), RequestLoadGenerator.countRequests(compound));
+        assertEquals(run.getOpenRequests(), RequestLoadGenerator.countRequests(copy.serializeNBT()));
+    }
+
+    @Test
+    public void reassignsRequestsWhenProviderIsRemoved()
+    {
+        final RequestLoadGenerator run = new RequestLoadGenerator(100, 1, 2, 4);
+        run.run(true);
+
+        assertEquals(100, run.getCompletedRoots());
+        assertEquals(0, run.getOpenRequests());
+    }
+}
@@ -0,0 +1,213 @@
+package com.minecolonies.api.colony.requestsystem;
+
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.requestsystem.SyntheticRequests.Payload;
+import com.minecolonies.api.colony.requestsystem.SyntheticRequests.PayloadLocation;
+import com.minecolonies.api.colony.requestsystem.SyntheticRequests.PayloadRequestFactory;
+import com.minecolonies.api.colony.requestsystem.SyntheticRequests.PayloadRequester;
+import com.minecolonies.api.colony.requestsystem.location.ILocation;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
+import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolverProvider;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardTokenFactory;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test for the request handling of the {@link StandardRequestManager}.
+ */
+public class StandardRequestManagerTest
+{
+    /**
+     * Ticks given to the manager to assign the queued requests.
+     */
+    private static final int ASSIGNMENT_TICKS = 10;
+
+    private StandardRequestManager manager;
+    private PayloadRequester       requester;
+    private RecordingResolver      resolver;
+
+    @Before
+    public void setUp()
+    {
+        StandardFactoryController.getInstance().registerNewFactory(new StandardTokenFactory());
+        StandardFactoryController.getInstance().registerNewFactory(new PayloadRequestFactory());
+
+        manager = new StandardRequestManager(mock(IColony.class));
+        requester = new PayloadRequester();
+        resolver = new RecordingResolver();
+        manager.onProviderAddedToColony(new SingleResolverProvider(resolver));
+    }
+
+    @After
+    public void tearDown()
+    {
+        StandardFactoryController.reset();
+    }
+
+    @Test
+    public void createRequestPassesTokenAndRequester()
+    {
+        final IToken token = manager.createAndAssignRequest(requester, new Payload(0));
+        tick();
+
+        assertEquals(1, resolver.resolving.size());
+        final IRequest<Payload> request = resolver.resolving.get(0);
+        assertEquals(token, request.getToken());
+        assertSame(requester, request.getRequester());
+    }
+
+    @Test
+    public void completingTheLastChildResolvesTheParent()
+    {
+        final IToken root = manager.createAndAssignRequest(requester, new Payload(1));
+        tick();
+
+        assertEquals(1, resolver.resolving.size());
+        final IRequest<Payload> child = resolver.resolving.remove(0);
+        assertEquals(root, child.getParent());
+
+        manager.updateRequestState(child.getToken(), RequestState.COMPLETED);
+
+        assertEquals(1, resolver.resolving.size());
+        assertEquals(root, resolver.resolving.get(0).getToken());
+        assertEquals(RequestState.IN_PROGRESS, resolver.resolving.get(0).getState());
+
+        manager.updateRequestState(root, RequestState.COMPLETED);
+
+        assertEquals(1, requester.getCompleted());
+    }
+
+    /**
+     * Tick the manager so the queued requests are assigned.
+     */
+    private void tick()
+    {
+        for (int i = 0; i < ASSIGNMENT_TICKS; i++)
+        {
+            manager.update();
+        }
+    }
+
+    /**
+     * Provider of a single resolver.
+     */
+    private static final class SingleResolverProvider implements IRequestResolverProvider
+    {
+        private final IToken                                token = StandardToken.of(UUID.randomUUID());
+        private final ImmutableCollection<IRequestResolver> resolvers;
+
+        private SingleResolverProvider(final IRequestResolver resolver)
+        {
+            resolvers = ImmutableList.of(resolver);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T extends IToken> T getToken()
+        {
+            return (T) token;
+        }
+
+        @Override
+        public ImmutableCollection<IRequestResolver> getResolvers()
+        {
+            return resolvers;
+        }
+    }
+
+    /**
+     * Resolver which creates one child request per depth and records the requests it is asked to resolve.
+     */
+    private static final class RecordingResolver implements IRequestResolver<Payload>
+    {
+        private final IToken                  token     = StandardToken.of(UUID.randomUUID());
+        private final List<IRequest<Payload>> resolving = new ArrayList<>();
+
+        @Override
+        public Class<? extends Payload> getRequestType()
+        {
+            return Payload.class;
+        }
+
+        @Override
+        public boolean canResolve(@NotNull final IRequestManager manager, final IRequest<Payload> requestToCheck)
+        {
+            return true;
+        }
+
+        @Nullable
+        @Override
+        public List<IToken> attemptResolve(@NotNull final IRequestManager manager, @NotNull final IRequest<Payload> request)
+        {
+            if (request.getRequest().getDepth() == 0)
+            {
+                return Collections.emptyList();
+            }
+            return Collections.singletonList(manager.createRequest(this, new Payload(request.getRequest().getDepth() - 1)));
+        }
+
+        @Override
+        public void resolve(@NotNull final IRequestManager manager, @NotNull final IRequest<Payload> request)
+        {
+            resolving.add(request);
+        }
+
+        @Nullable
+        @Override
+        public IRequest getFollowupRequestForCompletion(@NotNull final IRequestManager manager, @NotNull final IRequest<Payload> completedRequest)
+        {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public IRequest onParentCancelled(@NotNull final IRequestManager manager, @NotNull final IRequest<Payload> request)
+        {
+            return null;
+        }
+
+        @Override
+        public void onResolvingOverruled(@NotNull final IRequestManager manager, @NotNull final IRequest<Payload> request)
+        {
+            //Nothing to clean up.
+        }
+
+        @Override
+        public int getPriority()
+        {
+            return 0;
+        }
+
+        @Override
+        public IToken getID()
+        {
+            return token;
+        }
+
+        @NotNull
+        @Override
+        public ILocation getLocation()
+        {
+            return PayloadLocation.INSTANCE;
+        }
+
+        @Override
+        public void onRequestComplete(@NotNull final IToken token)
+        {
+            //Child completions are handled by the manager.
+        }
+    }
+}
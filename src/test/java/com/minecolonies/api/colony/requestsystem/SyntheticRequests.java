@@ -0,0 +1,344 @@
+package com.minecolonies.api.colony.requestsystem;
+
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
+import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
+import com.minecolonies.api.colony.requestsystem.location.ILocation;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.request.IRequestFactory;
+import com.minecolonies.api.colony.requestsystem.requester.IRequester;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Synthetic requestables, requests and requesters used to drive a {@link StandardRequestManager} without a colony.
+ */
+public final class SyntheticRequests
+{
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private SyntheticRequests()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * The synthetic requestable, requests with a depth above 0 need child requests.
+     */
+    public static final class Payload
+    {
+        private final int depth;
+
+        public Payload(final int depth)
+        {
+            this.depth = depth;
+        }
+
+        public int getDepth()
+        {
+            return depth;
+        }
+    }
+
+    /**
+     * Location used by all synthetic requesters.
+     */
+    public static final class PayloadLocation implements ILocation
+    {
+        public static final PayloadLocation INSTANCE = new PayloadLocation();
+
+        @NotNull
+        @Override
+        public BlockPos getInDimensionLocation()
+        {
+            return BlockPos.ORIGIN;
+        }
+
+        @NotNull
+        @Override
+        public int getDimension()
+        {
+            return 0;
+        }
+
+        @Override
+        public boolean isReachableFromLocation(@NotNull final ILocation location)
+        {
+            return true;
+        }
+    }
+
+    /**
+     * Requester of root requests, counts completions.
+     */
+    public static final class PayloadRequester implements IRequester
+    {
+        private final IToken token     = StandardToken.of(UUID.randomUUID());
+        private       int    completed = 0;
+
+        @Override
+        public IToken getID()
+        {
+            return token;
+        }
+
+        @NotNull
+        @Override
+        public ILocation getLocation()
+        {
+            return PayloadLocation.INSTANCE;
+        }
+
+        @Override
+        public void onRequestComplete(@NotNull final IToken token)
+        {
+            completed++;
+        }
+
+        public int getCompleted()
+        {
+            return completed;
+        }
+    }
+
+    /**
+     * Minimal request for payloads.
+     */
+    public static final class PayloadRequest implements IRequest<Payload>
+    {
+        private final IToken       token;
+        private final IRequester   requester;
+        private final Payload      payload;
+        private final List<IToken> children = new ArrayList<>();
+        private       RequestState state;
+        private       IToken       parent;
+        private       Payload      result;
+
+        private PayloadRequest(final IToken token, final IRequester requester, final Payload payload, final RequestState state)
+        {
+            this.token = token;
+            this.requester = requester;
+            this.payload = payload;
+            this.state = state;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T extends IToken> T getToken()
+        {
+            return (T) token;
+        }
+
+        @NotNull
+        @Override
+        public Class<? extends Payload> getRequestType()
+        {
+            return Payload.class;
+        }
+
+        @NotNull
+        @Override
+        public RequestState getState()
+        {
+            return state;
+        }
+
+        @Override
+        public void setState(@NotNull final IRequestManager manager, @NotNull final RequestState state)
+        {
+            this.state = state;
+        }
+
+        @NotNull
+        @Override
+        public IRequester getRequester()
+        {
+            return requester;
+        }
+
+        @NotNull
+        @Override
+        public Payload getRequest()
+        {
+            return payload;
+        }
+
+        @Nullable
+        @Override
+        public Payload getResult()
+        {
+            return result;
+        }
+
+        @Override
+        public void setResult(@NotNull final Payload result)
+        {
+            this.result = result;
+        }
+
+        @Override
+        public boolean hasResult()
+        {
+            return result != null;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Nullable
+        @Override
+        public <T extends IToken> T getParent()
+        {
+            return (T) parent;
+        }
+
+        @Override
+        public <T extends IToken> void setParent(@Nullable final T parent)
+        {
+            this.parent = parent;
+        }
+
+        @Override
+        public boolean hasParent()
+        {
+            return parent != null;
+        }
+
+        @Override
+        public <T extends IToken> void addChild(@NotNull final T child)
+        {
+            children.add(child);
+        }
+
+        @SafeVarargs
+        @Override
+        public final <T extends IToken> void addChildren(@NotNull final T... children)
+        {
+            this.children.addAll(Arrays.asList(children));
+        }
+
+        @Override
+        public <T extends IToken> void addChildren(@NotNull final Collection<T> children)
+        {
+            this.children.addAll(children);
+        }
+
+        @Override
+        public <T extends IToken> void removeChild(@NotNull final T child)
+        {
+            children.remove(child);
+        }
+
+        @SafeVarargs
+        @Override
+        public final <T extends IToken> void removeChildren(@NotNull final T... children)
+        {
+            this.children.removeAll(Arrays.asList(children));
+        }
+
+        @Override
+        public <T extends IToken> void removeChildren(@NotNull final Collection<T> children)
+        {
+            this.children.removeAll(children);
+        }
+
+        @Override
+        public boolean hasChildren()
+        {
+            return !children.isEmpty();
+        }
+
+        @NotNull
+        @Override
+        public ImmutableCollection<IToken> getChildren()
+        {
+            return ImmutableList.copyOf(children);
+        }
+
+        @Override
+        public void childStateUpdated(@NotNull final IRequestManager manager, @NotNull final IToken child)
+        {
+            //Synthetic requests are completed through the manager.
+        }
+
+        @Override
+        public boolean canBeDelivered()
+        {
+            return false;
+        }
+
+        @NotNull
+        @Override
+        public ItemStack getDelivery()
+        {
+            return ItemStack.EMPTY;
+        }
+    }
+
+    /**
+     * Factory for payload requests.
+     */
+    public static final class PayloadRequestFactory implements IRequestFactory<Payload, PayloadRequest>
+    {
+        private static final String NBT_TOKEN = "Token";
+        private static final String NBT_STATE = "State";
+        private static final String NBT_DEPTH = "Depth";
+
+        /**
+         * Requester of deserialized requests, synthetic requesters are not persisted.
+         */
+        private static final IRequester DESERIALIZED_REQUESTER = new PayloadRequester();
+
+        @Override
+        public PayloadRequest getNewInstance(
+                                              @NotNull final Payload input,
+                                              @NotNull final IRequester location,
+                                              @NotNull final IToken token,
+                                              @NotNull final RequestState initialState)
+        {
+            return new PayloadRequest(token, location, input, initialState);
+        }
+
+        @NotNull
+        @Override
+        public TypeToken<PayloadRequest> getFactoryOutputType()
+        {
+            return TypeToken.of(PayloadRequest.class);
+        }
+
+        @NotNull
+        @Override
+        public TypeToken<Payload> getFactoryInputType()
+        {
+            return TypeToken.of(Payload.class);
+        }
+
+        @NotNull
+        @Override
+        public NBTTagCompound serialize(@NotNull final IFactoryController controller, @NotNull final PayloadRequest request)
+        {
+            final NBTTagCompound compound = new NBTTagCompound();
+            compound.setTag(NBT_TOKEN, controller.serialize(request.token));
+            compound.setInteger(NBT_STATE, request.state.ordinal());
+            compound.setInteger(NBT_DEPTH, request.payload.depth);
+            return compound;
+        }
+
+        @NotNull
+        @Override
+        public PayloadRequest deserialize(@NotNull final IFactoryController controller, @NotNull final NBTTagCompound nbt)
+        {
+            final IToken token = controller.deserialize(nbt.getCompoundTag(NBT_TOKEN));
+            return new PayloadRequest(token, DESERIALIZED_REQUESTER, new Payload(nbt.getInteger(NBT_DEPTH)), RequestState.values()[nbt.getInteger(NBT_STATE)]);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.minecolonies.coremod.colony.buildings;
+
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.BlockUtils;
+import com.minecolonies.api.util.constant.Constants;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.entity.ai.citizen.farmer.Field;
+import com.minecolonies.coremod.inventory.InventoryField;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockCrops;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.core.classloader.annotations.SuppressStaticInitializationFor;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.minecolonies.coremod.entity.ai.util.MockItemStacks.item;
+import static com.minecolonies.coremod.entity.ai.util.MockItemStacks.stack;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.powermock.api.mockito.PowerMockito.*;
+
+/**
+ * Tests that the farmer works on the fields of the colony after loading.
+ */
+@PrepareForTest({BuildingFarmer.class, ItemStack.class, BlockUtils.class})
+@SuppressStaticInitializationFor({"net.minecraft.init.Items", "net.minecraft.init.Blocks", "net.minecraft.item.Item", "net.minecraft.block.Block", "net.minecraft.block.BlockCrops"})
+@PowerMockIgnore("javax.management.*")
+@RunWith(PowerMockRunner.class)
+public class BuildingFarmerTest
+{
+    private static final BlockPos HUT   = new BlockPos(0, 64, 0);
+    private static final BlockPos FIELD = new BlockPos(10, 64, 10);
+    private static final BlockPos CROP  = FIELD.east();
+
+    private Colony                       colony;
+    private World                        world;
+    private IBlockState                  grown;
+    private AtomicReference<IBlockState> cropState;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        mockStatic(BlockUtils.class);
+        whenNew(ItemStack.class).withAnyArguments().thenAnswer(invocation -> stack(item(), 1));
+
+        final BlockCrops crops = mock(BlockCrops.class);
+        final IBlockState young = mock(IBlockState.class);
+        grown = mock(IBlockState.class);
+        when(young.getBlock()).thenReturn(crops);
+        when(grown.getBlock()).thenReturn(crops);
+        when(crops.isMaxAge(grown)).thenReturn(true);
+        cropState = new AtomicReference<>(young);
+
+        final IBlockState ground = mock(IBlockState.class);
+        when(ground.getBlock()).thenReturn(mock(Block.class));
+
+        world = mock(World.class);
+        when(world.getBlockState(any(BlockPos.class))).thenAnswer(invocation ->
+        {
+            final BlockPos pos = (BlockPos) invocation.getArguments()[0];
+            return pos.equals(CROP) ? cropState.get() : ground;
+        });
+
+        colony = mock(Colony.class);
+        when(colony.getWorld()).thenReturn(world);
+    }
+
+    /**
+     * Create the saved data of a field reaching one block east of its scarecrow.
+     *
+     * @return the compound.
+     */
+    private static NBTTagCompound savedField()
+    {
+        final NBTTagCompound compound = new NBTTagCompound();
+        BlockPosUtil.writeToNBT(compound, "location", FIELD);
+        compound.setInteger("length+", 1);
+        compound.setTag(Constants.MOD_ID + "inventory", new InventoryField().serializeNBT());
+        return compound;
+    }
+
+    /**
+     * Load a farmer which saved the field.
+     *
+     * @return the farmer.
+     */
+    private BuildingFarmer loadFarmer()
+    {
+        final NBTTagList fieldTagList = new NBTTagList();
+        fieldTagList.appendTag(savedField());
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag("fields", fieldTagList);
+
+        final BuildingFarmer farmer = new BuildingFarmer(colony, HUT);
+        farmer.readFromNBT(compound);
+        return farmer;
+    }
+
+    @Test
+    public void fieldReportsGrownCropAfterReload()
+    {
+        final Field colonyField = Field.createFromNBT(colony, savedField());
+        when(colony.getField(FIELD)).thenReturn(colonyField);
+
+        final Field field = loadFarmer().getFarmerFields().get(0);
+        assertSame(colonyField, field);
+        assertFalse(field.hasCellWith(world, Field.CELL_MATURE));
+
+        //The crop grows, the colony passes the block change to its fields.
+        cropState.set(grown);
+        colonyField.onBlockChanged(world, CROP);
+
+        assertTrue(field.hasCellWith(world, Field.CELL_MATURE));
+    }
+
+    @Test
+    public void fieldUnknownToTheColonyIsStillLoaded()
+    {
+        final Field field = loadFarmer().getFarmerFields().get(0);
+
+        assertNotNull(field);
+        assertEquals(FIELD, field.getID());
+    }
+}
@@ -0,0 +1,195 @@
+package com.minecolonies.coremod.entity.ai.mobs.util;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Tests the flow field on synthetic height maps, the hut stands at x 2 so the columns with x up to 6 are targets.
+ */
+public class RaidFlowFieldTest
+{
+    /**
+     * Width and length of the test fields.
+     */
+    private static final int SIZE = 21;
+
+    /**
+     * Ground level of the test fields.
+     */
+    private static final int GROUND = 64;
+
+    /**
+     * Location of the hut.
+     */
+    private static final BlockPos HUT = new BlockPos(2, GROUND, 10);
+
+    /**
+     * Position of the barbarian.
+     */
+    private static final BlockPos BARBARIAN = new BlockPos(15, GROUND, 10);
+
+    /**
+     * Budget large enough to complete the search at once.
+     */
+    private static final int FULL_BUDGET = Integer.MAX_VALUE;
+
+    /**
+     * Creates a field where the columns with x below the edge are at the hut height and the others at the outer height.
+     *
+     * @param edge  the first x of the outer part.
+     * @param outer the height of the outer part.
+     * @return the field, not yet calculated.
+     */
+    private static RaidFlowField createStep(final int edge, final int outer)
+    {
+        final RaidFlowField field = new RaidFlowField(null, 0, 0, SIZE, Collections.singletonList(HUT), 0);
+        for (int x = 0; x < SIZE; x++)
+        {
+            for (int z = 0; z < SIZE; z++)
+            {
+                field.setColumn(x, z, x < edge ? HUT.getY() : outer, false);
+            }
+        }
+        return field;
+    }
+
+    @Test
+    public void flatGroundUsesStraightCosts()
+    {
+        final RaidFlowField field = createStep(SIZE, GROUND);
+        assertThat(field.calculateDistances(FULL_BUDGET), is(true));
+
+        assertThat(field.getDistance(new BlockPos(6, GROUND, 10)), is(0));
+        assertThat(field.getDistance(new BlockPos(10, GROUND, 10)), is(40));
+        assertThat(field.getNextStep(new BlockPos(10, GROUND, 10), 1), is(new BlockPos(9, GROUND, 10)));
+        assertThat(field.getNextStep(new BlockPos(6, GROUND, 10), 1), is(nullValue()));
+    }
+
+    @Test
+    public void searchIsSpreadOverSeveralCalls()
+    {
+        final RaidFlowField field = createStep(SIZE, GROUND);
+        assertThat(field.calculateDistances(1), is(false));
+        assertThat(field.isReady(), is(false));
+
+        int calls = 1;
+        while (!field.calculateDistances(1))
+        {
+            calls++;
+        }
+        assertThat(calls, greaterThan(1));
+        assertThat(field.isReady(), is(true));
+        assertThat(field.getDistance(new BlockPos(10, GROUND, 10)), is(40));
+    }
+
+    @Test
+    public void wallOfTwoIsNotClimbed()
+    {
+        final RaidFlowField field = createStep(10, GROUND - 2);
+        field.calculateDistances(FULL_BUDGET);
+
+        assertThat(field.getDistance(new BlockPos(9, GROUND, 10)), is(30));
+        assertThat(field.getDistance(new BlockPos(10, GROUND - 2, 10)), is(RaidFlowField.UNREACHABLE));
+        assertThat(field.getDistance(BARBARIAN), is(RaidFlowField.UNREACHABLE));
+        assertThat(field.getNextStep(BARBARIAN, 1), is(nullValue()));
+    }
+
+    @Test
+    public void wallNextToTheHutIsNotClimbed()
+    {
+        final RaidFlowField field = createStep(7, GROUND - 2);
+        field.calculateDistances(FULL_BUDGET);
+
+        assertThat(field.getDistance(new BlockPos(6, GROUND, 10)), is(0));
+        assertThat(field.getDistance(new BlockPos(7, GROUND - 2, 10)), is(RaidFlowField.UNREACHABLE));
+    }
+
+    @Test
+    public void stairsAreFollowedOneBlockAtATime()
+    {
+        final RaidFlowField field = createStep(10, GROUND - 2);
+        field.setColumn(10, 0, GROUND - 1, false);
+        field.calculateDistances(FULL_BUDGET);
+
+        assertThat(field.getDistance(BARBARIAN), is(not(RaidFlowField.UNREACHABLE)));
+
+        BlockPos pos = new BlockPos(BARBARIAN.getX(), GROUND - 2, BARBARIAN.getZ());
+        for (int step = 0; step < SIZE * SIZE && field.getDistance(pos) > 0; step++)
+        {
+            final BlockPos next = field.getNextStep(pos, 1);
+            assertThat(next, is(notNullValue()));
+            assertThat(next.getY() - pos.getY(), lessThanOrEqualTo(1));
+            assertThat(field.getDistance(next), lessThan(field.getDistance(pos)));
+            pos = next;
+        }
+        assertThat(field.getDistance(pos), is(0));
+    }
+
+    @Test
+    public void dropOfThreeIsWalkedDown()
+    {
+        final RaidFlowField field = createStep(10, GROUND + 3);
+        field.calculateDistances(FULL_BUDGET);
+
+        assertThat(field.getDistance(BARBARIAN), is(not(RaidFlowField.UNREACHABLE)));
+        assertThat(field.getNextStep(new BlockPos(10, GROUND + 3, 10), 1), is(new BlockPos(9, GROUND, 10)));
+    }
+
+    @Test
+    public void dropOfFourIsAvoided()
+    {
+        final RaidFlowField field = createStep(10, GROUND + 4);
+        field.calculateDistances(FULL_BUDGET);
+
+        assertThat(field.getDistance(BARBARIAN), is(RaidFlowField.UNREACHABLE));
+    }
+
+    @Test
+    public void waterCostsMore()
+    {
+        final RaidFlowField field = createStep(SIZE, GROUND);
+        for (int z = 0; z < SIZE; z++)
+        {
+            field.setColumn(8, z, GROUND, true);
+        }
+        field.calculateDistances(FULL_BUDGET);
+
+        assertThat(field.getDistance(new BlockPos(10, GROUND, 10)), is(60));
+    }
+
+    @Test
+    public void roofIsNoTarget()
+    {
+        final RaidFlowField field = createStep(SIZE, GROUND);
+        for (int x = 1; x <= 3; x++)
+        {
+            for (int z = 9; z <= 11; z++)
+            {
+                field.setColumn(x, z, GROUND + 6, false);
+            }
+        }
+        field.calculateDistances(FULL_BUDGET);
+
+        assertThat(field.getDistance(HUT), is(RaidFlowField.UNREACHABLE));
+        assertThat(field.getDistance(new BlockPos(4, GROUND, 10)), is(0));
+    }
+
+    @Test
+    public void unwalkableColumnsBlockTheWay()
+    {
+        final RaidFlowField field = createStep(SIZE, GROUND);
+        for (int z = 0; z < SIZE; z++)
+        {
+            field.setColumn(12, z, -1, false);
+        }
+        field.calculateDistances(FULL_BUDGET);
+
+        assertThat(field.getDistance(new BlockPos(11, GROUND, 10)), is(50));
+        assertThat(field.getDistance(BARBARIAN), is(RaidFlowField.UNREACHABLE));
+    }
+}
@@ -0,0 +1,125 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.ItemStackHandler;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.core.classloader.annotations.SuppressStaticInitializationFor;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.minecolonies.coremod.entity.ai.util.MockItemStacks.item;
+import static com.minecolonies.coremod.entity.ai.util.MockItemStacks.stack;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@PrepareForTest(ItemStack.class)
+@SuppressStaticInitializationFor("net.minecraft.item.Item")
+@PowerMockIgnore("javax.management.*")
+@RunWith(PowerMockRunner.class)
+public class CraftingPlanTest
+{
+    private static final int COOKIE = 0;
+    private static final int BREAD  = 1;
+    private static final int COCOA  = 3;
+
+    private Item wheat;
+    private Item dye;
+    private Item cookie;
+    private Item bread;
+
+    private RecipeIndex index;
+
+    @Before
+    public void setUp()
+    {
+        wheat = item();
+        dye = item();
+        cookie = item();
+        bread = item();
+
+        index = new RecipeIndex(Arrays.asList(
+          new RecipeStorage(Arrays.asList(stack(wheat, 2), stack(dye, 1, COCOA)), 2, stack(cookie, 8)),
+          new RecipeStorage(Collections.singletonList(stack(wheat, 3)), 2, stack(bread, 1))));
+    }
+
+    private CraftingPlan plan(final ItemStack... stacks)
+    {
+        final ItemStackHandler hut = new ItemStackHandler(stacks.length);
+        for (int slot = 0; slot < stacks.length; slot++)
+        {
+            hut.setStackInSlot(slot, stacks[slot]);
+        }
+        return index.plan(hut);
+    }
+
+    @Test
+    public void testCraftableAmountIsLimitedByTheScarcestInput()
+    {
+        final CraftingPlan plan = plan(stack(wheat, 7), stack(dye, 2, COCOA));
+
+        assertThat(plan.getCraftableAmount(COOKIE), is(2));
+        assertThat(plan.getCraftableAmount(BREAD), is(2));
+    }
+
+    @Test
+    public void testDamageValueIsCompared()
+    {
+        final CraftingPlan plan = plan(stack(wheat, 2), stack(dye, 5, 0));
+
+        assertThat(plan.getCraftableAmount(COOKIE), is(0));
+
+        final List<ItemStack> missing = plan.getMissingInputs(COOKIE);
+        assertThat(missing.size(), is(1));
+        assertThat(missing.get(0).getItem(), is(dye));
+        assertThat(missing.get(0).getItemDamage(), is(COCOA));
+        assertThat(missing.get(0).getCount(), is(1));
+    }
+
+    @Test
+    public void testMissingInputsOnlyContainTheMissingAmount()
+    {
+        final CraftingPlan plan = plan(stack(wheat, 1));
+
+        final List<ItemStack> missing = plan.getMissingInputs(BREAD);
+        assertThat(missing.size(), is(1));
+        assertThat(missing.get(0).getItem(), is(wheat));
+        assertThat(missing.get(0).getCount(), is(2));
+        assertThat(plan(stack(wheat, 3)).getMissingInputs(BREAD), is(empty()));
+    }
+
+    @Test
+    public void testNextCraftableWrapsAround()
+    {
+        final CraftingPlan plan = plan(stack(wheat, 3));
+
+        assertThat(plan.getNextCraftable(COOKIE), is(BREAD));
+        assertThat(plan.getNextCraftable(BREAD), is(BREAD));
+        assertThat(plan().getNextCraftable(COOKIE), is(CraftingPlan.NO_RECIPE));
+    }
+
+    @Test
+    public void testConsumeUpdatesEveryRecipeUsingTheInputs()
+    {
+        final CraftingPlan plan = plan(stack(wheat, 5), stack(dye, 1, COCOA));
+        assertThat(plan.getCraftableAmount(BREAD), is(1));
+
+        plan.consume(COOKIE);
+
+        assertThat(plan.getCraftableAmount(COOKIE), is(0));
+        assertThat(plan.getCraftableAmount(BREAD), is(1));
+        assertThat(plan.getNextCraftable(COOKIE), is(BREAD));
+
+        plan.consume(BREAD);
+
+        assertThat(plan.getCraftableAmount(BREAD), is(0));
+        assertThat(plan.getNextCraftable(COOKIE), is(CraftingPlan.NO_RECIPE));
+    }
+}
@@ -0,0 +1,75 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Matchers.anyInt;
+import static org.powermock.api.mockito.PowerMockito.*;
+
+/**
+ * Creates mocked item stacks, so recipe tests run without the Minecraft bootstrap.
+ * Tests using it need to prepare {@link ItemStack} and suppress the static initialization of {@link Item}.
+ */
+public final class MockItemStacks
+{
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private MockItemStacks()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Create a mocked item, items are compared by identity.
+     *
+     * @return the item.
+     */
+    public static Item item()
+    {
+        return mock(Item.class);
+    }
+
+    /**
+     * Create a mocked stack with damage value 0.
+     *
+     * @param item  the item.
+     * @param count the size of the stack.
+     * @return the stack.
+     */
+    public static ItemStack stack(final Item item, final int count)
+    {
+        return stack(item, count, 0);
+    }
+
+    /**
+     * Create a mocked stack which keeps track of its size and can be copied.
+     *
+     * @param item   the item.
+     * @param count  the size of the stack.
+     * @param damage the damage value.
+     * @return the stack.
+     */
+    public static ItemStack stack(final Item item, final int count, final int damage)
+    {
+        final ItemStack stack = mock(ItemStack.class);
+        final AtomicInteger size = new AtomicInteger(count);
+
+        when(stack.getItem()).thenReturn(item);
+        when(stack.getItemDamage()).thenReturn(damage);
+        when(stack.getCount()).thenAnswer(invocation -> size.get());
+        when(stack.isEmpty()).thenAnswer(invocation -> size.get() <= 0);
+        when(stack.copy()).thenAnswer(invocation -> stack(item, size.get(), damage));
+        doAnswer(invocation ->
+        {
+            size.set((Integer) invocation.getArguments()[0]);
+            return null;
+        }).when(stack).setCount(anyInt());
+
+        return stack;
+    }
+}
@@ -0,0 +1,121 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.coremod.entity.ai.item.handling.ItemStorage;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.ItemStackHandler;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.core.classloader.annotations.SuppressStaticInitializationFor;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static com.minecolonies.coremod.entity.ai.util.MockItemStacks.item;
+import static com.minecolonies.coremod.entity.ai.util.MockItemStacks.stack;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@PrepareForTest(ItemStack.class)
+@SuppressStaticInitializationFor("net.minecraft.item.Item")
+@PowerMockIgnore("javax.management.*")
+@RunWith(PowerMockRunner.class)
+public class RecipeIndexTest
+{
+    private static final int BREAD = 0;
+    private static final int CAKE  = 1;
+
+    private Item wheat;
+    private Item sugar;
+    private Item bread;
+    private Item cake;
+    private Item bucket;
+
+    private RecipeIndex index;
+
+    @Before
+    public void setUp()
+    {
+        wheat = item();
+        sugar = item();
+        bread = item();
+        cake = item();
+        bucket = item();
+
+        index = new RecipeIndex(Arrays.asList(
+          new RecipeStorage(Arrays.asList(stack(wheat, 2), stack(wheat, 1), ItemStackUtils.EMPTY), 2, stack(bread, 1)),
+          new RecipeStorage(Arrays.asList(stack(wheat, 3), stack(sugar, 2)), 3, stack(cake, 1), stack(bucket, 3))));
+    }
+
+    @Test
+    public void testDuplicateInputsAreMerged()
+    {
+        final Map<ItemStorage, Integer> required = index.getRequiredInputs(BREAD);
+
+        assertThat(required.size(), is(1));
+        assertThat(required.get(new ItemStorage(stack(wheat, 1))), is(3));
+    }
+
+    @Test
+    public void testRecipesAreIndexedByOutput()
+    {
+        assertThat(index.getRecipesFor(stack(bread, 1)), contains(BREAD));
+        assertThat(index.getRecipesFor(stack(cake, 1)), contains(CAKE));
+        assertThat(index.getRecipesFor(stack(bucket, 1)), contains(CAKE));
+        assertThat(index.getRecipesFor(stack(sugar, 1)), is(empty()));
+        assertThat(index.getRecipesFor(ItemStackUtils.EMPTY), is(empty()));
+    }
+
+    @Test
+    public void testRecipesAreIndexedByInput()
+    {
+        assertThat(index.getRecipesUsing(new ItemStorage(stack(wheat, 1))), contains(BREAD, CAKE));
+        assertThat(index.getRecipesUsing(new ItemStorage(stack(sugar, 1))), contains(CAKE));
+        assertThat(index.getRecipesUsing(new ItemStorage(stack(wheat, 1, 1))), is(empty()));
+        assertThat(index.getInputs().size(), is(2));
+    }
+
+    @Test
+    public void testPlanCountsAllInventories()
+    {
+        final ItemStackHandler worker = new ItemStackHandler(2);
+        worker.setStackInSlot(0, stack(wheat, 2));
+        final ItemStackHandler hut = new ItemStackHandler(2);
+        hut.setStackInSlot(0, stack(wheat, 2));
+        hut.setStackInSlot(1, stack(wheat, 2));
+
+        final CraftingPlan plan = index.plan(worker, hut);
+
+        assertThat(plan.getCraftableAmount(BREAD), is(2));
+    }
+
+    @Test
+    public void testPlanIgnoresOtherItems()
+    {
+        final ItemStackHandler hut = new ItemStackHandler(1);
+        hut.setStackInSlot(0, stack(bucket, 64));
+
+        final CraftingPlan plan = index.plan(hut);
+
+        assertThat(plan.getCraftableAmount(BREAD), is(0));
+        assertThat(plan.getMissingInputs(BREAD).size(), is(1));
+    }
+
+    @Test
+    public void testPlanDoesNotChangeTheInventory()
+    {
+        final ItemStackHandler hut = new ItemStackHandler(1);
+        hut.setStackInSlot(0, stack(wheat, 6));
+
+        final CraftingPlan plan = index.plan(hut);
+        plan.consume(BREAD);
+
+        assertThat(hut.getStackInSlot(0).getCount(), is(6));
+        assertThat(plan.getCraftableAmount(BREAD), is(1));
+    }
+}
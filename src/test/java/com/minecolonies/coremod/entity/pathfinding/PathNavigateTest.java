@@ -0,0 +1,101 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.junit.Before;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the counting of stalled ticks of the {@link PathNavigate}.
+ */
+public class PathNavigateTest
+{
+    private static final BlockPos TARGET = new BlockPos(10, 64, 10);
+    private static final int      TICKS  = 5;
+
+    private EntityLiving entity;
+    private PathNavigate navigate;
+
+    @Before
+    public void setUp()
+    {
+        entity = mock(EntityLiving.class);
+        when(entity.getDistanceSq(anyDouble(), anyDouble(), anyDouble())).thenReturn(100D);
+
+        navigate = new PathNavigate(entity, mock(World.class));
+        Whitebox.setInternalState(navigate, "stallTarget", TARGET);
+        Whitebox.setInternalState(navigate, "destination", TARGET);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Future<Path> pathJob(final boolean done) throws Exception
+    {
+        final Future<Path> future = mock(Future.class);
+        when(future.isDone()).thenReturn(done);
+        when(future.get()).thenReturn(null);
+        return future;
+    }
+
+    private void tick(final int ticks)
+    {
+        for (int i = 0; i < ticks; i++)
+        {
+            navigate.onUpdateNavigation();
+        }
+    }
+
+    @Test
+    public void pendingPathJobCountsStalledTicks() throws Exception
+    {
+        Whitebox.setInternalState(navigate, "future", pathJob(false));
+
+        tick(TICKS);
+
+        //The first tick records the distance to the target as progress.
+        assertEquals(TICKS - 1, navigate.getStalledTicks());
+    }
+
+    @Test
+    public void failedPathJobKeepsCounting() throws Exception
+    {
+        Whitebox.setInternalState(navigate, "future", pathJob(true));
+
+        tick(TICKS);
+
+        assertEquals(TICKS - 1, navigate.getStalledTicks());
+    }
+
+    @Test
+    public void gettingCloserResetsTheCount() throws Exception
+    {
+        Whitebox.setInternalState(navigate, "future", pathJob(false));
+        tick(TICKS);
+
+        when(entity.getDistanceSq(anyDouble(), anyDouble(), anyDouble())).thenReturn(64D);
+        tick(1);
+
+        assertEquals(0, navigate.getStalledTicks());
+    }
+
+    @Test
+    public void resetStalledTicksKeepsTheTarget() throws Exception
+    {
+        Whitebox.setInternalState(navigate, "future", pathJob(false));
+        tick(TICKS);
+
+        navigate.resetStalledTicks();
+
+        assertEquals(0, navigate.getStalledTicks());
+        assertEquals(TARGET, navigate.getStallTarget());
+    }
+}